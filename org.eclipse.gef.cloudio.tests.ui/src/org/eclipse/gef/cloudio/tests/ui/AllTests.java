@@ -17,7 +17,8 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ TagCloudTests.class, TagCloudViewerTests.class })
+@SuiteClasses({ DefaultLayouterTests.class, TagCloudTests.class,
+		TagCloudViewerTests.class })
 public class AllTests {
 
 }
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.cloudio.tests.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.cloudio.internal.ui.Word;
+import org.eclipse.gef.cloudio.internal.ui.layout.DefaultLayouter;
+import org.eclipse.gef.cloudio.internal.ui.util.CloudMatrix;
+import org.eclipse.gef.cloudio.internal.ui.util.RectTree;
+import org.eclipse.gef.cloudio.internal.ui.util.SmallRect;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefaultLayouterTests {
+
+	private static final int ACCURACY = 4;
+
+	private static final int SIZE = 512;
+
+	/**
+	 * Places randomly sized words into a cloud area, which becomes crowded, so
+	 * that candidate positions are also evaluated in parallel chunks (if
+	 * enabled). Returns the positions of the words, or <code>null</code> for
+	 * words that could not be placed.
+	 */
+	private static List<Point> layoutWords(boolean parallel) {
+		DefaultLayouter layouter = new DefaultLayouter(20, 10);
+		layouter.setOption(DefaultLayouter.PARALLEL, parallel);
+		layouter.setOption(DefaultLayouter.SEED, 42L);
+		Rectangle cloudArea = new Rectangle(0, 0, SIZE, SIZE);
+		CloudMatrix matrix = new CloudMatrix(SIZE, ACCURACY);
+		Random random = new Random(7);
+		List<Point> positions = new ArrayList<>();
+		for (short id = 1; id <= 300; id++) {
+			Word word = new Word("word" + id);
+			word.id = id;
+			word.width = 8 + random.nextInt(56);
+			word.height = 8 + random.nextInt(24);
+			word.tree = new RectTree(new SmallRect(0, 0, 64, 64), ACCURACY);
+			for (int x = 0; x < word.width; x += ACCURACY) {
+				for (int y = 0; y < word.height; y += ACCURACY) {
+					word.tree.insert(new SmallRect(x, y, ACCURACY, ACCURACY), id);
+				}
+			}
+			word.tree.releaseRects();
+			Point offset = layouter.getInitialOffset(word, cloudArea);
+			if (layouter.layout(offset, word, cloudArea, matrix)) {
+				positions.add(new Point(word.x, word.y));
+			} else {
+				positions.add(null);
+			}
+		}
+		return positions;
+	}
+
+	@Test
+	public void testParallelPlacementMatchesSequentialPlacement() {
+		List<Point> sequential = layoutWords(false);
+		Assert.assertTrue(sequential.contains(null));
+		Assert.assertEquals(sequential, layoutWords(true));
+	}
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.cloudio.internal.ui;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * The {@link Messages} class contains all messages within GEF Cloudio.UI that
+ * can be internationalized.
+ */
+public class Messages extends NLS {
+
+	private static final String BUNDLE_NAME = "org.eclipse.gef.cloudio.internal.ui.messages"; //$NON-NLS-1$
+
+	/**
+	 * Stores the value of the <code>"TagCloud_PlacedWords"</code> message key.
+	 */
+	public static String TagCloud_PlacedWords;
+
+	/**
+	 * Stores the value of the <code>"TagCloud_PlacingWords"</code> message
+	 * key.
+	 */
+	public static String TagCloud_PlacingWords;
+
+	/**
+	 * Stores the value of the <code>"TagCloud_PlacingWordsThroughput"</code>
+	 * message key.
+	 */
+	public static String TagCloud_PlacingWordsThroughput;
+
+	static {
+		// initialize resource bundle
+		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+	}
+
+	private Messages() {
+	}
+
+}
@@ -31,6 +31,7 @@ import org.eclipse.gef.cloudio.internal.ui.util.CloudMatrix;
 import org.eclipse.gef.cloudio.internal.ui.util.RectTree;
 import org.eclipse.gef.cloudio.internal.ui.util.SmallRect;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.DisposeListener;
@@ -580,7 +581,9 @@ public class TagCloud extends Canvas {
 	}
 
 	/**
-	 * Generates the layout of the given words.
+	 * Generates the layout of the given words. Layout is stopped as soon as the
+	 * given monitor is canceled; the throughput of word placement is reported
+	 * as sub task.
 	 * 
 	 * @param wordsToUse
 	 * @param monitor
@@ -590,7 +593,7 @@ public class TagCloud extends Canvas {
 	protected int layoutWords(Collection<Word> wordsToUse, IProgressMonitor monitor) {
 		checkWidget();
 		if (monitor != null) {
-			monitor.subTask("Placing words...");
+			monitor.subTask(Messages.TagCloud_PlacingWords);
 		}
 		Rectangle r = new Rectangle(Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 0);
 		final Rectangle cloudArea = getCloudArea();
@@ -609,7 +612,13 @@ public class TagCloud extends Canvas {
 		if (wordsToUse != null) {
 			double step = 100D / wordsToUse.size();
 			final GC g = gc;
+			long start = System.nanoTime();
+			int attempted = 0;
 			for (Word word : wordsToUse) {
+				if (monitor != null && monitor.isCanceled()) {
+					break;
+				}
+				attempted++;
 				Point point = layouter.getInitialOffset(word, cloudArea);
 				boolean result = layouter.layout(point, word, cloudArea, cloudMatrix);
 				if (!result) {
@@ -642,10 +651,16 @@ public class TagCloud extends Canvas {
 					next += 5;
 					if (monitor != null) {
 						monitor.worked(5);
+						monitor.subTask(NLS.bind(Messages.TagCloud_PlacingWordsThroughput,
+								getThroughput(attempted, start)));
 					}
 				}
 
 			}
+			if (monitor != null) {
+				monitor.subTask(NLS.bind(Messages.TagCloud_PlacedWords,
+						new Object[] { success, attempted, getThroughput(attempted, start) }));
+			}
 			executors.shutdown();
 			try {
 				executors.awaitTermination(Integer.MAX_VALUE, TimeUnit.SECONDS);
@@ -678,6 +693,11 @@ public class TagCloud extends Canvas {
 		return success;
 	}
 
+	private static long getThroughput(int words, long startNanos) {
+		long elapsed = System.nanoTime() - startNanos;
+		return elapsed <= 0 ? 0 : words * 1000000000L / elapsed;
+	}
+
 	/**
 	 * Sets the given list as input of the tag cloud, replacing any previous
 	 * content. By default, available word positions will be determined
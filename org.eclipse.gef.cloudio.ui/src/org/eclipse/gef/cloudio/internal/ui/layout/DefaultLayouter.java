@@ -11,7 +11,14 @@
  *******************************************************************************/
 package org.eclipse.gef.cloudio.internal.ui.layout;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.gef.cloudio.internal.ui.Word;
@@ -31,6 +38,78 @@ public class DefaultLayouter implements ILayouter {
 
 	public static final String Y_AXIS_VARIATION = "yaxis";
 
+	/**
+	 * Option to enable or disable (<code>Boolean</code>) the parallel
+	 * evaluation of candidate positions, which is disabled by default. The
+	 * resulting layout does not depend on this option.
+	 */
+	public static final String PARALLEL = "parallel";
+
+	/**
+	 * Option to set the seed (<code>Long</code>) of the random start points,
+	 * so that the resulting layout is reproducible.
+	 */
+	public static final String SEED = "seed";
+
+	/**
+	 * The maximum number of candidate positions that are evaluated per word.
+	 */
+	private static final int MAX_STEPS = 5000;
+
+	/**
+	 * The number of candidate positions that are evaluated on the calling
+	 * thread, before evaluation is performed in parallel.
+	 */
+	private static final int SEQUENTIAL_CHUNK_SIZE = 32;
+
+	/**
+	 * The number of candidate positions that are evaluated in parallel at once.
+	 */
+	private static final int PARALLEL_CHUNK_SIZE = 512;
+
+	/**
+	 * Computes the candidate positions along a spiral around the initial
+	 * offset, similar to the approach of Wordle.
+	 */
+	private static class Spiral {
+
+		private final Point next;
+
+		private final Point offset;
+
+		private final int accuracy;
+
+		private double growFactor = 1.6;
+
+		int x, y;
+
+		Spiral(Point start, Point offset, int accuracy) {
+			this.next = start;
+			this.offset = offset;
+			this.accuracy = accuracy;
+		}
+
+		void advance() {
+			final double radius = Math.sqrt((double) (next.x * next.x + next.y * next.y)) + growFactor;
+			double atan = Math.atan2(next.y, next.x);
+			if (growFactor > 1.1) {
+				growFactor -= 0.0007;
+			}
+			if (radius < 80) {
+				atan += 0.7;
+			} else {
+				atan += 20 / radius;
+			}
+			if (growFactor < 0.0005) {
+				growFactor = 0.0005;
+			}
+			next.x = (int) (radius * Math.cos(atan));
+			next.y = (int) (radius * Math.sin(atan));
+			x = ((next.x + offset.x) / accuracy) * accuracy;
+			y = ((next.y + offset.y) / accuracy) * accuracy;
+		}
+	}
+
 	private Random random = new Random();
 
 	/**
@@ -49,6 +128,8 @@ public class DefaultLayouter implements ILayouter {
 	 */
 	private int yAxisVariation;
 
+	private boolean parallel = false;
+
 	public DefaultLayouter(int i, int j) {
 		this.xAxisVariation = i;
 		this.yAxisVariation = j;
@@ -94,34 +175,21 @@ public class DefaultLayouter implements ILayouter {
 		Point next = new Point(-word.width / 2, -word.height / 2);
 		next.x += random.nextInt(25);
 		next.y += random.nextInt(25);
-		double growFactor = 1.6;
 		offset.x += cloudArea.width / 2;
 		offset.y += cloudArea.height / 2;
-		final int accuracy = mainTree.getMinResolution();
-		for (int i = 0; i < 5000; i++) {
-			final double radius = Math.sqrt((double) (next.x * next.x + next.y * next.y)) + growFactor;
-			double atan = Math.atan2(next.y, next.x);
-			if (growFactor > 1.1) {
-				growFactor -= 0.0007;
-			}
-			if (radius < 80) {
-				atan += 0.7;
-			} else {
-				atan += 20 / radius;
-			}
-			if (growFactor < 0.0005) {
-				growFactor = 0.0005;
-			}
-			next.x = (int) (radius * Math.cos(atan));
-			next.y = (int) (radius * Math.sin(atan));
-			word.x = ((next.x + offset.x) / accuracy) * accuracy;
-			word.y = ((next.y + offset.y) / accuracy) * accuracy;
+		Spiral spiral = new Spiral(next, offset, mainTree.getMinResolution());
+		if (parallel) {
+			return layoutInParallel(spiral, word, cloudArea, mainTree);
+		}
+		for (int i = 0; i < MAX_STEPS; i++) {
+			spiral.advance();
+			word.x = spiral.x;
+			word.y = spiral.y;
 			RectTree rt = word.tree;
 			if (rt == null)
 				break;
 			rt.move(word.x, word.y);
-			if (cloudArea.x <= word.x && cloudArea.y <= word.y && cloudArea.x + cloudArea.width >= word.x + word.width
-					&& cloudArea.y + cloudArea.height >= word.y + word.height) {
+			if (isInside(word, word.x, word.y, cloudArea)) {
 				if (rt.fits(mainTree)) {
 					rt.place(mainTree, word.id);
 					return true;
@@ -131,7 +199,136 @@ public class DefaultLayouter implements ILayouter {
 		return false;
 	}
 
+	/**
+	 * Evaluates the candidate positions along the given spiral in chunks. The
+	 * first chunk is evaluated on the calling thread, as most words can be
+	 * placed close to their initial position, while subsequent chunks are
+	 * evaluated in parallel. Within a chunk, the candidate with the lowest
+	 * index that fits is chosen, so that the word is placed at the same
+	 * position as if the candidates were evaluated sequentially.
+	 * 
+	 * @param spiral
+	 * @param word
+	 * @param cloudArea
+	 * @param mainTree
+	 * @return whether the given word could be placed in the respective cloud
+	 *         area
+	 */
+	private boolean layoutInParallel(Spiral spiral, final Word word, final Rectangle cloudArea,
+			final CloudMatrix mainTree) {
+		final RectTree rt = word.tree;
+		if (rt != null) {
+			// compute the leaves before they are accessed concurrently
+			rt.getLeaves();
+		}
+		final int[] xs = new int[PARALLEL_CHUNK_SIZE];
+		final int[] ys = new int[PARALLEL_CHUNK_SIZE];
+		int chunkSize = SEQUENTIAL_CHUNK_SIZE;
+		int steps = 0;
+		while (steps < MAX_STEPS) {
+			final int n = Math.min(chunkSize, MAX_STEPS - steps);
+			for (int i = 0; i < n; i++) {
+				spiral.advance();
+				xs[i] = spiral.x;
+				ys[i] = spiral.y;
+			}
+			steps += n;
+			if (rt == null) {
+				word.x = xs[0];
+				word.y = ys[0];
+				return false;
+			}
+			int fit = chunkSize == SEQUENTIAL_CHUNK_SIZE ? findFit(word, cloudArea, mainTree, xs, ys, n, 0, 1, null)
+					: findFitInParallel(word, cloudArea, mainTree, xs, ys, n);
+			if (fit >= 0) {
+				word.x = xs[fit];
+				word.y = ys[fit];
+				rt.move(word.x, word.y);
+				rt.place(mainTree, word.id);
+				return true;
+			}
+			word.x = xs[n - 1];
+			word.y = ys[n - 1];
+			chunkSize = PARALLEL_CHUNK_SIZE;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest index out of <code>start, start + stride, ...</code>
+	 * (below <code>n</code>) of a candidate position at which the given word
+	 * fits, or <code>-1</code> if there is none. If a lowest fit is given, the
+	 * search is aborted as soon as indices beyond it would be evaluated, and
+	 * it is updated if a lower fit is found.
+	 */
+	private static int findFit(Word word, Rectangle cloudArea, CloudMatrix mainTree, int[] xs, int[] ys, int n,
+			int start, int stride, AtomicInteger lowestFit) {
+		for (int i = start; i < n; i += stride) {
+			if (lowestFit != null && lowestFit.get() < i) {
+				return -1;
+			}
+			if (isInside(word, xs[i], ys[i], cloudArea) && word.tree.fits(mainTree, xs[i], ys[i])) {
+				if (lowestFit != null) {
+					int current = lowestFit.get();
+					while (i < current && !lowestFit.compareAndSet(current, i)) {
+						current = lowestFit.get();
+					}
+				}
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int findFitInParallel(final Word word, final Rectangle cloudArea, final CloudMatrix mainTree,
+			final int[] xs, final int[] ys, final int n) {
+		final int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), n);
+		if (parallelism < 2) {
+			return findFit(word, cloudArea, mainTree, xs, ys, n, 0, 1, null);
+		}
+		final AtomicInteger lowestFit = new AtomicInteger(Integer.MAX_VALUE);
+		List<Callable<Integer>> tasks = new ArrayList<>(parallelism);
+		for (int t = 0; t < parallelism; t++) {
+			final int start = t;
+			tasks.add(new Callable<Integer>() {
+				@Override
+				public Integer call() {
+					// interleave candidates, so that all tasks proceed along
+					// the spiral (and can abort) at the same pace
+					return findFit(word, cloudArea, mainTree, xs, ys, n, start, parallelism, lowestFit);
+				}
+			});
+		}
+		try {
+			for (Future<Integer> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return findFit(word, cloudArea, mainTree, xs, ys, n, 0, 1, null);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		int fit = lowestFit.get();
+		return fit == Integer.MAX_VALUE ? -1 : fit;
+	}
+
+	private static boolean isInside(Word word, int x, int y, Rectangle cloudArea) {
+		return cloudArea.x <= x && cloudArea.y <= y && cloudArea.x + cloudArea.width >= x + word.width
+				&& cloudArea.y + cloudArea.height >= y + word.height;
+	}
+
 	public void setOption(String optionName, Object object) {
+		if (PARALLEL.equals(optionName)) {
+			Assert.isLegal(object instanceof Boolean, "Parameter must be a boolean: " + object);
+			this.parallel = (Boolean) object;
+			return;
+		}
+		if (SEED.equals(optionName)) {
+			Assert.isLegal(object instanceof Long, "Parameter must be a long: " + object);
+			this.random = new Random((Long) object);
+			return;
+		}
 		if (X_AXIS_VARIATION.equals(optionName)) {
 			Integer value = (Integer) object;
 			Assert.isLegal(value >= 0, "Parameter must be between 0 and 100 (inclusive): " + value);
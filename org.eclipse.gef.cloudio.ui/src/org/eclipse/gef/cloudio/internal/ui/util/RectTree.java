@@ -183,7 +183,37 @@ public class RectTree {
 		return true;
 	}
 
-	LinkedList<RectNode> getLeaves() {
+	/**
+	 * Checks whether this tree fits into the given {@link CloudMatrix} when
+	 * moved to the given position. In contrast to {@link #fits(CloudMatrix)},
+	 * neither the position of this tree nor the order of its leaves is changed,
+	 * so that multiple positions may be checked concurrently (provided that
+	 * the leaves have been computed before, see {@link #getLeaves()}).
+	 * 
+	 * @param mainTree
+	 * @param x
+	 * @param y
+	 * @return whether this tree fits at the given position
+	 */
+	public boolean fits(final CloudMatrix mainTree, int x, int y) {
+		short xOffset = (short) x;
+		short yOffset = (short) y;
+		for (RectNode node : getLeaves()) {
+			if (!mainTree.isEmpty((node.rect.x + xOffset) / minResolution, (node.rect.y + yOffset) / minResolution)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the (filled) leaves of this tree, which are computed on first
+	 * access. Therefore, this method has to be called before the leaves are
+	 * accessed concurrently (e.g. by {@link #fits(CloudMatrix, int, int)}).
+	 * 
+	 * @return the leaves of this tree
+	 */
+	public LinkedList<RectNode> getLeaves() {
 		if (leaves == null) {
 			leaves = new LinkedList<>();
 			addLeaves(leaves, root);
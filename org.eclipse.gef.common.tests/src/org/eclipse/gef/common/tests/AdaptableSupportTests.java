@@ -228,6 +228,40 @@ public class AdaptableSupportTests {
 
 	}
 
+	@Test
+	public void retrievalAfterRegistrationChanges() {
+		AdaptableSupportWrapper td = new AdaptableSupportWrapper();
+		ParameterType1 adapter1 = new ParameterType1();
+		ParameterType2 adapter2 = new ParameterType2();
+
+		// retrieved adapters reflect (un-)registration of adapters
+		td.setAdapter(adapter1);
+		assertEquals(1, td.getAdapters(Object.class).size());
+		assertEquals(adapter1, td.getAdapter(Object.class));
+		td.setAdapter(adapter2, "role");
+		assertEquals(2, td.getAdapters(Object.class).size());
+		assertEquals(adapter2, td.getAdapter(
+				AdapterKey.get(TypeToken.of(Object.class), "role")));
+		assertEquals(adapter1, td.getAdapter(AdapterKey
+				.get(TypeToken.of(Object.class), AdapterKey.DEFAULT_ROLE)));
+		td.unsetAdapter(adapter1);
+		assertEquals(1, td.getAdapters(Object.class).size());
+		assertEquals(adapter2, td.getAdapter(Object.class));
+		assertNull(td.getAdapter(AdapterKey.get(TypeToken.of(Object.class),
+				AdapterKey.DEFAULT_ROLE)));
+		assertEquals(adapter2, td.getAdapter(
+				AdapterKey.get(TypeToken.of(Object.class), "role")));
+
+		// retrieved adapters may not be modified
+		try {
+			td.getAdapters(Object.class).clear();
+			fail("Expected UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		assertEquals(1, td.getAdapters(Object.class).size());
+	}
+
 	@SuppressWarnings({ "serial", "rawtypes" })
 	@Test
 	public void retrievalOfMultipleAdapters() {
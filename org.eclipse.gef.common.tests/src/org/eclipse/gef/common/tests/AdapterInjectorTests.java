@@ -14,6 +14,7 @@ package org.eclipse.gef.common.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.InvocationTargetException;
@@ -538,6 +539,62 @@ public class AdapterInjectorTests {
 				}, role3)));
 	}
 
+	/**
+	 * Tests that the adapters injected into adaptables of the same type depend
+	 * on the role under which the adaptables are registered, also when
+	 * several adaptable chains are injected with the same injector.
+	 */
+	@Test
+	public void injectAdaptersToBoundAdaptablesOfDifferentRoles() {
+		final String firstRole = "firstRole";
+		final String secondRole = "secondRole";
+
+		Module module = new AbstractModule() {
+			@Override
+			protected void configure() {
+				install(new AdapterInjectionSupport());
+
+				MapBinder<AdapterKey<?>, Object> adapterMapBinder = AdapterMaps
+						.getAdapterMapBinder(binder(), AdapterStore.class);
+				adapterMapBinder.addBinding(AdapterKey.role(firstRole))
+						.to(AdapterStoreBoundAdaptable.class);
+				adapterMapBinder.addBinding(AdapterKey.role(secondRole))
+						.to(AdapterStoreBoundAdaptable.class);
+
+				// register different adapters for both roles
+				AdapterMaps
+						.getAdapterMapBinder(binder(),
+								AdapterStoreBoundAdaptable.class,
+								AdapterKey.get(AdapterStoreBoundAdaptable.class,
+										firstRole))
+						.addBinding(AdapterKey.role("a1")).to(RawType.class);
+				AdapterMaps
+						.getAdapterMapBinder(binder(),
+								AdapterStoreBoundAdaptable.class,
+								AdapterKey.get(AdapterStoreBoundAdaptable.class,
+										secondRole))
+						.addBinding(AdapterKey.role("a2")).to(RawType.class);
+			}
+		};
+		Injector injector = Guice.createInjector(module);
+		for (int i = 0; i < 2; i++) {
+			AdapterStore adapterStore = new AdapterStore();
+			injector.injectMembers(adapterStore);
+
+			AdapterStoreBoundAdaptable first = adapterStore.getAdapter(
+					AdapterKey.get(AdapterStoreBoundAdaptable.class, firstRole));
+			assertNotNull(first.getAdapter(AdapterKey.get(RawType.class, "a1")));
+			assertNull(first.getAdapter(AdapterKey.get(RawType.class, "a2")));
+
+			AdapterStoreBoundAdaptable second = adapterStore
+					.getAdapter(AdapterKey.get(AdapterStoreBoundAdaptable.class,
+							secondRole));
+			assertNull(second.getAdapter(AdapterKey.get(RawType.class, "a1")));
+			assertNotNull(
+					second.getAdapter(AdapterKey.get(RawType.class, "a2")));
+		}
+	}
+
 	protected List<String> performInjection(AdapterStore adaptable,
 			Module module) throws NoSuchMethodException, IllegalAccessException,
 			InvocationTargetException {
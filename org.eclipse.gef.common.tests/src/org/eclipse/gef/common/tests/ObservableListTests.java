@@ -25,8 +25,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.beans.property.SimpleListPropertyEx;
@@ -247,11 +249,10 @@ public class ObservableListTests {
 				assertEquals(expectedString.toString(), change.toString());
 			}
 
-			// check previous value of change (only in case of JavaFX change)
-			if (!(change instanceof AtomicChange)) {
-				assertEquals(previousValue,
-						CollectionUtils.getPreviousContents(change));
-			}
+			// check previous value of change (which is reconstructed lazily
+			// in case of an atomic change)
+			assertEquals(previousValue,
+					CollectionUtils.getPreviousContents(change));
 		}
 	}
 
@@ -458,6 +459,64 @@ public class ObservableListTests {
 		listChangeListener.check();
 	}
 
+	@Test
+	public void batchedChange() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		// prepare backup list
+		List<Integer> backupList = new ArrayList<>();
+		observable.addAll(Arrays.asList(1, 2, 3));
+		backupList.addAll(Arrays.asList(1, 2, 3));
+		check(observable, backupList);
+
+		// register listeners
+		registerListeners();
+
+		// expect a single change (after the outermost batched change is ended)
+		invalidationListener.expect(1);
+		listChangeListener.addAtomicExpectation();
+		listChangeListener.addElementaryExpectation(null, Arrays.asList(5, 6),
+				null, 3, 5);
+		CollectionUtils.beginChange(observable);
+		observable.add(4);
+		observable.add(5);
+		CollectionUtils.beginChange(observable);
+		observable.remove(3);
+		observable.add(6);
+		CollectionUtils.endChange(observable);
+		backupList.addAll(Arrays.asList(5, 6));
+		check(observable, backupList);
+		CollectionUtils.endChange(observable);
+		checkListeners();
+
+		// replace elements in the middle
+		invalidationListener.expect(1);
+		listChangeListener.addAtomicExpectation();
+		listChangeListener.addElementaryExpectation(Arrays.asList(2, 3),
+				Arrays.asList(7), null, 1, 2);
+		CollectionUtils.beginChange(observable);
+		observable.remove(1, 3);
+		observable.add(1, 7);
+		CollectionUtils.endChange(observable);
+		backupList.remove(1);
+		backupList.set(1, 7);
+		check(observable, backupList);
+		checkListeners();
+
+		// batched change without effect (no notifications expected)
+		CollectionUtils.beginChange(observable);
+		observable.add(8);
+		observable.remove(observable.size() - 1);
+		CollectionUtils.endChange(observable);
+		check(observable, backupList);
+		checkListeners();
+	}
+
 	@Test
 	public void clear() {
 		// initialize list with some values
@@ -636,6 +695,42 @@ public class ObservableListTests {
 		// }
 	}
 
+	/**
+	 * Checks that iterators (of the list and its sub lists) detect concurrent
+	 * modifications.
+	 */
+	@Test
+	public void iteratorConcurrentModification() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		observable.addAll(Arrays.asList(1, 2, 3));
+		try {
+			for (Integer i : observable) {
+				if (i == 1) {
+					observable.remove(i);
+				}
+			}
+			fail("Expect ConcurrentModificationException, because the list was changed during iteration.");
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+		assertEquals(Arrays.asList(2, 3), observable);
+
+		List<Integer> subList = observable.subList(0, 2);
+		observable.add(4);
+		try {
+			subList.iterator().next();
+			fail("Expect ConcurrentModificationException, because the list was changed after the sub list was created.");
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+	}
+
 	@Test
 	public void listenersNotProperlyIterating() {
 		// ensure assumption exceptions can be properly handled by JUnit
@@ -1026,6 +1121,184 @@ public class ObservableListTests {
 		observable.addListener(listChangeListener);
 	}
 
+	/**
+	 * Checks that firing a change does not copy the list, i.e. that the
+	 * previous contents are only reconstructed if requested.
+	 */
+	@Test
+	public void previousContentsNotCopiedWhenFired() {
+		assumeTrue("Skip for all except ObservableListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx"));
+
+		final int[] copies = new int[1];
+		ObservableList<Integer> list = CollectionUtils
+				.observableList(new ArrayList<Integer>() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					public Object[] toArray() {
+						copies[0]++;
+						return super.toArray();
+					}
+
+					@Override
+					public <T> T[] toArray(T[] a) {
+						copies[0]++;
+						return super.toArray(a);
+					}
+				});
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		list.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+
+		for (int i = 0; i < 10; i++) {
+			list.add(i);
+		}
+		list.remove(0);
+		list.set(0, 10);
+		assertEquals(12, changes.size());
+		assertEquals(0, copies[0]);
+
+		// previous contents are reconstructed on request
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9),
+				CollectionUtils.getPreviousContents(changes.get(11)));
+		assertEquals(1, copies[0]);
+	}
+
+	/**
+	 * Checks that changes applied via iterators and sub lists are reported
+	 * (range operations on sub lists as a single change), and that preceding
+	 * changes expire.
+	 */
+	@Test
+	public void previousContentsAfterIteratorChange() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		observable.addAll(Arrays.asList(1, 2, 3, 4));
+
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+
+		// remove via iterator
+		Iterator<Integer> iterator = observable.iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals(Arrays.asList(2, 3, 4), observable);
+		assertEquals(1, changes.size());
+
+		// set and add via list iterator
+		ListIterator<Integer> listIterator = observable.listIterator();
+		listIterator.next();
+		listIterator.set(5);
+		assertEquals(2, changes.size());
+		listIterator.add(6);
+		assertEquals(3, changes.size());
+		assertEquals(Arrays.asList(5, 6, 3, 4), observable);
+
+		// clear via sub list
+		observable.subList(0, 2).clear();
+		assertEquals(Arrays.asList(3, 4), observable);
+		assertEquals(4, changes.size());
+		changes.get(3).next();
+		assertTrue(changes.get(3).wasRemoved());
+		assertEquals(Arrays.asList(5, 6), changes.get(3).getRemoved());
+		assertFalse(changes.get(3).next());
+
+		// previous contents of the most recent change can be retrieved, while
+		// the preceding changes have expired
+		assertEquals(Arrays.asList(5, 6, 3, 4),
+				CollectionUtils.getPreviousContents(changes.get(3)));
+		for (int i = 0; i < 3; i++) {
+			try {
+				CollectionUtils.getPreviousContents(changes.get(i));
+				fail("Expect IllegalStateException, because the list was changed after change "
+						+ i + " was fired.");
+			} catch (IllegalStateException e) {
+				// expected
+			}
+		}
+	}
+
+	/**
+	 * Checks that the (lazily reconstructed) previous contents of a change are
+	 * correct even if a listener changes the list again, and that they can no
+	 * longer be retrieved after the notification has finished and the list is
+	 * changed again.
+	 */
+	@Test
+	public void previousContentsAfterSubsequentChange() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		observable.addAll(Arrays.asList(1, 2, 3));
+
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		ListChangeListener<Integer> listChangeListener = new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+				if (changes.size() == 1) {
+					// change the list while the notification is in progress
+					observable.remove(0);
+					assertEquals(Arrays.asList(1, 2, 3),
+							CollectionUtils.getPreviousContents(change));
+				}
+			}
+		};
+		observable.addListener(listChangeListener);
+
+		observable.add(4);
+		assertEquals(2, changes.size());
+		assertEquals(Arrays.asList(1, 2, 3),
+				CollectionUtils.getPreviousContents(changes.get(0)));
+		assertEquals(Arrays.asList(1, 2, 3, 4),
+				CollectionUtils.getPreviousContents(changes.get(1)));
+
+		// previous contents of retained changes can no longer be retrieved
+		// after the list has been changed again
+		observable.removeListener(listChangeListener);
+		changes.clear();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+		observable.add(5);
+		observable.add(6);
+		assertEquals(Arrays.asList(2, 3, 4, 5),
+				CollectionUtils.getPreviousContents(changes.get(1)));
+		try {
+			CollectionUtils.getPreviousContents(changes.get(0));
+			fail("Expect IllegalStateException, because the list was changed after the change was fired.");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
 	@Test
 	public void remove() {
 		// initialize list with some values
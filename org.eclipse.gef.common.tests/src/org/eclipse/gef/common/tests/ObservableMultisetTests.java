@@ -343,6 +343,54 @@ public class ObservableMultisetTests {
 		multisetChangeListener.check();
 	}
 
+	@Test
+	public void batchedChange() {
+		// initialize multiset with some values
+		observable.add(1, 1);
+		observable.add(2, 2);
+
+		// prepare backup multiset
+		Multiset<Integer> backupMultiset = HashMultiset.create();
+		backupMultiset.add(1, 1);
+		backupMultiset.add(2, 2);
+		check(observable, backupMultiset);
+
+		// register listeners
+		registerListeners();
+
+		// expect a single change (after the outermost batched change is ended)
+		CollectionUtils.beginChange(observable);
+		observable.add(1);
+		observable.remove(2);
+		CollectionUtils.beginChange(observable);
+		observable.add(1);
+		observable.add(3);
+		CollectionUtils.endChange(observable);
+		observable.add(4);
+		observable.remove(4);
+		backupMultiset.add(1, 2);
+		backupMultiset.remove(2);
+		backupMultiset.add(3);
+		check(observable, backupMultiset);
+		checkListeners();
+
+		invalidationListener.expect(1);
+		multisetChangeListener.addAtomicExpectation();
+		multisetChangeListener.addElementaryExpection(2, 1, 0);
+		multisetChangeListener.addElementaryExpection(1, 0, 2);
+		multisetChangeListener.addElementaryExpection(3, 0, 1);
+		CollectionUtils.endChange(observable);
+		checkListeners();
+
+		// batched change without effect (no notifications expected)
+		CollectionUtils.beginChange(observable);
+		observable.add(5);
+		observable.remove(5);
+		CollectionUtils.endChange(observable);
+		check(observable, backupMultiset);
+		checkListeners();
+	}
+
 	@Test
 	public void clear() {
 		// initialize multiset with some values
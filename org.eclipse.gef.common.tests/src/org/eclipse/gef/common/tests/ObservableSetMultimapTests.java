@@ -267,6 +267,55 @@ public class ObservableSetMultimapTests {
 		setMultimapChangeListener.check();
 	}
 
+	@Test
+	public void batchedChange() {
+		// initialize maps with some values
+		observable.putAll(1, Sets.newHashSet("1-1"));
+		observable.putAll(2, Sets.newHashSet("2-1", "2-2"));
+
+		// prepare backup map
+		SetMultimap<Integer, String> backupMap = HashMultimap.create();
+		backupMap.putAll(1, Sets.newHashSet("1-1"));
+		backupMap.putAll(2, Sets.newHashSet("2-1", "2-2"));
+		check(observable, backupMap);
+
+		registerListeners();
+
+		// expect a single change (after the outermost batched change is ended)
+		CollectionUtils.beginChange(observable);
+		observable.put(1, "1-2");
+		CollectionUtils.beginChange(observable);
+		observable.remove(2, "2-1");
+		observable.put(3, "3-1");
+		CollectionUtils.endChange(observable);
+		observable.put(4, "4-1");
+		observable.remove(4, "4-1");
+		backupMap.put(1, "1-2");
+		backupMap.remove(2, "2-1");
+		backupMap.put(3, "3-1");
+		check(observable, backupMap);
+		checkListeners();
+
+		invalidationListener.expect(1);
+		setMultimapChangeListener.addAtomicExpectation();
+		setMultimapChangeListener.addElementaryExpectation(1,
+				Collections.<String> emptySet(), Sets.newHashSet("1-2"));
+		setMultimapChangeListener.addElementaryExpectation(2,
+				Sets.newHashSet("2-1"), Collections.<String> emptySet());
+		setMultimapChangeListener.addElementaryExpectation(3,
+				Collections.<String> emptySet(), Sets.newHashSet("3-1"));
+		CollectionUtils.endChange(observable);
+		checkListeners();
+
+		// batched change without effect (no notifications expected)
+		CollectionUtils.beginChange(observable);
+		observable.put(5, "5-1");
+		observable.remove(5, "5-1");
+		CollectionUtils.endChange(observable);
+		check(observable, backupMap);
+		checkListeners();
+	}
+
 	@Test
 	public void clear() {
 		// initialize maps with some values
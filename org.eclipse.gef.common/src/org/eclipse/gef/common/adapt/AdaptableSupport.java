@@ -26,6 +26,7 @@ import com.google.common.reflect.TypeToken;
 
 import javafx.beans.property.ReadOnlyMapProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 
 /**
@@ -51,6 +52,20 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	private ReadOnlyMapWrapperEx<AdapterKey<?>, Object> adaptersUnmodifiableProperty;
 	private A source;
 
+	// the (unmodifiable) adapters that match a type key, which are computed on
+	// demand and invalidated whenever the registered adapters change
+	private final Map<TypeToken<?>, Map<AdapterKey<?>, Object>> adaptersByTypeKey = new HashMap<>();
+	// the adapters that match a type key, further indexed by their roles
+	private final Map<TypeToken<?>, Map<String, Map<AdapterKey<?>, Object>>> adaptersByTypeKeyAndRole = new HashMap<>();
+	private MapChangeListener<AdapterKey<?>, Object> adaptersByTypeKeyInvalidator = new MapChangeListener<AdapterKey<?>, Object>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends AdapterKey<?>, ? extends Object> change) {
+			adaptersByTypeKey.clear();
+			adaptersByTypeKeyAndRole.clear();
+		}
+	};
+
 	/**
 	 * Creates a new {@link AdaptableSupport} for the given source
 	 * {@link IAdaptable} and a related {@link PropertyChangeSupport}.
@@ -65,6 +80,9 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			throw new IllegalArgumentException("source may not be null.");
 		}
 		this.source = source;
+		// XXX: The listener is registered before any other listener, so that
+		// the cached adapters are invalidated before those are notified.
+		adapters.addListener(adaptersByTypeKeyInvalidator);
 	}
 
 	/**
@@ -280,46 +298,69 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapters(TypeToken)
 	 */
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> Map<AdapterKey<? extends T>, T> getAdapters(
 			TypeToken<? super T> key) {
 		if (adapters.isEmpty()) {
 			return Collections.emptyMap();
 		}
-		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (Types.isAssignable(key, k.getKey())) {
-				// check type compliance...
-				typeSafeAdapters.put((AdapterKey<? extends T>) k,
-						(T) adapters.get(k));
+		// XXX: The assignability checks are expensive, so the matching
+		// adapters are cached per type key (as an unmodifiable sorted map).
+		Map<AdapterKey<?>, Object> typeSafeAdapters = adaptersByTypeKey
+				.get(key);
+		if (typeSafeAdapters == null) {
+			Map<AdapterKey<?>, Object> matchingAdapters = new TreeMap<>();
+			for (AdapterKey<?> k : adapters.keySet()) {
+				if (Types.isAssignable(key, k.getKey())) {
+					// check type compliance...
+					matchingAdapters.put(k, adapters.get(k));
+				}
 			}
+			typeSafeAdapters = Collections.unmodifiableMap(matchingAdapters);
+			adaptersByTypeKey.put(key, typeSafeAdapters);
 		}
-		return typeSafeAdapters;
+		return (Map) typeSafeAdapters;
 	}
 
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private <T> Map<AdapterKey<? extends T>, T> getAdapters(
 			TypeToken<? super T> typeKey, String role) {
 		if (typeKey == null) {
 			throw new IllegalArgumentException("typeKey may not be null");
 		}
-		if (adapters.isEmpty()) {
-			return Collections.emptyMap();
+		Map<AdapterKey<? extends T>, T> typeSafeAdapters = getAdapters(
+				typeKey);
+		if (role == null || typeSafeAdapters.isEmpty()) {
+			return typeSafeAdapters;
 		}
 
-		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (role == null || k.getRole().equals(role)) {
-				// return all adapters assignable to the given type
-				// key
-				if (Types.isAssignable(typeKey, k.getKey())) {
-					typeSafeAdapters.put((AdapterKey<? extends T>) k,
-							(T) adapters.get(k));
-
+		// restrict to the adapters registered under the given role, which are
+		// indexed by role once per type key (and cached like those)
+		Map<String, Map<AdapterKey<?>, Object>> adaptersByRole = adaptersByTypeKeyAndRole
+				.get(typeKey);
+		if (adaptersByRole == null) {
+			adaptersByRole = new HashMap<>();
+			for (Map.Entry<AdapterKey<? extends T>, T> entry : typeSafeAdapters
+					.entrySet()) {
+				Map<AdapterKey<?>, Object> roleAdapters = adaptersByRole
+						.get(entry.getKey().getRole());
+				if (roleAdapters == null) {
+					roleAdapters = new TreeMap<>();
+					adaptersByRole.put(entry.getKey().getRole(), roleAdapters);
 				}
+				roleAdapters.put(entry.getKey(), entry.getValue());
+			}
+			for (Map.Entry<String, Map<AdapterKey<?>, Object>> entry : adaptersByRole
+					.entrySet()) {
+				entry.setValue(Collections.unmodifiableMap(entry.getValue()));
 			}
+			adaptersByTypeKeyAndRole.put(typeKey, adaptersByRole);
+		}
+		Map<AdapterKey<?>, Object> roleAdapters = adaptersByRole.get(role);
+		if (roleAdapters == null) {
+			return Collections.emptyMap();
 		}
-		return typeSafeAdapters;
+		return (Map) roleAdapters;
 	}
 
 	/**
@@ -16,8 +16,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.common.adapt.IAdaptable;
@@ -79,6 +82,22 @@ import javafx.beans.value.ObservableValue;
  */
 public class AdapterInjector implements MembersInjector<IAdaptable> {
 
+	/**
+	 * An adapter map binding together with the {@link AdapterMap} annotation
+	 * of its key.
+	 */
+	private static class AdapterMapBinding {
+
+		private final AdapterMap annotation;
+		private final MapBinderBinding<?> binding;
+
+		public AdapterMapBinding(AdapterMap annotation,
+				MapBinderBinding<?> binding) {
+			this.annotation = annotation;
+			this.binding = binding;
+		}
+	}
+
 	private BindingTargetVisitor<Object, TypeToken<?>> ADAPTER_TYPE_INFERRER = new BindingTargetVisitor<Object, TypeToken<?>>() {
 
 		@Override
@@ -210,6 +229,14 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 
 	private Injector injector;
 
+	// all adapter map bindings of the injector (in the order of the injector
+	// bindings), which are inferred lazily
+	private List<AdapterMapBinding> adapterMapBindings;
+
+	// the adapter map bindings that are applicable to an adaptable, indexed by
+	// the signature of its adaptable chain (see getChainSignature())
+	private final Map<List<Object>, List<MapBinderBinding<?>>> applicableAdapterMapBindings = new ConcurrentHashMap<>();
+
 	private final Method method;
 
 	private LoggingMode loggingMode;
@@ -263,6 +290,133 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 		}
 	}
 
+	/**
+	 * Returns the adapter map bindings that are applicable to the given
+	 * adaptable, i.e. whose {@link AdapterMap#adaptableType()} is a super type
+	 * of the adaptable's type and whose {@link AdapterMap#adaptableContext()}
+	 * is matched by the adaptable chain. As applicability only depends on the
+	 * types and roles within the adaptable chain, the result is cached per
+	 * chain signature (until the {@link Injector} is changed).
+	 *
+	 * @param adaptable
+	 *            The adaptable for which to return the applicable bindings.
+	 * @return The applicable adapter map bindings.
+	 */
+	private List<MapBinderBinding<?>> getApplicableAdapterMapBindings(
+			IAdaptable adaptable) {
+		List<Object> chainSignature = getChainSignature(adaptable);
+		if (chainSignature != null) {
+			List<MapBinderBinding<?>> applicable = applicableAdapterMapBindings
+					.get(chainSignature);
+			if (applicable == null) {
+				applicable = Collections.unmodifiableList(
+						inferApplicableAdapterMapBindings(adaptable));
+				applicableAdapterMapBindings.put(chainSignature, applicable);
+			}
+			return applicable;
+		}
+		// an incomplete chain cannot be cached (it is not expected either, as
+		// injection is deferred until the chain is complete)
+		return inferApplicableAdapterMapBindings(adaptable);
+	}
+
+	/**
+	 * Computes the signature of the adaptable chain of the given adaptable,
+	 * i.e. the type of the adaptable, followed by the role under which each
+	 * ({@link IAdaptable.Bound}) chain element is registered at its adaptable
+	 * and the type of that adaptable.
+	 *
+	 * @param adaptable
+	 *            The adaptable for which to compute the chain signature.
+	 * @return The chain signature, or <code>null</code> if the chain is not
+	 *         complete.
+	 */
+	private List<Object> getChainSignature(IAdaptable adaptable) {
+		List<Object> signature = new ArrayList<>();
+		signature.add(adaptable.getClass());
+		IAdaptable chainElement = adaptable;
+		while (chainElement instanceof IAdaptable.Bound) {
+			IAdaptable nextChainElement = ((IAdaptable.Bound<?>) chainElement)
+					.getAdaptable();
+			if (nextChainElement == null) {
+				return null;
+			}
+			AdapterKey<?> adapterKey = nextChainElement
+					.getAdapterKey(chainElement);
+			if (adapterKey == null) {
+				return null;
+			}
+			signature.add(adapterKey.getRole());
+			signature.add(nextChainElement.getClass());
+			chainElement = nextChainElement;
+		}
+		return signature;
+	}
+
+	/**
+	 * Evaluates the adapter map bindings that are applicable to the given
+	 * adaptable.
+	 *
+	 * @param adaptable
+	 *            The adaptable for which to infer the applicable bindings.
+	 * @return The applicable adapter map bindings.
+	 */
+	private List<MapBinderBinding<?>> inferApplicableAdapterMapBindings(
+			IAdaptable adaptable) {
+		List<MapBinderBinding<?>> applicable = new ArrayList<>();
+		for (AdapterMapBinding adapterMapBinding : getAdapterMapBindings()) {
+			AdapterMap keyAnnotation = adapterMapBinding.annotation;
+			if (keyAnnotation.adaptableType()
+					.isAssignableFrom(adaptable.getClass())) {
+				// XXX: All adapter (map) bindings that are bound to the
+				// adaptable type, or to a super type or super interface
+				// will be considered. If the adapter map binding is targeting
+				// a specific context, the adaptable chain has to match it.
+				if (keyAnnotation.adaptableContext().length == 0
+						|| isContextApplicable(adaptable,
+								keyAnnotation.adaptableContext())) {
+					applicable.add(adapterMapBinding.binding);
+				}
+			}
+		}
+		return applicable;
+	}
+
+	/**
+	 * Returns all adapter map bindings, i.e. the {@link MapBinderBinding}s
+	 * qualified by an {@link AdapterMap} annotation, that can be obtained from
+	 * the {@link Injector}.
+	 *
+	 * @return The adapter map bindings of the {@link Injector}.
+	 */
+	private List<AdapterMapBinding> getAdapterMapBindings() {
+		if (adapterMapBindings == null) {
+			List<AdapterMapBinding> bindings = new ArrayList<>();
+			for (final Entry<Key<?>, Binding<?>> entry : injector
+					.getAllBindings().entrySet()) {
+				// only consider bindings that are qualified by an AdapterMap
+				// binding annotation.
+				Key<?> key = entry.getKey();
+				if ((key.getAnnotationType() != null)
+						&& AdapterMap.class.equals(key.getAnnotationType())) {
+					// XXX: The MapBinderBindings of relevance are wrapped into
+					// ProviderInstanceBindings, so they an instance check is
+					// not sufficient to retrieve them, but a
+					// MultibindingsTargetVisitor is to be used.
+					MapBinderBinding<?> mapBinderBinding = entry.getValue()
+							.acceptTargetVisitor(ADAPTER_MAP_BINDING_FILTER);
+					if (mapBinderBinding != null) {
+						bindings.add(new AdapterMapBinding(
+								(AdapterMap) key.getAnnotation(),
+								mapBinderBinding));
+					}
+				}
+			}
+			adapterMapBindings = bindings;
+		}
+		return adapterMapBindings;
+	}
+
 	/**
 	 * Infers the type of the given adapter, evaluating either the related
 	 * bindings or the runtime type of the adapter.
@@ -387,90 +541,33 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 		// System.out.println("Entering scope of " + adaptable);
 		AdaptableScopes.enter(adaptable);
 
-		// check which bindings are applicable
-		for (final Entry<Key<?>, Binding<?>> entry : injector.getAllBindings()
-				.entrySet()) {
-			// keep track of the applicable adapter map binding (so it can be
-			// used for injection later)
-			MapBinderBinding<?> adapterMapBinding = null;
-
-			// only consider bindings that are qualified by an AdapterMap
-			// binding annotation.
-			Key<?> key = entry.getKey();
-			Binding<?> binding = entry.getValue();
-
-			if ((key.getAnnotationType() != null)
-					&& AdapterMap.class.equals(key.getAnnotationType())) {
-				final AdapterMap keyAnnotation = (AdapterMap) key
-						.getAnnotation();
-				if (keyAnnotation.adaptableType()
-						.isAssignableFrom(adaptable.getClass())) {
-					if (keyAnnotation.adaptableContext().length != 0) {
-						// the adapter map binding is targeting a specific
-						// context
-						// if the adaptable is itself Adaptable.Bound and uses a
-						// role for its registration, consider that role here
-						if (isContextApplicable(adaptable,
-								keyAnnotation.adaptableContext())) {
-							// XXX: The MapBinderBindings of relevance are
-							// wrapped into
-							// ProviderInstanceBindings, so they an instance
-							// check is not
-							// sufficient
-							// to retrieve them, but a
-							// MultibindingsTargetVisitor is to be used.
-							adapterMapBinding = binding.acceptTargetVisitor(
-									ADAPTER_MAP_BINDING_FILTER);
-						}
-					} else {
-						// XXX: All adapter (map) bindings that are bound to the
-						// adaptable type, or to a super type or super interface
-						// will be considered.
-
-						// System.out.println("Applying binding for " +
-						// keyAnnotation.value() + " to " + type +
-						// " as subtype of " + methodAnnotation.value());
-
-						// XXX: The MapBinderBindings of relevance are wrapped
-						// into
-						// ProviderInstanceBindings, so they an instance check
-						// is not
-						// sufficient
-						// to retrieve them, but a MultibindingsTargetVisitor is
-						// to be used.
-						adapterMapBinding = binding.acceptTargetVisitor(
-								ADAPTER_MAP_BINDING_FILTER);
-					}
-				}
-			}
-
-			if (adapterMapBinding != null) {
-				for (final Entry<?, Binding<?>> adapterBinding : adapterMapBinding
-						.getEntries()) {
-					AdapterKey<?> adapterKey = (AdapterKey<?>) adapterBinding
-							.getKey();
-					Object adapter = adapterBinding.getValue().getProvider()
-							.get();
-
-					// determine adapter type
-					TypeToken<?> adapterType = inferAdapterType(adapterKey,
-							adapterBinding.getValue(), adapter, issues);
-
-					// inject the adapter
-					try {
-						// System.out.println("Inject adapter " + adapter
-						// + " with type " + adapterType + " for key "
-						// + key + " to adaptable " + adaptable);
-						method.setAccessible(true);
-						method.invoke(adaptable, new Object[] { adapterType,
-								adapter, adapterKey.getRole() });
-					} catch (final IllegalAccessException e) {
-						throw new IllegalStateException(e);
-					} catch (final InvocationTargetException e) {
-						issues.add("*** ERROR: Cannot inject binding "
-								+ adapterBinding.getValue().getSource() + ": "
-								+ e.getCause().getMessage());
-					}
+		// inject adapters for all applicable adapter map bindings
+		for (MapBinderBinding<?> adapterMapBinding : getApplicableAdapterMapBindings(
+				adaptable)) {
+			for (final Entry<?, Binding<?>> adapterBinding : adapterMapBinding
+					.getEntries()) {
+				AdapterKey<?> adapterKey = (AdapterKey<?>) adapterBinding
+						.getKey();
+				Object adapter = adapterBinding.getValue().getProvider().get();
+
+				// determine adapter type
+				TypeToken<?> adapterType = inferAdapterType(adapterKey,
+						adapterBinding.getValue(), adapter, issues);
+
+				// inject the adapter
+				try {
+					// System.out.println("Inject adapter " + adapter
+					// + " with type " + adapterType + " for key "
+					// + key + " to adaptable " + adaptable);
+					method.setAccessible(true);
+					method.invoke(adaptable, new Object[] { adapterType,
+							adapter, adapterKey.getRole() });
+				} catch (final IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				} catch (final InvocationTargetException e) {
+					issues.add("*** ERROR: Cannot inject binding "
+							+ adapterBinding.getValue().getSource() + ": "
+							+ e.getCause().getMessage());
 				}
 			}
 		}
@@ -491,6 +588,10 @@ public class AdapterInjector implements MembersInjector<IAdaptable> {
 	@Inject
 	public void setInjector(final Injector injector) {
 		this.injector = injector;
+		// invalidate the adapter map bindings inferred from the previous
+		// injector
+		adapterMapBindings = null;
+		applicableAdapterMapBindings.clear();
 		// perform injections for those instances that had to be exercised
 		// before the injector was available (if there have been any)
 		for (final IAdaptable instance : deferredInstances) {
@@ -26,6 +26,7 @@ import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.SetMultimap;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
@@ -43,6 +44,70 @@ import javafx.collections.ObservableList;
  */
 public class CollectionUtils {
 
+	/**
+	 * Begins a batched change on the given {@link ObservableList}, so that all
+	 * mutations until the corresponding call to
+	 * {@link #endChange(ObservableList)} are reported to listeners as a
+	 * single change. Batched changes may be nested.
+	 * <p>
+	 * Batched changes are supported by {@link ObservableList}s created via
+	 * this class (and by list properties wrapping them). For other
+	 * {@link ObservableList}s, this method has no effect, i.e. mutations are
+	 * reported individually.
+	 *
+	 * @param observableList
+	 *            The {@link ObservableList} on which to begin a batched
+	 *            change.
+	 */
+	public static void beginChange(ObservableList<?> observableList) {
+		Object unwrapped = unwrapObservableValue(observableList);
+		if (unwrapped instanceof ObservableListWrapperEx) {
+			((ObservableListWrapperEx<?>) unwrapped).beginChange();
+		}
+	}
+
+	/**
+	 * Begins a batched change on the given {@link ObservableMultiset}, so that
+	 * all mutations until the corresponding call to
+	 * {@link #endChange(ObservableMultiset)} are reported to listeners as a
+	 * single change. Batched changes may be nested.
+	 * <p>
+	 * Batched changes are supported by {@link ObservableMultiset}s created via
+	 * this class (and by multiset properties wrapping them). For other
+	 * {@link ObservableMultiset}s, this method has no effect.
+	 *
+	 * @param multiset
+	 *            The {@link ObservableMultiset} on which to begin a batched
+	 *            change.
+	 */
+	public static void beginChange(ObservableMultiset<?> multiset) {
+		Object unwrapped = unwrapObservableValue(multiset);
+		if (unwrapped instanceof ObservableMultisetWrapper) {
+			((ObservableMultisetWrapper<?>) unwrapped).beginChange();
+		}
+	}
+
+	/**
+	 * Begins a batched change on the given {@link ObservableSetMultimap}, so
+	 * that all mutations until the corresponding call to
+	 * {@link #endChange(ObservableSetMultimap)} are reported to listeners as a
+	 * single change. Batched changes may be nested.
+	 * <p>
+	 * Batched changes are supported by {@link ObservableSetMultimap}s created
+	 * via this class (and by multimap properties wrapping them). For other
+	 * {@link ObservableSetMultimap}s, this method has no effect.
+	 *
+	 * @param setMultimap
+	 *            The {@link ObservableSetMultimap} on which to begin a batched
+	 *            change.
+	 */
+	public static void beginChange(ObservableSetMultimap<?, ?> setMultimap) {
+		Object unwrapped = unwrapObservableValue(setMultimap);
+		if (unwrapped instanceof ObservableSetMultimapWrapper) {
+			((ObservableSetMultimapWrapper<?, ?>) unwrapped).beginChange();
+		}
+	}
+
 	/**
 	 * Returns an empty, unmodifiable {@link ObservableMultiset}.
 	 *
@@ -72,6 +137,61 @@ public class CollectionUtils {
 						HashMultimap.<K, V> create()));
 	}
 
+	/**
+	 * Ends a batched change that was begun on the given {@link ObservableList}
+	 * via {@link #beginChange(ObservableList)}.
+	 *
+	 * @param observableList
+	 *            The {@link ObservableList} on which to end the batched
+	 *            change.
+	 * @throws IllegalStateException
+	 *             if no batched change was begun on the given
+	 *             {@link ObservableList}.
+	 */
+	public static void endChange(ObservableList<?> observableList) {
+		Object unwrapped = unwrapObservableValue(observableList);
+		if (unwrapped instanceof ObservableListWrapperEx) {
+			((ObservableListWrapperEx<?>) unwrapped).endChange();
+		}
+	}
+
+	/**
+	 * Ends a batched change that was begun on the given
+	 * {@link ObservableMultiset} via {@link #beginChange(ObservableMultiset)}.
+	 *
+	 * @param multiset
+	 *            The {@link ObservableMultiset} on which to end the batched
+	 *            change.
+	 * @throws IllegalStateException
+	 *             if no batched change was begun on the given
+	 *             {@link ObservableMultiset}.
+	 */
+	public static void endChange(ObservableMultiset<?> multiset) {
+		Object unwrapped = unwrapObservableValue(multiset);
+		if (unwrapped instanceof ObservableMultisetWrapper) {
+			((ObservableMultisetWrapper<?>) unwrapped).endChange();
+		}
+	}
+
+	/**
+	 * Ends a batched change that was begun on the given
+	 * {@link ObservableSetMultimap} via
+	 * {@link #beginChange(ObservableSetMultimap)}.
+	 *
+	 * @param setMultimap
+	 *            The {@link ObservableSetMultimap} on which to end the batched
+	 *            change.
+	 * @throws IllegalStateException
+	 *             if no batched change was begun on the given
+	 *             {@link ObservableSetMultimap}.
+	 */
+	public static void endChange(ObservableSetMultimap<?, ?> setMultimap) {
+		Object unwrapped = unwrapObservableValue(setMultimap);
+		if (unwrapped instanceof ObservableSetMultimapWrapper) {
+			((ObservableSetMultimapWrapper<?, ?>) unwrapped).endChange();
+		}
+	}
+
 	/**
 	 * Computes the permutation for the given {@link Change}.
 	 *
@@ -113,6 +233,11 @@ public class CollectionUtils {
 	 *            which to compute the previous contents.
 	 * @return A newly created {@link List} that resembles the state of the
 	 *         source {@link ObservableList} before the change.
+	 * @throws IllegalStateException
+	 *             if the change was fired by an {@link ObservableList} created
+	 *             via {@link #observableList(List)} or
+	 *             {@link #observableArrayList()}, and this list has been
+	 *             changed again after the change notification was finished.
 	 */
 	public static <E> List<E> getPreviousContents(
 			ListChangeListener.Change<E> change) {
@@ -130,36 +255,7 @@ public class CollectionUtils {
 				.getElementaryChanges(change);
 
 		// undo the changes in reverse order
-		for (int i = changes.size() - 1; i >= 0; i--) {
-			ElementarySubChange<E> c = changes.get(i);
-			int from = c.getFrom();
-			int to = c.getTo();
-			if (ElementarySubChange.Kind.ADD.equals(c.getKind())
-					|| ElementarySubChange.Kind.REPLACE.equals(c.getKind())) {
-				// remove added elements
-				for (int j = to - 1; j >= from; j--) {
-					previousList.remove(j);
-				}
-			}
-			if (ElementarySubChange.Kind.REMOVE.equals(c.getKind())
-					|| ElementarySubChange.Kind.REPLACE.equals(c.getKind())) {
-				// add removed elements
-				List<E> removed = c.getRemoved();
-				previousList.addAll(from, removed);
-			}
-			if (ElementarySubChange.Kind.PERMUTATE.equals(c.getKind())) {
-				// create sub list with old permutation
-				int[] permutation = c.getPermutation();
-				List<E> subList = new ArrayList<>(to - from);
-				for (int j = from; j < to; j++) {
-					int k = permutation[j - from];
-					subList.add(currentList.get(k));
-				}
-				// insert sub list at correct position
-				previousList.remove(from, to);
-				previousList.addAll(from, subList);
-			}
-		}
+		ListListenerHelperEx.undoElementarySubChanges(previousList, changes);
 		return previousList;
 	}
 
@@ -174,6 +270,12 @@ public class CollectionUtils {
 	 * {@link FXCollections#sort(ObservableList)} and
 	 * {@link FXCollections#sort(ObservableList, Comparator)}.
 	 *
+	 * Please further note that the previous contents of a change fired by the
+	 * returned {@link ObservableList} can only be retrieved (via
+	 * {@link #getPreviousContents(javafx.collections.ListChangeListener.Change)})
+	 * until the list is changed again; afterwards an
+	 * {@link IllegalStateException} is thrown.
+	 *
 	 * @param <E>
 	 *            The element type of the {@link ObservableList}. The
 	 *            {@link List} to wrap.
@@ -257,6 +359,12 @@ public class CollectionUtils {
 	 * {@link FXCollections#sort(ObservableList)} and
 	 * {@link FXCollections#sort(ObservableList, Comparator)}.
 	 *
+	 * Please further note that the previous contents of a change fired by the
+	 * returned {@link ObservableList} can only be retrieved (via
+	 * {@link #getPreviousContents(javafx.collections.ListChangeListener.Change)})
+	 * until the list is changed again; afterwards an
+	 * {@link IllegalStateException} is thrown.
+	 *
 	 * @param <E>
 	 *            The element type of the {@link ObservableList}.
 	 * @param list
@@ -347,6 +455,22 @@ public class CollectionUtils {
 		}
 	}
 
+	/**
+	 * Returns the collection that is wrapped by the given collection, in case
+	 * it is an {@link ObservableValue} (i.e. a collection property), or the
+	 * given collection otherwise.
+	 */
+	private static Object unwrapObservableValue(Object collection) {
+		while (collection instanceof ObservableValue) {
+			Object value = ((ObservableValue<?>) collection).getValue();
+			if (value == null || value == collection) {
+				break;
+			}
+			collection = value;
+		}
+		return collection;
+	}
+
 	/**
 	 * Returns an unmodifiable {@link ObservableMultiset} wrapping the given
 	 * {@link ObservableMultiset}.
@@ -49,6 +49,30 @@ public class ListListenerHelperEx<E> {
 		private ElementarySubChange<E>[] elementarySubChanges;
 
 		private List<E> previousContents;
+		// the change from which the previous contents are to be retrieved, in
+		// case this change was inferred from another atomic change
+		private AtomicChange<? extends E> previousContentsChange;
+		// whether the source list was changed after this change was fired
+		// (before the previous contents were reconstructed)
+		private boolean expired;
+
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising a single elementary sub-change. The
+		 * previous contents are not recorded but reconstructed (if requested)
+		 * by undoing the elementary sub-change on the current contents of the
+		 * source {@link ObservableList}.
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChange
+		 *            The elementary sub-change that has been applied.
+		 */
+		public AtomicChange(ObservableList<E> source,
+				ElementarySubChange<E> elementarySubChange) {
+			this(source, (List<E>) null, elementarySubChange);
+		}
 
 		/**
 		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
@@ -74,7 +98,26 @@ public class ListListenerHelperEx<E> {
 
 		/**
 		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
-		 * represents a change comprising multiple elementary sub-changesO.
+		 * represents a change comprising multiple elementary sub-changes. The
+		 * previous contents are not recorded but reconstructed (if requested)
+		 * by undoing the elementary sub-changes on the current contents of the
+		 * source {@link ObservableList}.
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChanges
+		 *            The elementary sub-changes that have been applied as part
+		 *            of this change.
+		 */
+		public AtomicChange(ObservableList<E> source,
+				List<ElementarySubChange<E>> elementarySubChanges) {
+			this(source, (List<E>) null, elementarySubChanges);
+		}
+
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising multiple elementary sub-changes.
 		 *
 		 * @param source
 		 *            The source {@link ObservableList} from which the change
@@ -115,9 +158,15 @@ public class ListListenerHelperEx<E> {
 				ListChangeListener.Change<? extends E> change) {
 			super(source);
 
-			// copy previous contents
-			this.previousContents = new ArrayList<>(
-					CollectionUtils.getPreviousContents(change));
+			if (change instanceof AtomicChange) {
+				// previous contents are retrieved (lazily) from the given
+				// change
+				this.previousContentsChange = (AtomicChange<? extends E>) change;
+			} else {
+				// copy previous contents
+				this.previousContents = new ArrayList<>(
+						CollectionUtils.getPreviousContents(change));
+			}
 
 			// retrieve elementary sub-changes by iterating them
 			// TODO: we could introduce an initialized field inside Change
@@ -133,6 +182,16 @@ public class ListListenerHelperEx<E> {
 			checkCursor("");
 		}
 
+		/**
+		 * Marks this change as expired, i.e. indicates that the source
+		 * {@link ObservableList} is about to be changed again, so that the
+		 * previous contents can no longer be reconstructed from its current
+		 * contents.
+		 */
+		void expire() {
+			expired = true;
+		}
+
 		private void checkCursor(String args) {
 			String methodName = Thread.currentThread().getStackTrace()[2]
 					.getMethodName();
@@ -182,11 +241,36 @@ public class ListListenerHelperEx<E> {
 		/**
 		 * Returns the previous contents of the observable list before the
 		 * change was applied.
+		 * <p>
+		 * In case the previous contents were not recorded when creating this
+		 * change, they are reconstructed (upon the first call) by undoing the
+		 * elementary sub-changes on the current contents of the source
+		 * {@link ObservableList}. This is only possible as long as the source
+		 * list was not changed again after the change notification has
+		 * finished.
 		 *
 		 * @return An unmodifiable list containing the previous contents of the
 		 *         list.
+		 * @throws IllegalStateException
+		 *             if the previous contents were not recorded and the source
+		 *             list was changed again after this change was fired.
 		 */
 		public List<E> getPreviousContents() {
+			if (previousContents == null) {
+				if (previousContentsChange != null) {
+					previousContents = Collections.<E> unmodifiableList(
+							previousContentsChange.getPreviousContents());
+				} else {
+					if (expired) {
+						throw new IllegalStateException(
+								"The previous contents can no longer be reconstructed, because the source list has been changed again.");
+					}
+					List<E> contents = new ArrayList<>(getList());
+					undoElementarySubChanges(contents,
+							Arrays.asList(elementarySubChanges));
+					previousContents = contents;
+				}
+			}
 			return Collections.unmodifiableList(previousContents);
 		}
 
@@ -557,6 +641,51 @@ public class ListListenerHelperEx<E> {
 		return elementarySubChanges;
 	}
 
+	/**
+	 * Reverts the given elementary sub-changes (in reverse order) on the given
+	 * {@link List}, which is expected to resemble the contents of the changed
+	 * {@link ObservableList} after the sub-changes were applied.
+	 *
+	 * @param <E>
+	 *            The element type of the {@link ObservableList} that was
+	 *            changed.
+	 * @param list
+	 *            The {@link List} on which to undo the elementary changes.
+	 * @param elementarySubChanges
+	 *            The elementary sub-changes to undo.
+	 */
+	protected static <E> void undoElementarySubChanges(List<E> list,
+			List<ElementarySubChange<E>> elementarySubChanges) {
+		for (int i = elementarySubChanges.size() - 1; i >= 0; i--) {
+			ElementarySubChange<E> c = elementarySubChanges.get(i);
+			int from = c.getFrom();
+			int to = c.getTo();
+			if (ElementarySubChange.Kind.ADD.equals(c.getKind())
+					|| ElementarySubChange.Kind.REPLACE.equals(c.getKind())) {
+				// remove added elements
+				list.subList(from, to).clear();
+			}
+			if (ElementarySubChange.Kind.REMOVE.equals(c.getKind())
+					|| ElementarySubChange.Kind.REPLACE.equals(c.getKind())) {
+				// add removed elements
+				list.addAll(from, c.getRemoved());
+			}
+			if (ElementarySubChange.Kind.PERMUTATE.equals(c.getKind())) {
+				// create sub list with old permutation
+				int[] permutation = c.getPermutation();
+				List<E> subList = new ArrayList<>(to - from);
+				for (int j = from; j < to; j++) {
+					int k = permutation[j - from];
+					subList.add(list.get(k));
+				}
+				// replace sub list at correct position
+				for (int j = from; j < to; j++) {
+					list.set(j, subList.get(j - from));
+				}
+			}
+		}
+	}
+
 	private List<InvalidationListener> invalidationListeners = null;
 	private boolean lockInvalidationListeners;
 	private boolean lockListChangeListeners;
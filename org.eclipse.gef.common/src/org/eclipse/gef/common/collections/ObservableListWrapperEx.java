@@ -23,6 +23,7 @@ import java.util.ListIterator;
 import org.eclipse.gef.common.collections.ListListenerHelperEx.ElementarySubChange;
 
 import com.google.common.collect.ForwardingList;
+import com.google.common.collect.ForwardingListIterator;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
@@ -48,6 +49,17 @@ import javafx.collections.ObservableList;
  * (https://bugs.openjdk.java.net/browse/JDK-8092504): fixed by using
  * {@link ListListenerHelperEx} as a replacement for ListListenerHelper.</li>
  * </ul>
+ * In order to keep single-element mutations cheap, the previous contents are
+ * not copied for each change, but reconstructed by the fired
+ * {@link ListListenerHelperEx.AtomicChange} from the current contents if
+ * requested. If this list is changed again while the change notification is
+ * still in progress (i.e. by a listener), the previous contents are recorded
+ * before; once this list is changed after the notification has finished, the
+ * change expires and
+ * {@link CollectionUtils#getPreviousContents(ListChangeListener.Change)}
+ * throws an {@link IllegalStateException} for it. Mutations performed via
+ * {@link #iterator()}, {@link #listIterator()}, and {@link #subList(int, int)}
+ * are reported as changes as well.
  *
  * @author anyssen
  * @param <E>
@@ -57,9 +69,264 @@ import javafx.collections.ObservableList;
 class ObservableListWrapperEx<E> extends ForwardingList<E>
 		implements ObservableList<E> {
 
+	/**
+	 * A {@link ListIterator} that wraps a {@link ListIterator} of the backing
+	 * {@link List} (or of a sub list of it), so that the backing list's
+	 * detection of concurrent modifications is preserved, while mutations are
+	 * reported as changes of this {@link ObservableListWrapperEx}.
+	 */
+	private class ObservableListIterator extends ForwardingListIterator<E> {
+
+		private ListIterator<E> delegate;
+		// the index of the sub list within this list
+		private int offset;
+		// the (sub list) index and the element that was returned last
+		private int lastIndex = -1;
+		private E lastElement;
+
+		public ObservableListIterator(ListIterator<E> delegate, int offset) {
+			this.delegate = delegate;
+			this.offset = offset;
+		}
+
+		@Override
+		public void add(E element) {
+			int index = offset + delegate.nextIndex();
+			prepareChange();
+			delegate.add(element);
+			lastIndex = -1;
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.added(Collections.singletonList(element),
+							index, index + 1)));
+		}
+
+		@Override
+		protected ListIterator<E> delegate() {
+			return delegate;
+		}
+
+		@Override
+		public E next() {
+			lastIndex = delegate.nextIndex();
+			lastElement = delegate.next();
+			return lastElement;
+		}
+
+		@Override
+		public E previous() {
+			lastIndex = delegate.previousIndex();
+			lastElement = delegate.previous();
+			return lastElement;
+		}
+
+		@Override
+		public void remove() {
+			if (lastIndex < 0) {
+				// let the backing iterator throw the respective exception
+				delegate.remove();
+			}
+			int index = offset + lastIndex;
+			prepareChange();
+			delegate.remove();
+			lastIndex = -1;
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.removed(
+							Collections.singletonList(lastElement), index,
+							index)));
+		}
+
+		@Override
+		public void set(E element) {
+			if (lastIndex < 0 || lastElement == element) {
+				// no change (or let the backing iterator throw the respective
+				// exception)
+				delegate.set(element);
+				return;
+			}
+			int index = offset + lastIndex;
+			prepareChange();
+			delegate.set(element);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.replaced(
+							Collections.singletonList(lastElement),
+							Collections.singletonList(element), index,
+							index + 1)));
+			lastElement = element;
+		}
+	}
+
+	/**
+	 * A sub list view that wraps a sub list of the backing {@link List}, so
+	 * that the backing list's detection of concurrent modifications is
+	 * preserved, while mutations are reported as changes of this
+	 * {@link ObservableListWrapperEx}. Mutations that affect a range of
+	 * elements are reported as a single change.
+	 */
+	private class ObservableSubList extends ForwardingList<E> {
+
+		private List<E> delegate;
+		// the index of the sub list within this list
+		private int offset;
+
+		public ObservableSubList(List<E> delegate, int offset) {
+			this.delegate = delegate;
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean add(E element) {
+			add(size(), element);
+			return true;
+		}
+
+		@Override
+		public void add(int index, E element) {
+			prepareChange();
+			delegate.add(index, element);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.added(Collections.singletonList(element),
+							offset + index, offset + index + 1)));
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends E> collection) {
+			return addAll(size(), collection);
+		}
+
+		@Override
+		public boolean addAll(int index, Collection<? extends E> collection) {
+			List<E> added = new ArrayList<>(collection);
+			if (added.isEmpty()) {
+				// let the backing list check the index
+				return delegate.addAll(index, added);
+			}
+			prepareChange();
+			delegate.addAll(index, added);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.added(added, offset + index,
+							offset + index + added.size())));
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			if (delegate.isEmpty()) {
+				return;
+			}
+			prepareChange();
+			List<E> removed = new ArrayList<>(delegate);
+			delegate.clear();
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.removed(removed, offset, offset)));
+		}
+
+		@Override
+		protected List<E> delegate() {
+			return delegate;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return listIterator();
+		}
+
+		@Override
+		public ListIterator<E> listIterator() {
+			return listIterator(0);
+		}
+
+		@Override
+		public ListIterator<E> listIterator(int index) {
+			return new ObservableListIterator(delegate.listIterator(index),
+					offset);
+		}
+
+		@Override
+		public E remove(int index) {
+			prepareChange();
+			E removed = delegate.remove(index);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.removed(
+							Collections.singletonList(removed), offset + index,
+							offset + index)));
+			return removed;
+		}
+
+		@Override
+		public boolean remove(Object object) {
+			int index = delegate.indexOf(object);
+			if (index < 0) {
+				return false;
+			}
+			remove(index);
+			return true;
+		}
+
+		@Override
+		public boolean removeAll(Collection<?> collection) {
+			// report all removals as a single change
+			beginChange();
+			try {
+				return delegate.removeAll(collection);
+			} finally {
+				endChange();
+			}
+		}
+
+		@Override
+		public boolean retainAll(Collection<?> collection) {
+			// report all removals as a single change
+			beginChange();
+			try {
+				return delegate.retainAll(collection);
+			} finally {
+				endChange();
+			}
+		}
+
+		@Override
+		public E set(int index, E element) {
+			E previous = delegate.get(index);
+			if (previous == element) {
+				return element;
+			}
+			prepareChange();
+			delegate.set(index, element);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(
+					ObservableListWrapperEx.this,
+					ElementarySubChange.replaced(
+							Collections.singletonList(previous),
+							Collections.singletonList(element), offset + index,
+							offset + index + 1)));
+			return previous;
+		}
+
+		@Override
+		public List<E> subList(int fromIndex, int toIndex) {
+			return new ObservableSubList(delegate.subList(fromIndex, toIndex),
+					offset + fromIndex);
+		}
+	}
+
 	private ListListenerHelperEx<E> helper = new ListListenerHelperEx<>(this);
 	private List<E> backingList;
 
+	// the most recently fired change and the nesting depth of notifications
+	private ListListenerHelperEx.AtomicChange<E> lastChange;
+	private int notificationDepth = 0;
+
+	// the nesting depth of batched changes and the contents before the
+	// outermost batched change was begun
+	private int batchDepth = 0;
+	private List<E> batchPreviousContents;
+
 	/**
 	 * Creates a new {@link ObservableList} wrapping the given {@link List}.
 	 *
@@ -73,40 +340,37 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean add(E element) {
-		List<E> previousContents = delegateCopy();
+		prepareChange();
+		int previousSize = size();
 		boolean result = super.add(element);
 		if (result) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.added(
-									Collections.singletonList(element),
-									previousContents.size(),
-									previousContents.size() + 1)));
+			fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+					ListListenerHelperEx.ElementarySubChange.added(
+							Collections.singletonList(element), previousSize,
+							previousSize + 1)));
 		}
 		return result;
 	}
 
 	@Override
 	public void add(int index, E element) {
-		List<E> previousContents = delegateCopy();
+		prepareChange();
 		super.add(index, element);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								Collections.singletonList(element), index,
-								index + 1)));
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.added(
+						Collections.singletonList(element), index,
+						index + 1)));
 	}
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
-		List<E> previousContents = delegateCopy();
+		prepareChange();
+		int previousSize = size();
 		boolean result = super.addAll(collection);
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents,
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
 				ListListenerHelperEx.ElementarySubChange.added(
-						new ArrayList<>(collection), previousContents.size(),
-						previousContents.size() + collection.size())));
+						new ArrayList<>(collection), previousSize,
+						previousSize + collection.size())));
 		return result;
 	}
 
@@ -118,13 +382,12 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean addAll(int index, Collection<? extends E> elements) {
-		List<E> previousContents = delegateCopy();
+		prepareChange();
 		boolean result = super.addAll(index, elements);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								new ArrayList<>(elements), index,
-								index + elements.size())));
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.added(
+						new ArrayList<>(elements), index,
+						index + elements.size())));
 		return result;
 	}
 
@@ -138,12 +401,27 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		helper.addListener(listener);
 	}
 
+	/**
+	 * Begins a batched change, i.e. suspends change notifications until the
+	 * corresponding call to {@link #endChange()}, at which all mutations that
+	 * have been applied in the meantime are reported as a single change.
+	 * Batched changes may be nested, in which case notifications are suspended
+	 * until the outermost batched change is ended.
+	 */
+	public void beginChange() {
+		if (batchDepth++ == 0) {
+			prepareChange();
+			batchPreviousContents = delegateCopy();
+		}
+	}
+
 	@Override
 	public void clear() {
+		prepareChange();
 		List<E> previousContents = delegateCopy();
 		super.clear();
 		if (!previousContents.isEmpty()) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new ListListenerHelperEx.AtomicChange<>(this,
 							previousContents,
 							ListListenerHelperEx.ElementarySubChange
@@ -166,43 +444,149 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		return new ArrayList<>(backingList);
 	}
 
+	/**
+	 * Ends a batched change that was begun via {@link #beginChange()}. In case
+	 * the outermost batched change is ended and the contents of this list have
+	 * changed, listeners are notified about a single change, which replaces
+	 * the elements between the common prefix and suffix of the previous and
+	 * current contents.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batched change was begun.
+	 */
+	public void endChange() {
+		if (batchDepth == 0) {
+			throw new IllegalStateException(
+					"A batched change has to be begun before it can be ended.");
+		}
+		if (--batchDepth > 0) {
+			return;
+		}
+		List<E> previousContents = batchPreviousContents;
+		batchPreviousContents = null;
+
+		// determine common prefix and suffix (by identity, as done in set())
+		int previousSize = previousContents.size();
+		int currentSize = size();
+		int from = 0;
+		while (from < previousSize && from < currentSize
+				&& previousContents.get(from) == get(from)) {
+			from++;
+		}
+		int previousTo = previousSize;
+		int currentTo = currentSize;
+		while (previousTo > from && currentTo > from
+				&& previousContents.get(previousTo - 1) == get(currentTo - 1)) {
+			previousTo--;
+			currentTo--;
+		}
+		if (previousTo == from && currentTo == from) {
+			// contents did not change
+			return;
+		}
+		List<E> removed = new ArrayList<>(
+				previousContents.subList(from, previousTo));
+		List<E> added = new ArrayList<>(delegate().subList(from, currentTo));
+		ElementarySubChange<E> elementarySubChange;
+		if (removed.isEmpty()) {
+			elementarySubChange = ElementarySubChange.added(added, from,
+					currentTo);
+		} else if (added.isEmpty()) {
+			elementarySubChange = ElementarySubChange.removed(removed, from,
+					from);
+		} else {
+			elementarySubChange = ElementarySubChange.replaced(removed, added,
+					from, currentTo);
+		}
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+				previousContents, elementarySubChange));
+	}
+
+	/**
+	 * Notifies listeners about the given change, unless a batched change is
+	 * in progress.
+	 *
+	 * @param change
+	 *            The change to notify listeners about.
+	 */
+	private void fireChange(ListListenerHelperEx.AtomicChange<E> change) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return;
+		}
+		lastChange = change;
+		notificationDepth++;
+		try {
+			helper.fireValueChangedEvent(change);
+		} finally {
+			notificationDepth--;
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return listIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		return new ObservableListIterator(delegate().listIterator(index), 0);
+	}
+
+	/**
+	 * Has to be called before the backing {@link List} is changed. Ensures
+	 * that the previous contents of the most recently fired change are
+	 * reconstructed in case its notification is still in progress (i.e. this
+	 * list is changed by a listener), and expires the change otherwise.
+	 */
+	private void prepareChange() {
+		if (lastChange != null) {
+			if (notificationDepth > 0) {
+				lastChange.getPreviousContents();
+			} else {
+				lastChange.expire();
+			}
+			lastChange = null;
+		}
+	}
+
 	@Override
 	public E remove(int index) {
-		List<E> previousContents = delegateCopy();
+		prepareChange();
 		E result = super.remove(index);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.removed(
-								Collections.singletonList(result), index,
-								index)));
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.removed(
+						Collections.singletonList(result), index, index)));
 		return result;
 	}
 
 	@Override
 	public void remove(int from, int to) {
-		List<E> previousContents = delegateCopy();
-		List<E> removed = new ArrayList<>();
-		for (int i = to - 1; i >= from; i--) {
-			removed.add(0, super.remove(i));
-		}
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents, ListListenerHelperEx.ElementarySubChange
-						.removed(removed, from, from)));
+		prepareChange();
+		List<E> removed = new ArrayList<>(delegate().subList(from, to));
+		delegate().subList(from, to).clear();
+		fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.removed(removed, from,
+						from)));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object object) {
-		List<E> previousContents = delegateCopy();
-		if (super.remove(object)) {
+		int index = indexOf(object);
+		if (index >= 0) {
+			prepareChange();
+			super.remove(index);
 			// XXX: if remove was successful, its safe to cast here
-			int index = previousContents.indexOf(object);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.removed(
-									Collections.singletonList((E) object),
-									index, index)));
+			fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+					ListListenerHelperEx.ElementarySubChange.removed(
+							Collections.singletonList((E) object), index,
+							index)));
 			return true;
 		}
 		return false;
@@ -210,6 +594,7 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean removeAll(Collection<?> collection) {
+		prepareChange();
 		List<E> previousContents = delegateCopy();
 		if (super.removeAll(collection)) {
 			// check which have been removed
@@ -249,9 +634,8 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 			}
 			// determine lowest index that was removed (will be used as from and
 			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+					previousContents, elementaryChanges));
 			return true;
 		}
 		return false;
@@ -275,6 +659,7 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
+		prepareChange();
 		List<E> previousContents = delegateCopy();
 		if (super.retainAll(collection)) {
 			// check which have been removed
@@ -314,9 +699,8 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 			}
 			// determine lowest index that was removed (will be used as from and
 			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+					previousContents, elementaryChanges));
 			return true;
 		}
 		return false;
@@ -330,17 +714,14 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public E set(int index, E element) {
-		List<E> previousContents = delegateCopy();
 		if (get(index) != element) {
-			E result = super.remove(index);
-			super.add(index, element);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ElementarySubChange.replaced(
-									Collections.singletonList(result),
-									Collections.singletonList(element), index,
-									index + 1)));
+			prepareChange();
+			E result = delegate().set(index, element);
+			fireChange(new ListListenerHelperEx.AtomicChange<>(this,
+					ElementarySubChange.replaced(
+							Collections.singletonList(result),
+							Collections.singletonList(element), index,
+							index + 1)));
 			return result;
 		}
 		return element;
@@ -350,9 +731,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 	public boolean setAll(Collection<? extends E> collection) {
 		List<E> previousContents = delegateCopy();
 		if (!previousContents.equals(collection)) {
+			prepareChange();
 			delegate().clear();
 			delegate().addAll(collection);
-			helper.fireValueChangedEvent(
+			fireChange(
 					new ListListenerHelperEx.AtomicChange<>(this,
 							previousContents, ElementarySubChange.replaced(
 									previousContents, delegate(), 0, size())));
@@ -399,6 +781,7 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		// directly here, so we stay compatible with 1.7
 		// TODO: change to using List.sort(Comparator) when dropping support for
 		// JavaSE-1.7.
+		prepareChange();
 		Object[] a = delegate().toArray();
 		int[] permutation = new int[a.length];
 		Arrays.sort(a, (Comparator) c);
@@ -418,7 +801,7 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 			previousIndexIterator.remove();
 		}
 		if (changed) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new ListListenerHelperEx.AtomicChange<>(this,
 							previousContents,
 							ListListenerHelperEx.ElementarySubChange
@@ -426,6 +809,12 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		}
 	}
 
+	@Override
+	public List<E> subList(int fromIndex, int toIndex) {
+		return new ObservableSubList(delegate().subList(fromIndex, toIndex),
+				fromIndex);
+	}
+
 	// TODO: overwrite replaceAll(UnaryOperator) as well, as soon as we drop
 	// Java 7 support.
 }
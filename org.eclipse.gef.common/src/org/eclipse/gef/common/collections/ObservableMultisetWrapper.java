@@ -41,6 +41,11 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 			this);
 	private Multiset<E> backingMultiset;
 
+	// the nesting depth of batched changes and the contents before the
+	// outermost batched change was begun
+	private int batchDepth = 0;
+	private Multiset<E> batchPreviousContents;
+
 	/**
 	 * Creates a new {@link ObservableMultiset} wrapping the given
 	 * {@link Multiset}.
@@ -55,10 +60,14 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean add(E element) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.add(element);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.add(element);
 		if (changed) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents,
 							new ElementarySubChange<>(element, 0, 1)));
@@ -68,11 +77,15 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public int add(E element, int occurrences) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.add(element, occurrences);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.add(element, occurrences);
 		if (count(element) > countBefore) {
 			// only fire change if occurrences have really been added.
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>(element,
 									0, count(element) - countBefore)));
@@ -82,6 +95,10 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.addAll(collection);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.addAll(collection);
 		if (changed) {
@@ -102,7 +119,7 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 							.add(new ElementarySubChange<>(e, 0, count(e)));
 				}
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -119,8 +136,26 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 		helper.addListener(listener);
 	}
 
+	/**
+	 * Begins a batched change, i.e. suspends change notifications until the
+	 * corresponding call to {@link #endChange()}, at which all mutations that
+	 * have been applied in the meantime are reported as a single change.
+	 * Batched changes may be nested, in which case notifications are suspended
+	 * until the outermost batched change is ended.
+	 */
+	public void beginChange() {
+		if (batchDepth++ == 0) {
+			batchPreviousContents = delegateCopy();
+		}
+	}
+
 	@Override
 	public void clear() {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			super.clear();
+			return;
+		}
 		Multiset<E> previousContents = delegateCopy();
 		super.clear();
 		if (!previousContents.isEmpty()) {
@@ -129,7 +164,7 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 				elementaryChanges.add(new ElementarySubChange<>(e,
 						previousContents.count(e), 0));
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -150,14 +185,89 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 		return HashMultiset.create(backingMultiset);
 	}
 
+	/**
+	 * Ends a batched change that was begun via {@link #beginChange()}. In case
+	 * the outermost batched change is ended and the contents of this multiset
+	 * have changed, listeners are notified about a single change, which
+	 * comprises an elementary sub-change for each element whose count has
+	 * changed.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batched change was begun.
+	 */
+	public void endChange() {
+		if (batchDepth == 0) {
+			throw new IllegalStateException(
+					"A batched change has to be begun before it can be ended.");
+		}
+		if (--batchDepth > 0) {
+			return;
+		}
+		Multiset<E> previousContents = batchPreviousContents;
+		batchPreviousContents = null;
+		List<ElementarySubChange<E>> elementaryChanges = computeElementaryChanges(
+				previousContents);
+		if (!elementaryChanges.isEmpty()) {
+			fireChange(new MultisetListenerHelper.AtomicChange<>(this,
+					previousContents, elementaryChanges));
+		}
+	}
+
+	/**
+	 * Computes the elementary sub-changes that transform the given previous
+	 * contents into the current contents of this multiset.
+	 *
+	 * @param previousContents
+	 *            The previous contents.
+	 * @return The elementary sub-changes, removals preceding additions.
+	 */
+	private List<ElementarySubChange<E>> computeElementaryChanges(
+			Multiset<E> previousContents) {
+		List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
+		Multiset<E> removedElements = Multisets.difference(previousContents,
+				delegate());
+		Multiset<E> addedElements = Multisets.difference(delegate(),
+				previousContents);
+		// removed / decreased elements
+		for (E e : removedElements.elementSet()) {
+			elementaryChanges.add(
+					new ElementarySubChange<>(e, removedElements.count(e), 0));
+		}
+		// added / increased entries
+		for (E e : addedElements.elementSet()) {
+			elementaryChanges.add(
+					new ElementarySubChange<>(e, 0, addedElements.count(e)));
+		}
+		return elementaryChanges;
+	}
+
+	/**
+	 * Notifies listeners about the given change, unless a batched change is
+	 * in progress.
+	 *
+	 * @param change
+	 *            The change to notify listeners about.
+	 */
+	private void fireChange(MultisetListenerHelper.AtomicChange<E> change) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return;
+		}
+		helper.fireValueChangedEvent(change);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object object) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.remove(object);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.remove(object);
 		if (changed) {
 			// if remove was successful, the cast to E should be safe.
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents,
 							new ElementarySubChange<>((E) object, 1, 0)));
@@ -168,6 +278,10 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 	@SuppressWarnings("unchecked")
 	@Override
 	public int remove(Object element, int occurrences) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.remove(element, occurrences);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.remove(element, occurrences);
 		if (countBefore > count(element)) {
@@ -175,7 +289,7 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 			// here; we may actually remove fewer then the specified
 			// occurrences, thus we have to compute how many have actually be
 			// removed.
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents,
 							new ElementarySubChange<>((E) element,
@@ -187,6 +301,10 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean removeAll(Collection<?> collection) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.removeAll(collection);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.removeAll(collection);
 		if (changed) {
@@ -204,7 +322,7 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 					}
 				}
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -223,28 +341,22 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean replaceAll(Multiset<? extends E> multiset) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			boolean changed = !delegate().equals(multiset);
+			super.clear();
+			super.addAll(multiset);
+			return changed;
+		}
 		Multiset<E> previousContents = delegateCopy();
 
 		super.clear();
 		super.addAll(multiset);
 
-		Multiset<E> removedElements = Multisets.difference(previousContents,
-				multiset);
-		Multiset<? extends E> addedElements = Multisets.difference(multiset,
+		List<ElementarySubChange<E>> elementaryChanges = computeElementaryChanges(
 				previousContents);
-		if (!addedElements.isEmpty() || !removedElements.isEmpty()) {
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			// removed / decreased elements
-			for (E e : removedElements.elementSet()) {
-				elementaryChanges.add(new ElementarySubChange<>(e,
-						removedElements.count(e), 0));
-			}
-			// added / increased entries
-			for (E e : addedElements.elementSet()) {
-				elementaryChanges.add(new ElementarySubChange<>(e, 0,
-						addedElements.count(e)));
-			}
-			helper.fireValueChangedEvent(
+		if (!elementaryChanges.isEmpty()) {
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 			return true;
@@ -254,6 +366,10 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.retainAll(collection);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.retainAll(collection);
 		if (changed) {
@@ -268,7 +384,7 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 				}
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -277,15 +393,19 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public int setCount(E element, int count) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.setCount(element, count);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.setCount(element, count);
 		if (count(element) > countBefore) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>(element,
 									0, count(element) - countBefore)));
 		} else if (count(element) < countBefore) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new MultisetListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>(element,
 									countBefore - count(element), 0)));
@@ -295,18 +415,22 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean setCount(E element, int oldCount, int newCount) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.setCount(element, oldCount, newCount);
+		}
 		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.setCount(element, oldCount, newCount);
 		// if changed it means that the oldCound was matched and that now we
 		// have the new count
 		if (changed) {
 			if (newCount > oldCount) {
-				helper.fireValueChangedEvent(
+				fireChange(
 						new MultisetListenerHelper.AtomicChange<>(this,
 								previousContents, new ElementarySubChange<>(
 										element, 0, newCount - oldCount)));
 			} else if (oldCount > newCount) {
-				helper.fireValueChangedEvent(
+				fireChange(
 						new MultisetListenerHelper.AtomicChange<>(this,
 								previousContents, new ElementarySubChange<>(
 										element, oldCount - newCount, 0)));
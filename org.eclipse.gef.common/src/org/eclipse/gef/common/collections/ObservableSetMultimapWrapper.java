@@ -45,6 +45,11 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	private SetMultimapListenerHelper<K, V> helper = new SetMultimapListenerHelper<>(
 			this);
 
+	// the nesting depth of batched changes and the contents before the
+	// outermost batched change was begun
+	private int batchDepth = 0;
+	private SetMultimap<K, V> batchPreviousContents;
+
 	/**
 	 * Creates a new {@link ObservableSetMultimap} wrapping the given
 	 * {@link SetMultimap}.
@@ -68,8 +73,26 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 		helper.addListener(listener);
 	}
 
+	/**
+	 * Begins a batched change, i.e. suspends change notifications until the
+	 * corresponding call to {@link #endChange()}, at which all mutations that
+	 * have been applied in the meantime are reported as a single change.
+	 * Batched changes may be nested, in which case notifications are suspended
+	 * until the outermost batched change is ended.
+	 */
+	public void beginChange() {
+		if (batchDepth++ == 0) {
+			batchPreviousContents = delegateCopy();
+		}
+	}
+
 	@Override
 	public void clear() {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			super.clear();
+			return;
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		super.clear();
 		if (!previousContents.isEmpty()) {
@@ -78,7 +101,7 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 				elementaryChanges.add(new ElementarySubChange<>(key,
 						previousContents.get(key), Collections.<V> emptySet()));
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -99,11 +122,98 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 		return HashMultimap.create(backingSetMultiMap);
 	}
 
+	/**
+	 * Ends a batched change that was begun via {@link #beginChange()}. In case
+	 * the outermost batched change is ended and the contents of this multimap
+	 * have changed, listeners are notified about a single change, which
+	 * comprises an elementary sub-change for each key whose values have
+	 * changed.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batched change was begun.
+	 */
+	public void endChange() {
+		if (batchDepth == 0) {
+			throw new IllegalStateException(
+					"A batched change has to be begun before it can be ended.");
+		}
+		if (--batchDepth > 0) {
+			return;
+		}
+		SetMultimap<K, V> previousContents = batchPreviousContents;
+		batchPreviousContents = null;
+		if (!previousContents.equals(delegate())) {
+			fireChange(new SetMultimapListenerHelper.AtomicChange<>(this,
+					previousContents,
+					computeElementaryChanges(previousContents)));
+		}
+	}
+
+	/**
+	 * Computes the elementary sub-changes that transform the given previous
+	 * contents into the current contents of this multimap.
+	 *
+	 * @param previousContents
+	 *            The previous contents.
+	 * @return The elementary sub-changes, one for each changed key.
+	 */
+	private List<ElementarySubChange<K, V>> computeElementaryChanges(
+			SetMultimap<K, V> previousContents) {
+		List<ElementarySubChange<K, V>> elementaryChanges = new ArrayList<>();
+		for (K key : previousContents.keySet()) {
+			// removed key
+			if (!containsKey(key)) {
+				elementaryChanges.add(new ElementarySubChange<>(key,
+						new HashSet<>(previousContents.get(key)),
+						Collections.<V> emptySet()));
+			} else {
+				// changed entry?
+				Set<? extends V> addedValues = new HashSet<>(get(key));
+				addedValues.removeAll(previousContents.get(key));
+				Set<? extends V> removedValues = new HashSet<>(
+						previousContents.get(key));
+				removedValues.removeAll(get(key));
+				if (!addedValues.isEmpty() || !removedValues.isEmpty()) {
+					elementaryChanges.add(new ElementarySubChange<>(key,
+							removedValues, addedValues));
+				}
+			}
+		}
+		for (K key : keySet()) {
+			// added key
+			if (!previousContents.containsKey(key)) {
+				elementaryChanges.add(new ElementarySubChange<>(key,
+						Collections.<V> emptySet(), new HashSet<>(get(key))));
+			}
+		}
+		return elementaryChanges;
+	}
+
+	/**
+	 * Notifies listeners about the given change, unless a batched change is
+	 * in progress.
+	 *
+	 * @param change
+	 *            The change to notify listeners about.
+	 */
+	private void fireChange(
+			SetMultimapListenerHelper.AtomicChange<K, V> change) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return;
+		}
+		helper.fireValueChangedEvent(change);
+	}
+
 	@Override
 	public boolean put(K key, V value) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.put(key, value);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.put(key, value)) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents,
 							new ElementarySubChange<>(key,
@@ -116,13 +226,17 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public boolean putAll(K key, Iterable<? extends V> values) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.putAll(key, values);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.putAll(key, values)) {
 			Set<V> removedValues = new HashSet<>(previousContents.get(key));
 			removedValues.removeAll(get(key));
 			Set<V> addedValues = new HashSet<>(get(key));
 			addedValues.removeAll(previousContents.get(key));
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>(key,
 									removedValues, addedValues)));
@@ -133,6 +247,10 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.putAll(multimap);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.putAll(multimap)) {
 			List<ElementarySubChange<K, V>> elementaryChanges = new ArrayList<>();
@@ -146,7 +264,7 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 				elementaryChanges.add(new ElementarySubChange<>(key,
 						removedValues, addedValues));
 			}
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 			return true;
@@ -157,11 +275,15 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object key, Object value) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.remove(key, value);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.remove(key, value)) {
 			// XXX: If the key or value are not of matching type, the super call
 			// should not have an effect; as such, the cast should be safe here.
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents,
 							new ElementarySubChange<>((K) key,
@@ -175,12 +297,16 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	@SuppressWarnings("unchecked")
 	@Override
 	public Set<V> removeAll(Object key) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.removeAll(key);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		Set<V> oldValues = super.removeAll(key);
 		if (!oldValues.isEmpty()) {
 			// XXX: If values could be removed, the key should have the
 			// appropriate type. As such the cast here should be safe.
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>((K) key,
 									oldValues, Collections.<V> emptySet())));
@@ -202,41 +328,20 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	@Override
 	public boolean replaceAll(
 			SetMultimap<? extends K, ? extends V> setMultimap) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			boolean changed = !delegate().equals(setMultimap);
+			super.clear();
+			super.putAll(setMultimap);
+			return changed;
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		super.clear();
 		super.putAll(setMultimap);
 		if (!previousContents.equals(setMultimap)) {
-			List<ElementarySubChange<K, V>> elementaryChanges = new ArrayList<>();
-			for (K key : previousContents.keySet()) {
-				// removed key
-				if (!setMultimap.containsKey(key)) {
-					elementaryChanges.add(new ElementarySubChange<>(key,
-							new HashSet<>(previousContents.get(key)),
-							Collections.<V> emptySet()));
-				} else {
-					// changed entry?
-					Set<? extends V> addedValues = new HashSet<>(get(key));
-					addedValues.removeAll(previousContents.get(key));
-					Set<? extends V> removedValues = new HashSet<>(
-							previousContents.get(key));
-					removedValues.removeAll(get(key));
-					if (!addedValues.isEmpty() || !removedValues.isEmpty()) {
-						elementaryChanges.add(new ElementarySubChange<>(key,
-								removedValues, addedValues));
-					}
-				}
-			}
-			for (K key : keySet()) {
-				// added key
-				if (!previousContents.containsKey(key)) {
-					elementaryChanges.add(new ElementarySubChange<>(key,
-							Collections.<V> emptySet(),
-							new HashSet<>(get(key))));
-				}
-			}
-			helper.fireValueChangedEvent(
-					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireChange(new SetMultimapListenerHelper.AtomicChange<>(this,
+					previousContents,
+					computeElementaryChanges(previousContents)));
 			return true;
 		}
 		return false;
@@ -244,10 +349,14 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public Set<V> replaceValues(K key, Iterable<? extends V> values) {
+		if (batchDepth > 0) {
+			// will be reported when the batched change is ended
+			return super.replaceValues(key, values);
+		}
 		SetMultimap<K, V> previousContents = delegateCopy();
 		Set<V> replacedValues = super.replaceValues(key, values);
 		if (!replacedValues.isEmpty()) {
-			helper.fireValueChangedEvent(
+			fireChange(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, new ElementarySubChange<>(key,
 									replacedValues, Sets.newHashSet(values))));
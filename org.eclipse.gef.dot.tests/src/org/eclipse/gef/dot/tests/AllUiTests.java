@@ -20,10 +20,11 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ DotHtmlLabelContentAssistTests.class, DotArrowTypeTests.class,
-		DotImportTests.class, DotExportTests.class,
-		DotExecutableUtilsTests.class, DotExtractorTests.class,
-		DotAttributesTests.class, DotParserTests.class, DotQuickfixTests.class,
-		DotEscStringTests.class, DotHighlightingTests.class,
+		DotImportTests.class, DotStreamingImportTests.class,
+		DotExportTests.class, DotExecutableUtilsTests.class,
+		DotExtractorTests.class, DotAttributesTests.class, DotParserTests.class,
+		DotQuickfixTests.class, DotEscStringTests.class,
+		DotHighlightingTests.class,
 		DotHighlightingCalculatorTests.class, DotValidatorTests.class,
 		DotContentAssistTests.class, DotBSplineInterpolatorTests.class,
 		DotHtmlLabelTests.class, DotOutlineViewTests.class,
@@ -15,6 +15,7 @@ package org.eclipse.gef.dot.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -343,6 +344,40 @@ public class DotAttributesTests {
 		}
 	}
 
+	@Test
+	public void edge_color_parsedValuesAreNotShared() {
+		Node n1 = new Node.Builder().buildNode();
+		Node n2 = new Node.Builder().buildNode();
+		Edge e1 = new Edge.Builder(n1, n2).buildEdge();
+		Edge e2 = new Edge.Builder(n2, n1).buildEdge();
+		DotAttributes.setColor(e1, "#ffffff");
+		DotAttributes.setColor(e2, "#ffffff");
+
+		// equal raw values yield equal, but distinct parsed values
+		ColorList colorList = DotAttributes.getColorParsed(e1);
+		assertTrue(EcoreUtil.equals(colorList,
+				DotAttributes.getColorParsed(e2)));
+		assertNotSame(colorList, DotAttributes.getColorParsed(e1));
+		assertNotSame(colorList, DotAttributes.getColorParsed(e2));
+
+		// modifying a parsed value does not affect subsequent results
+		((RGBColor) colorList.getColorValues().get(0).getColor()).setR("00");
+		RGBColor rgbColor = ColorFactory.eINSTANCE.createRGBColor();
+		rgbColor.setR("ff");
+		rgbColor.setG("ff");
+		rgbColor.setB("ff");
+		assertTrue(EcoreUtil.equals(createColorList(rgbColor),
+				DotAttributes.getColorParsed(e2)));
+
+		// changing the raw value changes the parsed value
+		DotAttributes.setColor(e2, "#000000");
+		rgbColor.setR("00");
+		rgbColor.setG("00");
+		rgbColor.setB("00");
+		assertTrue(EcoreUtil.equals(createColorList(rgbColor),
+				DotAttributes.getColorParsed(e2)));
+	}
+
 	@Test
 	public void edge_colorscheme() {
 		Node n1 = new Node.Builder().buildNode();
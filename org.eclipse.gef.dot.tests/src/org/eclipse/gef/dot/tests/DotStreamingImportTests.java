@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.tests;
+
+import static org.eclipse.gef.dot.tests.DotTestUtils.RESOURCES_TESTS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.gef.dot.internal.DotAttributes;
+import org.eclipse.gef.dot.internal.DotImport;
+import org.eclipse.gef.dot.internal.DotStreamingImport;
+import org.eclipse.gef.dot.internal.language.DotUiInjectorProvider;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.xtext.junit4.InjectWith;
+import org.eclipse.xtext.junit4.XtextRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for the {@link DotStreamingImport} class, which has to create the same
+ * graphs as the {@link DotImport}.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(DotUiInjectorProvider.class)
+public class DotStreamingImportTests {
+
+	private final DotImport dotImport = new DotImport();
+	private final DotStreamingImport streamingImport = new DotStreamingImport();
+
+	private void assertEquivalentImport(String dotString) {
+		List<Graph> expected = dotImport.importDot(dotString);
+		List<Graph> actual = streamingImport.importDot(dotString);
+		assertEquals(expected.toString(), actual.toString());
+	}
+
+	@Test
+	public void clusterMerge() {
+		assertEquivalentImport(DotTestGraphs.CLUSTER_MERGE);
+	}
+
+	@Test
+	public void clusterMergeKeepsAttributes() {
+		String dot = "graph { subgraph cluster1 {label=A; a} " //$NON-NLS-1$
+				+ "subgraph cluster1 {label=B; b} }"; //$NON-NLS-1$
+		assertEquivalentImport(dot);
+
+		Graph cluster = streamingImport.importDot(dot).get(0).getNodes()
+				.get(0).getNestedGraph();
+		assertEquals("A", DotAttributes.getLabel(cluster)); //$NON-NLS-1$
+		assertEquals(2, cluster.getNodes().size());
+	}
+
+	@Test
+	public void commentsAndKeywords() {
+		assertEquivalentImport("/* header */ STRICT DiGraph G {\n" //$NON-NLS-1$
+				+ "# preprocessor output\n" //$NON-NLS-1$
+				+ "NODE [shape=box] // trailing comment\n" //$NON-NLS-1$
+				+ "a:n -> b:sw:s -> \"c\" [label=<<b>bold</b>>];\n" //$NON-NLS-1$
+				+ "-.5 -- 1.5 [color=\"#ff0000\"]}"); //$NON-NLS-1$
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void faultyLayout() {
+		streamingImport.importDot("graph Sample{graph[layout=cool];1;}"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void globalAttributes() {
+		assertEquivalentImport(DotTestGraphs.GLOBAL_EDGE_NODE_COLORSCHEME);
+		assertEquivalentImport(DotTestGraphs.MULTI_EDGE_STATEMENTS_GLOBAL);
+		assertEquivalentImport(DotTestGraphs.MULTI_EDGE_STATEMENTS_LOCAL);
+		assertEquivalentImport(DotTestGraphs.MULTI_EDGE_STATEMENTS_OVERRIDE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidGraph() {
+		streamingImport.importDot("graph Sample{"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void multipleGraphs() {
+		List<Graph> graphs = streamingImport
+				.importDot("graph { a } digraph { b; c }"); //$NON-NLS-1$
+		assertEquals(2, graphs.size());
+		assertEquals(1, graphs.get(0).getNodes().size());
+		assertEquals(2, graphs.get(1).getNodes().size());
+	}
+
+	@Test
+	public void resourceFiles() throws IOException {
+		File[] files = new File(RESOURCES_TESTS).listFiles();
+		assertNotNull(files);
+		for (File file : files) {
+			if (!file.getName().endsWith(".dot")) { //$NON-NLS-1$
+				continue;
+			}
+			List<Graph> expected;
+			try {
+				expected = dotImport.importDot(file);
+			} catch (IllegalArgumentException e) {
+				// invalid input has to be rejected by both importers
+				try {
+					streamingImport.importDot(file);
+					fail("IllegalArgumentException expected for " //$NON-NLS-1$
+							+ file.getName());
+				} catch (IllegalArgumentException expectedException) {
+					// expected
+				}
+				continue;
+			}
+			assertEquals(file.getName(), expected.toString(),
+					streamingImport.importDot(file).toString());
+		}
+	}
+
+	@Test
+	public void subgraphEdgeOperand() {
+		// subgraph operands are skipped, but the remaining edges are created
+		List<Graph> graphs = streamingImport
+				.importDot("digraph { a -> {b c} -> d }"); //$NON-NLS-1$
+		assertEquals(2, graphs.get(0).getNodes().size());
+		assertEquals(1, graphs.get(0).getEdges().size());
+		assertEquivalentImport("digraph { a -> {b c} -> d }"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void subgraphScoping() {
+		assertEquivalentImport(DotTestGraphs.CLUSTER_SCOPE);
+
+		Graph graph = streamingImport.importDot(DotTestGraphs.CLUSTER_SCOPE)
+				.get(0);
+		Node c = graph.getNodes().get(1).getNestedGraph().getNodes().get(0);
+		assertEquals("c", DotAttributes._getName(c)); //$NON-NLS-1$
+		assertEquals("hexagon", DotAttributes.getShape(c)); //$NON-NLS-1$
+		assertEquals("red", DotAttributes.getFillcolor(c)); //$NON-NLS-1$
+	}
+}
@@ -17,6 +17,7 @@ import com.google.inject.Injector
 import java.io.StringReader
 import java.util.Collections
 import java.util.Iterator
+import java.util.LinkedHashMap
 import java.util.List
 import java.util.Map
 import org.eclipse.emf.common.util.BasicDiagnostic
@@ -301,9 +302,26 @@ class DotAttributes {
 		if (attributeValue === null) null else serializer.serialize(attributeValue)
 	}
 
+	/**
+	 * The maximum number of values that are kept in the {@link #PARSE_CACHE}.
+	 */
+	static val PARSE_CACHE_SIZE = 1024
+
+	/**
+	 * The values parsed by the {@link EObjectParser}s, keyed by the parser
+	 * (i.e. the attribute grammar) and the raw value. The entries are kept in
+	 * access order, so that the least recently used one is evicted first. As
+	 * the raw value is part of the key, a changed raw attribute value never
+	 * hits a stale entry.
+	 */
+	static val PARSE_CACHE = new LinkedHashMap<Pair<Object, String>, EObject>(16, 0.75f, true)
+
 	/**
 	 * Parses the given (unquoted) attribute, using the given
-	 * {@link IAttributeValueParser}.
+	 * {@link IAttributeValueParser}. The values of Xtext based
+	 * {@link EObjectParser}s are cached, so that recurring values (such as
+	 * colors, shapes, or arrow types) are only parsed once. A copy of the
+	 * cached value is returned, as parsed values are mutable.
 	 * 
 	 * @param <T>
 	 *            The (primitive) object type of the parsed value.
@@ -315,7 +333,33 @@ class DotAttributes {
 	 *         parsed.
 	 */
 	private static def <T> T parseAttributeValue(IAttributeValueParser<T> parser, String attributeValue) {
-		if (attributeValue === null) null else parser.parse(attributeValue).parsedValue
+		if (attributeValue === null) {
+			return null
+		}
+		if (!(parser instanceof EObjectParser)) {
+			// enumeration and number parsers are cheap
+			return parser.parse(attributeValue).parsedValue
+		}
+		val key = Pair.of(parser as Object, attributeValue)
+		var boolean cached
+		var EObject parsedValue
+		synchronized (PARSE_CACHE) {
+			cached = PARSE_CACHE.containsKey(key)
+			parsedValue = PARSE_CACHE.get(key)
+		}
+		if (!cached) {
+			// the copy does not retain the node model of the parse result
+			parsedValue = (parser.parse(attributeValue).parsedValue as EObject)?.copy
+			synchronized (PARSE_CACHE) {
+				PARSE_CACHE.put(key, parsedValue)
+				if (PARSE_CACHE.size > PARSE_CACHE_SIZE) {
+					val iterator = PARSE_CACHE.keySet.iterator
+					iterator.next
+					iterator.remove
+				}
+			}
+		}
+		parsedValue?.copy as T
 	}
 
 	// TODO: separate validation from parsing
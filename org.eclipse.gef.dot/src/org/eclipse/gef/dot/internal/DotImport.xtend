@@ -282,10 +282,15 @@ class DotImport {
 			graphBuilder.nodes(subgraphNode)
 		} else {
 
-			// merge into existing subgraph
+			// merge into existing subgraph (within a single batched change)
 			subgraphNode.nestedGraph.attributes.putAll(subgraph.attributes)
-			subgraphNode.nestedGraph.nodes.addAll(subgraph.nodes.filter[!subgraphNode.nestedGraph.nodes.contains(it)])
-			subgraphNode.nestedGraph.edges.addAll(subgraph.edges.filter[!subgraphNode.nestedGraph.nodes.contains(it)])
+			subgraphNode.nestedGraph.beginChange
+			try {
+				subgraphNode.nestedGraph.nodes.addAll(subgraph.nodes.filter[!subgraphNode.nestedGraph.nodes.contains(it)])
+				subgraphNode.nestedGraph.edges.addAll(subgraph.edges.filter[!subgraphNode.nestedGraph.nodes.contains(it)])
+			} finally {
+				subgraphNode.nestedGraph.endChange
+			}
 		}
 
 		// apply all global cluster and subgraph attributes to subgraph
@@ -0,0 +1,932 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.dot.internal.language.dot.GraphType;
+import org.eclipse.gef.dot.internal.language.terminals.ID;
+import org.eclipse.gef.dot.internal.language.terminals.ID.Type;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * A lightweight alternative to {@link DotImport}, which creates {@link Graph}s
+ * with {@link DotAttributes} while reading Graphviz DOT input from a
+ * {@link Reader}. In contrast to {@link DotImport}, neither the complete input
+ * nor an EMF model of it (including the Xtext node model) is held in memory,
+ * so that the memory consumption is proportional to the created graphs rather
+ * than to the size of the input.
+ * <p>
+ * The created graphs are equivalent to those created by {@link DotImport}.
+ * Neither importer supports edge statements that use a subgraph as operand.
+ * While {@link DotImport} ignores such statements completely, a subgraph that
+ * starts an edge statement is imported here, because it has been processed
+ * before the edge operator is read; only the edges are skipped.
+ */
+public class DotStreamingImport {
+
+	/**
+	 * The tokenizer, which reads the DOT terminals from a {@link Reader}. Only
+	 * the text of the current token is retained.
+	 */
+	private static final class Lexer {
+
+		private static final int BUFFER_SIZE = 8192;
+
+		private final char[] buffer = new char[BUFFER_SIZE];
+		private int limit;
+		private int line = 1;
+		private int position;
+		private final Reader reader;
+		private final StringBuilder text = new StringBuilder();
+		private Type type;
+
+		private Lexer(Reader reader) {
+			this.reader = reader;
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(
+					"Given DOT string is not valid: " + message + " in line " //$NON-NLS-1$ //$NON-NLS-2$
+							+ line + ".");
+		}
+
+		/**
+		 * Returns the current token as an {@link ID}, which is only valid if
+		 * the last call to {@link #next()} returned {@link Token#ID}.
+		 */
+		private ID getId() {
+			return ID.fromString(text.toString(), type);
+		}
+
+		private String getText() {
+			return text.toString();
+		}
+
+		private boolean isDigit(int c) {
+			return c >= '0' && c <= '9';
+		}
+
+		private boolean isStringPart(int c) {
+			return isStringStart(c) || isDigit(c);
+		}
+
+		private boolean isStringStart(int c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+					|| c >= '\u0080' && c <= '\u00FF' || c == '_';
+		}
+
+		private Token next() throws IOException {
+			text.setLength(0);
+			type = null;
+			int c = read();
+			while (true) {
+				if (c == ' ' || c == '\t' || c == '\r' || c == '\n'
+						|| c == '\f') {
+					c = read();
+				} else if (c == '#' || c == '/' && peek() == '/') {
+					while (c != -1 && c != '\n') {
+						c = read();
+					}
+				} else if (c == '/' && peek() == '*') {
+					read();
+					c = read();
+					while (c != '*' || peek() != '/') {
+						if (c == -1) {
+							throw error("unterminated comment"); //$NON-NLS-1$
+						}
+						c = read();
+					}
+					read();
+					c = read();
+				} else {
+					break;
+				}
+			}
+			if (c != -1) {
+				text.append((char) c);
+			}
+			switch (c) {
+			case -1:
+				return Token.EOF;
+			case ':':
+				return Token.COLON;
+			case ',':
+				return Token.COMMA;
+			case '=':
+				return Token.EQUALS;
+			case '{':
+				return Token.LEFT_BRACE;
+			case '[':
+				return Token.LEFT_BRACKET;
+			case '}':
+				return Token.RIGHT_BRACE;
+			case ']':
+				return Token.RIGHT_BRACKET;
+			case ';':
+				return Token.SEMICOLON;
+			case '"':
+				return readQuotedString();
+			case '<':
+				return readHtmlString();
+			case '-':
+				if (peek() == '>' || peek() == '-') {
+					text.append((char) read());
+					return Token.EDGE_OP;
+				}
+				return readNumeral(c);
+			default:
+				if (c == '.' || isDigit(c)) {
+					return readNumeral(c);
+				}
+				if (isStringStart(c)) {
+					return readString();
+				}
+				throw error("unexpected character '" + text + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		private int peek() throws IOException {
+			if (position == limit) {
+				position = 0;
+				limit = reader.read(buffer, 0, buffer.length);
+				if (limit < 0) {
+					limit = 0;
+					return -1;
+				}
+			}
+			return buffer[position];
+		}
+
+		private int read() throws IOException {
+			int c = peek();
+			if (c != -1) {
+				position++;
+				if (c == '\n') {
+					line++;
+				}
+			}
+			return c;
+		}
+
+		private void readDigits() throws IOException {
+			while (isDigit(peek())) {
+				text.append((char) read());
+			}
+		}
+
+		private Token readHtmlString() throws IOException {
+			int depth = 1;
+			while (depth > 0) {
+				int c = read();
+				if (c == -1) {
+					throw error("unterminated HTML string"); //$NON-NLS-1$
+				} else if (c == '<') {
+					depth++;
+				} else if (c == '>') {
+					depth--;
+				}
+				text.append((char) c);
+			}
+			type = Type.HTML_STRING;
+			return Token.ID;
+		}
+
+		private Token readNumeral(int first) throws IOException {
+			int c = first;
+			if (c == '-') {
+				c = read();
+				if (c != -1) {
+					text.append((char) c);
+				}
+			}
+			if (c == '.' && isDigit(peek())) {
+				readDigits();
+			} else if (isDigit(c)) {
+				readDigits();
+				if (peek() == '.') {
+					text.append((char) read());
+					readDigits();
+				}
+			} else {
+				throw error("invalid numeral '" + text + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			type = Type.NUMERAL;
+			return Token.ID;
+		}
+
+		private Token readQuotedString() throws IOException {
+			while (true) {
+				int c = read();
+				if (c == -1) {
+					throw error("unterminated quoted string"); //$NON-NLS-1$
+				}
+				text.append((char) c);
+				if (c == '"') {
+					break;
+				} else if (c == '\\' && peek() == '"') {
+					text.append((char) read());
+				}
+			}
+			type = Type.QUOTED_STRING;
+			return Token.ID;
+		}
+
+		private Token readString() throws IOException {
+			while (isStringPart(peek())) {
+				text.append((char) read());
+			}
+			// keywords are case insensitive
+			String string = text.toString();
+			if ("digraph".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.DIGRAPH;
+			} else if ("edge".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.EDGE;
+			} else if ("graph".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.GRAPH;
+			} else if ("node".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.NODE;
+			} else if ("strict".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.STRICT;
+			} else if ("subgraph".equalsIgnoreCase(string)) { //$NON-NLS-1$
+				return Token.SUBGRAPH;
+			}
+			type = Type.STRING;
+			return Token.ID;
+		}
+	}
+
+	/**
+	 * The parser, which transforms the statements into graph elements as soon
+	 * as they have been read.
+	 */
+	private static final class Parser {
+
+		private final Lexer lexer;
+		private final Map<String, Node> nodes = new HashMap<>();
+		private final Map<String, Node> subgraphs = new HashMap<>();
+		private Token token;
+
+		private Parser(Reader reader) {
+			lexer = new Lexer(reader);
+		}
+
+		private Edge createEdge(Node sourceNode, Node targetNode,
+				Map<String, ID> attributes, Scope scope) {
+			Edge edge = new Edge.Builder(sourceNode, targetNode).buildEdge();
+			for (String attributeName : EDGE_ATTRIBUTES) {
+				ID value = attributes.get(attributeName);
+				if (value == null) {
+					value = scope.edgeAttributes.get(attributeName);
+				}
+				if (value != null) {
+					setEdgeAttribute(edge, attributeName, value);
+				}
+			}
+			return edge;
+		}
+
+		private Node createNode(ID name, Map<String, ID> attributes,
+				Scope scope) {
+			Node node = nodes.get(name.toValue());
+			boolean isExistingNode = node != null;
+			if (!isExistingNode) {
+				node = new Node.Builder().buildNode();
+				nodes.put(name.toValue(), node);
+				DotAttributes._setNameRaw(node, name);
+				scope.builder.nodes(node);
+			}
+			for (String attributeName : NODE_ATTRIBUTES) {
+				ID value = attributes.get(attributeName);
+				// consider the global node attributes only if the node has
+				// just been created
+				if (value == null && !isExistingNode) {
+					value = scope.nodeAttributes.get(attributeName);
+				}
+				if (value != null) {
+					setNodeAttribute(node, attributeName, value);
+				}
+			}
+			return node;
+		}
+
+		private void expect(Token expected) throws IOException {
+			if (token != expected) {
+				throw unexpected();
+			}
+			next();
+		}
+
+		private ID expectId() throws IOException {
+			if (token != Token.ID) {
+				throw unexpected();
+			}
+			ID id = lexer.getId();
+			next();
+			return id;
+		}
+
+		private void next() throws IOException {
+			token = lexer.next();
+		}
+
+		/**
+		 * Reads a sequence of attribute lists. Unless <i>override</i> is set,
+		 * the first value of an attribute takes precedence.
+		 */
+		private void parseAttributeLists(Map<String, ID> attributes,
+				boolean override) throws IOException {
+			while (token == Token.LEFT_BRACKET) {
+				next();
+				while (token != Token.RIGHT_BRACKET) {
+					String name = expectId().toValue();
+					expect(Token.EQUALS);
+					ID value = expectId();
+					if (override || !attributes.containsKey(name)) {
+						attributes.put(name, value);
+					}
+					if (token == Token.COMMA || token == Token.SEMICOLON) {
+						next();
+					}
+				}
+				next();
+			}
+		}
+
+		private void parseAttributeStatement(Map<String, ID> attributes)
+				throws IOException {
+			next();
+			if (token != Token.LEFT_BRACKET) {
+				throw unexpected();
+			}
+			parseAttributeLists(attributes, true);
+		}
+
+		private void parseEdgeStatement(ID sourceName, Scope scope)
+				throws IOException {
+			Node sourceNode = createNode(sourceName,
+					Collections.<String, ID> emptyMap(), scope);
+			List<Node> endpoints = new ArrayList<>();
+			while (token == Token.EDGE_OP) {
+				next();
+				if (token == Token.SUBGRAPH || token == Token.LEFT_BRACE) {
+					// subgraph operands are not supported (they are skipped)
+					skipSubgraph();
+				} else {
+					ID targetName = expectId();
+					skipPort();
+					Node targetNode = createNode(targetName,
+							Collections.<String, ID> emptyMap(), scope);
+					endpoints.add(sourceNode);
+					endpoints.add(targetNode);
+
+					// current target node may be source for next operand
+					sourceNode = targetNode;
+				}
+			}
+
+			// the attributes are only known after all operands have been read
+			Map<String, ID> attributes = new HashMap<>();
+			parseAttributeLists(attributes, false);
+			for (int i = 0; i < endpoints.size(); i += 2) {
+				scope.builder.edges(createEdge(endpoints.get(i),
+						endpoints.get(i + 1), attributes, scope));
+			}
+		}
+
+		private Graph parseGraph() throws IOException {
+			// nodes and subgraphs are only shared within a graph
+			nodes.clear();
+			subgraphs.clear();
+
+			if (token == Token.STRICT) {
+				next();
+			}
+			GraphType type;
+			if (token == Token.GRAPH) {
+				type = GraphType.GRAPH;
+			} else if (token == Token.DIGRAPH) {
+				type = GraphType.DIGRAPH;
+			} else {
+				throw unexpected();
+			}
+			next();
+
+			Scope scope = new Scope();
+			if (token == Token.ID) {
+				scope.builder.attr(DotAttributes._NAME__GNE, expectId());
+			}
+			scope.builder.attr(DotAttributes._TYPE__G, type);
+			parseStatements(scope);
+
+			// initialize the attributes of the created graph rather than using
+			// the builder, so that attribute values get properly validated
+			Graph graph = scope.builder.build();
+			for (String attributeName : GRAPH_ATTRIBUTES) {
+				ID value = scope.getGraphAttribute(attributeName);
+				if (value != null) {
+					setGraphAttribute(graph, attributeName, value);
+				}
+			}
+			return graph;
+		}
+
+		private List<Graph> parseGraphs() throws IOException {
+			List<Graph> graphs = new ArrayList<>();
+			next();
+			while (token != Token.EOF) {
+				graphs.add(parseGraph());
+			}
+			return graphs;
+		}
+
+		private void parseStatement(Scope scope) throws IOException {
+			switch (token) {
+			case GRAPH:
+				parseAttributeStatement(scope.graphAttributes);
+				break;
+			case NODE:
+				parseAttributeStatement(scope.nodeAttributes);
+				break;
+			case EDGE:
+				parseAttributeStatement(scope.edgeAttributes);
+				break;
+			case SUBGRAPH:
+			case LEFT_BRACE:
+				parseSubgraph(scope);
+				if (token == Token.EDGE_OP) {
+					// subgraph operands are not supported (they are skipped)
+					skipEdgeOperands();
+					parseAttributeLists(new HashMap<String, ID>(), false);
+				}
+				break;
+			case ID:
+				ID name = expectId();
+				if (token == Token.EQUALS) {
+					// the first graph attribute statement takes precedence
+					next();
+					ID value = expectId();
+					if (!scope.attributes.containsKey(name.toValue())) {
+						scope.attributes.put(name.toValue(), value);
+					}
+					break;
+				}
+				skipPort();
+				if (token == Token.EDGE_OP) {
+					parseEdgeStatement(name, scope);
+				} else {
+					Map<String, ID> attributes = new HashMap<>();
+					parseAttributeLists(attributes, false);
+					createNode(name, attributes, scope);
+				}
+				break;
+			default:
+				throw unexpected();
+			}
+		}
+
+		private void parseStatements(Scope scope) throws IOException {
+			expect(Token.LEFT_BRACE);
+			while (token != Token.RIGHT_BRACE) {
+				parseStatement(scope);
+				if (token == Token.SEMICOLON) {
+					next();
+				}
+			}
+			next();
+		}
+
+		private void parseSubgraph(Scope parent) throws IOException {
+			ID name = null;
+			if (token == Token.SUBGRAPH) {
+				next();
+				if (token == Token.ID) {
+					name = expectId();
+				}
+			}
+
+			// anonymous subgraphs cannot be 'merged', which is why we have to
+			// create a new subgraph for each
+			Node subgraphNode = name == null ? null
+					: subgraphs.get(name.toValue());
+			boolean isExistingSubgraph = subgraphNode != null;
+			if (!isExistingSubgraph) {
+				subgraphNode = new Node.Builder().buildNode();
+				if (name != null) {
+					subgraphs.put(name.toValue(), subgraphNode);
+				}
+			}
+
+			// global attributes of 'outer' scopes are the initial global
+			// attributes of the nested graph
+			Scope scope = new Scope(parent);
+			if (name != null) {
+				scope.builder.attr(DotAttributes._NAME__GNE, name);
+			}
+			parseStatements(scope);
+
+			Graph subgraph = scope.builder.build();
+			if (!isExistingSubgraph) {
+				for (String attributeName : SUBGRAPH_ATTRIBUTES) {
+					ID value = scope.getGraphAttribute(attributeName);
+					if (value != null) {
+						setGraphAttribute(subgraph, attributeName, value);
+					}
+				}
+				subgraphNode.setNestedGraph(subgraph);
+				parent.builder.nodes(subgraphNode);
+			} else {
+				// merge the nodes and edges into the existing subgraph, which
+				// keeps its attributes (as with DotImport)
+				Graph nestedGraph = subgraphNode.getNestedGraph();
+				nestedGraph.beginChange();
+				try {
+					for (Node node : subgraph.getNodes()) {
+						if (!nestedGraph.getNodes().contains(node)) {
+							nestedGraph.getNodes().add(node);
+						}
+					}
+					for (Edge edge : subgraph.getEdges()) {
+						if (!nestedGraph.getEdges().contains(edge)) {
+							nestedGraph.getEdges().add(edge);
+						}
+					}
+				} finally {
+					nestedGraph.endChange();
+				}
+			}
+		}
+
+		private void skipEdgeOperands() throws IOException {
+			while (token == Token.EDGE_OP) {
+				next();
+				if (token == Token.SUBGRAPH || token == Token.LEFT_BRACE) {
+					skipSubgraph();
+				} else {
+					expectId();
+					skipPort();
+				}
+			}
+		}
+
+		private void skipPort() throws IOException {
+			if (token == Token.COLON) {
+				next();
+				expectId();
+				if (token == Token.COLON) {
+					next();
+					expectId();
+				}
+			}
+		}
+
+		private void skipSubgraph() throws IOException {
+			if (token == Token.SUBGRAPH) {
+				next();
+				if (token == Token.ID) {
+					next();
+				}
+			}
+			if (token != Token.LEFT_BRACE) {
+				throw unexpected();
+			}
+			int depth = 0;
+			do {
+				if (token == Token.LEFT_BRACE) {
+					depth++;
+				} else if (token == Token.RIGHT_BRACE) {
+					depth--;
+				} else if (token == Token.EOF) {
+					throw unexpected();
+				}
+				next();
+			} while (depth > 0);
+		}
+
+		private IllegalArgumentException unexpected() {
+			if (token == Token.EOF) {
+				return lexer.error("unexpected end of input"); //$NON-NLS-1$
+			}
+			return lexer.error("unexpected '" + lexer.getText() + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * The attributes that apply to the statements of a (sub-)graph.
+	 */
+	private static final class Scope {
+
+		/**
+		 * The values of the graph attribute statements (<code>a=b</code>) of
+		 * the (sub-)graph itself, which are not inherited by nested graphs.
+		 */
+		private final Map<String, ID> attributes = new HashMap<>();
+		private final Graph.Builder builder = new Graph.Builder();
+		private final Map<String, ID> edgeAttributes;
+		private final Map<String, ID> graphAttributes;
+		private final Map<String, ID> nodeAttributes;
+
+		private Scope() {
+			edgeAttributes = new HashMap<>();
+			graphAttributes = new HashMap<>();
+			nodeAttributes = new HashMap<>();
+		}
+
+		private Scope(Scope parent) {
+			edgeAttributes = new HashMap<>(parent.edgeAttributes);
+			graphAttributes = new HashMap<>(parent.graphAttributes);
+			nodeAttributes = new HashMap<>(parent.nodeAttributes);
+		}
+
+		private ID getGraphAttribute(String attributeName) {
+			ID value = attributes.get(attributeName);
+			return value != null ? value : graphAttributes.get(attributeName);
+		}
+	}
+
+	private enum Token {
+		COLON, COMMA, DIGRAPH, EDGE, EDGE_OP, EOF, EQUALS, GRAPH, ID,
+		LEFT_BRACE, LEFT_BRACKET, NODE, RIGHT_BRACE, RIGHT_BRACKET, SEMICOLON,
+		STRICT, SUBGRAPH
+	}
+
+	private static final String[] EDGE_ATTRIBUTES = {
+			DotAttributes.ARROWHEAD__E, DotAttributes.ARROWSIZE__E,
+			DotAttributes.ARROWTAIL__E, DotAttributes.COLOR__CNE,
+			DotAttributes.COLORSCHEME__GCNE, DotAttributes.DIR__E,
+			DotAttributes.FILLCOLOR__CNE, DotAttributes.FONTCOLOR__GCNE,
+			DotAttributes.HEAD_LP__E, DotAttributes.HEADLABEL__E,
+			DotAttributes.ID__GCNE, DotAttributes.LABEL__GCNE,
+			DotAttributes.LABELFONTCOLOR__E, DotAttributes.LP__GCE,
+			DotAttributes.POS__NE, DotAttributes.STYLE__GCNE,
+			DotAttributes.TAILLABEL__E, DotAttributes.TAIL_LP__E,
+			DotAttributes.XLABEL__NE, DotAttributes.XLP__NE };
+
+	private static final String[] GRAPH_ATTRIBUTES = { DotAttributes.BB__GC,
+			DotAttributes.BGCOLOR__GC, DotAttributes.CLUSTERRANK__G,
+			DotAttributes.FONTCOLOR__GCNE, DotAttributes.LABEL__GCNE,
+			DotAttributes.LAYOUT__G, DotAttributes.OUTPUTORDER__G,
+			DotAttributes.PAGEDIR__G, DotAttributes.RANKDIR__G,
+			DotAttributes.SPLINES__G };
+
+	private static final String[] NODE_ATTRIBUTES = { DotAttributes.COLOR__CNE,
+			DotAttributes.COLORSCHEME__GCNE, DotAttributes.DISTORTION__N,
+			DotAttributes.FILLCOLOR__CNE, DotAttributes.FIXEDSIZE__N,
+			DotAttributes.FONTCOLOR__GCNE, DotAttributes.HEIGHT__N,
+			DotAttributes.ID__GCNE, DotAttributes.LABEL__GCNE,
+			DotAttributes.POS__NE, DotAttributes.SHAPE__N,
+			DotAttributes.SIDES__N, DotAttributes.SKEW__N,
+			DotAttributes.STYLE__GCNE, DotAttributes.WIDTH__N,
+			DotAttributes.XLABEL__NE, DotAttributes.XLP__NE };
+
+	private static final String[] SUBGRAPH_ATTRIBUTES = {
+			DotAttributes.BB__GC, DotAttributes.BGCOLOR__GC,
+			DotAttributes.FONTCOLOR__GCNE, DotAttributes.LABEL__GCNE,
+			DotAttributes.RANK__S };
+
+	private static void setEdgeAttribute(Edge edge, String attributeName,
+			ID value) {
+		switch (attributeName) {
+		case DotAttributes.ARROWHEAD__E:
+			DotAttributes.setArrowheadRaw(edge, value);
+			break;
+		case DotAttributes.ARROWSIZE__E:
+			DotAttributes.setArrowsizeRaw(edge, value);
+			break;
+		case DotAttributes.ARROWTAIL__E:
+			DotAttributes.setArrowtailRaw(edge, value);
+			break;
+		case DotAttributes.COLOR__CNE:
+			DotAttributes.setColorRaw(edge, value);
+			break;
+		case DotAttributes.COLORSCHEME__GCNE:
+			DotAttributes.setColorschemeRaw(edge, value);
+			break;
+		case DotAttributes.DIR__E:
+			DotAttributes.setDirRaw(edge, value);
+			break;
+		case DotAttributes.FILLCOLOR__CNE:
+			DotAttributes.setFillcolorRaw(edge, value);
+			break;
+		case DotAttributes.FONTCOLOR__GCNE:
+			DotAttributes.setFontcolorRaw(edge, value);
+			break;
+		case DotAttributes.HEAD_LP__E:
+			DotAttributes.setHeadLpRaw(edge, value);
+			break;
+		case DotAttributes.HEADLABEL__E:
+			DotAttributes.setHeadlabelRaw(edge, value);
+			break;
+		case DotAttributes.ID__GCNE:
+			DotAttributes.setIdRaw(edge, value);
+			break;
+		case DotAttributes.LABEL__GCNE:
+			DotAttributes.setLabelRaw(edge, value);
+			break;
+		case DotAttributes.LABELFONTCOLOR__E:
+			DotAttributes.setLabelfontcolorRaw(edge, value);
+			break;
+		case DotAttributes.LP__GCE:
+			DotAttributes.setLpRaw(edge, value);
+			break;
+		case DotAttributes.POS__NE:
+			DotAttributes.setPosRaw(edge, value);
+			break;
+		case DotAttributes.STYLE__GCNE:
+			DotAttributes.setStyleRaw(edge, value);
+			break;
+		case DotAttributes.TAILLABEL__E:
+			DotAttributes.setTaillabelRaw(edge, value);
+			break;
+		case DotAttributes.TAIL_LP__E:
+			DotAttributes.setTailLpRaw(edge, value);
+			break;
+		case DotAttributes.XLABEL__NE:
+			DotAttributes.setXlabelRaw(edge, value);
+			break;
+		case DotAttributes.XLP__NE:
+			DotAttributes.setXlpRaw(edge, value);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported edge attribute " + attributeName); //$NON-NLS-1$
+		}
+	}
+
+	private static void setGraphAttribute(Graph graph, String attributeName,
+			ID value) {
+		switch (attributeName) {
+		case DotAttributes.BB__GC:
+			DotAttributes.setBbRaw(graph, value);
+			break;
+		case DotAttributes.BGCOLOR__GC:
+			DotAttributes.setBgcolorRaw(graph, value);
+			break;
+		case DotAttributes.CLUSTERRANK__G:
+			DotAttributes.setClusterrankRaw(graph, value);
+			break;
+		case DotAttributes.FONTCOLOR__GCNE:
+			DotAttributes.setFontcolorRaw(graph, value);
+			break;
+		case DotAttributes.LABEL__GCNE:
+			DotAttributes.setLabelRaw(graph, value);
+			break;
+		case DotAttributes.LAYOUT__G:
+			DotAttributes.setLayoutRaw(graph, value);
+			break;
+		case DotAttributes.OUTPUTORDER__G:
+			DotAttributes.setOutputorderRaw(graph, value);
+			break;
+		case DotAttributes.PAGEDIR__G:
+			DotAttributes.setPagedirRaw(graph, value);
+			break;
+		case DotAttributes.RANK__S:
+			DotAttributes.setRankRaw(graph, value);
+			break;
+		case DotAttributes.RANKDIR__G:
+			DotAttributes.setRankdirRaw(graph, value);
+			break;
+		case DotAttributes.SPLINES__G:
+			DotAttributes.setSplinesRaw(graph, value);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported graph attribute " + attributeName); //$NON-NLS-1$
+		}
+	}
+
+	private static void setNodeAttribute(Node node, String attributeName,
+			ID value) {
+		switch (attributeName) {
+		case DotAttributes.COLOR__CNE:
+			DotAttributes.setColorRaw(node, value);
+			break;
+		case DotAttributes.COLORSCHEME__GCNE:
+			DotAttributes.setColorschemeRaw(node, value);
+			break;
+		case DotAttributes.DISTORTION__N:
+			DotAttributes.setDistortionRaw(node, value);
+			break;
+		case DotAttributes.FILLCOLOR__CNE:
+			DotAttributes.setFillcolorRaw(node, value);
+			break;
+		case DotAttributes.FIXEDSIZE__N:
+			DotAttributes.setFixedsizeRaw(node, value);
+			break;
+		case DotAttributes.FONTCOLOR__GCNE:
+			DotAttributes.setFontcolorRaw(node, value);
+			break;
+		case DotAttributes.HEIGHT__N:
+			DotAttributes.setHeightRaw(node, value);
+			break;
+		case DotAttributes.ID__GCNE:
+			DotAttributes.setIdRaw(node, value);
+			break;
+		case DotAttributes.LABEL__GCNE:
+			DotAttributes.setLabelRaw(node, value);
+			break;
+		case DotAttributes.POS__NE:
+			DotAttributes.setPosRaw(node, value);
+			break;
+		case DotAttributes.SHAPE__N:
+			DotAttributes.setShapeRaw(node, value);
+			break;
+		case DotAttributes.SIDES__N:
+			DotAttributes.setSidesRaw(node, value);
+			break;
+		case DotAttributes.SKEW__N:
+			DotAttributes.setSkewRaw(node, value);
+			break;
+		case DotAttributes.STYLE__GCNE:
+			DotAttributes.setStyleRaw(node, value);
+			break;
+		case DotAttributes.WIDTH__N:
+			DotAttributes.setWidthRaw(node, value);
+			break;
+		case DotAttributes.XLABEL__NE:
+			DotAttributes.setXlabelRaw(node, value);
+			break;
+		case DotAttributes.XLP__NE:
+			DotAttributes.setXlpRaw(node, value);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported node attribute " + attributeName); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Imports the DOT graphs contained in the given file, which is read as
+	 * UTF-8.
+	 *
+	 * @param dotFile
+	 *            The DOT file to import.
+	 * @return The imported {@link Graph}s.
+	 * @throws IOException
+	 *             In case the file cannot be read.
+	 * @throws IllegalArgumentException
+	 *             In case the file contents are not valid DOT.
+	 */
+	public List<Graph> importDot(File dotFile) throws IOException {
+		try (Reader reader = new InputStreamReader(
+				new FileInputStream(dotFile), "UTF-8")) { //$NON-NLS-1$
+			return importDot(reader);
+		}
+	}
+
+	/**
+	 * Imports the DOT graphs that are read from the given {@link Reader}. The
+	 * reader is not closed.
+	 *
+	 * @param reader
+	 *            The {@link Reader} providing the DOT input.
+	 * @return The imported {@link Graph}s.
+	 * @throws IOException
+	 *             In case reading fails.
+	 * @throws IllegalArgumentException
+	 *             In case the input is not valid DOT.
+	 */
+	public List<Graph> importDot(Reader reader) throws IOException {
+		return new Parser(reader).parseGraphs();
+	}
+
+	/**
+	 * Imports the DOT graphs contained in the given string.
+	 *
+	 * @param dotString
+	 *            The DOT input.
+	 * @return The imported {@link Graph}s.
+	 * @throws IllegalArgumentException
+	 *             In case the input is not valid DOT.
+	 */
+	public List<Graph> importDot(String dotString) {
+		try {
+			return importDot(new StringReader(dotString));
+		} catch (IOException e) {
+			// cannot happen for a StringReader
+			throw new IllegalStateException(e);
+		}
+	}
+}
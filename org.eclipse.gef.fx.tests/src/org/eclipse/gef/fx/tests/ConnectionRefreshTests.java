@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.gef.fx.anchors.StaticAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.embed.swt.FXCanvas;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Tests for the deferred refresh of {@link Connection}s (see
+ * {@link Connection#deferRefreshProperty()}).
+ */
+public class ConnectionRefreshTests {
+
+	private static class RefreshCountingConnection extends Connection {
+		private int depth = 0;
+		private int refreshes = 0;
+
+		@Override
+		protected void refresh() {
+			// do not count the refreshes that are caused by a refresh
+			if (depth++ == 0) {
+				refreshes++;
+			}
+			try {
+				super.refresh();
+			} finally {
+				depth--;
+			}
+		}
+	}
+
+	private static final long TIMEOUT = 5000;
+
+	private Display display;
+	private Shell shell;
+	private Group root;
+	private Rectangle anchorage;
+
+	private RefreshCountingConnection createConnection(StaticAnchor anchor) {
+		RefreshCountingConnection connection = new RefreshCountingConnection();
+		root.getChildren().add(connection);
+		connection.setStartAnchor(anchor);
+		connection.setEndPoint(new Point(100, 100));
+		connection.refreshes = 0;
+		return connection;
+	}
+
+	@Before
+	public void createScene() {
+		display = Display.getDefault();
+		shell = new Shell(display);
+		FXCanvas canvas = new FXCanvas(shell, SWT.NONE);
+		anchorage = new Rectangle(0, 0, 10, 10);
+		root = new Group(anchorage);
+		canvas.setScene(new Scene(root, 400, 400));
+	}
+
+	@Test
+	public void deferredRefreshOncePerPulse() {
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point());
+		RefreshCountingConnection connection = createConnection(anchor);
+		connection.setDeferRefresh(true);
+
+		anchor.setReferencePosition(new Point(10, 10));
+		anchor.setReferencePosition(new Point(20, 20));
+		anchor.setReferencePosition(new Point(30, 30));
+		assertEquals(0, connection.refreshes);
+
+		// all changes are processed by a single refresh
+		waitFor(() -> connection.refreshes > 0);
+		assertEquals(1, connection.refreshes);
+		assertEquals(new Point(30, 30), connection.getStartPoint());
+	}
+
+	@Test
+	public void disableDeferredRefresh() {
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point());
+		RefreshCountingConnection connection = createConnection(anchor);
+		connection.setDeferRefresh(true);
+
+		anchor.setReferencePosition(new Point(10, 10));
+		assertEquals(0, connection.refreshes);
+
+		// a pending refresh is processed when deferral is disabled
+		connection.setDeferRefresh(false);
+		assertEquals(1, connection.refreshes);
+
+		// no pending refresh remains
+		anchor.setReferencePosition(new Point(20, 20));
+		assertEquals(2, connection.refreshes);
+		waitForPulse();
+		assertEquals(2, connection.refreshes);
+	}
+
+	@After
+	public void disposeShell() {
+		shell.dispose();
+	}
+
+	@Test
+	public void immediateRefresh() {
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point());
+		RefreshCountingConnection connection = createConnection(anchor);
+
+		anchor.setReferencePosition(new Point(10, 10));
+		assertEquals(1, connection.refreshes);
+		anchor.setReferencePosition(new Point(20, 20));
+		assertEquals(2, connection.refreshes);
+		assertEquals(new Point(20, 20), connection.getStartPoint());
+	}
+
+	@Test
+	public void suspendDeferredRefreshOutsideOfScene() {
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point());
+		RefreshCountingConnection connection = createConnection(anchor);
+		connection.setDeferRefresh(true);
+
+		anchor.setReferencePosition(new Point(10, 10));
+		root.getChildren().remove(connection);
+
+		// the pending refresh is not performed outside of a scene
+		waitForPulse();
+		assertEquals(0, connection.refreshes);
+
+		// but it is performed once the connection is added to a scene again
+		root.getChildren().add(connection);
+		waitFor(() -> connection.refreshes > 0);
+		assertEquals(1, connection.refreshes);
+		assertEquals(new Point(10, 10), connection.getStartPoint());
+	}
+
+	private void waitFor(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("Timeout while waiting for a JavaFX pulse.");
+			}
+			// pulses are processed within the SWT event loop
+			display.readAndDispatch();
+		}
+	}
+
+	/**
+	 * Waits until a deferred refresh of another {@link Connection} within the
+	 * scene was performed, i.e. until at least one pulse was processed.
+	 */
+	private void waitForPulse() {
+		StaticAnchor anchor = new StaticAnchor(anchorage, new Point());
+		RefreshCountingConnection witness = createConnection(anchor);
+		witness.setDeferRefresh(true);
+		anchor.setReferencePosition(new Point(50, 50));
+		waitFor(() -> witness.refreshes > 0);
+		root.getChildren().remove(witness);
+	}
+}
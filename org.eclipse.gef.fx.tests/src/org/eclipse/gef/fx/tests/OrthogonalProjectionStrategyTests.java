@@ -52,6 +52,37 @@ public class OrthogonalProjectionStrategyTests {
 		assertEquals(new Point(50, 50), a.getPosition(anchorKey));
 	}
 	
+	@Test
+	public void projectionWithSharedOutlineOnTransformedAnchorage() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		DynamicAnchor a = new DynamicAnchor(anchorage, new OrthogonalProjectionStrategy());
+		AnchorageReferenceGeometry computationParameter = a.getComputationParameter(AnchorageReferenceGeometry.class);
+		if (computationParameter.isBound()) {
+			computationParameter.unbind();
+		}
+		computationParameter.set(new Rectangle(0, 0, 50, 50));
+
+		AnchorKey anchorKey1 = new AnchorKey(new javafx.scene.shape.Rectangle(), "role");
+		AnchorKey anchorKey2 = new AnchorKey(new javafx.scene.shape.Rectangle(), "role");
+		a.attach(anchorKey1);
+		a.attach(anchorKey2);
+
+		// both keys are computed based on the same (cached) outline
+		a.getComputationParameter(anchorKey1, AnchoredReferencePoint.class).set(new Point(125, 25));
+		a.getComputationParameter(anchorKey2, AnchoredReferencePoint.class).set(new Point(25, 125));
+		assertEquals(new Point(50, 25), a.getPosition(anchorKey1));
+		assertEquals(new Point(25, 50), a.getPosition(anchorKey2));
+
+		// transforming the anchorage invalidates the cached outline
+		anchorage.setTranslateX(100);
+		a.getComputationParameter(anchorKey1, AnchoredReferencePoint.class).set(new Point(225, 25));
+		assertEquals(new Point(150, 25), a.getPosition(anchorKey1));
+
+		// replacing the reference geometry invalidates the cached outline
+		computationParameter.set(new Rectangle(0, 0, 100, 100));
+		assertEquals(new Point(200, 25), a.getPosition(anchorKey1));
+	}
+
 	@Test
 	public void projectionOnDiamondWithOrientationPreference() {
 		javafx.scene.shape.Polygon anchorage = new javafx.scene.shape.Polygon(0, 25, 25, 0, 50, 25, 25, 50);
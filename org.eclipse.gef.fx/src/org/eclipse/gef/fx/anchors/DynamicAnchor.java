@@ -13,8 +13,10 @@
 package org.eclipse.gef.fx.anchors;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,6 +31,8 @@ import org.eclipse.gef.fx.anchors.IComputationStrategy.Parameter.Kind;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -83,6 +87,67 @@ public class DynamicAnchor extends AbstractAnchor {
 		}
 	}
 
+	/**
+	 * An {@link IComputationStrategy.Parameter} that caches the outline
+	 * segments of the (anchorage) reference geometry in scene coordinates. It
+	 * is provided by the {@link DynamicAnchor} to its
+	 * {@link IComputationStrategy} and shared among all {@link AnchorKey}s, so
+	 * that the outline segments are only recomputed when the identity of the
+	 * reference geometry, the local-to-scene transform of the anchorage, or
+	 * the {@link ProjectionStrategy} changes, rather than once per
+	 * {@link AnchorKey}.
+	 * <p>
+	 * The reference geometry is not expected to be changed in-place, and the
+	 * cached outline segments may not be modified.
+	 */
+	public static class AnchorageReferenceOutlinesInScene
+			extends Parameter<List<ICurve>> {
+
+		private IGeometry geometryInLocal;
+		private AffineTransform localToSceneTx;
+		private ProjectionStrategy strategy;
+
+		/**
+		 * Creates a new {@link AnchorageReferenceOutlinesInScene}, which is
+		 * initially empty.
+		 */
+		public AnchorageReferenceOutlinesInScene() {
+			super(Kind.ANCHORAGE, true); // optional
+		}
+
+		/**
+		 * Returns the outline segments of the given reference geometry in
+		 * scene coordinates, as determined by the given
+		 * {@link ProjectionStrategy}. The segments are only recomputed if the
+		 * given values differ from those used for the cached segments.
+		 *
+		 * @param anchorage
+		 *            The anchorage visual.
+		 * @param geometryInLocal
+		 *            The anchorage reference geometry within the local
+		 *            coordinate system of the anchorage visual.
+		 * @param strategy
+		 *            The {@link ProjectionStrategy} that determines the
+		 *            outline segments.
+		 * @return An unmodifiable list of the outline segments in scene
+		 *         coordinates.
+		 */
+		public List<ICurve> get(Node anchorage, IGeometry geometryInLocal,
+				ProjectionStrategy strategy) {
+			AffineTransform tx = NodeUtils.getLocalToSceneTx(anchorage);
+			if (get() == null || this.geometryInLocal != geometryInLocal
+					|| this.strategy != strategy
+					|| !tx.equals(localToSceneTx)) {
+				this.geometryInLocal = geometryInLocal;
+				this.strategy = strategy;
+				localToSceneTx = tx;
+				set(Collections.unmodifiableList(strategy.getOutlineSegments(
+						geometryInLocal.getTransformed(tx))));
+			}
+			return get();
+		}
+	}
+
 	/**
 	 * An {@link IComputationStrategy.Parameter} that encapsulates an
 	 * (anchorage) reference point.
@@ -219,6 +284,10 @@ public class DynamicAnchor extends AbstractAnchor {
 
 	private IComputationStrategy computationStrategy;
 
+	// not part of the observed anchorage parameters, as the cache is updated
+	// during position computations
+	private AnchorageReferenceOutlinesInScene anchorageReferenceOutlinesInScene = new AnchorageReferenceOutlinesInScene();
+
 	private ObservableSet<IComputationStrategy.Parameter<?>> anchorageComputationParameters = FXCollections
 			.observableSet(new HashSet<IComputationStrategy.Parameter<?>>());
 	private ReadOnlySetWrapper<IComputationStrategy.Parameter<?>> anchorageComputationParametersProperty = new ReadOnlySetWrapperEx<>(
@@ -495,6 +564,7 @@ public class DynamicAnchor extends AbstractAnchor {
 		Set<Parameter<?>> parameters = new HashSet<>();
 		parameters.addAll(anchorageComputationParameters);
 		parameters.addAll(anchoredComputationParameters.get(key));
+		parameters.add(anchorageReferenceOutlinesInScene);
 		return parameters;
 	}
 
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceOutlinesInScene;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.ICurve;
@@ -58,13 +59,9 @@ public class ProjectionStrategy implements IComputationStrategy {
 		Point anchoredReferencePointInLocal = Parameter
 				.get(parameters, AnchoredReferencePoint.class).get();
 
-		// determine anchorage geometry in scene
-		IGeometry anchorageGeometryInScene = NodeUtils.localToScene(anchorage,
-				anchorageReferenceGeometryInLocal);
-
 		// determine anchorage outlines in scene
-		List<ICurve> anchorageOutlinesInScene = getOutlineSegments(
-				anchorageGeometryInScene);
+		List<ICurve> anchorageOutlinesInScene = getOutlineSegmentsInScene(
+				anchorage, anchorageReferenceGeometryInLocal, parameters);
 
 		// transform anchored reference point to scene
 		Point anchoredReferencePointInScene = NodeUtils.localToScene(anchored,
@@ -124,6 +121,36 @@ public class ProjectionStrategy implements IComputationStrategy {
 		}
 	}
 
+	/**
+	 * Determines the outline of the given anchorage reference geometry in
+	 * scene coordinates, represented as a list of {@link ICurve}s. If the
+	 * given parameters contain an {@link AnchorageReferenceOutlinesInScene}
+	 * cache (as provided by {@link DynamicAnchor}), the outline is retrieved
+	 * from it, so that it is shared among all anchored reference points.
+	 * Otherwise, it is computed using {@link #getOutlineSegments(IGeometry)}.
+	 *
+	 * @param anchorage
+	 *            The anchorage visual.
+	 * @param geometryInLocal
+	 *            The anchorage reference geometry within the local coordinate
+	 *            system of the anchorage visual.
+	 * @param parameters
+	 *            The parameters available for the computation.
+	 * @return A list of {@link ICurve}s representing the outline of the given
+	 *         {@link IGeometry} in scene coordinates, which may not be
+	 *         modified.
+	 */
+	protected List<ICurve> getOutlineSegmentsInScene(Node anchorage,
+			IGeometry geometryInLocal, Set<Parameter<?>> parameters) {
+		AnchorageReferenceOutlinesInScene outlinesInScene = Parameter
+				.get(parameters, AnchorageReferenceOutlinesInScene.class);
+		if (outlinesInScene != null) {
+			return outlinesInScene.get(anchorage, geometryInLocal, this);
+		}
+		return getOutlineSegments(
+				NodeUtils.localToScene(anchorage, geometryInLocal));
+	}
+
 	@Override
 	public Set<Class<? extends Parameter<?>>> getRequiredParameters() {
 		Set<Class<? extends Parameter<?>>> parameters = new HashSet<>();
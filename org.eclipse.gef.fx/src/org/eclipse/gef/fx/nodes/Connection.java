@@ -39,12 +39,14 @@ import org.eclipse.gef.geometry.planar.PolyBezier;
 
 import com.google.common.collect.Iterators;
 
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerPropertyBase;
 import javafx.beans.property.ReadOnlyListProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -55,6 +57,7 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.transform.Transform;
 
 /**
@@ -242,6 +245,7 @@ public class Connection extends Group {
 			new StraightRouter());
 	private ObjectProperty<IConnectionInterpolator> interpolatorProperty = new SimpleObjectProperty<>(
 			new PolylineInterpolator());
+	private BooleanProperty deferRefreshProperty = null;
 
 	// XXX: Maintain anchors in a sorted map, so we can use it to determine the
 	// mapping between anchor keys and anchor indexes.
@@ -290,7 +294,7 @@ public class Connection extends Group {
 				}
 				// refresh decoration clip in case the layout bounds of
 				// the decorations have changed
-				refresh();
+				requestRefresh();
 			}
 		};
 
@@ -312,6 +316,7 @@ public class Connection extends Group {
 		}
 	};
 	private boolean inRefresh = false;
+	private boolean refreshRequested = false;
 
 	/**
 	 * Constructs a new {@link Connection} whose start and end point are set to
@@ -351,7 +356,7 @@ public class Connection extends Group {
 				public void changed(
 						ObservableValue<? extends Transform> observable,
 						Transform oldValue, Transform newValue) {
-					refresh();
+					requestRefresh();
 				}
 			};
 
@@ -360,7 +365,7 @@ public class Connection extends Group {
 				public void changed(
 						ObservableValue<? extends Bounds> observable,
 						Bounds oldValue, Bounds newValue) {
-					refresh();
+					requestRefresh();
 				}
 			};
 
@@ -396,6 +401,24 @@ public class Connection extends Group {
 			}
 		});
 
+		sceneProperty().addListener(new ChangeListener<Scene>() {
+			@Override
+			public void changed(ObservableValue<? extends Scene> observable,
+					Scene oldValue, Scene newValue) {
+				if (!refreshRequested) {
+					return;
+				}
+				// a pending deferred refresh is suspended while this
+				// connection is not part of a scene, so that the scheduler
+				// does not retain it
+				if (newValue == null) {
+					ConnectionRefreshScheduler.unschedule(Connection.this);
+				} else if (oldValue == null) {
+					ConnectionRefreshScheduler.schedule(Connection.this);
+				}
+			}
+		});
+
 		// set default curve
 		setCurve(new GeometryNode<ICurve>());
 
@@ -582,7 +605,7 @@ public class Connection extends Group {
 						if (!points.get(getAnchorIndex(anchorKey))
 								.equals(newPoint)) {
 							points.set(getAnchorIndex(anchorKey), newPoint);
-							refresh();
+							requestRefresh();
 						}
 					}
 				}
@@ -599,6 +622,38 @@ public class Connection extends Group {
 		return curveProperty;
 	}
 
+	/**
+	 * Returns a {@link BooleanProperty} that determines whether refreshes in
+	 * response to anchor position, transformation, and bounds changes are
+	 * deferred. If enabled, such changes only mark this {@link Connection} as
+	 * dirty, and it is refreshed once at the beginning of the next JavaFX
+	 * pulse, so that multiple changes (e.g. when dragging a node to which
+	 * multiple anchors are attached) are coalesced into a single refresh.
+	 * Changes performed via the API of this {@link Connection} (e.g.
+	 * {@link #setControlPoint(int, Point)} or
+	 * {@link #setRouter(IConnectionRouter)}) are still processed immediately.
+	 * Defaults to <code>false</code>.
+	 *
+	 * @return A property determining whether refreshes are deferred.
+	 */
+	public BooleanProperty deferRefreshProperty() {
+		if (deferRefreshProperty == null) {
+			deferRefreshProperty = new SimpleBooleanProperty(false);
+			deferRefreshProperty.addListener(new ChangeListener<Boolean>() {
+				@Override
+				public void changed(
+						ObservableValue<? extends Boolean> observable,
+						Boolean oldValue, Boolean newValue) {
+					if (!newValue) {
+						// process pending refresh right away
+						performRequestedRefresh();
+					}
+				}
+			});
+		}
+		return deferRefreshProperty;
+	}
+
 	/**
 	 * Returns an {@link ObjectProperty} wrapping the end decoration
 	 * {@link Node}.
@@ -1006,6 +1061,18 @@ public class Connection extends Group {
 		return interpolatorProperty;
 	}
 
+	/**
+	 * Returns <code>true</code> if refreshes are deferred to the next JavaFX
+	 * pulse, <code>false</code> otherwise.
+	 *
+	 * @return <code>true</code> if refreshes are deferred, <code>false</code>
+	 *         otherwise.
+	 * @see #deferRefreshProperty()
+	 */
+	public boolean isDeferRefresh() {
+		return deferRefreshProperty != null && deferRefreshProperty.get();
+	}
+
 	/**
 	 * Return <code>true</code> in case the anchor is bound to an anchorage
 	 * unequal to this connection.
@@ -1114,6 +1181,16 @@ public class Connection extends Group {
 		return pointsUnmodifiableProperty;
 	}
 
+	/**
+	 * Refreshes this {@link Connection} in case a deferred refresh is pending.
+	 * Called by the {@link ConnectionRefreshScheduler}.
+	 */
+	void performRequestedRefresh() {
+		if (refreshRequested) {
+			refresh();
+		}
+	}
+
 	/**
 	 * Re-attaches all {@link AnchorKey}s that are managed by this
 	 * {@link Connection}.
@@ -1234,6 +1311,11 @@ public class Connection extends Group {
 			return;
 		}
 		inRefresh = true;
+		// a pending deferred refresh is covered by this one
+		if (refreshRequested) {
+			refreshRequested = false;
+			ConnectionRefreshScheduler.unschedule(this);
+		}
 		// System.out.println("+--- Refresh ---+");
 
 		// unregister PCLs
@@ -1360,6 +1442,29 @@ public class Connection extends Group {
 		return changed;
 	}
 
+	/**
+	 * Refreshes this {@link Connection} in response to an anchor position,
+	 * transformation, or bounds change. If refreshes are
+	 * {@link #isDeferRefresh() deferred}, this {@link Connection} is only
+	 * scheduled to be refreshed at the beginning of the next JavaFX pulse (or
+	 * of the first pulse after it was added to a scene). Otherwise, it is
+	 * refreshed immediately.
+	 */
+	protected void requestRefresh() {
+		if (inRefresh) {
+			// changes caused by a refresh do not require another one
+			return;
+		}
+		if (!isDeferRefresh()) {
+			refresh();
+		} else if (!refreshRequested) {
+			refreshRequested = true;
+			if (getScene() != null) {
+				ConnectionRefreshScheduler.schedule(this);
+			}
+		}
+	}
+
 	private void registerPCL(AnchorKey anchorKey, IAnchor anchor) {
 		if (!anchorsPCL.containsKey(anchorKey)) {
 			MapChangeListener<? super AnchorKey, ? super Point> pcl = createPCL(
@@ -1712,6 +1817,17 @@ public class Connection extends Group {
 		this.curveProperty.set(curve);
 	}
 
+	/**
+	 * Sets the value of the {@link #deferRefreshProperty()}.
+	 *
+	 * @param deferRefresh
+	 *            <code>true</code> if refreshes should be deferred to the next
+	 *            JavaFX pulse, <code>false</code> otherwise.
+	 */
+	public void setDeferRefresh(boolean deferRefresh) {
+		deferRefreshProperty().set(deferRefresh);
+	}
+
 	/**
 	 * Sets the end {@link IAnchor} of this {@link Connection} to the given
 	 * value.
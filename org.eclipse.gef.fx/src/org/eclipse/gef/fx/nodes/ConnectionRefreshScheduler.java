@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The {@link ConnectionRefreshScheduler} performs the deferred refreshes of
+ * {@link Connection}s (see {@link Connection#deferRefreshProperty()}) once per
+ * JavaFX pulse. It uses a shared {@link AnimationTimer}, which is invoked at
+ * the beginning of a pulse, i.e. before CSS is applied and the scene is laid
+ * out and rendered. The timer is only running while refreshes are pending, so
+ * that no pulses are requested when the scene is idle.
+ * <p>
+ * All methods have to be called on the JavaFX application thread.
+ */
+class ConnectionRefreshScheduler {
+
+	/**
+	 * The maximum number of refresh rounds per pulse. Refreshing a
+	 * {@link Connection} may lead to refresh requests for other
+	 * {@link Connection}s (e.g. if these are anchored at the refreshed one),
+	 * which are processed within the same pulse, up to this limit.
+	 */
+	private static final int MAX_ROUNDS_PER_PULSE = 16;
+
+	private static final Set<Connection> requested = new LinkedHashSet<>();
+	private static AnimationTimer timer;
+	private static boolean running;
+
+	private static void flush() {
+		for (int i = 0; i < MAX_ROUNDS_PER_PULSE
+				&& !requested.isEmpty(); i++) {
+			List<Connection> connections = new ArrayList<>(requested);
+			requested.clear();
+			for (Connection connection : connections) {
+				connection.performRequestedRefresh();
+			}
+		}
+		if (requested.isEmpty()) {
+			timer.stop();
+			running = false;
+		}
+	}
+
+	/**
+	 * Schedules a refresh of the given {@link Connection} for the next pulse.
+	 *
+	 * @param connection
+	 *            The {@link Connection} to refresh.
+	 */
+	static void schedule(Connection connection) {
+		requested.add(connection);
+		if (!running) {
+			if (timer == null) {
+				// created lazily, as the JavaFX toolkit needs to be
+				// initialized
+				timer = new AnimationTimer() {
+					@Override
+					public void handle(long now) {
+						flush();
+					}
+				};
+			}
+			running = true;
+			timer.start();
+		}
+	}
+
+	/**
+	 * Removes the given {@link Connection} from the pending refreshes.
+	 *
+	 * @param connection
+	 *            The {@link Connection} that no longer needs to be refreshed.
+	 */
+	static void unschedule(Connection connection) {
+		requested.remove(connection);
+	}
+
+	private ConnectionRefreshScheduler() {
+		// not to be instantiated
+	}
+}
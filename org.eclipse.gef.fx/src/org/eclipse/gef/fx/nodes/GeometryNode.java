@@ -22,7 +22,6 @@ import org.eclipse.gef.geometry.planar.IScalable;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.ITranslatable;
 import org.eclipse.gef.geometry.planar.Pie;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.geometry.planar.RoundedRectangle;
 
@@ -662,15 +661,13 @@ public class GeometryNode<T extends IGeometry> extends Region {
 				geometryProperty.set(((IScalable<T>) geometry).getScaled(sx, sy,
 						geometricBounds.getX(), geometricBounds.getY()));
 			} else {
-				// apply transform to path
-				Point boundsOrigin = new Point(geometricBounds.getX(),
-						geometricBounds.getY());
+				// apply transform to path (scaling relative to the bounds
+				// origin in a single pass)
+				double ox = geometricBounds.getX();
+				double oy = geometricBounds.getY();
 				geometryProperty.setValue((T) geometry
-						.getTransformed(new AffineTransform(1, 0, 0, 1,
-								-boundsOrigin.x, -boundsOrigin.y))
-						.getTransformed(new AffineTransform(sx, 0, 0, sy, 0, 0))
-						.getTransformed(new AffineTransform(1, 0, 0, 1,
-								boundsOrigin.x, boundsOrigin.y)));
+						.getTransformed(new AffineTransform(sx, 0, 0, sy,
+								ox - sx * ox, oy - sy * oy)));
 			}
 		}
 	}
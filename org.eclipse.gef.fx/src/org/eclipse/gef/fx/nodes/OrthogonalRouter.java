@@ -19,7 +19,6 @@ import org.eclipse.gef.fx.anchors.DynamicAnchor;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
 import org.eclipse.gef.fx.utils.NodeUtils;
-import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
@@ -182,40 +181,43 @@ public class OrthogonalRouter extends AbstractRouter {
 		Node anchorage = connection.getAnchor(i).getAnchorage();
 		Bounds boundsInScene = anchorage
 				.localToScene(anchorage.getLayoutBounds());
-		Rectangle rectangle = FX2Geometry.toRectangle(boundsInScene);
-		Polygon top = new Polygon(rectangle.getTopLeft(),
-				rectangle.getTopRight(), rectangle.getCenter());
-		Polygon bottom = new Polygon(rectangle.getBottomLeft(),
-				rectangle.getBottomRight(), rectangle.getCenter());
-		Polygon left = new Polygon(rectangle.getTopLeft(),
-				rectangle.getBottomLeft(), rectangle.getCenter());
-		Polygon right = new Polygon(rectangle.getTopRight(),
-				rectangle.getBottomRight(), rectangle.getCenter());
+		double minX = boundsInScene.getMinX();
+		double minY = boundsInScene.getMinY();
+		double maxX = boundsInScene.getMaxX();
+		double maxY = boundsInScene.getMaxY();
+		double centerX = (minX + maxX) / 2;
+		double centerY = (minY + maxY) / 2;
+		Polygon top = new Polygon(minX, minY, maxX, minY, centerX, centerY);
+		Polygon bottom = new Polygon(minX, maxY, maxX, maxY, centerX,
+				centerY);
+		Polygon left = new Polygon(minX, minY, minX, maxY, centerX, centerY);
+		Polygon right = new Polygon(maxX, minY, maxX, maxY, centerX,
+				centerY);
 		return new Polygon[] { top, right, bottom, left };
 	}
 
 	private boolean isBottom(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
-		Point point = FX2Geometry.toPoint(pointInScene);
 		Polygon[] triangles = getTriangles(connection, i);
-		return triangles[2].contains(point);
+		return triangles[2].contains(pointInScene.getX(),
+				pointInScene.getY());
 	}
 
 	private boolean isLeft(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
-		Point point = FX2Geometry.toPoint(pointInScene);
 		Polygon[] triangles = getTriangles(connection, i);
-		return triangles[3].contains(point);
+		return triangles[3].contains(pointInScene.getX(),
+				pointInScene.getY());
 	}
 
 	private boolean isRight(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
-		Point point = FX2Geometry.toPoint(pointInScene);
 		Polygon[] triangles = getTriangles(connection, i);
-		return triangles[1].contains(point);
+		return triangles[1].contains(pointInScene.getX(),
+				pointInScene.getY());
 	}
 
 	private boolean isSufficientlyHorizontal(Vector currentDirection) {
@@ -231,18 +233,19 @@ public class OrthogonalRouter extends AbstractRouter {
 	private boolean isTop(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
-		Point point = FX2Geometry.toPoint(pointInScene);
 		Polygon[] triangles = getTriangles(connection, i);
-		return triangles[0].contains(point);
+		return triangles[0].contains(pointInScene.getX(),
+				pointInScene.getY());
 	}
 
 	private boolean isTopOrBottom(Connection connection, int i,
 			Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
-		Point point = FX2Geometry.toPoint(pointInScene);
 		Polygon[] triangles = getTriangles(connection, i);
-		return triangles[0].contains(point) || triangles[2].contains(point);
+		return triangles[0].contains(pointInScene.getX(), pointInScene.getY())
+				|| triangles[2].contains(pointInScene.getX(),
+						pointInScene.getY());
 	}
 
 	@Override
@@ -14,7 +14,9 @@
 package org.eclipse.gef.fx.utils;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -255,14 +257,16 @@ public class NodeUtils {
 	 */
 	public static List<Node> getNodesAt(Node root, double sceneX,
 			double sceneY) {
-		List<Node> picked = new ArrayList<>();
+		// nodes are picked in depth-first order, so that the last picked node
+		// (i.e. the top-most one) is returned first
+		Deque<Node> picked = new ArrayDeque<>();
 
 		// start with given root node
-		List<Node> nodes = new ArrayList<>();
-		nodes.add(root);
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
 
 		while (!nodes.isEmpty()) {
-			Node current = nodes.remove(0);
+			Node current = nodes.pop();
 			// transform to local coordinates
 			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
 			// check if bounds contains (necessary to find children in mouse
@@ -271,16 +275,20 @@ public class NodeUtils {
 					&& current.getBoundsInLocal().contains(pLocal)) {
 				// check precisely
 				if (current.contains(pLocal)) {
-					picked.add(0, current);
+					picked.push(current);
 				}
-				// test all children, too
+				// test all children, too (pushed in reverse order, so that
+				// they are processed in order)
 				if (current instanceof Parent) {
-					nodes.addAll(0,
-							((Parent) current).getChildrenUnmodifiable());
+					List<Node> children = ((Parent) current)
+							.getChildrenUnmodifiable();
+					for (int i = children.size() - 1; i >= 0; i--) {
+						nodes.push(children.get(i));
+					}
 				}
 			}
 		}
-		return picked;
+		return new ArrayList<>(picked);
 	}
 
 	/**
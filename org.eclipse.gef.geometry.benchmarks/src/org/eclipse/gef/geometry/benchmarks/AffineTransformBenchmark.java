@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the concatenation of {@link AffineTransform}s and their
+ * application to single points, point arrays, and {@link Polygon}s.
+ */
+@State(Scope.Benchmark)
+public class AffineTransformBenchmark {
+
+	/**
+	 * The number of points that are transformed.
+	 */
+	@Param({ "16", "1024", "65536" })
+	public int pointCount;
+
+	private AffineTransform transform;
+	private Point[] points;
+	private Polygon polygon;
+	private double[] coordinates;
+	private double[] transformedCoordinates;
+
+	/**
+	 * Concatenates a chain of elementary transformations, as done when
+	 * computing the scene-to-local transformation of nested visuals.
+	 *
+	 * @return The resulting {@link AffineTransform}.
+	 */
+	@Benchmark
+	public AffineTransform concatenateChain() {
+		AffineTransform chain = new AffineTransform();
+		for (int i = 0; i < 8; i++) {
+			chain.concatenate(new AffineTransform().translate(i, -i)
+					.rotate(0.1 * i).scale(1.01, 0.99).shear(0.01, 0));
+		}
+		return chain.getInverse();
+	}
+
+	/**
+	 * Initializes the inputs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(GeometryGenerators.SEED);
+		transform = new AffineTransform().translate(10, 20).rotate(0.3)
+				.scale(1.5, 0.5).shear(0.1, 0.2);
+		points = GeometryGenerators.randomPoints(random, pointCount,
+				new Rectangle(0, 0, 1000, 1000));
+		polygon = GeometryGenerators.star(random, pointCount,
+				new Point(500, 500), 500);
+		coordinates = new double[2 * pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			coordinates[2 * i] = points[i].x;
+			coordinates[2 * i + 1] = points[i].y;
+		}
+		transformedCoordinates = new double[coordinates.length];
+	}
+
+	/**
+	 * Transforms the packed coordinates of all points in a single bulk
+	 * operation.
+	 *
+	 * @return The transformed coordinates.
+	 */
+	@Benchmark
+	public double[] transformCoordinates() {
+		transform.transform(coordinates, 0, transformedCoordinates, 0,
+				pointCount);
+		return transformedCoordinates;
+	}
+
+	/**
+	 * Transforms all points one by one.
+	 *
+	 * @return The last transformed {@link Point}.
+	 */
+	@Benchmark
+	public Point transformEachPoint() {
+		Point transformed = null;
+		for (Point p : points) {
+			transformed = transform.getTransformed(p);
+		}
+		return transformed;
+	}
+
+	/**
+	 * Transforms the point array as a whole.
+	 *
+	 * @return The transformed {@link Point}s.
+	 */
+	@Benchmark
+	public Point[] transformPoints() {
+		return transform.getTransformed(points);
+	}
+
+	/**
+	 * Transforms the {@link Polygon}.
+	 *
+	 * @return The transformed {@link Polygon}.
+	 */
+	@Benchmark
+	public Polygon transformPolygon() {
+		return polygon.getTransformed(transform);
+	}
+
+}
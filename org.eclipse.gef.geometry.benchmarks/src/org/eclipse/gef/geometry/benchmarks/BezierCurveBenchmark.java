@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the intersection, overlap, and offset computations of
+ * {@link BezierCurve}s. Each invocation processes the next pair of a fixed set
+ * of curve pairs, which is created according to the selected
+ * {@link #scenario}:
+ * <ul>
+ * <li><code>random</code>: independent random cubic curves within the same
+ * bounds.</li>
+ * <li><code>overlap</code>: a random cubic curve and a sub-curve of it, which
+ * forces the (expensive) overlap detection.</li>
+ * <li><code>tangent</code>: two cubic curves that touch tangentially in a
+ * single point, which forces deep subdivision.</li>
+ * <li><code>parallel</code>: a random cubic curve and a slightly translated
+ * copy of it, whose control bounds overlap almost entirely, so that little
+ * can be pruned during subdivision.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class BezierCurveBenchmark {
+
+	private static final int PAIRS = 64;
+
+	/**
+	 * The kind of curve pairs that are processed.
+	 */
+	@Param({ "random", "overlap", "tangent", "parallel" })
+	public String scenario;
+
+	private BezierCurve[] first;
+	private BezierCurve[] second;
+	private int index;
+
+	/**
+	 * Computes the intersections of the next pair of curves.
+	 *
+	 * @return The intersection {@link Point}s.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		int i = next();
+		return first[i].getIntersections(second[i]);
+	}
+
+	/**
+	 * Computes the offset of the next curve.
+	 *
+	 * @return The offset curve.
+	 */
+	@Benchmark
+	public PolyBezier getOffset() {
+		return first[next()].getOffset(5);
+	}
+
+	/**
+	 * Computes the overlap of the next pair of curves.
+	 *
+	 * @return The overlapping section, or <code>null</code>.
+	 */
+	@Benchmark
+	public BezierCurve getOverlap() {
+		int i = next();
+		return first[i].getOverlap(second[i]);
+	}
+
+	private int next() {
+		index = (index + 1) % PAIRS;
+		return index;
+	}
+
+	/**
+	 * Initializes the curve pairs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(GeometryGenerators.SEED);
+		Rectangle bounds = new Rectangle(0, 0, 1000, 1000);
+		first = new BezierCurve[PAIRS];
+		second = new BezierCurve[PAIRS];
+		for (int i = 0; i < PAIRS; i++) {
+			CubicCurve curve = GeometryGenerators.randomCubicCurve(random,
+					bounds);
+			first[i] = curve;
+			if ("random".equals(scenario)) {
+				second[i] = GeometryGenerators.randomCubicCurve(random,
+						bounds);
+			} else if ("overlap".equals(scenario)) {
+				second[i] = curve.getClipped(0.25, 0.75);
+			} else if ("tangent".equals(scenario)) {
+				// the curve peaks at y = 75 and its mirror image at y = 75
+				// touches it from above
+				double w = 100 + 900 * random.nextDouble();
+				first[i] = new CubicCurve(0, 0, w / 3, 100, 2 * w / 3, 100, w,
+						0);
+				second[i] = new CubicCurve(0, 150, w / 3, 50, 2 * w / 3, 50, w,
+						150);
+			} else if ("parallel".equals(scenario)) {
+				second[i] = curve.getTranslated(0.5, 0.5);
+			} else {
+				throw new IllegalArgumentException(
+						"Unknown scenario: " + scenario);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the intersection and overlap computations of multi-segment
+ * {@link ICurve}s, i.e. {@link Polyline}s (<code>polyline</code>) and
+ * {@link PolyBezier}s (<code>polyBezier</code>). A zig-zag (or wave) curve
+ * with {@link #segmentCount} segments is intersected with a straight curve
+ * that crosses each of its segments (<code>crossing</code>), that touches
+ * every other of its vertices (<code>touching</code>), or that runs in
+ * parallel to it without any intersection (<code>separate</code>).
+ */
+@State(Scope.Benchmark)
+public class CurveIntersectionBenchmark {
+
+	/**
+	 * The kind of curves.
+	 */
+	@Param({ "polyline", "polyBezier" })
+	public String curve;
+
+	/**
+	 * The position of the second curve relative to the first one.
+	 */
+	@Param({ "crossing", "touching", "separate" })
+	public String position;
+
+	/**
+	 * The number of segments of the first curve.
+	 */
+	@Param({ "10", "100", "1000" })
+	public int segmentCount;
+
+	private ICurve first;
+	private ICurve second;
+
+	/**
+	 * Computes the intersections of the curves.
+	 *
+	 * @return The intersection {@link Point}s.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		return first.getIntersections(second);
+	}
+
+	/**
+	 * Computes the overlaps of the curves.
+	 *
+	 * @return The overlapping sections.
+	 */
+	@Benchmark
+	public ICurve[] getOverlaps() {
+		return first.getOverlaps(second);
+	}
+
+	/**
+	 * Tests whether the curves intersect.
+	 *
+	 * @return <code>true</code> if the curves intersect, otherwise
+	 *         <code>false</code>.
+	 */
+	@Benchmark
+	public boolean intersects() {
+		return first.intersects(second);
+	}
+
+	/**
+	 * Initializes the curves.
+	 */
+	@Setup
+	public void setUp() {
+		double width = 10 * segmentCount;
+		if ("polyline".equals(curve)) {
+			first = GeometryGenerators.zigZag(segmentCount, 10, 10);
+		} else if ("polyBezier".equals(curve)) {
+			first = GeometryGenerators.wave(segmentCount, 10, 10);
+		} else {
+			throw new IllegalArgumentException("Unknown curve: " + curve);
+		}
+		double y;
+		if ("crossing".equals(position)) {
+			y = 5;
+		} else if ("touching".equals(position)) {
+			y = 10;
+		} else if ("separate".equals(position)) {
+			y = 20;
+		} else {
+			throw new IllegalArgumentException(
+					"Unknown position: " + position);
+		}
+		// the second curve consists of multiple segments as well
+		second = new Polyline(0, y, width / 3, y, 2 * width / 3, y, width, y);
+	}
+
+}
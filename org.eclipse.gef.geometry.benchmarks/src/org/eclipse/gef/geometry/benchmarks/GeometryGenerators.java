@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link GeometryGenerators} provide the randomized and adversarial inputs
+ * for the geometry benchmarks. All randomized inputs are created from a
+ * {@link Random} that is passed in, so that benchmark runs can be reproduced by
+ * using the same seed.
+ */
+final class GeometryGenerators {
+
+	/**
+	 * The seed that is used by all benchmarks.
+	 */
+	static final long SEED = 0x5EEDL;
+
+	/**
+	 * Creates a comb-shaped {@link Polygon} with the given number of teeth.
+	 * The comb is adversarial in that all teeth share the same base and tip
+	 * lines, i.e. it has many collinear vertices and horizontal edges, and its
+	 * deep concavities cause many crossings for rays that are cast through it.
+	 *
+	 * @param teeth
+	 *            The number of teeth of the comb.
+	 * @param width
+	 *            The width of the comb.
+	 * @param height
+	 *            The height of the comb.
+	 * @return A comb-shaped {@link Polygon} with <code>4 * teeth + 2</code>
+	 *         vertices.
+	 */
+	static Polygon comb(int teeth, double width, double height) {
+		double toothWidth = width / (2 * teeth);
+		double[] coordinates = new double[2 * (4 * teeth + 2)];
+		int c = 0;
+		for (int i = 0; i < teeth; i++) {
+			double x = 2 * i * toothWidth;
+			coordinates[c++] = x;
+			coordinates[c++] = 0;
+			coordinates[c++] = x + toothWidth;
+			coordinates[c++] = 0;
+			coordinates[c++] = x + toothWidth;
+			coordinates[c++] = height / 2;
+			coordinates[c++] = x + 2 * toothWidth;
+			coordinates[c++] = height / 2;
+		}
+		coordinates[c++] = width;
+		coordinates[c++] = height;
+		coordinates[c++] = 0;
+		coordinates[c++] = height;
+		return new Polygon(coordinates);
+	}
+
+	/**
+	 * Creates a random {@link CubicCurve} within the given bounds.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param bounds
+	 *            The {@link Rectangle} that contains all control points.
+	 * @return A random {@link CubicCurve}.
+	 */
+	static CubicCurve randomCubicCurve(Random random, Rectangle bounds) {
+		Point[] points = randomPoints(random, 4, bounds);
+		return new CubicCurve(points);
+	}
+
+	/**
+	 * Creates the given number of random {@link Point}s within the given
+	 * bounds.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param count
+	 *            The number of {@link Point}s to create.
+	 * @param bounds
+	 *            The {@link Rectangle} that contains all {@link Point}s.
+	 * @return An array of random {@link Point}s.
+	 */
+	static Point[] randomPoints(Random random, int count, Rectangle bounds) {
+		Point[] points = new Point[count];
+		for (int i = 0; i < count; i++) {
+			points[i] = new Point(
+					bounds.getX() + random.nextDouble() * bounds.getWidth(),
+					bounds.getY() + random.nextDouble() * bounds.getHeight());
+		}
+		return points;
+	}
+
+	/**
+	 * Creates a random star-shaped (and thus simple) {@link Polygon} around
+	 * the given center, whose vertices are evenly distributed by angle but
+	 * have random distances from the center.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param vertices
+	 *            The number of vertices.
+	 * @param center
+	 *            The center of the star.
+	 * @param radius
+	 *            The maximum distance of a vertex from the center.
+	 * @return A random star-shaped {@link Polygon}.
+	 */
+	static Polygon star(Random random, int vertices, Point center,
+			double radius) {
+		double[] coordinates = new double[2 * vertices];
+		for (int i = 0; i < vertices; i++) {
+			double angle = 2 * Math.PI * i / vertices;
+			double distance = radius * (0.25 + 0.75 * random.nextDouble());
+			coordinates[2 * i] = center.x + distance * Math.cos(angle);
+			coordinates[2 * i + 1] = center.y + distance * Math.sin(angle);
+		}
+		return new Polygon(coordinates);
+	}
+
+	/**
+	 * Creates a zig-zag {@link Polyline} with the given number of segments,
+	 * which alternates between <code>y = 0</code> and <code>y = height</code>.
+	 *
+	 * @param segments
+	 *            The number of segments.
+	 * @param segmentWidth
+	 *            The horizontal extent of each segment.
+	 * @param height
+	 *            The vertical extent of the zig-zag.
+	 * @return A zig-zag {@link Polyline}.
+	 */
+	static Polyline zigZag(int segments, double segmentWidth, double height) {
+		double[] coordinates = new double[2 * (segments + 1)];
+		for (int i = 0; i <= segments; i++) {
+			coordinates[2 * i] = i * segmentWidth;
+			coordinates[2 * i + 1] = i % 2 == 0 ? 0 : height;
+		}
+		return new Polyline(coordinates);
+	}
+
+	/**
+	 * Creates a wave-shaped {@link PolyBezier} with the given number of
+	 * segments, which alternates between <code>y = 0</code> and
+	 * <code>y = height</code>.
+	 *
+	 * @param segments
+	 *            The number of (cubic) segments.
+	 * @param segmentWidth
+	 *            The horizontal extent of each segment.
+	 * @param height
+	 *            The vertical extent of the wave.
+	 * @return A wave-shaped {@link PolyBezier}.
+	 */
+	static PolyBezier wave(int segments, double segmentWidth, double height) {
+		CubicCurve[] curves = new CubicCurve[segments];
+		for (int i = 0; i < segments; i++) {
+			double x = i * segmentWidth;
+			double y1 = i % 2 == 0 ? 0 : height;
+			double y2 = height - y1;
+			curves[i] = new CubicCurve(x, y1, x + segmentWidth / 2, y1,
+					x + segmentWidth / 2, y2, x + segmentWidth, y2);
+		}
+		return new PolyBezier(curves);
+	}
+
+	private GeometryGenerators() {
+		// not to be instantiated
+	}
+
+}
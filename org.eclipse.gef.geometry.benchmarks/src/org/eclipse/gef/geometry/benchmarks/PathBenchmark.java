@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the boolean operations of {@link Path}. The operands are two
+ * overlapping shapes of the selected {@link #shape}:
+ * <ul>
+ * <li><code>star</code>: random star-shaped polygons.</li>
+ * <li><code>comb</code>: two interleaved comb-shaped polygons, whose edges are
+ * collinear and whose vertices coincide with edges of the other operand.</li>
+ * <li><code>ellipse</code>: ellipses, whose outlines consist of curves.</li>
+ * </ul>
+ * The {@link #implementation} selects between the boolean operations of
+ * {@link Path} (<code>path</code>), which handle polygonal operands natively,
+ * and the {@link Area} based computation (<code>area</code>) they fall back to
+ * for curved operands, so that both can be compared on the same inputs.
+ */
+@State(Scope.Benchmark)
+public class PathBenchmark {
+
+	/**
+	 * The implementation of the boolean operations.
+	 */
+	@Param({ "path", "area" })
+	public String implementation;
+
+	/**
+	 * The shape of the operands.
+	 */
+	@Param({ "star", "comb", "ellipse" })
+	public String shape;
+
+	/**
+	 * The (approximate) number of vertices of polygonal operands.
+	 */
+	@Param({ "16", "256", "4096" })
+	public int vertexCount;
+
+	private Path pa;
+	private Path pb;
+	private boolean useArea;
+
+	/**
+	 * Computes the union of the operands.
+	 *
+	 * @return The union.
+	 */
+	@Benchmark
+	public Path add() {
+		if (!useArea) {
+			return Path.add(pa, pb);
+		}
+		Area a = new Area(Geometry2AWT.toAWTPath(pa));
+		a.add(new Area(Geometry2AWT.toAWTPath(pb)));
+		return AWT2Geometry.toPath(new Path2D.Double(a));
+	}
+
+	/**
+	 * Computes the exclusive-or of the operands.
+	 *
+	 * @return The exclusive-or.
+	 */
+	@Benchmark
+	public Path exclusiveOr() {
+		if (!useArea) {
+			return Path.exclusiveOr(pa, pb);
+		}
+		Area a = new Area(Geometry2AWT.toAWTPath(pa));
+		a.exclusiveOr(new Area(Geometry2AWT.toAWTPath(pb)));
+		return AWT2Geometry.toPath(new Path2D.Double(a));
+	}
+
+	/**
+	 * Computes the intersection of the operands.
+	 *
+	 * @return The intersection.
+	 */
+	@Benchmark
+	public Path intersect() {
+		if (!useArea) {
+			return Path.intersect(pa, pb);
+		}
+		Area a = new Area(Geometry2AWT.toAWTPath(pa));
+		a.intersect(new Area(Geometry2AWT.toAWTPath(pb)));
+		return AWT2Geometry.toPath(new Path2D.Double(a));
+	}
+
+	/**
+	 * Initializes the operands.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(GeometryGenerators.SEED);
+		if ("star".equals(shape)) {
+			pa = GeometryGenerators
+					.star(random, vertexCount, new Point(400, 500), 500)
+					.toPath();
+			pb = GeometryGenerators
+					.star(random, vertexCount, new Point(600, 500), 500)
+					.toPath();
+		} else if ("comb".equals(shape)) {
+			// the second comb is rotated by 180 degrees, so that its teeth
+			// fill the gaps of the first one, and shifted, so that the teeth
+			// of each comb reach into the spine of the other one
+			Polygon comb = GeometryGenerators
+					.comb(Math.max(1, vertexCount / 4), 1000, 1000);
+			pa = comb.toPath();
+			pb = comb.getRotatedCCW(Angle.fromDeg(180)).getTranslated(0, -250)
+					.toPath();
+		} else if ("ellipse".equals(shape)) {
+			pa = new Ellipse(0, 0, 600, 400).toPath();
+			pb = new Ellipse(300, 100, 400, 600).toPath();
+		} else {
+			throw new IllegalArgumentException("Unknown shape: " + shape);
+		}
+		if ("area".equals(implementation)) {
+			useArea = true;
+		} else if (!"path".equals(implementation)) {
+			throw new IllegalArgumentException(
+					"Unknown implementation: " + implementation);
+		}
+	}
+
+	/**
+	 * Subtracts the second operand from the first one.
+	 *
+	 * @return The difference.
+	 */
+	@Benchmark
+	public Path subtract() {
+		if (!useArea) {
+			return Path.subtract(pa, pb);
+		}
+		Area a = new Area(Geometry2AWT.toAWTPath(pa));
+		a.subtract(new Area(Geometry2AWT.toAWTPath(pb)));
+		return AWT2Geometry.toPath(new Path2D.Double(a));
+	}
+
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the point containment test and other basic queries of
+ * {@link Polygon}s. The {@link #shape} is either a random star-shaped polygon
+ * (<code>star</code>) or an adversarial comb-shaped polygon (<code>comb</code>)
+ * with many collinear vertices. Half of the query points are random points
+ * within the bounds of the polygon, the other half are located on its vertices
+ * and edges, which are the hard cases of the containment test.
+ */
+@State(Scope.Benchmark)
+public class PolygonBenchmark {
+
+	private static final int QUERIES = 1024;
+
+	/**
+	 * The shape of the {@link Polygon}.
+	 */
+	@Param({ "star", "comb" })
+	public String shape;
+
+	/**
+	 * The (approximate) number of vertices of the {@link Polygon}.
+	 */
+	@Param({ "16", "256", "4096" })
+	public int vertexCount;
+
+	private Polygon polygon;
+	private Point[] queries;
+
+	/**
+	 * Tests all query points for containment.
+	 *
+	 * @return The number of contained query points.
+	 */
+	@Benchmark
+	public int contains() {
+		int count = 0;
+		for (Point q : queries) {
+			if (polygon.contains(q)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Computes the area of the {@link Polygon}.
+	 *
+	 * @return The area.
+	 */
+	@Benchmark
+	public double getArea() {
+		return polygon.getArea();
+	}
+
+	/**
+	 * Computes the bounds of the {@link Polygon}.
+	 *
+	 * @return The bounds.
+	 */
+	@Benchmark
+	public Rectangle getBounds() {
+		return polygon.getBounds();
+	}
+
+	/**
+	 * Computes the outline segments of the {@link Polygon}.
+	 *
+	 * @return The outline segments.
+	 */
+	@Benchmark
+	public Line[] getOutlineSegments() {
+		return polygon.getOutlineSegments();
+	}
+
+	/**
+	 * Initializes the {@link Polygon} and the query points.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(GeometryGenerators.SEED);
+		if ("star".equals(shape)) {
+			polygon = GeometryGenerators.star(random, vertexCount,
+					new Point(500, 500), 500);
+		} else if ("comb".equals(shape)) {
+			polygon = GeometryGenerators.comb(Math.max(1, vertexCount / 4),
+					1000, 1000);
+		} else {
+			throw new IllegalArgumentException("Unknown shape: " + shape);
+		}
+		Point[] randomPoints = GeometryGenerators.randomPoints(random,
+				QUERIES / 2, polygon.getBounds());
+		Line[] segments = polygon.getOutlineSegments();
+		queries = new Point[QUERIES];
+		for (int i = 0; i < QUERIES / 2; i++) {
+			queries[2 * i] = randomPoints[i];
+			Line segment = segments[random.nextInt(segments.length)];
+			queries[2 * i + 1] = random.nextBoolean() ? segment.getP1()
+					: segment.get(random.nextDouble());
+		}
+	}
+
+}
@@ -44,4 +44,19 @@ public class AffineTransformTests {
 		assertEquals(new Point(0, 1), tx.getTransformed(new Point(1, 0)));
 	}
 
+	@Test
+	public void test_transform() {
+		AffineTransform tx = new AffineTransform(2, 0, 0, 3, 10, 20);
+		double[] coordinates = new double[] { 1, 1, 2, 3, -1, 0 };
+		Point[] expected = tx.getTransformed(new Point[] { new Point(1, 1),
+				new Point(2, 3), new Point(-1, 0) });
+		// transform in-place
+		tx.transform(coordinates, 0, coordinates, 0, 3);
+		assertEquals(new Point(12, 23), expected[0]);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].x, coordinates[2 * i], 0);
+			assertEquals(expected[i].y, coordinates[2 * i + 1], 0);
+		}
+	}
+
 }
@@ -16,16 +16,116 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.awt.geom.Area;
+import java.awt.geom.PathIterator;
 import java.util.List;
+import java.util.Random;
 
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
 public class PathTests {
 
+	private static final int ADD = 0;
+	private static final int INTERSECT = 1;
+	private static final int SUBTRACT = 2;
+	private static final int EXCLUSIVE_OR = 3;
+
+	/**
+	 * Computes the result of the given operation via {@link Path} as well as
+	 * via {@link Area}, and returns the area of their symmetric difference.
+	 */
+	private static double computeDeviation(Path pa, Path pb, int operation) {
+		Area expected = new Area(Geometry2AWT.toAWTPath(pa));
+		Area b = new Area(Geometry2AWT.toAWTPath(pb));
+		Path actual;
+		switch (operation) {
+		case ADD:
+			actual = Path.add(pa, pb);
+			expected.add(b);
+			break;
+		case INTERSECT:
+			actual = Path.intersect(pa, pb);
+			expected.intersect(b);
+			break;
+		case SUBTRACT:
+			actual = Path.subtract(pa, pb);
+			expected.subtract(b);
+			break;
+		default:
+			actual = Path.exclusiveOr(pa, pb);
+			expected.exclusiveOr(b);
+		}
+		Area deviation = new Area(Geometry2AWT.toAWTPath(actual));
+		deviation.exclusiveOr(expected);
+		return getArea(deviation);
+	}
+
+	/**
+	 * Computes the area of the given polygonal {@link Area}.
+	 */
+	private static double getArea(Area area) {
+		double[] coords = new double[6];
+		double area2 = 0;
+		double startX = 0, startY = 0, x = 0, y = 0;
+		for (PathIterator it = area.getPathIterator(null); !it.isDone(); it
+				.next()) {
+			switch (it.currentSegment(coords)) {
+			case PathIterator.SEG_MOVETO:
+				startX = x = coords[0];
+				startY = y = coords[1];
+				break;
+			case PathIterator.SEG_LINETO:
+				area2 += x * coords[1] - coords[0] * y;
+				x = coords[0];
+				y = coords[1];
+				break;
+			case PathIterator.SEG_CLOSE:
+				area2 += x * startY - startX * y;
+				x = startX;
+				y = startY;
+				break;
+			default:
+				throw new IllegalArgumentException(
+						"Only polygonal areas are supported.");
+			}
+		}
+		return Math.abs(area2) / 2;
+	}
+
+	/**
+	 * Creates a random polygonal {@link Path} consisting of up to three
+	 * (possibly self-intersecting) contours, whose vertices are located on a
+	 * coarse grid, so that the contours frequently touch and overlap.
+	 */
+	private static Path createRandomPath(Random random) {
+		Path path = new Path(random.nextBoolean() ? Path.WIND_EVEN_ODD
+				: Path.WIND_NON_ZERO);
+		boolean fine = random.nextBoolean();
+		int contours = 1 + random.nextInt(3);
+		for (int i = 0; i < contours; i++) {
+			int vertices = 3 + random.nextInt(6);
+			for (int j = 0; j < vertices; j++) {
+				double x = random.nextInt(6) * 10
+						+ (fine ? random.nextInt(10) : 0);
+				double y = random.nextInt(6) * 10;
+				if (j == 0) {
+					path.moveTo(x, y);
+				} else {
+					path.lineTo(x, y);
+				}
+			}
+			path.close();
+		}
+		return path;
+	}
+
 	@Test
 	public void test_CAG_add() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -35,6 +135,46 @@ public class PathTests {
 		assertTrue(unionPath.contains(r1.getCenter()));
 	}
 
+	@Test
+	public void test_CAG_add_adjacent() {
+		// rectangles sharing an edge are combined into a single contour
+		Rectangle r0 = new Rectangle(0, 0, 100, 100);
+		Rectangle r1 = new Rectangle(100, 0, 100, 100);
+		Path unionPath = Path.add(r0.toPath(), r1.toPath());
+		assertTrue(unionPath.contains(new Point(100, 50)));
+		assertEquals(new Rectangle(0, 0, 200, 100), unionPath.getBounds());
+		int moveTos = 0;
+		for (Path.Segment s : unionPath.getSegments()) {
+			if (s.getType() == Path.Segment.MOVE_TO) {
+				moveTos++;
+			}
+		}
+		assertEquals(1, moveTos);
+	}
+
+	@Test
+	public void test_CAG_add_curved() {
+		// curved paths are combined via AWT
+		Ellipse e = new Ellipse(0, 0, 100, 100);
+		Rectangle r = new Rectangle(50, 50, 100, 100);
+		Path unionPath = Path.add(e.toPath(), r.toPath());
+		assertTrue(unionPath.contains(e.getCenter()));
+		assertTrue(unionPath.contains(r.getCenter()));
+		assertFalse(unionPath.contains(new Point(5, 5)));
+	}
+
+	@Test
+	public void test_CAG_add_windingRule() {
+		// a square that is traversed twice
+		Path twice = new Path(Path.WIND_EVEN_ODD).moveTo(0, 0).lineTo(100, 0)
+				.lineTo(100, 100).lineTo(0, 100).lineTo(0, 0).lineTo(100, 0)
+				.lineTo(100, 100).lineTo(0, 100).close();
+		Path other = new Rectangle(200, 0, 100, 100).toPath();
+		assertFalse(Path.add(twice, other).contains(new Point(50, 50)));
+		twice.setWindingRule(Path.WIND_NON_ZERO);
+		assertTrue(Path.add(twice, other).contains(new Point(50, 50)));
+	}
+
 	@Test
 	public void test_CAG_exclusiveOr() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -55,6 +195,22 @@ public class PathTests {
 		assertFalse(intersectionPath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_CAG_random() {
+		// compare the results of all operations for random polygonal paths
+		// with those computed via AWT (using a fixed seed, so that failures
+		// are reproducible)
+		Random random = new Random(267);
+		for (int i = 0; i < 500; i++) {
+			Path pa = createRandomPath(random);
+			Path pb = createRandomPath(random);
+			for (int operation = ADD; operation <= EXCLUSIVE_OR; operation++) {
+				assertEquals("operation " + operation + " in iteration " + i,
+						0, computeDeviation(pa, pb, operation), 1e-6);
+			}
+		}
+	}
+
 	@Test
 	public void test_CAG_subtract() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -69,6 +225,45 @@ public class PathTests {
 		assertFalse(differencePath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_CAG_subtract_hole() {
+		Rectangle outer = new Rectangle(0, 0, 100, 100);
+		Rectangle inner = new Rectangle(25, 25, 50, 50);
+		Path differencePath = Path.subtract(outer.toPath(), inner.toPath());
+		assertTrue(differencePath.contains(new Point(10, 10)));
+		assertTrue(differencePath.contains(new Point(90, 50)));
+		assertFalse(differencePath.contains(new Point(50, 50)));
+		assertFalse(differencePath.contains(new Point(150, 50)));
+		assertEquals(outer, differencePath.getBounds());
+	}
+
+	@Test
+	public void test_CAG_subtract_overlapping() {
+		// the second path contains overlapping edges, which are split by the
+		// edges of the first path
+		Path pa = new Path(Path.WIND_NON_ZERO).moveTo(40, 20).lineTo(30, 10)
+				.lineTo(30, 50).close();
+		Path pb = new Path(Path.WIND_NON_ZERO).moveTo(10, 0).lineTo(50, 50)
+				.lineTo(30, 30).lineTo(50, 40).lineTo(10, 20).close()
+				.moveTo(0, 0).lineTo(50, 20).lineTo(0, 50).close();
+		assertEquals(0, computeDeviation(pa, pb, SUBTRACT), 1e-6);
+		assertTrue(Path.subtract(pa, pb).contains(new Point(32, 40)));
+	}
+
+	@Test
+	public void test_CAG_triangles() {
+		Polygon t0 = new Polygon(0, 0, 100, 0, 50, 100);
+		Polygon t1 = new Polygon(0, 50, 100, 50, 50, -50);
+		Path intersectionPath = Path.intersect(t0.toPath(), t1.toPath());
+		assertTrue(intersectionPath.contains(new Point(50, 25)));
+		assertFalse(intersectionPath.contains(new Point(50, 75)));
+		assertFalse(intersectionPath.contains(new Point(50, -25)));
+		Path xorPath = Path.exclusiveOr(t0.toPath(), t1.toPath());
+		assertFalse(xorPath.contains(new Point(50, 25)));
+		assertTrue(xorPath.contains(new Point(50, 75)));
+		assertTrue(xorPath.contains(new Point(50, -25)));
+	}
+
 	@Test
 	public void test_getBounds_cubic() {
 		// create path using all segment types
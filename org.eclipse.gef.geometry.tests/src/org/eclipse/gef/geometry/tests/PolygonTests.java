@@ -16,8 +16,16 @@ package org.eclipse.gef.geometry.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 import org.eclipse.gef.geometry.planar.Ellipse;
@@ -462,6 +470,17 @@ public class PolygonTests {
 		assertFalse(RECTANGLE.equals(new Polygon(RHOMB.getPoints())));
 	}
 
+	@Test
+	public void test_getPointCount_getX_getY() {
+		assertEquals(8, CONCAVE_OCTAGON.getPointCount());
+		Point[] points = CONCAVE_OCTAGON.getPoints();
+		for (int i = 0; i < points.length; i++) {
+			assertEquals(points[i].x, CONCAVE_OCTAGON.getX(i), 0);
+			assertEquals(points[i].y, CONCAVE_OCTAGON.getY(i), 0);
+		}
+		assertEquals(0, new Polygon(new double[] {}).getPointCount());
+	}
+
 	@Test
 	public void test_getSegments() {
 		Rectangle bounds = RECTANGLE.getBounds();
@@ -640,6 +659,25 @@ public class PolygonTests {
 						new Point(2, 2)));
 	}
 
+	@Test
+	public void test_serialization()
+			throws IOException, ClassNotFoundException {
+		// the serialized form (of previous versions) stores a points field
+		assertNotNull(ObjectStreamClass.lookup(Polygon.class.getSuperclass())
+				.getField("points"));
+
+		Polygon p = new Polygon(new Point(1, 2), new Point(3, 4),
+				new Point(5, 6));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(p);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(bytes.toByteArray()));
+		assertEquals(p, in.readObject());
+		in.close();
+	}
+
 	@Test
 	public void test_toString() {
 		assertEquals("Polygon: <no points>",
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -55,6 +56,46 @@ public class PolylineTests {
 		assertEquals(POLYLINE, new Polyline(points.toArray(new Point[] {})));
 	}
 
+	@Test
+	public void test_getCoordinatesView() {
+		Polyline polyline = new Polyline(1, 2, 3, 4, 5, 6);
+		DoubleBuffer view = polyline.getCoordinatesView();
+		assertTrue(view.isReadOnly());
+		assertEquals(6, view.remaining());
+		assertEquals(3, view.get(2), 0);
+		assertEquals(4, view.get(3), 0);
+		// the view reflects in-place modifications
+		polyline.translate(10, 20);
+		assertEquals(13, view.get(2), 0);
+		assertEquals(24, view.get(3), 0);
+	}
+
+	@Test
+	public void test_getIntersections_with_Polyline() {
+		// zig-zag line with 100 segments
+		Point[] zigZagPoints = new Point[101];
+		for (int i = 0; i < zigZagPoints.length; i++) {
+			zigZagPoints[i] = new Point(i * 10, i % 2 == 0 ? 0 : 10);
+		}
+		Polyline zigZag = new Polyline(zigZagPoints);
+
+		// every segment is crossed once
+		Polyline crossing = new Polyline(0, 5, 250, 5, 500, 5, 1000, 5);
+		assertEquals(100, zigZag.getIntersections(crossing).length);
+		assertTrue(zigZag.intersects(crossing));
+		assertFalse(zigZag.overlaps(crossing));
+
+		// the upper vertices are touched
+		Polyline touching = new Polyline(0, 10, 500, 10, 1000, 10);
+		assertEquals(50, zigZag.getIntersections(touching).length);
+		assertTrue(touching.intersects(zigZag));
+
+		// no segment is crossed
+		Polyline separate = new Polyline(0, 20, 500, 20, 1000, 20);
+		assertEquals(0, zigZag.getIntersections(separate).length);
+		assertFalse(zigZag.intersects(separate));
+	}
+
 	@Test
 	public void test_toBezier() {
 		Line[] beziers = new Polyline(new double[] {}).toBezier();
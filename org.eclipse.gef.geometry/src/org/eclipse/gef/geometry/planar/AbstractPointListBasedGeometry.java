@@ -13,13 +13,27 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
 import org.eclipse.gef.geometry.euclidean.Angle;
-import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 
 /**
  * Abstract superclass of geometries that are defined by means of a point list.
  * <p>
+ * The points are stored in a packed array of alternating x and y coordinates.
+ * They can be accessed without creating intermediate {@link Point} objects via
+ * {@link #getPointCount()}, {@link #getX(int)}, and {@link #getY(int)}, or
+ * iterated via {@link #getCoordinatesView()} without copying them, and
+ * translating, scaling, rotating, and transforming operate on the packed
+ * coordinates directly.
+ * </p>
+ * <p>
  * The type parameter <code>T</code> specifies the type of the inheriting class.
  * This is to be able to return the correct type, so that a type cast is
  * unnecessary.
@@ -40,9 +54,21 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * The points constituting this {@link AbstractPointListBasedGeometry}.
+	 * The serialized form is kept compatible with previous versions, which
+	 * stored the {@link Point}s in a <code>points</code> field.
+	 *
+	 * @serialField points
+	 *                  Point[] The {@link Point}s constituting this
+	 *                  {@link AbstractPointListBasedGeometry}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("points", Point[].class) };
+
+	/**
+	 * The alternating x and y coordinates of the points constituting this
+	 * {@link AbstractPointListBasedGeometry}.
 	 */
-	Point[] points;
+	double[] coordinates;
 
 	/**
 	 * Constructs a new {@link AbstractPointListBasedGeometry} from a
@@ -55,10 +81,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 * @see #AbstractPointListBasedGeometry(Point...)
 	 */
 	public AbstractPointListBasedGeometry(double... coordinates) {
-		points = new Point[coordinates.length / 2];
-		for (int i = 0; i < coordinates.length / 2; i++) {
-			points[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
-		}
+		this.coordinates = Arrays.copyOf(coordinates,
+				coordinates.length / 2 * 2);
 	}
 
 	/**
@@ -70,12 +94,23 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *            {@link AbstractPointListBasedGeometry} is to be created.
 	 */
 	public AbstractPointListBasedGeometry(Point... points) {
-		this.points = Point.getCopy(points);
+		this.coordinates = PointListUtils.toCoordinatesArray(points);
 	}
 
 	@Override
 	public final Rectangle getBounds() {
-		return Point.getBounds(points);
+		if (coordinates.length == 0) {
+			return new Rectangle();
+		}
+		double minX = coordinates[0], minY = coordinates[1], maxX = minX,
+				maxY = minY;
+		for (int i = 2; i < coordinates.length; i += 2) {
+			minX = Math.min(minX, coordinates[i]);
+			minY = Math.min(minY, coordinates[i + 1]);
+			maxX = Math.max(maxX, coordinates[i]);
+			maxY = Math.max(maxY, coordinates[i + 1]);
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
 	}
 
 	/**
@@ -90,7 +125,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         {@link AbstractPointListBasedGeometry}
 	 */
 	public Point getCentroid() {
-		return Point.getCentroid(points);
+		return Point.getCentroid(getPoints());
 	}
 
 	/**
@@ -102,7 +137,34 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         this {@link AbstractPointListBasedGeometry}'s points
 	 */
 	public final double[] getCoordinates() {
-		return PointListUtils.toCoordinatesArray(points);
+		return coordinates.clone();
+	}
+
+	/**
+	 * Returns a read-only view of the sequence of coordinates of the
+	 * {@link Point}s that make up this {@link AbstractPointListBasedGeometry}.
+	 * In contrast to {@link #getCoordinates()}, the coordinates are not copied,
+	 * so that the returned view reflects subsequent (in-place) modifications of
+	 * this {@link AbstractPointListBasedGeometry}, e.g. by
+	 * {@link #translate(double, double)}.
+	 *
+	 * @return a read-only {@link DoubleBuffer} that alternately contains the x
+	 *         and y coordinates of this {@link AbstractPointListBasedGeometry}'s
+	 *         points
+	 */
+	public final DoubleBuffer getCoordinatesView() {
+		return DoubleBuffer.wrap(coordinates).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the number of {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @return the number of {@link Point}s of this
+	 *         {@link AbstractPointListBasedGeometry}
+	 */
+	public final int getPointCount() {
+		return coordinates.length / 2;
 	}
 
 	/**
@@ -113,7 +175,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         make up this {@link AbstractPointListBasedGeometry}
 	 */
 	public final Point[] getPoints() {
-		return Point.getCopy(points);
+		return PointListUtils.toPointsArray(coordinates);
 	}
 
 	@Override
@@ -182,6 +244,22 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).scale(factor, center);
 	}
 
+	/**
+	 * Returns the coordinates of the {@link Point}s of this
+	 * {@link AbstractPointListBasedGeometry} transformed by the given
+	 * {@link AffineTransform}.
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return an array that alternately contains the transformed x and y
+	 *         coordinates
+	 */
+	double[] getTransformedCoordinates(AffineTransform t) {
+		double[] transformed = new double[coordinates.length];
+		t.transform(coordinates, 0, transformed, 0, getPointCount());
+		return transformed;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public T getTranslated(double dx, double dy) {
@@ -194,6 +272,54 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).translate(pt);
 	}
 
+	/**
+	 * Returns the x coordinate of the {@link Point} at the given index.
+	 *
+	 * @param index
+	 *            the index of the {@link Point}, which has to be between 0 and
+	 *            {@link #getPointCount()} - 1
+	 * @return the x coordinate of the {@link Point} at the given index
+	 */
+	public final double getX(int index) {
+		return coordinates[2 * index];
+	}
+
+	/**
+	 * Returns the y coordinate of the {@link Point} at the given index.
+	 *
+	 * @param index
+	 *            the index of the {@link Point}, which has to be between 0 and
+	 *            {@link #getPointCount()} - 1
+	 * @return the y coordinate of the {@link Point} at the given index
+	 */
+	public final double getY(int index) {
+		return coordinates[2 * index + 1];
+	}
+
+	private void readObject(ObjectInputStream in)
+			throws IOException, ClassNotFoundException {
+		Point[] points = (Point[]) in.readFields().get("points", null);
+		coordinates = points == null ? new double[0]
+				: PointListUtils.toCoordinatesArray(points);
+	}
+
+	/**
+	 * Rotates this {@link AbstractPointListBasedGeometry} clockwise by the
+	 * given {@link Angle} around the given {@link Point}.
+	 */
+	@SuppressWarnings("unchecked")
+	private T rotate(Angle alpha, Point center) {
+		double rad = alpha.rad();
+		double cos = Math.cos(rad), sin = Math.sin(rad);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			double x = coordinates[i] - center.x;
+			double y = coordinates[i + 1] - center.y;
+			coordinates[i] = x * cos - y * sin + center.x;
+			coordinates[i + 1] = x * sin + y * cos + center.y;
+		}
+		return (T) this;
+	}
+
 	/**
 	 * Rotates this {@link AbstractPointListBasedGeometry} counter-clockwise
 	 * (CCW) by the given {@link Angle} around its centroid (see
@@ -247,16 +373,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *            the {@link Point} to rotate around
 	 * @return <code>this</code> for convenience
 	 */
-	@SuppressWarnings("unchecked")
 	public T rotateCCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
-		}
-		translate(center);
-		return (T) this;
+		return rotate(alpha.getOppositeFull(), center);
 	}
 
 	/**
@@ -311,16 +429,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *            the {@link Point} to rotate around
 	 * @return <code>this</code> for convenience
 	 */
-	@SuppressWarnings("unchecked")
 	public T rotateCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
-		}
-		translate(center);
-		return (T) this;
+		return rotate(alpha, center);
 	}
 
 	@Override
@@ -346,10 +456,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@Override
 	@SuppressWarnings("unchecked")
 	public T scale(double fx, double fy, Point center) {
-		for (Point p : points) {
-			Point np = p.getScaled(fx, fy, center);
-			p.x = np.x;
-			p.y = np.y;
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = (coordinates[i] - center.x) * fx + center.x;
+			coordinates[i + 1] = (coordinates[i + 1] - center.y) * fy
+					+ center.y;
 		}
 		return (T) this;
 	}
@@ -359,10 +469,40 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return scale(factor, factor, center);
 	}
 
+	/**
+	 * Returns the {@link Line} segments between each two successive
+	 * {@link Point}s of this {@link AbstractPointListBasedGeometry}, including
+	 * a segment from the last to the first {@link Point} if the given flag is
+	 * set.
+	 *
+	 * @param close
+	 *            whether to add a segment from the last to the first
+	 *            {@link Point}
+	 * @return an array of {@link Line} segments
+	 * @see PointListUtils#toSegmentsArray(Point[], boolean)
+	 */
+	Line[] toSegmentsArray(boolean close) {
+		int pointCount = getPointCount();
+		// cannot construct lines for less than 2 points
+		if (pointCount < 2) {
+			return new Line[] {};
+		}
+		int segmentCount = close ? pointCount : pointCount - 1;
+		Line[] segments = new Line[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int j = i + 1 < pointCount ? i + 1 : 0;
+			segments[i] = new Line(getX(i), getY(i), getX(j), getY(j));
+		}
+		return segments;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public T translate(double dx, double dy) {
-		Point.translate(points, dx, dy);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] += dx;
+			coordinates[i + 1] += dy;
+		}
 		return (T) this;
 	}
 
@@ -371,4 +511,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return translate(p.x, p.y);
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("points", getPoints());
+		out.writeFields();
+	}
+
 }
@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * A {@link ControlBoundsHierarchy} is a bounding volume hierarchy over the
+ * control bounds of a sequence of {@link BezierCurve}s (e.g. the segments of a
+ * {@link PolyBezier}, {@link Polyline}, or shape outline). It is used to
+ * determine those pairs of segments of two multi-segment curves whose control
+ * bounds touch, so that the (expensive) intersection and overlap computations
+ * of {@link BezierCurve} only need to be performed for these pairs.
+ * <p>
+ * As a {@link BezierCurve} is contained within the convex hull of its control
+ * points, the segments of all other pairs cannot intersect. The control bounds
+ * are enlarged by the imprecision of {@link PrecisionUtils}, so that no
+ * intersections are missed that would be detected when comparing all pairs.
+ * <p>
+ * The hierarchy is a binary tree that is built by recursively splitting the
+ * segments at the median of their centers along the longer axis of their
+ * bounds. Its nodes are stored in flat arrays.
+ */
+class ControlBoundsHierarchy {
+
+	/**
+	 * The maximum number of segments per leaf node.
+	 */
+	private static final int LEAF_SIZE = 4;
+
+	private static final double MARGIN = PrecisionUtils.calculateFraction(0);
+
+	private static boolean touches(double minX1, double minY1, double maxX1,
+			double maxY1, double minX2, double minY2, double maxX2,
+			double maxY2) {
+		return minX1 <= maxX2 && minX2 <= maxX1 && minY1 <= maxY2
+				&& minY2 <= maxY1;
+	}
+
+	// bounds of the segments
+	private final double[] minX, minY, maxX, maxY;
+
+	// segment indices, ordered so that each node covers a contiguous range
+	private final int[] order;
+
+	// nodes: bounds, range within order, and index of the second child (the
+	// first child directly follows its parent), or -1 for leaf nodes
+	private double[] nodeMinX, nodeMinY, nodeMaxX, nodeMaxY;
+	private int[] nodeStart, nodeEnd, nodeSecondChild;
+	private int nodeCount;
+
+	/**
+	 * Constructs a new {@link ControlBoundsHierarchy} for the given
+	 * {@link BezierCurve}s.
+	 *
+	 * @param segments
+	 *            The {@link BezierCurve}s for which to construct the
+	 *            hierarchy.
+	 */
+	public ControlBoundsHierarchy(BezierCurve[] segments) {
+		int n = segments.length;
+		minX = new double[n];
+		minY = new double[n];
+		maxX = new double[n];
+		maxY = new double[n];
+		order = new int[n];
+		for (int i = 0; i < n; i++) {
+			Point[] points = segments[i].getPoints();
+			double x0 = points[0].x, y0 = points[0].y, x1 = x0, y1 = y0;
+			for (int j = 1; j < points.length; j++) {
+				x0 = Math.min(x0, points[j].x);
+				y0 = Math.min(y0, points[j].y);
+				x1 = Math.max(x1, points[j].x);
+				y1 = Math.max(y1, points[j].y);
+			}
+			minX[i] = x0 - MARGIN;
+			minY[i] = y0 - MARGIN;
+			maxX[i] = x1 + MARGIN;
+			maxY[i] = y1 + MARGIN;
+			order[i] = i;
+		}
+		int capacity = Math.max(1, 2 * ((n + LEAF_SIZE - 1) / LEAF_SIZE));
+		nodeMinX = new double[capacity];
+		nodeMinY = new double[capacity];
+		nodeMaxX = new double[capacity];
+		nodeMaxY = new double[capacity];
+		nodeStart = new int[capacity];
+		nodeEnd = new int[capacity];
+		nodeSecondChild = new int[capacity];
+		if (n > 0) {
+			build(0, n, new double[n]);
+		}
+	}
+
+	private int addNode(int start, int end) {
+		if (nodeCount == nodeStart.length) {
+			int capacity = 2 * nodeCount;
+			nodeMinX = Arrays.copyOf(nodeMinX, capacity);
+			nodeMinY = Arrays.copyOf(nodeMinY, capacity);
+			nodeMaxX = Arrays.copyOf(nodeMaxX, capacity);
+			nodeMaxY = Arrays.copyOf(nodeMaxY, capacity);
+			nodeStart = Arrays.copyOf(nodeStart, capacity);
+			nodeEnd = Arrays.copyOf(nodeEnd, capacity);
+			nodeSecondChild = Arrays.copyOf(nodeSecondChild, capacity);
+		}
+		int node = nodeCount++;
+		double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+		double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+		for (int k = start; k < end; k++) {
+			int i = order[k];
+			x0 = Math.min(x0, minX[i]);
+			y0 = Math.min(y0, minY[i]);
+			x1 = Math.max(x1, maxX[i]);
+			y1 = Math.max(y1, maxY[i]);
+		}
+		nodeMinX[node] = x0;
+		nodeMinY[node] = y0;
+		nodeMaxX[node] = x1;
+		nodeMaxY[node] = y1;
+		nodeStart[node] = start;
+		nodeEnd[node] = end;
+		nodeSecondChild[node] = -1;
+		return node;
+	}
+
+	private void build(int start, int end, double[] keys) {
+		int node = addNode(start, end);
+		if (end - start <= LEAF_SIZE) {
+			return;
+		}
+		// split at the median of the segment centers along the longer axis
+		boolean horizontal = nodeMaxX[node] - nodeMinX[node] >= nodeMaxY[node]
+				- nodeMinY[node];
+		for (int k = start; k < end; k++) {
+			int i = order[k];
+			keys[k] = horizontal ? minX[i] + maxX[i] : minY[i] + maxY[i];
+		}
+		int mid = (start + end) >>> 1;
+		select(start, end - 1, mid, keys);
+		build(start, mid, keys);
+		nodeSecondChild[node] = nodeCount;
+		build(mid, end, keys);
+	}
+
+	/**
+	 * Determines the pairs of segments of this and the given other
+	 * {@link ControlBoundsHierarchy} whose (enlarged) control bounds touch.
+	 *
+	 * @param other
+	 *            The other {@link ControlBoundsHierarchy}.
+	 * @return An array containing the indices of the segments of each pair
+	 *         (index within this hierarchy followed by index within the other
+	 *         hierarchy), ordered by the indices within this hierarchy.
+	 */
+	public int[] getTouchingPairs(ControlBoundsHierarchy other) {
+		int[] pairs = new int[16];
+		int size = 0;
+		if (nodeCount > 0 && other.nodeCount > 0) {
+			int[] stack = new int[64];
+			int top = 0;
+			stack[top++] = 0;
+			stack[top++] = 0;
+			while (top > 0) {
+				int m = stack[--top];
+				int n = stack[--top];
+				if (!touches(nodeMinX[n], nodeMinY[n], nodeMaxX[n],
+						nodeMaxY[n], other.nodeMinX[m], other.nodeMinY[m],
+						other.nodeMaxX[m], other.nodeMaxY[m])) {
+					continue;
+				}
+				boolean leafN = nodeSecondChild[n] < 0;
+				boolean leafM = other.nodeSecondChild[m] < 0;
+				if (leafN && leafM) {
+					for (int k = nodeStart[n]; k < nodeEnd[n]; k++) {
+						int i = order[k];
+						for (int l = other.nodeStart[m]; l < other.nodeEnd[m];
+								l++) {
+							int j = other.order[l];
+							if (touches(minX[i], minY[i], maxX[i], maxY[i],
+									other.minX[j], other.minY[j],
+									other.maxX[j], other.maxY[j])) {
+								if (size + 2 > pairs.length) {
+									pairs = Arrays.copyOf(pairs,
+											2 * pairs.length);
+								}
+								pairs[size++] = i;
+								pairs[size++] = j;
+							}
+						}
+					}
+					continue;
+				}
+				if (top + 4 > stack.length) {
+					stack = Arrays.copyOf(stack, 2 * stack.length);
+				}
+				// descend into the inner node (or the larger one)
+				int sizeN = nodeEnd[n] - nodeStart[n];
+				int sizeM = other.nodeEnd[m] - other.nodeStart[m];
+				if (leafM || !leafN && sizeN >= sizeM) {
+					stack[top++] = n + 1;
+					stack[top++] = m;
+					stack[top++] = nodeSecondChild[n];
+					stack[top++] = m;
+				} else {
+					stack[top++] = n;
+					stack[top++] = m + 1;
+					stack[top++] = n;
+					stack[top++] = other.nodeSecondChild[m];
+				}
+			}
+		}
+		return sortPairs(Arrays.copyOf(pairs, size));
+	}
+
+	/**
+	 * Partially sorts the given range of the segment order (and the
+	 * corresponding keys), so that the element at index k is the one that
+	 * would be there if the range was sorted by key.
+	 */
+	private void select(int lo, int hi, int k, double[] keys) {
+		while (hi > lo) {
+			double pivot = keys[(lo + hi) >>> 1];
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (keys[i] < pivot) {
+					i++;
+				}
+				while (keys[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(i++, j--, keys);
+				}
+			}
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private int[] sortPairs(int[] pairs) {
+		// pairs are encoded as longs to sort them by their first index
+		long[] encoded = new long[pairs.length / 2];
+		for (int p = 0; p < encoded.length; p++) {
+			encoded[p] = (long) pairs[2 * p] << 32 | pairs[2 * p + 1];
+		}
+		Arrays.sort(encoded);
+		for (int p = 0; p < encoded.length; p++) {
+			pairs[2 * p] = (int) (encoded[p] >>> 32);
+			pairs[2 * p + 1] = (int) encoded[p];
+		}
+		return pairs;
+	}
+
+	private void swap(int i, int j, double[] keys) {
+		int o = order[i];
+		order[i] = order[j];
+		order[j] = o;
+		double key = keys[i];
+		keys[i] = keys[j];
+		keys[j] = key;
+	}
+}
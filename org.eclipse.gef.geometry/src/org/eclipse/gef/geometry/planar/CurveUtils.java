@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -50,11 +52,27 @@ class CurveUtils {
 	 * @return An array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve1, ICurve curve2) {
+		return getIntersections(curve1.toBezier(), curve2.toBezier());
+	}
+
+	/**
+	 * Computes the intersections of the given {@link BezierCurve}s, only
+	 * considering those pairs whose control bounds touch.
+	 *
+	 * @param beziers1
+	 *            the first sequence of {@link BezierCurve}s
+	 * @param beziers2
+	 *            the second sequence of {@link BezierCurve}s
+	 * @return an array of intersection {@link Point}s
+	 */
+	private static Point[] getIntersections(BezierCurve[] beziers1,
+			BezierCurve[] beziers2) {
 		Set<Point> intersections = new HashSet<>();
 
-		for (BezierCurve bezier : curve1.toBezier()) {
-			intersections
-					.addAll(Arrays.asList(bezier.getIntersections(curve2)));
+		int[] pairs = getTouchingPairs(beziers1, beziers2);
+		for (int p = 0; p < pairs.length; p += 2) {
+			intersections.addAll(Arrays.asList(beziers1[pairs[p]]
+					.getIntersections(beziers2[pairs[p + 1]])));
 		}
 
 		return intersections.toArray(new Point[] {});
@@ -115,14 +133,7 @@ class CurveUtils {
 	 * @return an array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve, IShape shape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (ICurve curve2 : shape.getOutlineSegments()) {
-			intersections
-					.addAll(Arrays.asList(getIntersections(curve, curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(curve.toBezier(), toBezier(shape));
 	}
 
 	/**
@@ -175,18 +186,50 @@ class CurveUtils {
 	public static ICurve[] getOverlaps(ICurve curve1, ICurve curve2) {
 		Set<ICurve> overlaps = new HashSet<>();
 
-		for (BezierCurve bezier1 : curve1.toBezier()) {
-			for (BezierCurve bezier2 : curve2.toBezier()) {
-				BezierCurve overlap = bezier1.getOverlap(bezier2);
-				if (overlap != null) {
-					overlaps.add(overlap);
-				}
+		BezierCurve[] beziers1 = curve1.toBezier();
+		BezierCurve[] beziers2 = curve2.toBezier();
+		int[] pairs = getTouchingPairs(beziers1, beziers2);
+		for (int p = 0; p < pairs.length; p += 2) {
+			BezierCurve overlap = beziers1[pairs[p]]
+					.getOverlap(beziers2[pairs[p + 1]]);
+			if (overlap != null) {
+				overlaps.add(overlap);
 			}
 		}
 
 		return overlaps.toArray(new ICurve[] {});
 	}
 
+	/**
+	 * Determines the pairs of the given {@link BezierCurve}s whose control
+	 * bounds touch, using a {@link ControlBoundsHierarchy} in case both
+	 * sequences consist of multiple {@link BezierCurve}s.
+	 *
+	 * @param beziers1
+	 *            the first sequence of {@link BezierCurve}s
+	 * @param beziers2
+	 *            the second sequence of {@link BezierCurve}s
+	 * @return an array containing the indices of each pair (index within the
+	 *         first sequence followed by index within the second sequence)
+	 */
+	private static int[] getTouchingPairs(BezierCurve[] beziers1,
+			BezierCurve[] beziers2) {
+		if (beziers1.length == 1 || beziers2.length == 1) {
+			// no need to build a hierarchy
+			int[] pairs = new int[2 * beziers1.length * beziers2.length];
+			int p = 0;
+			for (int i = 0; i < beziers1.length; i++) {
+				for (int j = 0; j < beziers2.length; j++) {
+					pairs[p++] = i;
+					pairs[p++] = j;
+				}
+			}
+			return pairs;
+		}
+		return new ControlBoundsHierarchy(beziers1)
+				.getTouchingPairs(new ControlBoundsHierarchy(beziers2));
+	}
+
 	/**
 	 * Checks if the given {@link ICurve}s intersect in a finite number of
 	 * {@link Point}s.
@@ -201,7 +244,17 @@ class CurveUtils {
 	 *         intersection {@link Point}s, otherwise <code>false</code>
 	 */
 	public static boolean intersect(ICurve c1, ICurve c2) {
-		return getIntersections(c1, c2).length > 0;
+		BezierCurve[] beziers1 = c1.toBezier();
+		BezierCurve[] beziers2 = c2.toBezier();
+		int[] pairs = getTouchingPairs(beziers1, beziers2);
+		for (int p = 0; p < pairs.length; p += 2) {
+			if (beziers1[pairs[p]]
+					.getIntersections(beziers2[pairs[p + 1]]).length > 0) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	/**
@@ -216,17 +269,34 @@ class CurveUtils {
 	 *         <code>false</code>
 	 */
 	public static boolean overlap(ICurve c1, ICurve c2) {
-		for (BezierCurve seg1 : c1.toBezier()) {
-			for (BezierCurve seg2 : c2.toBezier()) {
-				if (seg1.overlaps(seg2)) {
-					return true;
-				}
+		BezierCurve[] beziers1 = c1.toBezier();
+		BezierCurve[] beziers2 = c2.toBezier();
+		int[] pairs = getTouchingPairs(beziers1, beziers2);
+		for (int p = 0; p < pairs.length; p += 2) {
+			if (beziers1[pairs[p]].overlaps(beziers2[pairs[p + 1]])) {
+				return true;
 			}
 		}
 
 		return false;
 	}
 
+	/**
+	 * Returns the {@link BezierCurve}s that constitute the outline of the given
+	 * {@link IShape}.
+	 *
+	 * @param shape
+	 *            the {@link IShape} of which the outline is converted
+	 * @return the {@link BezierCurve}s of the outline segments
+	 */
+	private static BezierCurve[] toBezier(IShape shape) {
+		List<BezierCurve> beziers = new ArrayList<>();
+		for (ICurve segment : shape.getOutlineSegments()) {
+			beziers.addAll(Arrays.asList(segment.toBezier()));
+		}
+		return beziers.toArray(new BezierCurve[] {});
+	}
+
 	/**
 	 * Builds up a {@link Path} from the given {@link ICurve}s. Only
 	 * {@link Line}, {@link QuadraticCurve} and {@link CubicCurve} objects can
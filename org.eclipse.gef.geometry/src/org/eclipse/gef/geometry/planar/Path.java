@@ -31,6 +31,12 @@ import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
  * intersects, equals, etc.) are based on a limited precision (with an accuracy
  * defined within {@link PrecisionUtils}) to compensate for rounding effects.
  *
+ * The boolean operations ({@link #add(Path, Path)},
+ * {@link #exclusiveOr(Path, Path)}, {@link #intersect(Path, Path)}, and
+ * {@link #subtract(Path, Path)}) are computed by a sweep-line algorithm if
+ * both operands consist of straight segments only, and by means of
+ * {@link Area} otherwise.
+ *
  * @author anyssen
  *
  */
@@ -254,6 +260,10 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
+		Path result = PolygonClipper.compute(pa, pb, PolygonClipper.UNION);
+		if (result != null) {
+			return result;
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.add(b);
@@ -271,6 +281,10 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
+		Path result = PolygonClipper.compute(pa, pb, PolygonClipper.XOR);
+		if (result != null) {
+			return result;
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.exclusiveOr(b);
@@ -288,6 +302,11 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
+		Path result = PolygonClipper.compute(pa, pb,
+				PolygonClipper.INTERSECTION);
+		if (result != null) {
+			return result;
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.intersect(b);
@@ -304,6 +323,11 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
+		Path result = PolygonClipper.compute(pa, pb,
+				PolygonClipper.DIFFERENCE);
+		if (result != null) {
+			return result;
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.subtract(b);
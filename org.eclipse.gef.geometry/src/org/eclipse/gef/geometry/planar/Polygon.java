@@ -19,7 +19,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
@@ -142,12 +141,12 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 			throw new IllegalArgumentException(
 					"The given ear-list may not be null.");
 		}
-		if (p.points.length < 3) {
+		if (p.getPointCount() < 3) {
 			throw new IllegalArgumentException(
 					"The given Polygon may not have less than three vertices.");
 		}
 
-		if (p.points.length == 3) {
+		if (p.getPointCount() == 3) {
 			ears.add(p.getCopy());
 			return;
 		}
@@ -201,7 +200,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * self-intersection is found an {@link IllegalStateException} is thrown.
 	 */
 	private void assureSimplicity() {
-		if (points.length < 3) {
+		if (getPointCount() < 3) {
 			throw new IllegalStateException(
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
@@ -306,12 +305,13 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public boolean contains(Point p) {
-		if (points.length == 0) {
+		int pointCount = getPointCount();
+		if (pointCount == 0) {
 			return false;
-		} else if (points.length == 1) {
-			return points[0].equals(p);
-		} else if (points.length == 2) {
-			return new Line(points[0], points[1]).contains(p);
+		} else if (pointCount == 1) {
+			return p.equals(getX(0), getY(0));
+		} else if (pointCount == 2) {
+			return new Line(getX(0), getY(0), getX(1), getY(1)).contains(p);
 		} else {
 			// perform a quick rejection test via the bounds
 			Rectangle bounds = getBounds();
@@ -335,9 +335,14 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 			 * the point is located on one of the sides
 			 */
 			boolean odd = false;
-			for (int i = 0; i < points.length; i++) {
-				Point p1 = points[i];
-				Point p2 = points[i + 1 < points.length ? i + 1 : 0];
+			// the vertices are re-used, so that no points are created per
+			// side
+			Point p1 = new Point();
+			Point p2 = new Point();
+			for (int i = 0; i < pointCount; i++) {
+				int j = i + 1 < pointCount ? i + 1 : 0;
+				p1.setLocation(getX(i), getY(i));
+				p2.setLocation(getX(j), getY(j));
 
 				// check whether the point is located on the current side
 				if (p1.equals(p2)) {
@@ -484,7 +489,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 *         the array of points are regarded to form the same segments.
 	 */
 	public boolean equals(Point[] points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
 
@@ -528,12 +533,12 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Polygon getCopy() {
-		return new Polygon(getPoints());
+		return new Polygon(coordinates);
 	}
 
 	@Override
 	public Polyline getOutline() {
-		return new Polyline(PointListUtils.toSegmentsArray(points, true));
+		return new Polyline(toSegmentsArray(true));
 	}
 
 	/**
@@ -546,7 +551,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Line[] getOutlineSegments() {
-		return PointListUtils.toSegmentsArray(points, true);
+		return toSegmentsArray(true);
 	}
 
 	/**
@@ -557,19 +562,18 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * @return the signed area of this {@link Polygon}
 	 */
 	public double getSignedArea() {
-		if (points.length < 3) {
+		int n = getPointCount();
+		if (n < 3) {
 			return 0;
 		}
 
 		double area = 0;
-		for (int i = 0; i < points.length - 1; i++) {
-			area += points[i].x * points[i + 1].y
-					- points[i].y * points[i + 1].x;
+		for (int i = 0; i < n - 1; i++) {
+			area += getX(i) * getY(i + 1) - getY(i) * getX(i + 1);
 		}
 
 		// closing segment
-		area += points[points.length - 1].x * points[0].y
-				- points[points.length - 1].y * points[0].x;
+		area += getX(n - 1) * getY(0) - getY(n - 1) * getX(0);
 
 		return area * 0.5;
 	}
@@ -580,7 +584,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Polygon getTransformed(AffineTransform t) {
 		// shape type should remain polygon (not path)
-		return new Polygon(t.getTransformed(points));
+		return new Polygon(getTransformedCoordinates(t));
 	}
 
 	/**
@@ -591,7 +595,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	public Polygon[] getTriangulation() {
 		assureSimplicity();
-		ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
+		ArrayList<Polygon> ears = new ArrayList<>(getPointCount() - 2);
 		triangulate(this, ears);
 		return ears.toArray(new Polygon[] {});
 	}
@@ -602,10 +606,10 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Path toPath() {
 		Path path = new Path();
-		if (points.length > 0) {
-			path.moveTo(points[0].x, points[0].y);
-			for (int i = 1; i < points.length; i++) {
-				path.lineTo(points[i].x, points[i].y);
+		if (getPointCount() > 0) {
+			path.moveTo(getX(0), getY(0));
+			for (int i = 1; i < getPointCount(); i++) {
+				path.lineTo(getX(i), getY(i));
 			}
 			path.close();
 		}
@@ -615,13 +619,12 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polygon: ");
-		if (points.length > 0) {
-			for (int i = 0; i < points.length; i++) {
-				stringBuffer
-						.append("(" + points[i].x + ", " + points[i].y + ")");
+		if (getPointCount() > 0) {
+			for (int i = 0; i < getPointCount(); i++) {
+				stringBuffer.append("(" + getX(i) + ", " + getY(i) + ")");
 				stringBuffer.append(" -> ");
 			}
-			stringBuffer.append("(" + points[0].x + ", " + points[0].y + ")");
+			stringBuffer.append("(" + getX(0) + ", " + getY(0) + ")");
 		} else {
 			stringBuffer.append("<no points>");
 		}
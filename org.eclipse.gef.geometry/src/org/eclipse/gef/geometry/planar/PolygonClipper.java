@@ -0,0 +1,768 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * The {@link PolygonClipper} computes the boolean operations of {@link Path}s
+ * that consist of straight segments only, without converting them to
+ * {@link java.awt.geom.Area}s.
+ * <p>
+ * It implements the sweep-line algorithm of Martinez-Rueda et al., which
+ * processes the end points of all segments from left to right, maintaining the
+ * segments that intersect the sweep line ordered from bottom to top. Segments
+ * are subdivided at intersection points as soon as they become adjacent, so
+ * that the overall complexity is O((n+k) log n), where n is the number of
+ * segments and k the number of intersections. Instead of in-out flags, the
+ * winding numbers of both operands are tracked for the regions below and above
+ * each segment, so that the winding rules of the operands (as well as
+ * self-intersecting and self-overlapping contours) are respected. Overlapping
+ * segments are merged into a single segment that carries the winding number
+ * contributions of all of them. A segment is part of the result if the result
+ * of the operation differs for the regions below and above it.
+ * <p>
+ * The resulting {@link Path} uses the {@link Path#WIND_NON_ZERO} winding rule.
+ * Its contours are consistently oriented (the covered area is always on the
+ * same side of a segment), so that holes are oriented opposite to the
+ * contours that enclose them.
+ */
+class PolygonClipper {
+
+	private static class Edge {
+		final double startX, startY, endX, endY;
+		boolean used;
+
+		public Edge(double startX, double startY, double endX, double endY) {
+			this.startX = startX;
+			this.startY = startY;
+			this.endX = endX;
+			this.endY = endY;
+		}
+	}
+
+	private static class SweepEvent {
+		final int id;
+		double x, y;
+		boolean left;
+		SweepEvent other;
+		// contributions of the segment to the winding numbers of both
+		// operands, i.e. +1 (-1) per input segment that is oriented from its
+		// left to its right (right to left) end point
+		int deltaA, deltaB;
+		// winding numbers of both operands below and above the segment
+		int belowA, belowB, aboveA, aboveB;
+		boolean insideAbove;
+		boolean inResult;
+		boolean inStatus;
+		boolean merged;
+
+		public SweepEvent(int id, double x, double y, boolean left) {
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.left = left;
+		}
+
+		/**
+		 * Returns <code>true</code> if the segment of this event lies below
+		 * the given point.
+		 */
+		boolean isBelow(double px, double py) {
+			return left ? signedArea(x, y, other.x, other.y, px, py) > 0
+					: signedArea(other.x, other.y, x, y, px, py) > 0;
+		}
+
+		boolean isVertical() {
+			return x == other.x;
+		}
+	}
+
+	private static class Vertex {
+		final double x, y;
+
+		public Vertex(double x, double y) {
+			// adding 0 normalizes -0 to 0
+			this.x = x + 0d;
+			this.y = y + 0d;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Vertex)) {
+				return false;
+			}
+			Vertex v = (Vertex) obj;
+			return x == v.x && y == v.y;
+		}
+
+		@Override
+		public int hashCode() {
+			long bits = Double.doubleToLongBits(x) * 31
+					+ Double.doubleToLongBits(y);
+			return (int) (bits ^ (bits >>> 32));
+		}
+	}
+
+	/**
+	 * Operation constant for computing the union of two {@link Path}s.
+	 */
+	static final int UNION = 0;
+
+	/**
+	 * Operation constant for computing the intersection of two {@link Path}s.
+	 */
+	static final int INTERSECTION = 1;
+
+	/**
+	 * Operation constant for computing the difference of two {@link Path}s.
+	 */
+	static final int DIFFERENCE = 2;
+
+	/**
+	 * Operation constant for computing the exclusive-or of two {@link Path}s.
+	 */
+	static final int XOR = 3;
+
+	/**
+	 * The relative tolerance used to detect end points that lie on other
+	 * segments.
+	 */
+	private static final double TOLERANCE = 1e-10;
+
+	// results of possibleIntersection()
+	private static final int NO_INTERSECTION = 0;
+	private static final int INTERSECTION_SPLIT = 1;
+	private static final int OVERLAP_MERGED = 2;
+
+	private static final Comparator<SweepEvent> EVENT_COMPARATOR = new Comparator<SweepEvent>() {
+		@Override
+		public int compare(SweepEvent e1, SweepEvent e2) {
+			return compareEvents(e1, e2);
+		}
+	};
+
+	private static final Comparator<SweepEvent> SEGMENT_COMPARATOR = new Comparator<SweepEvent>() {
+		@Override
+		public int compare(SweepEvent le1, SweepEvent le2) {
+			return compareSegments(le1, le2);
+		}
+	};
+
+	private static double clamp(double value, double min, double max) {
+		return value < min ? min : value > max ? max : value;
+	}
+
+	/**
+	 * Orders events from left to right (and bottom to top for events with
+	 * equal x coordinate). For events at the same point, right end points are
+	 * processed before left end points, and events of lower segments before
+	 * events of upper segments.
+	 */
+	private static int compareEvents(SweepEvent e1, SweepEvent e2) {
+		if (e1.x != e2.x) {
+			return e1.x < e2.x ? -1 : 1;
+		}
+		if (e1.y != e2.y) {
+			return e1.y < e2.y ? -1 : 1;
+		}
+		if (e1.left != e2.left) {
+			return e1.left ? 1 : -1;
+		}
+		if (signedArea(e1.x, e1.y, e1.other.x, e1.other.y, e2.other.x,
+				e2.other.y) != 0) {
+			return e1.isBelow(e2.other.x, e2.other.y) ? -1 : 1;
+		}
+		return Integer.compare(e1.id, e2.id);
+	}
+
+	/**
+	 * Orders the segments (given by their left events) within the sweep line
+	 * status from bottom to top.
+	 */
+	private static int compareSegments(SweepEvent le1, SweepEvent le2) {
+		if (le1 == le2) {
+			return 0;
+		}
+		if (signedArea(le1.x, le1.y, le1.other.x, le1.other.y, le2.x,
+				le2.y) != 0
+				|| signedArea(le1.x, le1.y, le1.other.x, le1.other.y,
+						le2.other.x, le2.other.y) != 0) {
+			// segments are not collinear
+			if (le1.x == le2.x && le1.y == le2.y) {
+				return le1.isBelow(le2.other.x, le2.other.y) ? -1 : 1;
+			}
+			if (le1.x == le2.x) {
+				return le1.y < le2.y ? -1 : 1;
+			}
+			if (compareEvents(le1, le2) > 0) {
+				// le2 has been inserted before le1
+				return le2.isBelow(le1.x, le1.y) ? 1 : -1;
+			}
+			return le1.isBelow(le2.x, le2.y) ? -1 : 1;
+		}
+		// segments are collinear
+		if (le1.x == le2.x && le1.y == le2.y) {
+			return Integer.compare(le1.id, le2.id);
+		}
+		return compareEvents(le1, le2) > 0 ? 1 : -1;
+	}
+
+	/**
+	 * Computes the result of the given boolean operation for the given
+	 * {@link Path}s. Returns <code>null</code> if any of the {@link Path}s
+	 * contains curved segments, or if the result could not be determined
+	 * reliably due to rounding errors.
+	 *
+	 * @param pa
+	 *            The first operand.
+	 * @param pb
+	 *            The second operand.
+	 * @param operation
+	 *            One of {@link #UNION}, {@link #INTERSECTION},
+	 *            {@link #DIFFERENCE}, or {@link #XOR}.
+	 * @return A new {@link Path} representing the result of the operation, or
+	 *         <code>null</code>.
+	 */
+	static Path compute(Path pa, Path pb, int operation) {
+		if (!isPolygonal(pa) || !isPolygonal(pb)) {
+			return null;
+		}
+		return new PolygonClipper(pa, pb, operation).compute();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Path} consists of
+	 * {@link Segment#MOVE_TO}, {@link Segment#LINE_TO}, and
+	 * {@link Segment#CLOSE} segments only (starting with a
+	 * {@link Segment#MOVE_TO}).
+	 */
+	private static boolean isPolygonal(Path path) {
+		Segment[] segments = path.getSegments();
+		if (segments.length > 0 && segments[0].getType() != Segment.MOVE_TO) {
+			return false;
+		}
+		for (Segment s : segments) {
+			int type = s.getType();
+			if (type != Segment.MOVE_TO && type != Segment.LINE_TO
+					&& type != Segment.CLOSE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double signedArea(double x0, double y0, double x1,
+			double y1, double x2, double y2) {
+		return (x0 - x2) * (y1 - y2) - (x1 - x2) * (y0 - y2);
+	}
+
+	private final int operation;
+	private final int[] windingRules = new int[2];
+	private final double[] maxX = new double[] { Double.NEGATIVE_INFINITY,
+			Double.NEGATIVE_INFINITY };
+	private final PriorityQueue<SweepEvent> queue = new PriorityQueue<>(16,
+			EVENT_COMPARATOR);
+	private final TreeSet<SweepEvent> status = new TreeSet<>(
+			SEGMENT_COMPARATOR);
+	private final List<SweepEvent> processed = new ArrayList<>();
+	private int nextId;
+
+	private PolygonClipper(Path pa, Path pb, int operation) {
+		this.operation = operation;
+		addSegments(pa, 0);
+		addSegments(pb, 1);
+	}
+
+	private void addContour(Path path, List<Edge> contour) {
+		int n = contour.size();
+		// start at a vertex that is not skipped, so that the subsequent
+		// vertices can be checked against the last added one (checking them
+		// against the start of their incoming edges would skip vertices that
+		// follow a chain of (almost) collinear short edges)
+		int first = 0;
+		while (first < n && isContinuation(
+				contour.get((first + n - 1) % n).startX,
+				contour.get((first + n - 1) % n).startY, contour.get(first))) {
+			first++;
+		}
+		if (first == n) {
+			return;
+		}
+		Edge start = contour.get(first);
+		double lastX = start.startX, lastY = start.startY;
+		path.moveTo(lastX, lastY);
+		for (int i = 1; i < n; i++) {
+			Edge out = contour.get((first + i) % n);
+			if (isContinuation(lastX, lastY, out)) {
+				// skip vertices between collinear edges
+				continue;
+			}
+			lastX = out.startX;
+			lastY = out.startY;
+			path.lineTo(lastX, lastY);
+		}
+		path.close();
+	}
+
+	private void addEdge(double x0, double y0, double x1, double y1,
+			int operand) {
+		if (x0 == x1 && y0 == y1) {
+			// skip degenerated segments
+			return;
+		}
+		boolean leftToRight = x0 < x1 || x0 == x1 && y0 < y1;
+		SweepEvent e0 = new SweepEvent(nextId++, x0, y0, leftToRight);
+		SweepEvent e1 = new SweepEvent(nextId++, x1, y1, !leftToRight);
+		e0.other = e1;
+		e1.other = e0;
+		SweepEvent le = leftToRight ? e0 : e1;
+		if (operand == 0) {
+			le.deltaA = leftToRight ? 1 : -1;
+		} else {
+			le.deltaB = leftToRight ? 1 : -1;
+		}
+		queue.add(e0);
+		queue.add(e1);
+		maxX[operand] = Math.max(maxX[operand], Math.max(x0, x1));
+	}
+
+	private void addSegments(Path path, int operand) {
+		windingRules[operand] = path.getWindingRule();
+		double startX = 0, startY = 0, currentX = 0, currentY = 0;
+		for (Segment s : path.getSegments()) {
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				// implicitly close the previous sub-path
+				addEdge(currentX, currentY, startX, startY, operand);
+				Point p = s.getPoints()[0];
+				startX = currentX = p.x;
+				startY = currentY = p.y;
+				break;
+			case Segment.LINE_TO:
+				Point q = s.getPoints()[0];
+				addEdge(currentX, currentY, q.x, q.y, operand);
+				currentX = q.x;
+				currentY = q.y;
+				break;
+			default:
+				addEdge(currentX, currentY, startX, startY, operand);
+				currentX = startX;
+				currentY = startY;
+			}
+		}
+		addEdge(currentX, currentY, startX, startY, operand);
+	}
+
+	private Path compute() {
+		double limit = Double.POSITIVE_INFINITY;
+		if (operation == INTERSECTION) {
+			limit = Math.min(maxX[0], maxX[1]);
+		} else if (operation == DIFFERENCE) {
+			limit = maxX[0];
+		}
+		SweepEvent last = null;
+		while (!queue.isEmpty()) {
+			SweepEvent e = queue.poll();
+			if (e.x > limit) {
+				// no further segments can contribute to the result
+				break;
+			}
+			if (last != null
+					&& (e.x < last.x || e.x == last.x && e.y < last.y)) {
+				// an intersection point has been placed behind the sweep
+				// line due to rounding errors
+				return null;
+			}
+			last = e;
+			if (e.left) {
+				processLeftEvent(e);
+			} else {
+				SweepEvent le = e.other;
+				SweepEvent prev = status.lower(le);
+				SweepEvent next = status.higher(le);
+				if (removeFromStatus(le) && prev != null && next != null
+						&& possibleIntersection(prev,
+								next) == OVERLAP_MERGED) {
+					updateFields(prev);
+				}
+			}
+		}
+		return connectEdges();
+	}
+
+	/**
+	 * Computes the winding numbers below and above the segment of the given
+	 * left event, based on its predecessor within the sweep line status, and
+	 * determines whether the segment is part of the result.
+	 */
+	private void computeFields(SweepEvent le, SweepEvent prev) {
+		if (prev == null) {
+			le.belowA = le.belowB = 0;
+		} else if (prev.isVertical()) {
+			// the region below a vertical segment extends to the right of it
+			le.belowA = prev.belowA;
+			le.belowB = prev.belowB;
+		} else {
+			le.belowA = prev.aboveA;
+			le.belowB = prev.aboveB;
+		}
+		le.aboveA = le.belowA + le.deltaA;
+		le.aboveB = le.belowB + le.deltaB;
+		le.insideAbove = isInResult(le.aboveA, le.aboveB);
+		le.inResult = isInResult(le.belowA, le.belowB) != le.insideAbove;
+	}
+
+	private Path connectEdges() {
+		Map<Vertex, ArrayDeque<Edge>> outgoing = new HashMap<>();
+		List<Edge> edges = new ArrayList<>();
+		for (SweepEvent le : processed) {
+			if (!le.inResult || le.merged) {
+				continue;
+			}
+			// orient edges so that the covered area is above (i.e. to the
+			// left of) the edge
+			Edge edge = le.insideAbove
+					? new Edge(le.x, le.y, le.other.x, le.other.y)
+					: new Edge(le.other.x, le.other.y, le.x, le.y);
+			edges.add(edge);
+			Vertex start = new Vertex(edge.startX, edge.startY);
+			ArrayDeque<Edge> edgesAtStart = outgoing.get(start);
+			if (edgesAtStart == null) {
+				edgesAtStart = new ArrayDeque<>(2);
+				outgoing.put(start, edgesAtStart);
+			}
+			edgesAtStart.add(edge);
+		}
+
+		Path result = new Path(Path.WIND_NON_ZERO);
+		List<Edge> contour = new ArrayList<>();
+		for (Edge first : edges) {
+			if (first.used) {
+				continue;
+			}
+			contour.clear();
+			Edge edge = first;
+			edge.used = true;
+			contour.add(edge);
+			while (edge.endX != first.startX || edge.endY != first.startY) {
+				edge = pollUnused(
+						outgoing.get(new Vertex(edge.endX, edge.endY)));
+				if (edge == null) {
+					// the contour cannot be closed due to rounding errors
+					return null;
+				}
+				edge.used = true;
+				contour.add(edge);
+			}
+			addContour(result, contour);
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the segment of the given left event at the given point, which
+	 * has to lie in its interior.
+	 */
+	private void divideSegment(SweepEvent le, double x, double y) {
+		SweepEvent r = new SweepEvent(nextId++, x, y, false);
+		SweepEvent l = new SweepEvent(nextId++, x, y, true);
+		r.other = le;
+		l.other = le.other;
+		l.deltaA = le.deltaA;
+		l.deltaB = le.deltaB;
+		if (compareEvents(l, le.other) > 0) {
+			// due to rounding, the split point lies to the right of the
+			// segment's right end point, so the orientation of the second
+			// part is reversed
+			le.other.left = true;
+			le.other.deltaA = -le.deltaA;
+			le.other.deltaB = -le.deltaB;
+			l.left = false;
+		}
+		le.other.other = l;
+		le.other = r;
+		queue.add(l);
+		queue.add(r);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Edge} continues the line
+	 * from the given point to its start point in the same direction.
+	 */
+	private boolean isContinuation(double x, double y, Edge out) {
+		return signedArea(x, y, out.startX, out.startY, out.endX,
+				out.endY) == 0
+				&& (out.endX - out.startX) * (out.startX - x)
+						+ (out.endY - out.startY) * (out.startY - y) > 0;
+	}
+
+	private boolean isEndPoint(SweepEvent le, double x, double y) {
+		return le.x == x && le.y == y || le.other.x == x && le.other.y == y;
+	}
+
+	private boolean isInResult(int windingA, int windingB) {
+		boolean insideA = isInside(windingA, 0);
+		boolean insideB = isInside(windingB, 1);
+		switch (operation) {
+		case UNION:
+			return insideA || insideB;
+		case INTERSECTION:
+			return insideA && insideB;
+		case DIFFERENCE:
+			return insideA && !insideB;
+		default:
+			return insideA != insideB;
+		}
+	}
+
+	private boolean isInside(int winding, int operand) {
+		return windingRules[operand] == Path.WIND_EVEN_ODD
+				? (winding & 1) != 0 : winding != 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if the point of the given event lies within
+	 * the interior of the segment of the given left event (with a small
+	 * tolerance relative to the magnitude of its coordinates).
+	 */
+	private boolean isOnSegment(SweepEvent e, SweepEvent le) {
+		if (isEndPoint(le, e.x, e.y)) {
+			return false;
+		}
+		if (e.x < le.x || e.x == le.x && e.y < le.y || e.x > le.other.x
+				|| e.x == le.other.x && e.y > le.other.y) {
+			// the segment cannot be split at a point outside its range
+			return false;
+		}
+		double vx = le.other.x - le.x, vy = le.other.y - le.y;
+		double wx = e.x - le.x, wy = e.y - le.y;
+		double cross = vx * wy - vy * wx;
+		double tolerance = TOLERANCE * (Math.abs(e.x) + Math.abs(e.y) + 1);
+		return cross * cross <= tolerance * tolerance * (vx * vx + vy * vy);
+	}
+
+	private boolean isRightEndPoint(SweepEvent le, SweepEvent e) {
+		return le.other.x == e.x && le.other.y == e.y;
+	}
+
+	/**
+	 * Merges the segment of the second given left event, which has to be
+	 * identical to and directly above the segment of the first given left
+	 * event within the sweep line status, into the latter.
+	 */
+	private void merge(SweepEvent le1, SweepEvent le2) {
+		le1.deltaA += le2.deltaA;
+		le1.deltaB += le2.deltaB;
+		removeFromStatus(le2);
+		le2.merged = true;
+	}
+
+	private Edge pollUnused(ArrayDeque<Edge> edges) {
+		if (edges != null) {
+			while (!edges.isEmpty()) {
+				Edge edge = edges.poll();
+				if (!edge.used) {
+					return edge;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Subdivides the segments of the given left events, which are adjacent
+	 * within the sweep line status (the first one below the second one), in
+	 * case they intersect or overlap. Identical segments are merged into the
+	 * lower one.
+	 */
+	private int possibleIntersection(SweepEvent le1, SweepEvent le2) {
+		// Determine the points where the segments touch, i.e. shared end
+		// points and end points that lie on the other segment. The latter are
+		// detected with a small tolerance, because end points that result
+		// from a previous subdivision may not lie exactly on the segment.
+		boolean leftCoincide = le1.x == le2.x && le1.y == le2.y;
+		boolean rightCoincide = le1.other.x == le2.other.x
+				&& le1.other.y == le2.other.y;
+		SweepEvent touching = null;
+		int touchingCount = 0;
+		if (leftCoincide || rightCoincide) {
+			touchingCount += leftCoincide && rightCoincide ? 2 : 1;
+		} else if (le1.x == le2.other.x && le1.y == le2.other.y
+				|| le1.other.x == le2.x && le1.other.y == le2.y) {
+			touchingCount++;
+		}
+		SweepEvent[] ends = new SweepEvent[] { le1, le1.other, le2,
+				le2.other };
+		for (int i = 0; i < ends.length; i++) {
+			if (isOnSegment(ends[i], i < 2 ? le2 : le1)) {
+				touching = ends[i];
+				touchingCount++;
+			}
+		}
+
+		if (touchingCount == 0) {
+			double ax = le1.x, ay = le1.y;
+			double vax = le1.other.x - ax, vay = le1.other.y - ay;
+			double vbx = le2.other.x - le2.x, vby = le2.other.y - le2.y;
+			double ex = le2.x - ax, ey = le2.y - ay;
+			double kross = vax * vby - vay * vbx;
+			if (kross == 0) {
+				return NO_INTERSECTION;
+			}
+			double s = (ex * vby - ey * vbx) / kross;
+			double t = (ex * vay - ey * vax) / kross;
+			if (s <= 0 || s >= 1 || t <= 0 || t >= 1) {
+				return NO_INTERSECTION;
+			}
+			// keep the intersection point within the bounds of both segments
+			// (so that it lies exactly on horizontal and vertical segments)
+			double ix = clamp(ax + s * vax, Math.max(le1.x, le2.x),
+					Math.min(le1.other.x, le2.other.x));
+			double iy = clamp(ay + s * vay,
+					Math.max(Math.min(le1.y, le1.other.y),
+							Math.min(le2.y, le2.other.y)),
+					Math.min(Math.max(le1.y, le1.other.y),
+							Math.max(le2.y, le2.other.y)));
+			boolean splitFirst = !isEndPoint(le1, ix, iy);
+			boolean splitSecond = !isEndPoint(le2, ix, iy);
+			if (splitFirst) {
+				divideSegment(le1, ix, iy);
+			}
+			if (splitSecond) {
+				divideSegment(le2, ix, iy);
+			}
+			return splitFirst || splitSecond ? INTERSECTION_SPLIT
+					: NO_INTERSECTION;
+		}
+		if (touchingCount == 1) {
+			if (touching == null) {
+				// the segments only share an end point
+				return NO_INTERSECTION;
+			}
+			// an end point of one segment lies on the other one
+			divideSegment(touching == le1 || touching == le1.other ? le2 : le1,
+					touching.x, touching.y);
+			return INTERSECTION_SPLIT;
+		}
+
+		// the segments overlap
+		if (leftCoincide) {
+			if (!rightCoincide) {
+				// split the longer segment at the right end point of the
+				// shorter one
+				if (compareEvents(le1.other, le2.other) > 0) {
+					divideSegment(le1, le2.other.x, le2.other.y);
+				} else {
+					divideSegment(le2, le1.other.x, le1.other.y);
+				}
+			}
+			merge(le1, le2);
+			return OVERLAP_MERGED;
+		}
+		// split the segments at the end points of the overlapping part; the
+		// resulting identical segments are merged when being inserted into the
+		// sweep line status
+		SweepEvent first = compareEvents(le1, le2) > 0 ? le2 : le1;
+		SweepEvent second = first == le1 ? le2 : le1;
+		SweepEvent firstEnd = first.other;
+		SweepEvent secondEnd = second.other;
+		if (rightCoincide) {
+			divideSegment(first, second.x, second.y);
+		} else if (compareEvents(firstEnd, secondEnd) > 0) {
+			// the first segment includes the second one
+			divideSegment(first, second.x, second.y);
+			divideSegment(firstEnd.left ? firstEnd : firstEnd.other,
+					secondEnd.x, secondEnd.y);
+		} else {
+			// the segments overlap partially
+			divideSegment(first, second.x, second.y);
+			divideSegment(second, firstEnd.x, firstEnd.y);
+		}
+		return INTERSECTION_SPLIT;
+	}
+
+	private void processLeftEvent(SweepEvent e) {
+		status.add(e);
+		e.inStatus = true;
+		SweepEvent right = e.other;
+		SweepEvent next = status.higher(e);
+		while (next != null
+				&& possibleIntersection(e, next) == OVERLAP_MERGED) {
+			next = status.higher(e);
+		}
+		SweepEvent prev = status.lower(e);
+		if (prev != null && possibleIntersection(prev, e) == OVERLAP_MERGED) {
+			// the segment has been merged into the preceding one
+			updateFields(prev);
+			return;
+		}
+		if (e.other != right || next != null && isRightEndPoint(next, e)
+				|| prev != null && isRightEndPoint(prev, e)) {
+			// The segment itself has been split, or a neighbor passing
+			// through the event point has been split there, so the position
+			// of the segment within the sweep line status may not have been
+			// determined correctly (and an identical neighbor may not have
+			// been detected). Process the event again after the segments have
+			// been replaced by their parts.
+			removeFromStatus(e);
+			queue.add(e);
+			return;
+		}
+		processed.add(e);
+		updateFields(e);
+	}
+
+	private boolean removeFromStatus(SweepEvent le) {
+		if (!le.inStatus) {
+			return false;
+		}
+		le.inStatus = false;
+		if (!status.remove(le)) {
+			// the order may be slightly inconsistent due to rounding errors
+			for (Iterator<SweepEvent> it = status.iterator(); it.hasNext();) {
+				if (it.next() == le) {
+					it.remove();
+					break;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the fields of the segment of the given left event, as well as
+	 * of the segments above it that start at the same point. The fields of
+	 * the latter are based on the fields of the former, so they have to be
+	 * recomputed in case the former has been inserted after them (because it
+	 * resulted from a subdivision) or its winding number contributions have
+	 * changed (because another segment has been merged into it).
+	 */
+	private void updateFields(SweepEvent le) {
+		SweepEvent current = le;
+		do {
+			computeFields(current, status.lower(current));
+			current = status.higher(current);
+		} while (current != null && current.x == le.x && current.y == le.y);
+	}
+}
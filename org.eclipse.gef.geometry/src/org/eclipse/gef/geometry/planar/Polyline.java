@@ -93,10 +93,8 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public boolean contains(Point p) {
-		for (int i = 0; i + 1 < points.length; i++) {
-			Point p1 = points[i];
-			Point p2 = points[i + 1];
-			if (new Line(p1, p2).contains(p)) {
+		for (Line segment : toSegmentsArray(false)) {
+			if (segment.contains(p)) {
 				return true;
 			}
 		}
@@ -128,16 +126,17 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         via the array of points are regarded to form the same segments
 	 */
 	public boolean equals(Point... points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
-		return Arrays.equals(this.points, points)
-				|| Arrays.equals(this.points, Point.getReverseCopy(points));
+		Point[] thisPoints = getPoints();
+		return Arrays.equals(thisPoints, points)
+				|| Arrays.equals(thisPoints, Point.getReverseCopy(points));
 	}
 
 	@Override
 	public Polyline getCopy() {
-		return new Polyline(getPoints());
+		return new Polyline(coordinates);
 	}
 
 	/**
@@ -149,7 +148,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         this {@link Polyline}
 	 */
 	public Line[] getCurves() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return toSegmentsArray(false);
 	}
 
 	@Override
@@ -180,12 +179,12 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Point getP1() {
-		return points[0].getCopy();
+		return new Point(getX1(), getY1());
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].getCopy();
+		return new Point(getX2(), getY2());
 	}
 
 	@Override
@@ -205,27 +204,27 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Polyline getTransformed(AffineTransform t) {
-		return new Polyline(t.getTransformed(points));
+		return new Polyline(getTransformedCoordinates(t));
 	}
 
 	@Override
 	public double getX1() {
-		return getP1().x;
+		return getX(0);
 	}
 
 	@Override
 	public double getX2() {
-		return getP2().x;
+		return getX(getPointCount() - 1);
 	}
 
 	@Override
 	public double getY1() {
-		return getP1().y;
+		return getY(0);
 	}
 
 	@Override
 	public double getY2() {
-		return getP2().y;
+		return getY(getPointCount() - 1);
 	}
 
 	@Override
@@ -240,16 +239,16 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Line[] toBezier() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return toSegmentsArray(false);
 	}
 
 	@Override
 	public Path toPath() {
 		Path path = new Path();
-		if (points.length > 0) {
-			path.moveTo(points[0].x, points[0].y);
-			for (int i = 1; i < points.length; i++) {
-				path.lineTo(points[i].x, points[i].y);
+		if (getPointCount() > 0) {
+			path.moveTo(getX(0), getY(0));
+			for (int i = 1; i < getPointCount(); i++) {
+				path.lineTo(getX(i), getY(i));
 			}
 		}
 		return path;
@@ -261,18 +260,16 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 * @return a {@link PolyBezier} representing this {@link Polyline}
 	 */
 	public PolyBezier toPolyBezier() {
-		Line[] segments = PointListUtils.toSegmentsArray(points, false);
-		return new PolyBezier(segments);
+		return new PolyBezier(toSegmentsArray(false));
 	}
 
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polyline: ");
-		if (points.length > 0) {
-			for (int i = 0; i < points.length; i++) {
-				stringBuffer
-						.append("(" + points[i].x + ", " + points[i].y + ")");
-				if (i < points.length - 1) {
+		if (getPointCount() > 0) {
+			for (int i = 0; i < getPointCount(); i++) {
+				stringBuffer.append("(" + getX(i) + ", " + getY(i) + ")");
+				if (i < getPointCount() - 1) {
 					stringBuffer.append(" -> ");
 				}
 			}
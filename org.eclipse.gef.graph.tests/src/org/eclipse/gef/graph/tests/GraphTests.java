@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.junit.Test;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+
+public class GraphTests {
+
+	@Test
+	public void batchedChange() {
+		Graph g = new Graph();
+		final int[] nodeChanges = new int[1];
+		final int[] edgeChanges = new int[1];
+		final int[] graphInvalidations = new int[1];
+		g.getNodes().addListener(new ListChangeListener<Node>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends Node> c) {
+				nodeChanges[0]++;
+			}
+		});
+		g.getEdges().addListener(new ListChangeListener<Edge>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends Edge> c) {
+				edgeChanges[0]++;
+			}
+		});
+		g.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				// nodes and edges have been applied when notified
+				assertEquals(100, g.getNodes().size());
+				assertSame(g, g.getEdges().get(98).getGraph());
+				graphInvalidations[0]++;
+			}
+		});
+
+		g.beginChange();
+		Node previous = null;
+		for (int i = 0; i < 100; i++) {
+			Node n = new Node();
+			g.getNodes().add(n);
+			if (previous != null) {
+				g.getEdges().add(new Edge(previous, n));
+			}
+			previous = n;
+		}
+		assertEquals(0, nodeChanges[0]);
+		assertEquals(0, edgeChanges[0]);
+		assertEquals(0, graphInvalidations[0]);
+		g.endChange();
+
+		// a single change per list, and a single one for the graph
+		assertEquals(1, nodeChanges[0]);
+		assertEquals(1, edgeChanges[0]);
+		assertEquals(1, graphInvalidations[0]);
+		assertEquals(100, g.getNodes().size());
+		assertEquals(99, g.getEdges().size());
+
+		// nodes and edges are associated with the graph
+		Node first = g.getNodes().get(0);
+		assertSame(g, first.getGraph());
+		assertSame(g, g.getEdges().get(0).getGraph());
+		assertEquals(1, first.getOutgoingEdges().size());
+		assertTrue(first.getSuccessorNodes().contains(g.getNodes().get(1)));
+	}
+
+	@Test
+	public void batchedChangeWithRemovalsAndAdditions() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		Node n3 = new Node();
+		Edge e23 = new Edge(n2, n3);
+		Graph g = new Graph.Builder().nodes(n1, n2, n3)
+				.edges(new Edge(n1, n2), e23).build();
+
+		g.beginChange();
+		g.getEdges().remove(0);
+		g.getNodes().remove(n1);
+		Node x = new Node();
+		g.getNodes().add(x);
+		Edge e3x = new Edge(n3, x);
+		g.getEdges().add(e3x);
+		g.endChange();
+
+		// retained nodes stay associated with the graph
+		assertNull(n1.getGraph());
+		assertSame(g, n2.getGraph());
+		assertSame(g, n3.getGraph());
+		assertSame(g, x.getGraph());
+
+		// and keep their adjacency
+		assertTrue(n2.getIncomingEdges().isEmpty());
+		assertEquals(1, n2.getOutgoingEdges().size());
+		assertTrue(n2.getOutgoingEdges().contains(e23));
+		assertEquals(1, n3.getIncomingEdges().size());
+		assertTrue(n3.getOutgoingEdges().contains(e3x));
+		assertTrue(x.getPredecessorNodes().contains(n3));
+	}
+
+	@Test
+	public void batchedChangeWithThrowingListener() {
+		Graph g = new Graph();
+		final int[] graphInvalidations = new int[1];
+		g.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				graphInvalidations[0]++;
+			}
+		});
+		ListChangeListener<Node> throwingListener = new ListChangeListener<Node>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends Node> c) {
+				throw new IllegalArgumentException("expected exception");
+			}
+		};
+		g.getNodes().addListener(throwingListener);
+
+		// let the exception (passed to the uncaught exception handler by the
+		// list) propagate
+		UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+		Thread.currentThread().setUncaughtExceptionHandler(new UncaughtExceptionHandler() {
+			@Override
+			public void uncaughtException(Thread t, Throwable e) {
+				throw (RuntimeException) e;
+			}
+		});
+		Node n1 = new Node();
+		Node n2 = new Node();
+		Edge e12 = new Edge(n1, n2);
+		try {
+			g.beginChange();
+			g.getNodes().addAll(n1, n2);
+			g.getEdges().add(e12);
+			try {
+				g.endChange();
+				fail("Expect IllegalArgumentException, because the nodes listener throws.");
+			} catch (IllegalArgumentException e) {
+				assertEquals("expected exception", e.getMessage());
+			}
+		} finally {
+			Thread.currentThread().setUncaughtExceptionHandler(handler);
+			g.getNodes().removeListener(throwingListener);
+		}
+
+		// the graph is not invalidated for the batched change that was left
+		// early, but the edges were processed nevertheless
+		assertEquals(0, graphInvalidations[0]);
+		assertTrue(n1.getOutgoingEdges().contains(e12));
+
+		// the batched change was ended, so subsequent changes invalidate the
+		// graph
+		g.getNodes().add(new Node());
+		assertEquals(1, graphInvalidations[0]);
+		g.beginChange();
+		g.getEdges().remove(e12);
+		g.endChange();
+		assertEquals(2, graphInvalidations[0]);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void endChangeWithoutBeginChange() {
+		new Graph().endChange();
+	}
+
+	@Test
+	public void nestedBatchedChange() {
+		Graph g = new Graph();
+		final int[] graphInvalidations = new int[1];
+		g.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				graphInvalidations[0]++;
+			}
+		});
+
+		// the graph is invalidated for each change outside of a batch
+		Node n1 = new Node();
+		Node n2 = new Node();
+		g.getNodes().add(n1);
+		g.getNodes().add(n2);
+		assertEquals(2, graphInvalidations[0]);
+
+		// and once when the outermost batched change is ended
+		g.beginChange();
+		g.beginChange();
+		g.getEdges().add(new Edge(n1, n2));
+		g.endChange();
+		assertEquals(2, graphInvalidations[0]);
+		g.getNodes().add(new Node());
+		g.endChange();
+		assertEquals(3, graphInvalidations[0]);
+
+		// but not if nothing was changed
+		g.beginChange();
+		g.endChange();
+		assertEquals(3, graphInvalidations[0]);
+	}
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.junit.Test;
+
+public class NodeTests {
+
+	@Test
+	public void adjacencyFollowsEdgeChanges() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Graph g = new Graph(Arrays.asList(a, b, c), Arrays.asList(ab));
+
+		// views are live
+		Set<Edge> outgoingOfA = a.getOutgoingEdges();
+		Set<Node> neighborsOfC = c.getNeighbors();
+		assertEquals(1, outgoingOfA.size());
+		assertTrue(neighborsOfC.isEmpty());
+
+		Edge ac = new Edge(a, c);
+		g.getEdges().add(ac);
+		assertEquals(2, outgoingOfA.size());
+		assertTrue(neighborsOfC.contains(a));
+		assertEquals(1, c.getIncomingEdges().size());
+
+		// changing the target re-indexes the edge
+		ac.setTarget(b);
+		assertTrue(neighborsOfC.isEmpty());
+		assertEquals(2, b.getIncomingEdges().size());
+		// parallel edges result in a single predecessor
+		assertEquals(1, b.getPredecessorNodes().size());
+
+		g.getEdges().remove(ab);
+		assertEquals(1, outgoingOfA.size());
+		assertTrue(b.getPredecessorNodes().contains(a));
+		g.getEdges().remove(ac);
+		assertTrue(outgoingOfA.isEmpty());
+		assertTrue(b.getPredecessorNodes().isEmpty());
+		assertTrue(a.getSuccessorNodes().isEmpty());
+	}
+
+	@Test
+	public void neighborsAreDistinct() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Graph g = new Graph(Arrays.asList(a, b, c),
+				Arrays.asList(new Edge(a, b), new Edge(b, a), new Edge(b, c)));
+		assertEquals(2, b.getNeighbors().size());
+		assertTrue(b.getNeighbors().containsAll(Arrays.asList(a, c)));
+		assertEquals(1, a.getNeighbors().size());
+		assertFalse(a.getNeighbors().contains(c));
+		assertEquals(3, g.getEdges().size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void viewsAreUnmodifiable() {
+		Node a = new Node();
+		Node b = new Node();
+		new Graph(Arrays.asList(a, b), Arrays.asList(new Edge(a, b)));
+		a.getOutgoingEdges().clear();
+	}
+
+}
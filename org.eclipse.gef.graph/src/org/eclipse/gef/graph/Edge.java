@@ -310,7 +310,13 @@ public class Edge implements IAttributeStore {
 	 *            The new source {@link Node} for this {@link Edge}.
 	 */
 	public void setSource(Node source) {
+		if (graph != null) {
+			graph.unindexEdge(this);
+		}
 		this.source = source;
+		if (graph != null) {
+			graph.indexEdge(this);
+		}
 	}
 
 	/**
@@ -320,7 +326,13 @@ public class Edge implements IAttributeStore {
 	 *            The new target {@link Node} for this {@link Edge}.
 	 */
 	public void setTarget(Node target) {
+		if (graph != null) {
+			graph.unindexEdge(this);
+		}
 		this.target = target;
+		if (graph != null) {
+			graph.indexEdge(this);
+		}
 	}
 
 	@Override
@@ -14,13 +14,19 @@
 package org.eclipse.gef.graph;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -30,6 +36,8 @@ import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.common.collections.CollectionUtils;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.ReadOnlyMapProperty;
@@ -42,12 +50,120 @@ import javafx.collections.ObservableMap;
 /**
  * A {@link Graph} is a container for {@link Node}s and {@link Edge}s between
  * those {@link Node}s.
+ * <p>
+ * A {@link Graph} is not synchronized. It may be queried by multiple threads
+ * concurrently (including the neighborhood queries of its {@link Node}s), as
+ * long as it is not modified at the same time. Modifications have to be
+ * confined to a single thread and have to be safely published to the reading
+ * threads.
+ * <p>
+ * A {@link Graph} is an {@link Observable}, which is invalidated whenever its
+ * {@link #getNodes() nodes} or {@link #getEdges() edges} change. In contrast
+ * to listening to both lists separately, listeners are notified only once per
+ * batched change (see {@link #beginChange()}), after the changes of both
+ * lists have been applied.
  *
  * @author Fabian Steeg
  * @author anyssen
  *
  */
-public final class Graph implements IAttributeStore {
+public final class Graph implements IAttributeStore, Observable {
+
+	/**
+	 * The {@link Adjacency} keeps track of the incoming and outgoing
+	 * {@link Edge}s of a single {@link Node}, as well as of its predecessor and
+	 * successor {@link Node}s (reference counted, so that parallel edges are
+	 * handled correctly). It provides unmodifiable views that are handed out
+	 * by the neighborhood queries of {@link Node}.
+	 */
+	private static final class Adjacency {
+
+		private final Set<Edge> incomingEdges = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>(2));
+		private final Set<Edge> outgoingEdges = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>(2));
+		private final Map<Node, Integer> predecessorNodes = new IdentityHashMap<>(2);
+		private final Map<Node, Integer> successorNodes = new IdentityHashMap<>(2);
+
+		private final Set<Edge> incomingEdgesView = Collections.unmodifiableSet(incomingEdges);
+		private final Set<Edge> outgoingEdgesView = Collections.unmodifiableSet(outgoingEdges);
+		private final Set<Node> predecessorNodesView = Collections.unmodifiableSet(predecessorNodes.keySet());
+		private final Set<Node> successorNodesView = Collections.unmodifiableSet(successorNodes.keySet());
+		private final Set<Node> neighborsView = new AbstractSet<Node>() {
+
+			@Override
+			public boolean contains(Object o) {
+				return predecessorNodes.containsKey(o) || successorNodes.containsKey(o);
+			}
+
+			@Override
+			public Iterator<Node> iterator() {
+				return new Iterator<Node>() {
+					private Iterator<Node> predecessors = predecessorNodes.keySet().iterator();
+					private Iterator<Node> successors = successorNodes.keySet().iterator();
+					private Node next = advance();
+
+					private Node advance() {
+						if (predecessors.hasNext()) {
+							return predecessors.next();
+						}
+						while (successors.hasNext()) {
+							Node candidate = successors.next();
+							if (!predecessorNodes.containsKey(candidate)) {
+								return candidate;
+							}
+						}
+						return null;
+					}
+
+					@Override
+					public boolean hasNext() {
+						return next != null;
+					}
+
+					@Override
+					public Node next() {
+						if (next == null) {
+							throw new NoSuchElementException();
+						}
+						Node current = next;
+						next = advance();
+						return current;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				int size = predecessorNodes.size();
+				for (Node successor : successorNodes.keySet()) {
+					if (!predecessorNodes.containsKey(successor)) {
+						size++;
+					}
+				}
+				return size;
+			}
+		};
+
+		private static void decrement(Map<Node, Integer> counts, Node node) {
+			Integer count = counts.get(node);
+			if (count == null) {
+				return;
+			}
+			if (count.intValue() <= 1) {
+				counts.remove(node);
+			} else {
+				counts.put(node, count - 1);
+			}
+		}
+
+		private static void increment(Map<Node, Integer> counts, Node node) {
+			Integer count = counts.get(node);
+			counts.put(node, count == null ? 1 : count + 1);
+		}
+
+		private boolean isEmpty() {
+			return incomingEdges.isEmpty() && outgoingEdges.isEmpty();
+		}
+	}
 
 	/**
 	 * The {@link Builder} can be used to construct a new {@link Graph} little
@@ -307,6 +423,13 @@ public final class Graph implements IAttributeStore {
 	 */
 	public static final String EDGES_PROPERTY = "edgesProperty";
 
+	/**
+	 * The (shared) empty {@link Adjacency}, which is returned by the
+	 * neighborhood queries for {@link Node}s that are not (yet) indexed. It is
+	 * never modified.
+	 */
+	private static final Adjacency NO_ADJACENCY = new Adjacency();
+
 	/**
 	 * {@link Node}s directly contained by this {@link Graph}.
 	 */
@@ -332,6 +455,28 @@ public final class Graph implements IAttributeStore {
 	 */
 	private Node nestingNode; // when contained as a nested graph within a node
 
+	/**
+	 * Per-{@link Node} adjacency information for the {@link Edge}s of this
+	 * {@link Graph}, which is updated incrementally when {@link Edge}s are
+	 * added or removed (or when their source or target changes). Entries are
+	 * created when a {@link Node} is added, so that the (read-only)
+	 * neighborhood queries never modify this map.
+	 */
+	private final Map<Node, Adjacency> adjacencies = new IdentityHashMap<>();
+
+	/**
+	 * {@link InvalidationListener}s that are notified when the nodes or edges
+	 * of this {@link Graph} change.
+	 */
+	private final List<InvalidationListener> invalidationListeners = new ArrayList<>();
+
+	/**
+	 * The nesting depth of batched changes, and whether the nodes or edges
+	 * were changed within the current batched change.
+	 */
+	private int changeDepth = 0;
+	private boolean changedWithinBatch = false;
+
 	/**
 	 * Default constructor, using empty collections for attributes, nodes, and
 	 * edges.
@@ -372,30 +517,50 @@ public final class Graph implements IAttributeStore {
 			@Override
 			public void onChanged(ListChangeListener.Change<? extends Node> c) {
 				while (c.next()) {
-					for (Node n : c.getAddedSubList()) {
-						n.setGraph(Graph.this);
-					}
+					// process removals first, so that nodes that are retained
+					// by a (batched) replace stay associated with this graph
 					for (Node n : c.getRemoved()) {
 						n.setGraph(null);
+						Adjacency adjacency = adjacencies.get(n);
+						if (adjacency != null && adjacency.isEmpty()) {
+							adjacencies.remove(n);
+						}
+					}
+					for (Node n : c.getAddedSubList()) {
+						getAdjacency(n);
+						n.setGraph(Graph.this);
 					}
 				}
+				fireInvalidated();
 			}
 		});
 		this.edgesProperty.addListener(new ListChangeListener<Edge>() {
 			@Override
 			public void onChanged(ListChangeListener.Change<? extends Edge> c) {
 				while (c.next()) {
-					for (Edge e : c.getAddedSubList()) {
-						e.setGraph(Graph.this);
-					}
+					// process removals first, so that replacing an edge by
+					// itself leaves it indexed
 					for (Edge e : c.getRemoved()) {
 						e.setGraph(null);
+						unindexEdge(e);
+					}
+					for (Edge e : c.getAddedSubList()) {
+						e.setGraph(Graph.this);
+						indexEdge(e);
 					}
 				}
+				fireInvalidated();
 			}
 		});
+		beginChange();
 		this.nodesProperty.addAll(nodes);
 		this.edgesProperty.addAll(edges);
+		endChange();
+	}
+
+	@Override
+	public void addListener(InvalidationListener listener) {
+		invalidationListeners.add(listener);
 	}
 
 	@Override
@@ -403,6 +568,29 @@ public final class Graph implements IAttributeStore {
 		return attributesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Begins a batched change of the {@link #getNodes() nodes} and
+	 * {@link #getEdges() edges} of this {@link Graph}. Until the corresponding
+	 * call to {@link #endChange()}, no change notifications are fired for the
+	 * nodes and edges lists. Afterwards, each of them fires (at most) a single
+	 * change, which comprises all mutations applied in the meantime, and this
+	 * {@link Graph} is invalidated once (see
+	 * {@link #addListener(InvalidationListener)}). This is
+	 * useful to populate a (large) {@link Graph} element by element without
+	 * triggering listeners for each added {@link Node} or {@link Edge}.
+	 * Batched changes may be nested.
+	 * <p>
+	 * Note that the graph-related information of the {@link Node}s and
+	 * {@link Edge}s (e.g. {@link Node#getGraph()} or
+	 * {@link Node#getIncomingEdges()}) is only updated when the batched change
+	 * is ended.
+	 */
+	public void beginChange() {
+		changeDepth++;
+		CollectionUtils.beginChange(nodesProperty.get());
+		CollectionUtils.beginChange(edgesProperty.get());
+	}
+
 	/**
 	 * Returns a read-only list property containing the {@link Edge}s of this
 	 * {@link Graph}.
@@ -413,6 +601,92 @@ public final class Graph implements IAttributeStore {
 		return edgesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Ends a batched change that was begun via {@link #beginChange()}, firing
+	 * a single change for the nodes and edges lists respectively (in case they
+	 * were changed). If this ends the outermost batched change, this
+	 * {@link Graph} is invalidated once afterwards (in case the nodes or edges
+	 * were changed). The batched change is ended even if a listener of the
+	 * nodes or edges lists throws an exception; the {@link Graph} is not
+	 * invalidated then.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batched change was begun.
+	 */
+	public void endChange() {
+		if (changeDepth == 0) {
+			throw new IllegalStateException("A batched change has to be begun before it can be ended.");
+		}
+		boolean completed = false;
+		try {
+			// nodes are notified first, so that they are associated with this
+			// graph before the edges that connect them; the edges batch is
+			// ended even if a nodes listener throws
+			try {
+				CollectionUtils.endChange(nodesProperty.get());
+			} finally {
+				CollectionUtils.endChange(edgesProperty.get());
+			}
+			completed = true;
+		} finally {
+			// invalidate once, after the changes of both lists have been
+			// applied (unless the batched change was left early)
+			if (--changeDepth == 0 && changedWithinBatch) {
+				changedWithinBatch = false;
+				if (completed) {
+					fireInvalidated();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Notifies the {@link InvalidationListener}s about a change of the nodes or
+	 * edges, unless a batched change is in progress.
+	 */
+	private void fireInvalidated() {
+		if (changeDepth > 0) {
+			changedWithinBatch = true;
+			return;
+		}
+		for (InvalidationListener listener : new ArrayList<>(invalidationListeners)) {
+			listener.invalidated(this);
+		}
+	}
+
+	/**
+	 * Returns the {@link Adjacency} for the given {@link Node} without
+	 * modifying the adjacency index, i.e. {@link #NO_ADJACENCY} if it does not
+	 * exist.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the {@link Adjacency}.
+	 * @return The {@link Adjacency} of the given {@link Node}, or
+	 *         {@link #NO_ADJACENCY}.
+	 */
+	private Adjacency findAdjacency(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? NO_ADJACENCY : adjacency;
+	}
+
+	/**
+	 * Returns the {@link Adjacency} for the given {@link Node}, creating it if
+	 * it does not exist yet. May only be called when modifying this
+	 * {@link Graph}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the {@link Adjacency}.
+	 * @return The {@link Adjacency} of the given {@link Node}.
+	 */
+	private Adjacency getAdjacency(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		if (adjacency == null) {
+			adjacency = new Adjacency();
+			adjacencies.put(node, adjacency);
+		}
+		return adjacency;
+	}
+
 	@Override
 	public ObservableMap<String, Object> getAttributes() {
 		return attributesProperty.get();
@@ -427,6 +701,32 @@ public final class Graph implements IAttributeStore {
 		return edgesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Edge}s of this {@link Graph}
+	 * that target the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the incoming
+	 *            {@link Edge}s.
+	 * @return An unmodifiable view on the incoming {@link Edge}s.
+	 */
+	Set<Edge> getIncomingEdges(Node node) {
+		return findAdjacency(node).incomingEdgesView;
+	}
+
+	/**
+	 * Returns an unmodifiable view on the union of the predecessor and
+	 * successor {@link Node}s of the given {@link Node} w.r.t. the
+	 * {@link Edge}s of this {@link Graph}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the neighbors.
+	 * @return An unmodifiable view on the neighbors.
+	 */
+	Set<Node> getNeighbors(Node node) {
+		return findAdjacency(node).neighborsView;
+	}
+
 	/**
 	 * Returns the {@link Node} in which this {@link Graph} is nested. Returns
 	 * <code>null</code> when this {@link Graph} is not nested.
@@ -447,6 +747,31 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Edge}s of this {@link Graph}
+	 * that originate at the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the outgoing
+	 *            {@link Edge}s.
+	 * @return An unmodifiable view on the outgoing {@link Edge}s.
+	 */
+	Set<Edge> getOutgoingEdges(Node node) {
+		return findAdjacency(node).outgoingEdgesView;
+	}
+
+	/**
+	 * Returns an unmodifiable view on the sources of the {@link Edge}s of this
+	 * {@link Graph} that target the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the predecessors.
+	 * @return An unmodifiable view on the predecessor {@link Node}s.
+	 */
+	Set<Node> getPredecessorNodes(Node node) {
+		return findAdjacency(node).predecessorNodesView;
+	}
+
 	/**
 	 * Returns the root graph of this Graph.
 	 *
@@ -460,6 +785,42 @@ public final class Graph implements IAttributeStore {
 		}
 	}
 
+	/**
+	 * Returns an unmodifiable view on the targets of the {@link Edge}s of this
+	 * {@link Graph} that originate at the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the successors.
+	 * @return An unmodifiable view on the successor {@link Node}s.
+	 */
+	Set<Node> getSuccessorNodes(Node node) {
+		return findAdjacency(node).successorNodesView;
+	}
+
+	/**
+	 * Registers the given {@link Edge} within the adjacency index of its
+	 * source and target {@link Node}s.
+	 *
+	 * @param edge
+	 *            The {@link Edge} to index.
+	 */
+	void indexEdge(Edge edge) {
+		Node source = edge.getSource();
+		Node target = edge.getTarget();
+		if (source != null) {
+			Adjacency adjacency = getAdjacency(source);
+			if (adjacency.outgoingEdges.add(edge)) {
+				Adjacency.increment(adjacency.successorNodes, target);
+			}
+		}
+		if (target != null) {
+			Adjacency adjacency = getAdjacency(target);
+			if (adjacency.incomingEdges.add(edge)) {
+				Adjacency.increment(adjacency.predecessorNodes, source);
+			}
+		}
+	}
+
 	/**
 	 * Returns a read-only list property containing the {@link Node}s of this
 	 * {@link Graph}.
@@ -470,6 +831,11 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	@Override
+	public void removeListener(InvalidationListener listener) {
+		invalidationListeners.remove(listener);
+	}
+
 	/**
 	 * Sets the nesting {@link Node} of this {@link Graph}.
 	 *
@@ -487,6 +853,36 @@ public final class Graph implements IAttributeStore {
 		}
 	}
 
+	/**
+	 * Removes the given {@link Edge} from the adjacency index of its source
+	 * and target {@link Node}s.
+	 *
+	 * @param edge
+	 *            The {@link Edge} to remove from the index.
+	 */
+	void unindexEdge(Edge edge) {
+		Node source = edge.getSource();
+		Node target = edge.getTarget();
+		if (source != null) {
+			Adjacency adjacency = adjacencies.get(source);
+			if (adjacency != null && adjacency.outgoingEdges.remove(edge)) {
+				Adjacency.decrement(adjacency.successorNodes, target);
+				if (adjacency.isEmpty() && source.getGraph() != this) {
+					adjacencies.remove(source);
+				}
+			}
+		}
+		if (target != null) {
+			Adjacency adjacency = adjacencies.get(target);
+			if (adjacency != null && adjacency.incomingEdges.remove(edge)) {
+				Adjacency.decrement(adjacency.predecessorNodes, source);
+				if (adjacency.isEmpty() && target.getGraph() != this) {
+					adjacencies.remove(target);
+				}
+			}
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -109,22 +109,28 @@ public class GraphCopier {
 		// create new graph to hold the copy
 		Graph outputGraph = new Graph();
 		copyAttributes(graph, outputGraph);
-		// copy nodes, keeping track of copied nodes (so we can relocate them to
-		// link edges)
-		for (Node inputNode : graph.getNodes()) {
-			Node outputNode = copyNode(inputNode);
-			if (outputNode != null) {
-				inputToOutputNodes.put(inputNode, outputNode);
-				outputGraph.getNodes().add(outputNode);
+		// add the copied nodes and edges within a single batched change
+		outputGraph.beginChange();
+		try {
+			// copy nodes, keeping track of copied nodes (so we can relocate
+			// them to link edges)
+			for (Node inputNode : graph.getNodes()) {
+				Node outputNode = copyNode(inputNode);
+				if (outputNode != null) {
+					inputToOutputNodes.put(inputNode, outputNode);
+					outputGraph.getNodes().add(outputNode);
+				}
 			}
-		}
-		// copy edges
-		for (Edge inputEdge : graph.getEdges()) {
-			Edge outputEdge = copyEdge(inputEdge);
-			if (outputEdge != null) {
-				inputToOutputEdges.put(inputEdge, outputEdge);
-				outputGraph.getEdges().add(outputEdge);
+			// copy edges
+			for (Edge inputEdge : graph.getEdges()) {
+				Edge outputEdge = copyEdge(inputEdge);
+				if (outputEdge != null) {
+					inputToOutputEdges.put(inputEdge, outputEdge);
+					outputGraph.getEdges().add(outputEdge);
+				}
 			}
+		} finally {
+			outputGraph.endChange();
 		}
 		return outputGraph;
 	}
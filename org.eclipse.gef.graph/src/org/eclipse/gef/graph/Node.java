@@ -353,8 +353,12 @@ public class Node implements IAttributeStore {
 
 	/**
 	 * Returns the local incoming {@link Edge}s of this {@link Node}. Only the
-	 * {@link #getGraph() associated graph} is scanned for incoming edges, and
-	 * not the whole graph hierarchy.
+	 * {@link #getGraph() associated graph} is considered for incoming edges,
+	 * and not the whole graph hierarchy.
+	 * <p>
+	 * The returned {@link Set} is an unmodifiable view on the adjacency index
+	 * maintained by the {@link #getGraph() associated graph}, so it is
+	 * obtained in constant time.
 	 *
 	 * @return The local incoming {@link Edge}s.
 	 */
@@ -362,26 +366,23 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> incoming = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getTarget() == this) {
-				incoming.add(e);
-			}
-		}
-		return incoming;
+		return graph.getIncomingEdges(this);
 	}
 
 	/**
 	 * Returns all (local) neighbors of this {@link Node}, i.e. the union of the
 	 * {@link #getPredecessorNodes()} and {@link #getSuccessorNodes()} .
+	 * <p>
+	 * The returned {@link Set} is an unmodifiable view on the adjacency index
+	 * maintained by the {@link #getGraph() associated graph}.
 	 *
 	 * @return All (local) neighbors of this {@link Node}.
 	 */
 	public Set<Node> getNeighbors() {
-		Set<Node> neighbors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		neighbors.addAll(getPredecessorNodes());
-		neighbors.addAll(getSuccessorNodes());
-		return neighbors;
+		if (graph == null) {
+			return Collections.emptySet();
+		}
+		return graph.getNeighbors(this);
 	}
 
 	/**
@@ -397,8 +398,12 @@ public class Node implements IAttributeStore {
 
 	/**
 	 * Returns the local outgoing {@link Edge}s of this {@link Node}. Only the
-	 * {@link #getGraph() associated graph} is scanned for outgoing edges, and
-	 * not the whole graph hierarchy.
+	 * {@link #getGraph() associated graph} is considered for outgoing edges,
+	 * and not the whole graph hierarchy.
+	 * <p>
+	 * The returned {@link Set} is an unmodifiable view on the adjacency index
+	 * maintained by the {@link #getGraph() associated graph}, so it is
+	 * obtained in constant time.
 	 *
 	 * @return The local outgoing {@link Edge}s.
 	 */
@@ -406,43 +411,41 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> outgoing = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getSource() == this) {
-				outgoing.add(e);
-			}
-		}
-		return outgoing;
+		return graph.getOutgoingEdges(this);
 	}
 
 	/**
 	 * Returns the local predecessor {@link Node}s of this {@link Node}. Only
-	 * the {@link #getGraph() associated graph} is scanned for predecessor
+	 * the {@link #getGraph() associated graph} is considered for predecessor
 	 * nodes, and not the whole graph hierarchy.
+	 * <p>
+	 * The returned {@link Set} is an unmodifiable view on the adjacency index
+	 * maintained by the {@link #getGraph() associated graph}.
 	 *
 	 * @return The local predecessor {@link Node}s.
 	 */
 	public Set<Node> getPredecessorNodes() {
-		Set<Node> predecessors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge incoming : getIncomingEdges()) {
-			predecessors.add(incoming.getSource());
+		if (graph == null) {
+			return Collections.emptySet();
 		}
-		return predecessors;
+		return graph.getPredecessorNodes(this);
 	}
 
 	/**
 	 * Returns the local successor {@link Node}s of this {@link Node}. Only the
-	 * {@link #getGraph() associated graph} is scanned for successor nodes, and
-	 * not the whole graph hierarchy.
+	 * {@link #getGraph() associated graph} is considered for successor nodes,
+	 * and not the whole graph hierarchy.
+	 * <p>
+	 * The returned {@link Set} is an unmodifiable view on the adjacency index
+	 * maintained by the {@link #getGraph() associated graph}.
 	 *
 	 * @return The local successor {@link Node}s.
 	 */
 	public Set<Node> getSuccessorNodes() {
-		Set<Node> successors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge outgoing : getOutgoingEdges()) {
-			successors.add(outgoing.getTarget());
+		if (graph == null) {
+			return Collections.emptySet();
 		}
-		return successors;
+		return graph.getSuccessorNodes(this);
 	}
 
 	/**
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutProperties;
+
+/**
+ * The {@link GraphGenerators} create synthetic {@link Graph}s of different
+ * shapes and sizes for the layout benchmarks. The nodes are keyed by their
+ * index, and all edges are directed from the node with the lower index to the
+ * node with the higher index, so that all generated graphs are acyclic and can
+ * be laid out by all algorithms. All randomized graphs are created from a
+ * {@link Random} that is passed in, so that benchmark runs can be reproduced by
+ * using the same seed.
+ */
+final class GraphGenerators {
+
+	/**
+	 * The seed that is used by all benchmarks.
+	 */
+	static final long SEED = 0x5EEDL;
+
+	/**
+	 * The bounds of the generated {@link Graph}s.
+	 */
+	static final Rectangle BOUNDS = new Rectangle(0, 0, 1600, 1200);
+
+	/**
+	 * The size of the nodes of the generated {@link Graph}s.
+	 */
+	static final Dimension NODE_SIZE = new Dimension(40, 20);
+
+	/**
+	 * The shapes of {@link Graph}s that can be created via
+	 * {@link #create(String, int, Random)}.
+	 */
+	static final String[] SHAPES = { "tree", "dag", "scaleFree", "grid",
+			"dense" };
+
+	/**
+	 * Creates a {@link Graph} of the given shape and size.
+	 *
+	 * @param shape
+	 *            The shape of the {@link Graph}, one of {@link #SHAPES}.
+	 * @param nodeCount
+	 *            The (approximate) number of nodes.
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @return The new {@link Graph}.
+	 */
+	static Graph create(String shape, int nodeCount, Random random) {
+		Graph.Builder builder = new Graph.Builder();
+		if ("tree".equals(shape)) {
+			tree(builder, nodeCount, random);
+		} else if ("dag".equals(shape)) {
+			dag(builder, nodeCount, random);
+		} else if ("scaleFree".equals(shape)) {
+			scaleFree(builder, nodeCount, random);
+		} else if ("grid".equals(shape)) {
+			grid(builder, nodeCount);
+		} else if ("dense".equals(shape)) {
+			dense(builder, nodeCount, random);
+		} else {
+			throw new IllegalArgumentException("Unknown shape: " + shape);
+		}
+		Graph graph = builder.build();
+		LayoutProperties.setBounds(graph, BOUNDS);
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setSize(node, NODE_SIZE);
+		}
+		return graph;
+	}
+
+	/**
+	 * Creates a layered DAG, whose nodes are distributed among
+	 * <code>sqrt(n)</code> layers and have one to three predecessors in the
+	 * preceding layers, most of them in the directly preceding layer.
+	 */
+	private static void dag(Graph.Builder builder, int nodeCount,
+			Random random) {
+		int layerSize = Math.max(1, (int) Math.sqrt(nodeCount));
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			int layer = i / layerSize;
+			if (layer == 0) {
+				continue;
+			}
+			int predecessors = 1 + random.nextInt(3);
+			for (int p = 0; p < predecessors; p++) {
+				// span a single layer in most cases, but up to three layers
+				int span = Math.min(layer,
+						random.nextInt(4) == 0 ? 2 + random.nextInt(2) : 1);
+				int first = (layer - span) * layerSize;
+				builder.edge(first + random.nextInt(layerSize), i);
+			}
+		}
+	}
+
+	/**
+	 * Creates a dense graph, in which each pair of nodes is connected with a
+	 * probability of 10%.
+	 */
+	private static void dense(Graph.Builder builder, int nodeCount,
+			Random random) {
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			for (int j = 0; j < i; j++) {
+				if (random.nextInt(10) == 0) {
+					builder.edge(j, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a square grid, in which each node is connected to its right and
+	 * lower neighbor.
+	 */
+	private static void grid(Graph.Builder builder, int nodeCount) {
+		int columns = Math.max(1, (int) Math.round(Math.sqrt(nodeCount)));
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			if (i % columns > 0) {
+				builder.edge(i - 1, i);
+			}
+			if (i >= columns) {
+				builder.edge(i - columns, i);
+			}
+		}
+	}
+
+	/**
+	 * Initializes the locations of the nodes of the given {@link Graph} with
+	 * random locations within the {@link #BOUNDS}, which are used as the
+	 * starting point by iterative layout algorithms.
+	 *
+	 * @param graph
+	 *            The {@link Graph} whose nodes to relocate.
+	 * @param random
+	 *            The {@link Random} to use.
+	 */
+	static void randomizeLocations(Graph graph, Random random) {
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setLocation(node,
+					new Point(random.nextDouble() * BOUNDS.getWidth(),
+							random.nextDouble() * BOUNDS.getHeight()));
+		}
+	}
+
+	/**
+	 * Creates a scale-free graph by means of preferential attachment
+	 * (Barabasi-Albert), where each new node is connected to two existing
+	 * nodes, which are chosen with a probability proportional to their degree.
+	 */
+	private static void scaleFree(Graph.Builder builder, int nodeCount,
+			Random random) {
+		// each edge contributes both of its end points, so that picking a
+		// random entry picks a node proportional to its degree
+		int[] endPoints = new int[4 * nodeCount];
+		int size = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			if (i == 0) {
+				continue;
+			}
+			int first = size == 0 ? 0 : endPoints[random.nextInt(size)];
+			int second = size == 0 ? 0 : endPoints[random.nextInt(size)];
+			for (int target : first == second ? new int[] { first }
+					: new int[] { first, second }) {
+				builder.edge(target, i);
+				endPoints[size++] = target;
+				endPoints[size++] = i;
+			}
+		}
+	}
+
+	/**
+	 * Creates a random tree, in which each node (but the root) has a random
+	 * parent among the preceding nodes, with a bias towards recent nodes, so
+	 * that the tree is deeper than a uniformly random one.
+	 */
+	private static void tree(Graph.Builder builder, int nodeCount,
+			Random random) {
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			if (i > 0) {
+				int window = Math.min(i, 16);
+				builder.edge(i - 1 - random.nextInt(window), i);
+			}
+		}
+	}
+
+	private GraphGenerators() {
+		// not to be instantiated
+	}
+
+}
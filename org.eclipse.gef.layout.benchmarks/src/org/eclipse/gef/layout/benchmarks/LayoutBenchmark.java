@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.algorithms.GridLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.RadialLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerSweepCrossingReducer;
+import org.eclipse.gef.layout.algorithms.TreeLayoutAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the {@link ILayoutAlgorithm}s on synthetic {@link Graph}s of
+ * different {@link #shape}s (see {@link GraphGenerators}) and sizes. The
+ * {@link Graph} is created once per trial, and its node locations are reset
+ * to the same random locations before each invocation, so that iterative
+ * algorithms always start from the same state.
+ */
+@State(Scope.Benchmark)
+public class LayoutBenchmark {
+
+	/**
+	 * The names of the algorithms that are benchmarked by default. The
+	 * {@link SpaceTreeLayoutAlgorithm} (<code>spaceTree</code>) is not among
+	 * them, as it takes exponential time on graphs with many paths between
+	 * the same nodes (it does not finish a grid of 64 nodes within a minute).
+	 * It can be benchmarked by selecting it explicitly.
+	 */
+	static final String[] ALGORITHMS = { "spring", "springBarnesHut",
+			"sugiyama", "sugiyamaLayerSweep", "sugiyamaParallel", "tree",
+			"radial", "grid" };
+
+	/**
+	 * The number of random restarts of the crossing reduction of the
+	 * <code>sugiyamaParallel</code> algorithm. It is fixed (rather than
+	 * derived from the number of processors), so that the resulting layouts
+	 * are the same on all hosts.
+	 */
+	static final int RESTARTS = 7;
+
+	/**
+	 * Creates the {@link ILayoutAlgorithm} with the given name. The
+	 * {@link SpringLayoutAlgorithm} is configured to be deterministic, i.e. to
+	 * start from the current node locations and not to be limited by a
+	 * timeout. It is either computed exactly (<code>spring</code>) or
+	 * approximated by means of a Barnes-Hut quad-tree
+	 * (<code>springBarnesHut</code>). The {@link SugiyamaLayoutAlgorithm} uses
+	 * the {@link DFSLayerProvider}, so that it can handle deep graphs, and
+	 * either the default crossing reducer (<code>sugiyama</code>) or the
+	 * {@link LayerSweepCrossingReducer}, either with a single run
+	 * (<code>sugiyamaLayerSweep</code>) or with {@link #RESTARTS} random
+	 * restarts that are executed in parallel (<code>sugiyamaParallel</code>).
+	 *
+	 * @param name
+	 *            The name of the algorithm, one of {@link #ALGORITHMS} or
+	 *            <code>spaceTree</code>.
+	 * @return The new {@link ILayoutAlgorithm}.
+	 */
+	static ILayoutAlgorithm createAlgorithm(String name) {
+		if ("spring".equals(name) || "springBarnesHut".equals(name)) {
+			SpringLayoutAlgorithm spring = new SpringLayoutAlgorithm();
+			spring.setRandom(false);
+			spring.setSpringTimeout(0);
+			if ("springBarnesHut".equals(name)) {
+				spring.setBarnesHutTheta(0.7);
+			}
+			return spring;
+		} else if ("sugiyama".equals(name)) {
+			// the default layer provider is limited to 10 layers
+			return new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new DFSLayerProvider());
+		} else if ("sugiyamaLayerSweep".equals(name)
+				|| "sugiyamaParallel".equals(name)) {
+			LayerSweepCrossingReducer reducer = new LayerSweepCrossingReducer();
+			if ("sugiyamaParallel".equals(name)) {
+				reducer.setRestarts(RESTARTS);
+				reducer.setParallel(true);
+			}
+			return new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new DFSLayerProvider(), reducer);
+		} else if ("tree".equals(name)) {
+			return new TreeLayoutAlgorithm();
+		} else if ("radial".equals(name)) {
+			return new RadialLayoutAlgorithm();
+		} else if ("spaceTree".equals(name)) {
+			return new SpaceTreeLayoutAlgorithm();
+		} else if ("grid".equals(name)) {
+			return new GridLayoutAlgorithm();
+		}
+		throw new IllegalArgumentException("Unknown algorithm: " + name);
+	}
+
+	/**
+	 * The name of the {@link ILayoutAlgorithm}.
+	 */
+	@Param({ "spring", "springBarnesHut", "sugiyama", "sugiyamaLayerSweep",
+			"sugiyamaParallel", "tree", "radial", "grid" })
+	public String algorithm;
+
+	/**
+	 * The (approximate) number of nodes.
+	 */
+	@Param({ "100", "1000" })
+	public int nodeCount;
+
+	/**
+	 * The shape of the {@link Graph}.
+	 */
+	@Param({ "tree", "dag", "scaleFree", "grid", "dense" })
+	public String shape;
+
+	private LayoutContext context;
+	private ILayoutAlgorithm layoutAlgorithm;
+
+	/**
+	 * Applies the layout.
+	 *
+	 * @return The {@link LayoutContext}.
+	 */
+	@Benchmark
+	public LayoutContext applyLayout() {
+		layoutAlgorithm.applyLayout(context, true);
+		return context;
+	}
+
+	/**
+	 * Resets the node locations.
+	 */
+	@Setup(Level.Invocation)
+	public void resetLocations() {
+		GraphGenerators.randomizeLocations(context.getGraph(),
+				new Random(GraphGenerators.SEED));
+	}
+
+	/**
+	 * Creates the {@link Graph} and the {@link ILayoutAlgorithm}.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Graph graph = GraphGenerators.create(shape, nodeCount,
+				new Random(GraphGenerators.SEED));
+		context = new LayoutContext();
+		context.setGraph(graph);
+		layoutAlgorithm = createAlgorithm(algorithm);
+	}
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@link LayoutBenchmarks} is the main class of the (shaded) benchmarks
+ * JAR. It runs the layout benchmarks headless and reports the average time per
+ * layout as well as the allocation rate (by means of the {@link GCProfiler}).
+ * The results are additionally written to <code>jmh-result.json</code>, so
+ * that they can be tracked for regressions. The quality of the computed
+ * layouts is reported by the {@link LayoutQualityReport}.
+ * <p>
+ * The usual JMH command line options are supported and take precedence over
+ * the defaults, e.g.
+ * <code>java -jar benchmarks.jar -p algorithm=sugiyama -p shape=dag</code>
+ * runs only the {@link SugiyamaLayoutAlgorithm} on DAGs.
+ */
+public class LayoutBenchmarks {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args
+	 *            The JMH command line options.
+	 * @throws CommandLineOptionException
+	 *             If the command line options cannot be parsed.
+	 * @throws RunnerException
+	 *             If the benchmarks cannot be run.
+	 */
+	public static void main(String[] args)
+			throws CommandLineOptionException, RunnerException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class);
+		if (commandLine.getIncludes().isEmpty()) {
+			options.include(LayoutBenchmarks.class.getPackage().getName()
+					+ "\\..*Benchmark");
+		}
+		if (commandLine.getBenchModes().isEmpty()) {
+			options.mode(Mode.AverageTime);
+		}
+		if (!commandLine.getTimeUnit().hasValue()) {
+			options.timeUnit(TimeUnit.MILLISECONDS);
+		}
+		if (!commandLine.getForkCount().hasValue()) {
+			options.forks(1);
+		}
+		if (!commandLine.getWarmupIterations().hasValue()) {
+			options.warmupIterations(5);
+		}
+		if (!commandLine.getMeasurementIterations().hasValue()) {
+			options.measurementIterations(5);
+		}
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutProperties;
+
+/**
+ * The {@link LayoutQuality} computes quality metrics of the layout of a
+ * {@link Graph}, i.e. the number of edge crossings (where edges are
+ * approximated by straight lines between the centers of their source and
+ * target nodes) and the number of overlapping pairs of nodes. Both are
+ * computed by a sweep along the x-axis, so that only pairs whose horizontal
+ * extents overlap are compared.
+ */
+final class LayoutQuality {
+
+	/**
+	 * Counts the number of pairs of edges that cross each other. Edges that
+	 * share a node are not counted.
+	 *
+	 * @param graph
+	 *            The {@link Graph} whose layout to evaluate.
+	 * @return The number of edge crossings.
+	 */
+	static long countEdgeCrossings(Graph graph) {
+		List<Edge> edges = graph.getEdges();
+		int n = edges.size();
+		final double[] x1 = new double[n], y1 = new double[n];
+		final double[] x2 = new double[n], y2 = new double[n];
+		Node[] sources = new Node[n], targets = new Node[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			Edge edge = edges.get(i);
+			sources[i] = edge.getSource();
+			targets[i] = edge.getTarget();
+			Point s = getCenter(sources[i]);
+			Point t = getCenter(targets[i]);
+			// orient all edges from left to right
+			boolean swap = s.x > t.x;
+			x1[i] = swap ? t.x : s.x;
+			y1[i] = swap ? t.y : s.y;
+			x2[i] = swap ? s.x : t.x;
+			y2[i] = swap ? s.y : t.y;
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return Double.compare(x1[a], x1[b]);
+			}
+		});
+		long crossings = 0;
+		for (int k = 0; k < n; k++) {
+			int a = order[k];
+			for (int l = k + 1; l < n && x1[order[l]] <= x2[a]; l++) {
+				int b = order[l];
+				if (sources[a] == sources[b] || sources[a] == targets[b]
+						|| targets[a] == sources[b]
+						|| targets[a] == targets[b]) {
+					continue;
+				}
+				if (cross(x1[a], y1[a], x2[a], y2[a], x1[b], y1[b], x2[b],
+						y2[b])) {
+					crossings++;
+				}
+			}
+		}
+		return crossings;
+	}
+
+	/**
+	 * Counts the number of pairs of nodes whose bounds overlap (with a
+	 * positive area).
+	 *
+	 * @param graph
+	 *            The {@link Graph} whose layout to evaluate.
+	 * @return The number of node overlaps.
+	 */
+	static long countNodeOverlaps(Graph graph) {
+		List<Node> nodes = graph.getNodes();
+		int n = nodes.size();
+		final double[] minX = new double[n], minY = new double[n];
+		double[] maxX = new double[n], maxY = new double[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			Node node = nodes.get(i);
+			Point location = LayoutProperties.getLocation(node);
+			Dimension size = LayoutProperties.getSize(node);
+			// the location denotes the center of a node
+			minX[i] = location.x - size.width / 2;
+			minY[i] = location.y - size.height / 2;
+			maxX[i] = minX[i] + size.width;
+			maxY[i] = minY[i] + size.height;
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return Double.compare(minX[a], minX[b]);
+			}
+		});
+		long overlaps = 0;
+		for (int k = 0; k < n; k++) {
+			int a = order[k];
+			for (int l = k + 1; l < n && minX[order[l]] < maxX[a]; l++) {
+				int b = order[l];
+				if (minY[a] < maxY[b] && minY[b] < maxY[a]) {
+					overlaps++;
+				}
+			}
+		}
+		return overlaps;
+	}
+
+	/**
+	 * Tests whether the given line segments properly cross each other, i.e.
+	 * whether each segment has its end points on different sides of the
+	 * other one.
+	 */
+	private static boolean cross(double ax1, double ay1, double ax2,
+			double ay2, double bx1, double by1, double bx2, double by2) {
+		double d1 = orientation(ax1, ay1, ax2, ay2, bx1, by1);
+		double d2 = orientation(ax1, ay1, ax2, ay2, bx2, by2);
+		double d3 = orientation(bx1, by1, bx2, by2, ax1, ay1);
+		double d4 = orientation(bx1, by1, bx2, by2, ax2, ay2);
+		return (d1 > 0 && d2 < 0 || d1 < 0 && d2 > 0)
+				&& (d3 > 0 && d4 < 0 || d3 < 0 && d4 > 0);
+	}
+
+	private static Point getCenter(Node node) {
+		// LayoutProperties store the center of a node as its location
+		return LayoutProperties.getLocation(node);
+	}
+
+	private static double orientation(double x1, double y1, double x2,
+			double y2, double x, double y) {
+		return (x2 - x1) * (y - y1) - (y2 - y1) * (x - x1);
+	}
+
+	private LayoutQuality() {
+		// not to be instantiated
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+
+/**
+ * The {@link LayoutQualityReport} applies each of the selected algorithms once
+ * to each of the selected graph shapes and sizes, and reports the quality of
+ * the resulting layouts, i.e. the number of edge crossings and node overlaps
+ * (see {@link LayoutQuality}), as tab-separated values. As all inputs are
+ * created from a fixed seed, the reports of different runs can be compared to
+ * detect regressions.
+ * <p>
+ * By default, the same algorithms, shapes, and sizes as in the
+ * {@link LayoutBenchmark} are reported. They can be selected in the same way
+ * as the parameters of the {@link LayoutBenchmark}, e.g.
+ * <code>algorithm=sugiyama,spaceTree shape=tree nodeCount=50,100</code>.
+ */
+public class LayoutQualityReport {
+
+	/**
+	 * Prints the report to {@link System#out}.
+	 *
+	 * @param args
+	 *            The selected algorithms, shapes, and sizes (optional).
+	 */
+	public static void main(String[] args) {
+		String[] algorithms = LayoutBenchmark.ALGORITHMS;
+		String[] shapes = GraphGenerators.SHAPES;
+		String[] nodeCounts = { "100", "1000" };
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			String name = separator < 0 ? arg : arg.substring(0, separator);
+			String[] values = arg.substring(separator + 1).split(",");
+			if ("algorithm".equals(name)) {
+				algorithms = values;
+			} else if ("shape".equals(name)) {
+				shapes = values;
+			} else if ("nodeCount".equals(name)) {
+				nodeCounts = values;
+			} else {
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+		System.out.println("algorithm\tshape\tnodes\tedges\tcrossings"
+				+ "\toverlaps\ttime (ms)");
+		for (String algorithm : algorithms) {
+			for (String shape : shapes) {
+				for (String nodeCount : nodeCounts) {
+					Graph graph = GraphGenerators.create(shape,
+							Integer.parseInt(nodeCount),
+							new Random(GraphGenerators.SEED));
+					GraphGenerators.randomizeLocations(graph,
+							new Random(GraphGenerators.SEED));
+					LayoutContext context = new LayoutContext();
+					context.setGraph(graph);
+					ILayoutAlgorithm layoutAlgorithm = LayoutBenchmark
+							.createAlgorithm(algorithm);
+					long start = System.nanoTime();
+					layoutAlgorithm.applyLayout(context, true);
+					long time = (System.nanoTime() - start) / 1000000;
+					System.out.println(algorithm + "\t" + shape + "\t"
+							+ graph.getNodes().size() + "\t"
+							+ graph.getEdges().size() + "\t"
+							+ LayoutQuality.countEdgeCrossings(graph) + "\t"
+							+ LayoutQuality.countNodeOverlaps(graph) + "\t"
+							+ time);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.junit.Test;
+
+public class SpringLayoutAlgorithmTests {
+
+	private static final Rectangle BOUNDS = new Rectangle(0, 0, 800, 600);
+
+	private static LayoutContext createContext(int nodeCount, long seed) {
+		Random random = new Random(seed);
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+		}
+		for (int i = 1; i < nodeCount; i++) {
+			builder.edge(random.nextInt(i), i);
+		}
+		Graph graph = builder.build();
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setLocation(node, new Point(
+					random.nextDouble() * BOUNDS.getWidth(),
+					random.nextDouble() * BOUNDS.getHeight()));
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+		}
+		LayoutProperties.setBounds(graph, BOUNDS);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		return context;
+	}
+
+	private static SpringLayoutAlgorithm createAlgorithm(double theta) {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setIterations(50);
+		algorithm.setSpringTimeout(0);
+		algorithm.setBarnesHutTheta(theta);
+		return algorithm;
+	}
+
+	@Test
+	public void approximatedLayoutFitsBounds() {
+		LayoutContext context = createContext(200, 42);
+		createAlgorithm(0.7).applyLayout(context, true);
+		Rectangle expanded = BOUNDS.getExpanded(1, 1);
+		for (Node node : context.getNodes()) {
+			Point location = LayoutProperties.getLocation(node);
+			assertFalse(Double.isNaN(location.x) || Double.isNaN(location.y));
+			assertTrue(expanded.contains(location));
+		}
+	}
+
+	@Test
+	public void approximationApproachesExactLayout() {
+		LayoutContext exact = createContext(50, 7);
+		LayoutContext approximated = createContext(50, 7);
+		createAlgorithm(0).applyLayout(exact, true);
+		// a tiny theta opens (almost) all cells, i.e. is (almost) exact
+		createAlgorithm(1e-9).applyLayout(approximated, true);
+		assertSameLocations(exact, approximated, 1e-3);
+	}
+
+	private static void assertSameLocations(LayoutContext expected,
+			LayoutContext actual, double tolerance) {
+		Node[] expectedNodes = expected.getNodes();
+		Node[] actualNodes = actual.getNodes();
+		assertEquals(expectedNodes.length, actualNodes.length);
+		for (int i = 0; i < expectedNodes.length; i++) {
+			Point e = LayoutProperties.getLocation(expectedNodes[i]);
+			Point a = LayoutProperties.getLocation(actualNodes[i]);
+			assertEquals(e.x, a.x, tolerance);
+			assertEquals(e.y, a.y, tolerance);
+		}
+	}
+
+	@Test
+	public void parallelLayoutIsDeterministic() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (double theta : new double[] { 0, 0.7 }) {
+				LayoutContext first = createContext(300, 11);
+				LayoutContext second = createContext(300, 11);
+				LayoutContext sequential = createContext(300, 11);
+				for (LayoutContext context : new LayoutContext[] { first,
+						second }) {
+					SpringLayoutAlgorithm algorithm = createAlgorithm(theta);
+					algorithm.setRandom(true);
+					algorithm.setRandomSeed(5L);
+					algorithm.setParallel(true);
+					algorithm.setForkJoinPool(pool);
+					algorithm.applyLayout(context, true);
+				}
+				SpringLayoutAlgorithm algorithm = createAlgorithm(theta);
+				algorithm.setRandom(true);
+				algorithm.setRandomSeed(5L);
+				algorithm.applyLayout(sequential, true);
+
+				assertSameLocations(first, second, 0);
+				// only the summation order differs
+				assertSameLocations(sequential, first, 1);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeThetaIsRejected() {
+		new SpringLayoutAlgorithm().setBarnesHutTheta(-1);
+	}
+
+}
@@ -0,0 +1,362 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerSweepCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerSweepCrossingReducer.Heuristic;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SimpleLayerProvider;
+import org.junit.Test;
+
+public class SugiyamaLayoutAlgorithmTests {
+
+	private static final Rectangle BOUNDS = new Rectangle(0, 0, 800, 600);
+
+	private static LayoutContext createContext(Graph.Builder builder) {
+		Graph graph = builder.build();
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+		}
+		LayoutProperties.setBounds(graph, BOUNDS);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		return context;
+	}
+
+	/**
+	 * Creates a DAG whose nodes are distributed among layers of the given size,
+	 * and are connected to random nodes of the preceding layers.
+	 */
+	private static LayoutContext createLayeredContext(int nodeCount,
+			int layerSize, long seed) {
+		Random random = new Random(seed);
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i);
+			int layer = i / layerSize;
+			if (layer > 0) {
+				for (int p = 0; p < 2; p++) {
+					int span = 1 + random.nextInt(Math.min(layer, 2));
+					builder.edge((layer - span) * layerSize
+							+ random.nextInt(layerSize), i);
+				}
+			}
+		}
+		return createContext(builder);
+	}
+
+	private static Map<Node, Point> getLocations(LayoutContext context) {
+		Map<Node, Point> locations = new HashMap<>();
+		for (Node node : context.getNodes()) {
+			locations.put(node, LayoutProperties.getLocation(node));
+		}
+		return locations;
+	}
+
+	@Test
+	public void addedEdgeAgainstLayersResultsInCleanLayout() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 3; i++) {
+			builder.node(i);
+		}
+		builder.edge(0, 1);
+		LayoutContext context = createContext(builder);
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL);
+		algorithm.applyLayout(context, true);
+
+		// the added edge points from the second layer to the first one
+		Graph graph = context.getGraph();
+		graph.getEdges().add(new Edge(graph.getNodes().get(1),
+				graph.getNodes().get(2)));
+		algorithm.applyLayout(context, false);
+		Map<Node, Point> incremental = getLocations(context);
+
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL).applyLayout(context,
+				true);
+		assertEquals(getLocations(context), incremental);
+	}
+
+	@Test
+	public void addedEdgesAreLinkedViaDummyNodes() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 3; i++) {
+			builder.node(i);
+		}
+		builder.edge(0, 1).edge(1, 2);
+		LayoutContext context = createContext(builder);
+		LayoutProperties.setBounds(context.getGraph(),
+				new Rectangle(0, 0, 300, 300));
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL);
+		algorithm.applyLayout(context, true);
+		Map<Node, Point> before = getLocations(context);
+
+		// the added edge spans two layers, so that a dummy node is inserted
+		// next to the node of the middle layer
+		Graph graph = context.getGraph();
+		Edge added = new Edge(graph.getNodes().get(0),
+				graph.getNodes().get(2));
+		graph.getEdges().add(added);
+		algorithm.applyLayout(context, false);
+		assertEquals(150,
+				LayoutProperties.getLocation(graph.getNodes().get(1)).y, 1e-9);
+
+		// the dummy node is removed along with the edge
+		graph.getEdges().remove(added);
+		algorithm.applyLayout(context, false);
+		assertEquals(before, getLocations(context));
+	}
+
+	@Test
+	public void addedNodeIsPlacedBelowPredecessor() {
+		LayoutContext context = createLayeredContext(500, 20, 42);
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL, new DFSLayerProvider(),
+				new LayerSweepCrossingReducer());
+		algorithm.applyLayout(context, true);
+		Map<Node, Point> before = getLocations(context);
+
+		Graph graph = context.getGraph();
+		Node predecessor = graph.getNodes().get(250);
+		Node added = new Node();
+		graph.getNodes().add(added);
+		graph.getEdges().add(new Edge(predecessor, added));
+		LayoutProperties.setSize(added, new Dimension(10, 10));
+		algorithm.applyLayout(context, false);
+
+		// all nodes keep their layer
+		for (Node node : before.keySet()) {
+			assertEquals(before.get(node).y,
+					LayoutProperties.getLocation(node).y, 1e-9);
+		}
+		assertTrue(LayoutProperties.getLocation(added).y > LayoutProperties
+				.getLocation(predecessor).y);
+	}
+
+	@Test
+	public void completeBipartiteGraphHasMinimalCrossings() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 6; i++) {
+			builder.node(i);
+		}
+		for (int i = 0; i < 3; i++) {
+			for (int j = 3; j < 6; j++) {
+				builder.edge(i, j);
+			}
+		}
+		LayerSweepCrossingReducer reducer = new LayerSweepCrossingReducer();
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+				new SimpleLayerProvider(), reducer)
+						.applyLayout(createContext(builder), true);
+		// each pair of sources crosses each pair of targets once
+		assertEquals(9, reducer.getCrossings());
+	}
+
+	@Test
+	public void emptyLayersAreRemoved() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 3; i++) {
+			builder.node(i);
+		}
+		builder.edge(0, 1).edge(1, 2);
+		LayoutContext context = createContext(builder);
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL);
+		algorithm.applyLayout(context, true);
+
+		// remove the node of the middle layer
+		Graph graph = context.getGraph();
+		Node removed = graph.getNodes().get(1);
+		graph.getEdges().clear();
+		graph.getNodes().remove(removed);
+		graph.getEdges().add(new Edge(graph.getNodes().get(0),
+				graph.getNodes().get(1)));
+		algorithm.applyLayout(context, false);
+		Map<Node, Point> incremental = getLocations(context);
+
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL).applyLayout(context,
+				true);
+		assertEquals(getLocations(context), incremental);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void heuristicMayNotBeNull() {
+		new LayerSweepCrossingReducer(null, 1);
+	}
+
+	@Test
+	public void largeLayeredGraph() {
+		LayoutContext context = createLayeredContext(5000, 50, 42);
+		LayerSweepCrossingReducer initial = new LayerSweepCrossingReducer(
+				Heuristic.MEDIAN, 0);
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+				new DFSLayerProvider(), initial).applyLayout(context, true);
+		for (Heuristic heuristic : Heuristic.values()) {
+			LayerSweepCrossingReducer reducer = new LayerSweepCrossingReducer(
+					heuristic, 24);
+			new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new DFSLayerProvider(), reducer).applyLayout(context, true);
+			assertTrue(reducer.getCrossings() < initial.getCrossings() / 2);
+			// all nodes are placed at distinct locations
+			Set<Point> locations = new HashSet<>();
+			for (Node node : context.getNodes()) {
+				assertTrue(locations.add(LayoutProperties.getLocation(node)));
+			}
+		}
+	}
+
+	@Test
+	public void parallelRestartsMatchSequentialRestarts() {
+		LayoutContext context = createLayeredContext(2000, 40, 7);
+		LayerSweepCrossingReducer single = new LayerSweepCrossingReducer(
+				Heuristic.MEDIAN, 24);
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+				new DFSLayerProvider(), single).applyLayout(context, true);
+
+		LayerSweepCrossingReducer sequential = new LayerSweepCrossingReducer(
+				Heuristic.MEDIAN, 24);
+		sequential.setRestarts(8);
+		sequential.setRandomSeed(42L);
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+				new DFSLayerProvider(), sequential).applyLayout(context, true);
+		Map<Node, Point> sequentialLocations = getLocations(context);
+		assertTrue(sequential.getCrossings() <= single.getCrossings());
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			LayerSweepCrossingReducer parallel = new LayerSweepCrossingReducer(
+					Heuristic.MEDIAN, 24);
+			parallel.setRestarts(8);
+			parallel.setRandomSeed(42L);
+			parallel.setParallel(true);
+			parallel.setForkJoinPool(pool);
+			new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new DFSLayerProvider(), parallel).applyLayout(context,
+							true);
+			assertEquals(sequential.getCrossings(), parallel.getCrossings());
+			assertEquals(sequentialLocations, getLocations(context));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void removedEdgesAreRemovedFromLayers() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 3; i++) {
+			builder.node(i);
+		}
+		builder.edge(0, 1).edge(1, 2).edge(0, 2);
+		LayoutContext context = createContext(builder);
+		LayoutProperties.setBounds(context.getGraph(),
+				new Rectangle(0, 0, 300, 300));
+		// the simple layer provider inserts a dummy node for edge (0, 2)
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL);
+		algorithm.applyLayout(context, true);
+
+		Graph graph = context.getGraph();
+		graph.getEdges().remove(2);
+		algorithm.applyLayout(context, false);
+		// same locations as for a layout from scratch
+		assertEquals(new Point(50, 75),
+				LayoutProperties.getLocation(graph.getNodes().get(0)));
+		assertEquals(new Point(50, 225),
+				LayoutProperties.getLocation(graph.getNodes().get(1)));
+		assertEquals(new Point(50, 375),
+				LayoutProperties.getLocation(graph.getNodes().get(2)));
+	}
+
+	@Test
+	public void removedNodesAreRemovedFromLayers() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 100; i++) {
+			builder.node(i);
+			if (i > 0) {
+				builder.edge((i - 1) / 2, i);
+			}
+		}
+		builder.edge(1, 50);
+		LayoutContext context = createContext(builder);
+		// the simple layer provider inserts dummy nodes for edge (1, 50)
+		SugiyamaLayoutAlgorithm algorithm = new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL);
+		algorithm.applyLayout(context, true);
+
+		Graph graph = context.getGraph();
+		Node removed = graph.getNodes().get(1);
+		graph.getEdges().removeAll(removed.getIncomingEdges());
+		graph.getEdges().removeAll(removed.getOutgoingEdges());
+		graph.getNodes().remove(removed);
+		algorithm.applyLayout(context, false);
+		Set<Point> locations = new HashSet<>();
+		for (Node node : context.getNodes()) {
+			assertNotNull(LayoutProperties.getLocation(node));
+			assertTrue(locations.add(LayoutProperties.getLocation(node)));
+		}
+	}
+
+	@Test
+	public void incrementalLayoutWithoutPreviousLayout() {
+		LayoutContext context = createLayeredContext(100, 10, 42);
+		new SugiyamaLayoutAlgorithm(Direction.VERTICAL, new DFSLayerProvider())
+				.applyLayout(context, false);
+		Set<Point> locations = new HashSet<>();
+		for (Node node : context.getNodes()) {
+			assertTrue(locations.add(LayoutProperties.getLocation(node)));
+		}
+	}
+
+	@Test
+	public void treeHasNoCrossings() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 200; i++) {
+			builder.node(i);
+			if (i > 0) {
+				builder.edge((i - 1) / 3, i);
+			}
+		}
+		LayoutContext context = createContext(builder);
+		for (Heuristic heuristic : Heuristic.values()) {
+			LayerSweepCrossingReducer reducer = new LayerSweepCrossingReducer(
+					heuristic, 24);
+			new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new SimpleLayerProvider(), reducer).applyLayout(context,
+							true);
+			assertEquals(0, reducer.getCrossings());
+		}
+	}
+
+}
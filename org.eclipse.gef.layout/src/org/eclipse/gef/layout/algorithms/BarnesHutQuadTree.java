@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors: itemis AG - initial API and implementation
+ *
+ ******************************************************************************/
+package org.eclipse.gef.layout.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The {@link BarnesHutQuadTree} is a region quad tree over a set of point
+ * bodies of unit mass, which is used by the {@link SpringLayoutAlgorithm} to
+ * approximate the accumulated repulsion forces in <code>O(n log n)</code>
+ * following the Barnes-Hut scheme: a cell whose (side) size is small compared
+ * to its distance from the body for which forces are computed, i.e.
+ * <code>size / distance &lt; theta</code>, is treated as a single body located
+ * at its center of mass.
+ * <p>
+ * The tree is stored in flat primitive arrays, which are reused when the tree
+ * is {@link #build(double[], double[], int) rebuilt}, so that a layout
+ * iteration does not allocate per body.
+ */
+class BarnesHutQuadTree {
+
+	/**
+	 * Bodies that are still located within the same cell at this depth are
+	 * kept in a single leaf (which is then evaluated pairwise).
+	 */
+	private static final int MAX_DEPTH = 48;
+
+	/**
+	 * The size of the traversal stack that is needed to evaluate the forces
+	 * for a single body.
+	 */
+	static final int STACK_SIZE = 3 * MAX_DEPTH + 8;
+
+	// per cell data
+	private double[] cellMinX = new double[0];
+	private double[] cellMinY = new double[0];
+	private double[] cellSize = new double[0];
+	private double[] cellSumX = new double[0];
+	private double[] cellSumY = new double[0];
+	private int[] cellMass = new int[0];
+	private int[] cellFirstChild = new int[0];
+	private int[] cellFirstBody = new int[0];
+	private int cellCount;
+
+	// per body data
+	private int[] nextBody = new int[0];
+	private double[] bodiesX;
+	private double[] bodiesY;
+
+	/**
+	 * Accumulates the (approximated) repulsion force that all other bodies of
+	 * this tree exert on the given body into the given force buffers. The
+	 * repulsion between two bodies with distance <code>d</code> is
+	 * <code>gravitation / max(d&#178;, minDistance&#178;)</code> per unit of
+	 * mass.
+	 *
+	 * @param body
+	 *            The index of the body for which to compute the force.
+	 * @param theta
+	 *            The Barnes-Hut opening criterion.
+	 * @param gravitation
+	 *            The gravitation constant.
+	 * @param minDistanceSquared
+	 *            The squared minimum distance considered between bodies.
+	 * @param stack
+	 *            A traversal stack of (at least) {@link #STACK_SIZE}
+	 *            elements, so that concurrent evaluations do not interfere.
+	 * @param forcesX
+	 *            The buffer to which the horizontal force is added.
+	 * @param forcesY
+	 *            The buffer to which the vertical force is added.
+	 */
+	void accumulateRepulsion(int body, double theta, double gravitation,
+			double minDistanceSquared, int[] stack, double[] forcesX,
+			double[] forcesY) {
+		if (cellCount == 0) {
+			return;
+		}
+		double x = bodiesX[body];
+		double y = bodiesY[body];
+		double thetaSquared = theta * theta;
+		double fx = 0;
+		double fy = 0;
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int cell = stack[--top];
+			if (cellMass[cell] == 0) {
+				continue;
+			}
+			if (cellFirstChild[cell] < 0) {
+				// leaf: evaluate contained bodies exactly
+				for (int other = cellFirstBody[cell]; other >= 0; other = nextBody[other]) {
+					if (other == body) {
+						continue;
+					}
+					double dx = x - bodiesX[other];
+					double dy = y - bodiesY[other];
+					double distanceSquared = Math.max(minDistanceSquared,
+							dx * dx + dy * dy);
+					double distance = Math.sqrt(distanceSquared);
+					double f = gravitation / distanceSquared;
+					fx += f * dx / distance;
+					fy += f * dy / distance;
+				}
+				continue;
+			}
+			double size = cellSize[cell];
+			int mass = cellMass[cell];
+			double dx = x - cellSumX[cell] / mass;
+			double dy = y - cellSumY[cell] / mass;
+			double distanceSquared = dx * dx + dy * dy;
+			if (size * size < thetaSquared * distanceSquared
+					&& !contains(cell, x, y)) {
+				// far away cell: approximate by its center of mass
+				distanceSquared = Math.max(minDistanceSquared,
+						distanceSquared);
+				double distance = Math.sqrt(distanceSquared);
+				double f = gravitation * mass / distanceSquared;
+				fx += f * dx / distance;
+				fy += f * dy / distance;
+			} else {
+				int firstChild = cellFirstChild[cell];
+				for (int c = 0; c < 4; c++) {
+					stack[top++] = firstChild + c;
+				}
+			}
+		}
+		forcesX[body] += fx;
+		forcesY[body] += fy;
+	}
+
+	/**
+	 * Allocates a new cell with the given bounds.
+	 */
+	private int allocateCell(double minX, double minY, double size) {
+		if (cellCount == cellMass.length) {
+			int capacity = Math.max(16, cellCount * 2);
+			cellMinX = Arrays.copyOf(cellMinX, capacity);
+			cellMinY = Arrays.copyOf(cellMinY, capacity);
+			cellSize = Arrays.copyOf(cellSize, capacity);
+			cellSumX = Arrays.copyOf(cellSumX, capacity);
+			cellSumY = Arrays.copyOf(cellSumY, capacity);
+			cellMass = Arrays.copyOf(cellMass, capacity);
+			cellFirstChild = Arrays.copyOf(cellFirstChild, capacity);
+			cellFirstBody = Arrays.copyOf(cellFirstBody, capacity);
+		}
+		int cell = cellCount++;
+		cellMinX[cell] = minX;
+		cellMinY[cell] = minY;
+		cellSize[cell] = size;
+		cellSumX[cell] = 0;
+		cellSumY[cell] = 0;
+		cellMass[cell] = 0;
+		cellFirstChild[cell] = -1;
+		cellFirstBody[cell] = -1;
+		return cell;
+	}
+
+	/**
+	 * (Re-)Builds this tree for the first <i>count</i> bodies given by their
+	 * coordinates. The coordinate arrays are referenced (not copied) until the
+	 * next rebuild.
+	 *
+	 * @param x
+	 *            The horizontal coordinates of the bodies.
+	 * @param y
+	 *            The vertical coordinates of the bodies.
+	 * @param count
+	 *            The number of bodies.
+	 */
+	void build(double[] x, double[] y, int count) {
+		bodiesX = x;
+		bodiesY = y;
+		cellCount = 0;
+		if (count == 0) {
+			return;
+		}
+		if (nextBody.length < count) {
+			nextBody = new int[count];
+		}
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+		double size = Math.max(maxX - minX, maxY - minY);
+		if (!(size > 0) || Double.isInfinite(size)) {
+			size = 1;
+		}
+		allocateCell(minX, minY, size);
+		for (int i = 0; i < count; i++) {
+			insert(0, i, 0);
+		}
+	}
+
+	/**
+	 * Returns the child cell of the given (subdivided) cell that contains the
+	 * given location.
+	 */
+	private int childFor(int cell, double x, double y) {
+		double half = cellSize[cell] / 2;
+		int child = cellFirstChild[cell];
+		if (x >= cellMinX[cell] + half) {
+			child += 1;
+		}
+		if (y >= cellMinY[cell] + half) {
+			child += 2;
+		}
+		return child;
+	}
+
+	private boolean contains(int cell, double x, double y) {
+		double minX = cellMinX[cell];
+		double minY = cellMinY[cell];
+		double size = cellSize[cell];
+		return x >= minX && x <= minX + size && y >= minY && y <= minY + size;
+	}
+
+	/**
+	 * Inserts the given body into the sub-tree rooted at the given cell.
+	 */
+	private void insert(int cell, int body, int depth) {
+		double x = bodiesX[body];
+		double y = bodiesY[body];
+		while (true) {
+			cellMass[cell]++;
+			cellSumX[cell] += x;
+			cellSumY[cell] += y;
+			if (cellFirstChild[cell] >= 0) {
+				cell = childFor(cell, x, y);
+				depth++;
+				continue;
+			}
+			int first = cellFirstBody[cell];
+			if (first < 0 || depth >= MAX_DEPTH
+					|| (bodiesX[first] == x && bodiesY[first] == y)) {
+				// empty leaf, or bodies cannot be separated (further)
+				nextBody[body] = first;
+				cellFirstBody[cell] = body;
+				return;
+			}
+			// subdivide the leaf and push its bodies down one level
+			double half = cellSize[cell] / 2;
+			double minX = cellMinX[cell];
+			double minY = cellMinY[cell];
+			int firstChild = allocateCell(minX, minY, half);
+			allocateCell(minX + half, minY, half);
+			allocateCell(minX, minY + half, half);
+			allocateCell(minX + half, minY + half, half);
+			cellFirstChild[cell] = firstChild;
+			cellFirstBody[cell] = -1;
+			for (int moved = first; moved >= 0;) {
+				int next = nextBody[moved];
+				insert(childFor(cell, bodiesX[moved], bodiesY[moved]), moved,
+						depth + 1);
+				moved = next;
+			}
+			cell = childFor(cell, x, y);
+			depth++;
+		}
+	}
+
+}
@@ -14,7 +14,11 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
@@ -39,6 +43,65 @@ import org.eclipse.gef.layout.LayoutProperties;
  */
 public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 
+	/**
+	 * A {@link RecursiveAction} that recursively splits a range of chunks, so
+	 * that each single chunk is {@link #compute(int) computed} by its own
+	 * task.
+	 */
+	private static abstract class ChunkAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+
+		public ChunkAction(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				compute(from);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new SubChunkAction(this, from, middle),
+					new SubChunkAction(this, middle, to));
+		}
+
+		/**
+		 * Performs the computation for the given chunk.
+		 * 
+		 * @param chunk
+		 *            The index of the chunk to compute.
+		 */
+		protected abstract void compute(int chunk);
+	}
+
+	/**
+	 * A {@link ChunkAction} for a sub-range of chunks, which delegates the
+	 * computation of single chunks to the {@link ChunkAction} it was split
+	 * from.
+	 */
+	private static class SubChunkAction extends ChunkAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ChunkAction delegate;
+
+		public SubChunkAction(ChunkAction delegate, int from, int to) {
+			super(from, to);
+			this.delegate = delegate;
+		}
+
+		@Override
+		protected void compute(int chunk) {
+			delegate.compute(chunk);
+		}
+	}
+
 	/**
 	 * The default value for the spring layout number of iterations.
 	 */
@@ -79,6 +142,25 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private static final double MIN_DISTANCE = 1.0d;
 
+	/**
+	 * The default value for the Barnes-Hut approximation parameter, which
+	 * disables the approximation of repulsion forces.
+	 */
+	private static final double DEFAULT_BARNES_HUT_THETA = 0.0d;
+
+	/**
+	 * The default value for computing forces in parallel.
+	 */
+	private static final boolean DEFAULT_PARALLEL = false;
+
+	/**
+	 * The number of chunks into which the force computation is partitioned
+	 * when computing forces in parallel. It is independent of the number of
+	 * available processors, so that results do not depend on the executing
+	 * host.
+	 */
+	private static final int PARALLEL_CHUNKS = 32;
+
 	/**
 	 * The variable can be customized to set the number of iterations used.
 	 */
@@ -117,13 +199,47 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private double sprGravitation = DEFAULT_SPRING_GRAVITATION;
 
+	/**
+	 * The variable can be customized to approximate the repulsion forces
+	 * using a Barnes-Hut quad tree. A value of <code>0</code> disables the
+	 * approximation.
+	 */
+	private double barnesHutTheta = DEFAULT_BARNES_HUT_THETA;
+
+	/**
+	 * The variable can be customized to set whether or not forces are
+	 * computed in parallel.
+	 */
+	private boolean parallel = DEFAULT_PARALLEL;
+
+	/**
+	 * The {@link ForkJoinPool} that is used when computing forces in
+	 * parallel.
+	 */
+	private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+	/**
+	 * The seed used when placing nodes randomly, or <code>null</code> if no
+	 * seed is to be used.
+	 */
+	private Long randomSeed = null;
+
 	/**
 	 * Variable indicating whether the algorithm should resize elements.
 	 */
 	private boolean resize = false;
 
 	private int iteration;
-	private double[][] srcDestToSumOfWeights;
+	// sparse (compressed row) representation of the summed edge weights
+	// between entities, each row sorted by ascending entity index
+	private int[] weightOffsets;
+	private int[] weightIndices;
+	private double[] weights;
+	private BarnesHutQuadTree quadTree;
+	private double[] normalizedX, normalizedY;
+	// per chunk force buffers (and row partitioning) for parallel computation
+	private double[][] chunkForcesX, chunkForcesY;
+	private int[] chunkRows;
 	private Node[] entities;
 	private double[] forcesX, forcesY;
 	private double[] locationsX, locationsY;
@@ -319,6 +435,99 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		return sprGravitation;
 	}
 
+	/**
+	 * Sets the Barnes-Hut approximation parameter (theta), which controls how
+	 * repulsion forces between unrelated nodes are computed. If set to
+	 * <code>0</code> (the default), all pairs of nodes are considered, which
+	 * requires <code>O(n&#178;)</code> time per iteration. A positive value
+	 * enables the approximation of repulsion forces via a quad tree, so that
+	 * an iteration only requires <code>O(n log n)</code> time. Groups of
+	 * nodes whose extent relative to their distance is smaller than theta are
+	 * then treated as a single node, i.e. larger values result in faster but
+	 * less accurate layouts (<code>0.5</code> to <code>1.0</code> are common
+	 * choices).
+	 * 
+	 * @param theta
+	 *            The Barnes-Hut approximation parameter, or <code>0</code> to
+	 *            disable the approximation.
+	 */
+	public void setBarnesHutTheta(double theta) {
+		if (theta < 0) {
+			throw new IllegalArgumentException(
+					"The Barnes-Hut theta may not be negative.");
+		}
+		barnesHutTheta = theta;
+	}
+
+	/**
+	 * Returns the Barnes-Hut approximation parameter (theta) of this
+	 * {@link SpringLayoutAlgorithm}.
+	 * 
+	 * @return The Barnes-Hut approximation parameter, or <code>0</code> if
+	 *         repulsion forces are not approximated.
+	 * @see #setBarnesHutTheta(double)
+	 */
+	public double getBarnesHutTheta() {
+		return barnesHutTheta;
+	}
+
+	/**
+	 * Sets whether or not this {@link SpringLayoutAlgorithm} computes the
+	 * forces of an iteration in parallel, using the
+	 * {@link #setForkJoinPool(ForkJoinPool) fork-join pool}. The work is
+	 * partitioned into a fixed number of chunks, each of which accumulates
+	 * into its own force buffers, which are reduced in chunk order afterwards.
+	 * Therefore, the results are deterministic (provided a
+	 * {@link #setRandomSeed(Long) random seed} is used or
+	 * {@link #setRandom(boolean) random placement} is disabled), independent
+	 * of the number of threads.
+	 * 
+	 * @param parallel
+	 *            <code>true</code> to compute forces in parallel,
+	 *            <code>false</code> to compute them on the calling thread
+	 *            (default).
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns whether or not this {@link SpringLayoutAlgorithm} computes the
+	 * forces of an iteration in parallel.
+	 * 
+	 * @return <code>true</code> if forces are computed in parallel, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Sets the {@link ForkJoinPool} that is used to compute forces in
+	 * parallel. Per default, the {@link ForkJoinPool#commonPool() common
+	 * pool} is used.
+	 * 
+	 * @param forkJoinPool
+	 *            The {@link ForkJoinPool} to use.
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException(
+					"The ForkJoinPool may not be null.");
+		}
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Returns the {@link ForkJoinPool} that is used to compute forces in
+	 * parallel.
+	 * 
+	 * @return The {@link ForkJoinPool} to use.
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
 	/**
 	 * Sets the number of iterations to be used.
 	 * 
@@ -360,6 +569,28 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		return sprRandom;
 	}
 
+	/**
+	 * Sets the seed that is used when placing the nodes randomly before
+	 * beginning iterations, so that layouts are reproducible.
+	 * 
+	 * @param seed
+	 *            The seed to use, or <code>null</code> to use a different
+	 *            random placement for each layout pass (default).
+	 */
+	public void setRandomSeed(Long seed) {
+		randomSeed = seed;
+	}
+
+	/**
+	 * Returns the seed that is used when placing the nodes randomly before
+	 * beginning iterations.
+	 * 
+	 * @return The seed, or <code>null</code> if no seed is used.
+	 */
+	public Long getRandomSeed() {
+		return randomSeed;
+	}
+
 	private long startTime = 0;
 
 	private void initLayout(LayoutContext context) {
@@ -367,26 +598,35 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		bounds = LayoutProperties.getBounds(context.getGraph());
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
 		HashMap<Node, Integer> entityToPosition = new HashMap<>();
 		for (int i = 0; i < entities.length; i++) {
 			entityToPosition.put(entities[i], new Integer(i));
 		}
 
 		Edge[] connections = context.getEdges();
+		int[] sources = new int[connections.length];
+		int[] targets = new int[connections.length];
+		double[] connectionWeights = new double[connections.length];
+		int[] degrees = new int[entities.length + 1];
+		int relevantConnections = 0;
 		for (int i = 0; i < connections.length; i++) {
 			Edge connection = connections[i];
 			Integer source = entityToPosition.get(connection.getSource());
 			Integer target = entityToPosition.get(connection.getTarget());
-			if (source == null || target == null)
+			if (source == null || target == null
+					|| source.intValue() == target.intValue())
 				continue;
 			double weight = LayoutProperties.getWeight(connection);
 			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target
-					.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source
-					.intValue()] += weight;
+			sources[relevantConnections] = source.intValue();
+			targets[relevantConnections] = target.intValue();
+			connectionWeights[relevantConnections] = weight;
+			degrees[source.intValue() + 1]++;
+			degrees[target.intValue() + 1]++;
+			relevantConnections++;
 		}
+		initWeights(sources, targets, connectionWeights, relevantConnections,
+				degrees);
 
 		if (sprRandom)
 			placeRandomly(); // put vertices in random places
@@ -396,6 +636,60 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		startTime = System.currentTimeMillis();
 	}
 
+	/**
+	 * Initializes the sparse representation of the summed weights between
+	 * related entities from the given (relevant) connections.
+	 */
+	private void initWeights(int[] sources, int[] targets,
+			double[] connectionWeights, int count, int[] degrees) {
+		int n = entities.length;
+		// compute row offsets (degrees are shifted by one)
+		for (int i = 0; i < n; i++) {
+			degrees[i + 1] += degrees[i];
+		}
+		int[] offsets = degrees;
+		int[] indices = new int[offsets[n]];
+		double[] values = new double[offsets[n]];
+		int[] fill = new int[n];
+		for (int c = 0; c < count; c++) {
+			int source = sources[c];
+			int target = targets[c];
+			indices[offsets[source] + fill[source]] = target;
+			values[offsets[source] + fill[source]++] = connectionWeights[c];
+			indices[offsets[target] + fill[target]] = source;
+			values[offsets[target] + fill[target]++] = connectionWeights[c];
+		}
+
+		// sum up the weights of parallel connections in-place, sorting each
+		// row by entity index
+		double[] rowWeights = new double[n];
+		int size = 0;
+		for (int i = 0; i < n; i++) {
+			int start = offsets[i];
+			int end = offsets[i + 1];
+			int rowStart = size;
+			for (int e = start; e < end; e++) {
+				if (rowWeights[indices[e]] == 0) {
+					fill[size - rowStart] = indices[e];
+					size++;
+				}
+				rowWeights[indices[e]] += values[e];
+			}
+			Arrays.sort(fill, 0, size - rowStart);
+			for (int e = rowStart; e < size; e++) {
+				int j = fill[e - rowStart];
+				indices[e] = j;
+				values[e] = rowWeights[j];
+				rowWeights[j] = 0;
+			}
+			offsets[i] = rowStart;
+		}
+		offsets[n] = size;
+		weightOffsets = offsets;
+		weightIndices = indices;
+		weights = values;
+	}
+
 	private void loadLocations() {
 		if (locationsX == null || locationsX.length != entities.length) {
 			int length = entities.length;
@@ -511,11 +805,13 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			locationsY[0] = bounds.getY();
 			locationsX[1] = bounds.getX() + bounds.getWidth();
 			locationsY[1] = bounds.getY() + bounds.getHeight();
+			Random random = randomSeed == null ? new Random()
+					: new Random(randomSeed.longValue());
 			for (int i = 2; i < locationsX.length; i++) {
 				locationsX[i] = bounds.getX()
-						+ Math.random() * bounds.getWidth();
+						+ random.nextDouble() * bounds.getWidth();
 				locationsY[i] = bounds.getY()
-						+ Math.random() * bounds.getHeight();
+						+ random.nextDouble() * bounds.getHeight();
 			}
 		}
 	}
@@ -540,47 +836,13 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
-
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j])
-							/ bounds.getWidth() / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j])
-							/ bounds.getHeight() / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
-							distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength)
-								* sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
+			if (barnesHutTheta > 0) {
+				accumulateApproximatedForces(locationsX, locationsY,
+						forcesX[k], forcesY[k]);
+			} else {
+				accumulateForces(locationsX, locationsY, forcesX[k],
+						forcesY[k]);
 			}
 
 			for (int i = 0; i < entities.length; i++) {
@@ -622,6 +884,209 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 
 	}
 
+	/**
+	 * Accumulates the forces between all pairs of nodes into the given force
+	 * buffers. If there are relationships between two nodes, they are pulled
+	 * towards each other, otherwise they are repelled from each other.
+	 */
+	private void accumulateForces(final double[] locationsX,
+			final double[] locationsY, double[] forcesX, double[] forcesY) {
+		int n = locationsX.length;
+		if (!parallel || n < 2 * PARALLEL_CHUNKS) {
+			accumulateForces(locationsX, locationsY, 0, n, forcesX, forcesY);
+			return;
+		}
+
+		// partition the rows so that each chunk covers a similar number of
+		// pairs (row i covers n - 1 - i pairs)
+		initChunks(n);
+		double pairs = (double) n * (n - 1) / 2;
+		double covered = 0;
+		int chunk = 1;
+		chunkRows[0] = 0;
+		for (int i = 0; i < n && chunk < PARALLEL_CHUNKS; i++) {
+			covered += n - 1 - i;
+			if (covered >= pairs * chunk / PARALLEL_CHUNKS) {
+				chunkRows[chunk++] = i + 1;
+			}
+		}
+		while (chunk <= PARALLEL_CHUNKS) {
+			chunkRows[chunk++] = n;
+		}
+
+		forkJoinPool.invoke(new ChunkAction(0, PARALLEL_CHUNKS) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute(int chunk) {
+				double[] fx = chunkForcesX[chunk];
+				double[] fy = chunkForcesY[chunk];
+				Arrays.fill(fx, 0);
+				Arrays.fill(fy, 0);
+				accumulateForces(locationsX, locationsY, chunkRows[chunk],
+						chunkRows[chunk + 1], fx, fy);
+			}
+		});
+
+		// reduce chunk buffers in a fixed order
+		for (int c = 0; c < PARALLEL_CHUNKS; c++) {
+			double[] fx = chunkForcesX[c];
+			double[] fy = chunkForcesY[c];
+			for (int i = 0; i < n; i++) {
+				forcesX[i] += fx[i];
+				forcesY[i] += fy[i];
+			}
+		}
+	}
+
+	/**
+	 * Accumulates the forces between the nodes of the given rows and all
+	 * nodes with a greater index into the given force buffers.
+	 */
+	private void accumulateForces(double[] locationsX, double[] locationsY,
+			int fromRow, int toRow, double[] forcesX, double[] forcesY) {
+		for (int i = fromRow; i < toRow; i++) {
+			// weights of row i are sorted by ascending node index
+			int e = weightOffsets[i];
+			int end = weightOffsets[i + 1];
+			while (e < end && weightIndices[e] <= i) {
+				e++;
+			}
+
+			for (int j = i + 1; j < locationsX.length; j++) {
+				double dx = (locationsX[i] - locationsX[j]) / bounds.getWidth()
+						/ boundsScaleX;
+				double dy = (locationsY[i] - locationsY[j])
+						/ bounds.getHeight() / boundsScaleY;
+				double distance_sq = dx * dx + dy * dy;
+				// make sure distance and distance squared not too small
+				distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						distance_sq);
+				double distance = Math.sqrt(distance_sq);
+
+				// If there are relationships between srcObj and destObj
+				// then decrease force on srcObj (a pull) in direction of
+				// destObj
+				// If no relation between srcObj and destObj then increase
+				// force on srcObj (a push) from direction of destObj.
+				double sumOfWeights = 0;
+				if (e < end && weightIndices[e] == j) {
+					sumOfWeights = weights[e++];
+				}
+
+				double f;
+				if (sumOfWeights > 0) {
+					// nodes are pulled towards each other
+					f = -sprStrain * Math.log(distance / sprLength)
+							* sumOfWeights;
+				} else {
+					// nodes are repelled from each other
+					f = sprGravitation / (distance_sq);
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	/**
+	 * Accumulates the repulsion forces between all nodes (approximated using
+	 * a {@link BarnesHutQuadTree}) into the given force buffers, and replaces
+	 * the repulsion between related nodes by their (exact) attraction.
+	 */
+	private void accumulateApproximatedForces(double[] locationsX,
+			double[] locationsY, final double[] forcesX,
+			final double[] forcesY) {
+		final int n = locationsX.length;
+		if (normalizedX == null || normalizedX.length != n) {
+			normalizedX = new double[n];
+			normalizedY = new double[n];
+		}
+		if (quadTree == null) {
+			quadTree = new BarnesHutQuadTree();
+		}
+		// forces are computed in normalized space
+		double scaleX = bounds.getWidth() * boundsScaleX;
+		double scaleY = bounds.getHeight() * boundsScaleY;
+		for (int i = 0; i < n; i++) {
+			normalizedX[i] = locationsX[i] / scaleX;
+			normalizedY[i] = locationsY[i] / scaleY;
+		}
+		quadTree.build(normalizedX, normalizedY, n);
+		if (!parallel || n < 2 * PARALLEL_CHUNKS) {
+			int[] stack = new int[BarnesHutQuadTree.STACK_SIZE];
+			for (int i = 0; i < n; i++) {
+				quadTree.accumulateRepulsion(i, barnesHutTheta,
+						sprGravitation, MIN_DISTANCE * MIN_DISTANCE, stack,
+						forcesX, forcesY);
+			}
+		} else {
+			// the force on each node is accumulated by a single task, so the
+			// shared force buffers can be used
+			forkJoinPool.invoke(new ChunkAction(0, PARALLEL_CHUNKS) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute(int chunk) {
+					int[] stack = new int[BarnesHutQuadTree.STACK_SIZE];
+					int from = (int) ((long) n * chunk / PARALLEL_CHUNKS);
+					int to = (int) ((long) n * (chunk + 1) / PARALLEL_CHUNKS);
+					for (int i = from; i < to; i++) {
+						quadTree.accumulateRepulsion(i, barnesHutTheta,
+								sprGravitation, MIN_DISTANCE * MIN_DISTANCE,
+								stack, forcesX, forcesY);
+					}
+				}
+			});
+		}
+
+		for (int i = 0; i < n; i++) {
+			for (int e = weightOffsets[i]; e < weightOffsets[i + 1]; e++) {
+				int j = weightIndices[e];
+				if (j <= i) {
+					continue;
+				}
+				double dx = normalizedX[i] - normalizedX[j];
+				double dy = normalizedY[i] - normalizedY[j];
+				double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						dx * dx + dy * dy);
+				double distance = Math.sqrt(distance_sq);
+				// nodes are pulled towards each other instead of being
+				// repelled from each other
+				double f = -sprStrain * Math.log(distance / sprLength)
+						* weights[e] - sprGravitation / distance_sq;
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	/**
+	 * Ensures the per chunk buffers are allocated for the given number of
+	 * nodes.
+	 */
+	private void initChunks(int n) {
+		if (chunkForcesX == null || chunkForcesX[0].length != n) {
+			chunkForcesX = new double[PARALLEL_CHUNKS][n];
+			chunkForcesY = new double[PARALLEL_CHUNKS][n];
+		}
+		if (chunkRows == null) {
+			chunkRows = new int[PARALLEL_CHUNKS + 1];
+		}
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position =
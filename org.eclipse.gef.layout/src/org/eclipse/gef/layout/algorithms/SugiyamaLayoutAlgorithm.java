@@ -18,6 +18,7 @@
 package org.eclipse.gef.layout.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -29,11 +30,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
@@ -634,6 +639,604 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 	}
 
+	/**
+	 * Implements the {@link CrossingReducer} interface by means of the layer
+	 * sweep method: The layers are reordered one after the other, alternating
+	 * top-down and bottom-up, where the nodes of a layer are sorted by the
+	 * median or barycenter (see {@link Heuristic}) of the positions of their
+	 * neighbors in the previously processed layer. After each sweep, the
+	 * number of crossings is counted in <code>O(|E| log |V|)</code> by means of
+	 * an accumulator tree (see Barth et al., "Simple and Efficient Bilayer
+	 * Cross Counting", http://dx.doi.org/10.7155/jgaa.00088), and the ordering
+	 * with the fewest crossings is kept.
+	 * <p>
+	 * The adjacency between consecutive layers is computed once and stored in
+	 * arrays, so that a sweep takes <code>O(|E| log |E|)</code> time, which
+	 * enables crossing reduction for graphs with tens of thousands of nodes. If
+	 * the {@link LayerProvider} did not link the {@link NodeWrapper}s (as the
+	 * {@link DFSLayerProvider}), the adjacency is derived from the edges of the
+	 * wrapped {@link Node}s. Edges that span several layers are subdivided by
+	 * virtual nodes, which are only used internally and are not added to the
+	 * layers. Edges between nodes of the same layer are ignored.
+	 * <p>
+	 * As the result of the sweeps depends on the initial ordering, further
+	 * {@link #setRestarts(int) restarts} can be performed from random initial
+	 * orderings, which can be {@link #setParallel(boolean) executed in
+	 * parallel} on a {@link ForkJoinPool}. The ordering with the fewest
+	 * crossings among all runs is kept.
+	 */
+	public static class LayerSweepCrossingReducer implements CrossingReducer {
+
+		/**
+		 * The heuristic that is used to determine the position of a node
+		 * based on the positions of its neighbors in the adjacent layer.
+		 */
+		public enum Heuristic {
+			/**
+			 * The average of the positions of the neighbors.
+			 */
+			BARYCENTER,
+
+			/**
+			 * The weighted median of the positions of the neighbors (see
+			 * Gansner et al., "A Technique for Drawing Directed Graphs",
+			 * http://dx.doi.org/10.1109/32.221135).
+			 */
+			MEDIAN
+		}
+
+		/**
+		 * A single run of the layer sweep method, starting from a given
+		 * ordering. Each run maintains its own ordering and buffers, while
+		 * the adjacency arrays of the {@link LayerSweepCrossingReducer} are
+		 * shared, so that runs can be executed concurrently.
+		 */
+		private class Sweep {
+
+			private final int[][] order;
+			private final int[][] bestOrder;
+			private final int[] position = new int[vertexCount];
+			private long crossings;
+			// buffers that are reused for all layers
+			private final double[] key = new double[vertexCount];
+			private final int[] movable = new int[maxLayerSize];
+			private final int[] sortBuffer = new int[maxLayerSize];
+			private final int[] neighbors = new int[maxDegree];
+			private final int[] tree;
+
+			Sweep(int[][] initialOrder) {
+				order = new int[initialOrder.length][];
+				bestOrder = new int[initialOrder.length][];
+				for (int layer = 0; layer < order.length; layer++) {
+					order[layer] = initialOrder[layer].clone();
+					for (int i = 0; i < order[layer].length; i++)
+						position[order[layer][i]] = i;
+				}
+				int treeSize = 1;
+				while (treeSize < maxLayerSize)
+					treeSize <<= 1;
+				tree = new int[2 * treeSize];
+			}
+
+			/**
+			 * Computes the position of the given vertex based on the
+			 * positions of the given neighbors. Returns <code>-1</code> if the
+			 * vertex does not have any neighbors.
+			 */
+			private double computeKey(int vertex, int[] start,
+					int[] adjacency) {
+				int degree = start[vertex + 1] - start[vertex];
+				if (degree == 0)
+					return -1;
+				if (heuristic == Heuristic.BARYCENTER) {
+					double sum = 0;
+					for (int e = start[vertex]; e < start[vertex + 1]; e++)
+						sum += position[adjacency[e]];
+					return sum / degree;
+				}
+				for (int i = 0; i < degree; i++)
+					neighbors[i] = position[adjacency[start[vertex] + i]];
+				Arrays.sort(neighbors, 0, degree);
+				int median = degree / 2;
+				if ((degree & 1) == 1)
+					return neighbors[median];
+				if (degree == 2)
+					return (neighbors[0] + neighbors[1]) / 2d;
+				// weight the two medians by the spread on the other side
+				double left = neighbors[median - 1] - neighbors[0];
+				double right = neighbors[degree - 1] - neighbors[median];
+				if (left + right == 0)
+					return (neighbors[median - 1] + neighbors[median]) / 2d;
+				return (neighbors[median - 1] * right
+						+ neighbors[median] * left) / (left + right);
+			}
+
+			/**
+			 * Counts the crossings between the given upper layer and the next
+			 * layer (of the given size) by means of an accumulator tree.
+			 */
+			private long countCrossings(int[] upper, int lowerSize) {
+				int firstIndex = 1;
+				while (firstIndex < lowerSize)
+					firstIndex <<= 1;
+				Arrays.fill(tree, 0, 2 * firstIndex - 1, 0);
+				firstIndex--;
+				long count = 0;
+				// insert the edges, sorted by their upper and lower positions
+				for (int vertex : upper) {
+					int degree = 0;
+					for (int e = downStart[vertex]; e < downStart[vertex
+							+ 1]; e++)
+						neighbors[degree++] = position[downAdjacency[e]];
+					Arrays.sort(neighbors, 0, degree);
+					for (int i = 0; i < degree; i++) {
+						int index = neighbors[i] + firstIndex;
+						tree[index]++;
+						while (index > 0) {
+							// count the inserted edges with a greater lower
+							// position
+							if ((index & 1) == 1)
+								count += tree[index + 1];
+							index = (index - 1) >> 1;
+							tree[index]++;
+						}
+					}
+				}
+				return count;
+			}
+
+			private long countCrossings() {
+				long count = 0;
+				for (int layer = 0; layer < order.length - 1; layer++)
+					count += countCrossings(order[layer],
+							order[layer + 1].length);
+				return count;
+			}
+
+			/**
+			 * Sorts the given layer by the positions of the neighbors of its
+			 * vertices in the given adjacency arrays. Vertices without
+			 * neighbors keep their position.
+			 */
+			private void reorder(int[] layer, int[] start, int[] adjacency) {
+				int count = 0;
+				for (int vertex : layer) {
+					key[vertex] = computeKey(vertex, start, adjacency);
+					if (key[vertex] >= 0)
+						movable[count++] = vertex;
+				}
+				sort(movable, 0, count);
+				count = 0;
+				for (int i = 0; i < layer.length; i++) {
+					if (key[layer[i]] >= 0)
+						layer[i] = movable[count++];
+					position[layer[i]] = i;
+				}
+			}
+
+			/**
+			 * Sweeps alternately down and up, and keeps the best ordering.
+			 */
+			void run() {
+				crossings = countCrossings();
+				saveOrder();
+				int withoutImprovement = 0;
+				for (int iteration = 0; iteration < maxIterations
+						&& crossings > 0
+						&& withoutImprovement < MAX_ITERATIONS_WITHOUT_IMPROVEMENT;
+						iteration++) {
+					boolean improved = false;
+					for (int layer = 1; layer < order.length; layer++)
+						reorder(order[layer], upStart, upAdjacency);
+					improved |= saveOrderIfBetter();
+					for (int layer = order.length - 2; layer >= 0; layer--)
+						reorder(order[layer], downStart, downAdjacency);
+					improved |= saveOrderIfBetter();
+					withoutImprovement = improved ? 0 : withoutImprovement + 1;
+				}
+			}
+
+			private void saveOrder() {
+				for (int layer = 0; layer < order.length; layer++)
+					bestOrder[layer] = order[layer].clone();
+			}
+
+			private boolean saveOrderIfBetter() {
+				long count = countCrossings();
+				if (count >= crossings)
+					return false;
+				crossings = count;
+				saveOrder();
+				return true;
+			}
+
+			/**
+			 * Stable merge sort of the given range of vertices by their keys.
+			 */
+			private void sort(int[] vertices, int from, int to) {
+				if (to - from < 2)
+					return;
+				int middle = (from + to) >>> 1;
+				sort(vertices, from, middle);
+				sort(vertices, middle, to);
+				if (key[vertices[middle - 1]] <= key[vertices[middle]])
+					return;
+				System.arraycopy(vertices, from, sortBuffer, from, to - from);
+				int i = from, j = middle, k = from;
+				while (i < middle && j < to)
+					vertices[k++] = key[sortBuffer[j]] < key[sortBuffer[i]]
+							? sortBuffer[j++] : sortBuffer[i++];
+				while (i < middle)
+					vertices[k++] = sortBuffer[i++];
+				while (j < to)
+					vertices[k++] = sortBuffer[j++];
+			}
+		}
+
+		private static final int DEFAULT_MAX_ITERATIONS = 24;
+		// stop after this number of iterations did not reduce the crossings
+		private static final int MAX_ITERATIONS_WITHOUT_IMPROVEMENT = 4;
+
+		private final Heuristic heuristic;
+		private final int maxIterations;
+		private int restarts = 0;
+		private Long randomSeed = null;
+		private boolean parallel = false;
+		private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+		private long crossings;
+
+		// the vertices are the node wrappers, followed by the virtual nodes
+		private int vertexCount;
+		private int[] layerOf;
+		private int maxLayerSize;
+		private int maxDegree;
+		// the neighbors of each vertex in the preceding (up) and succeeding
+		// (down) layer, in compressed sparse row format
+		private int[] upStart;
+		private int[] upAdjacency;
+		private int[] downStart;
+		private int[] downAdjacency;
+		// the edges (before they are stored as adjacency arrays)
+		private int edgeCount;
+		private int[] edgeUpper;
+		private int[] edgeLower;
+
+		/**
+		 * Constructs a new {@link LayerSweepCrossingReducer} that uses the
+		 * {@link Heuristic#MEDIAN} heuristic.
+		 */
+		public LayerSweepCrossingReducer() {
+			this(Heuristic.MEDIAN, DEFAULT_MAX_ITERATIONS);
+		}
+
+		/**
+		 * Constructs a new {@link LayerSweepCrossingReducer} that uses the
+		 * given {@link Heuristic} and performs at most the given number of
+		 * iterations, each consisting of a top-down and a bottom-up sweep.
+		 *
+		 * @param heuristic
+		 *            The {@link Heuristic} to use.
+		 * @param maxIterations
+		 *            The maximum number of iterations.
+		 */
+		public LayerSweepCrossingReducer(Heuristic heuristic,
+				int maxIterations) {
+			if (heuristic == null)
+				throw new IllegalArgumentException(
+						"The heuristic may not be null.");
+			if (maxIterations < 0)
+				throw new IllegalArgumentException(
+						"The number of iterations may not be negative.");
+			this.heuristic = heuristic;
+			this.maxIterations = maxIterations;
+		}
+
+		private void addEdge(int upper, int lower) {
+			if (edgeCount == edgeUpper.length) {
+				edgeUpper = Arrays.copyOf(edgeUpper, 2 * edgeCount);
+				edgeLower = Arrays.copyOf(edgeLower, 2 * edgeCount);
+			}
+			edgeUpper[edgeCount] = upper;
+			edgeLower[edgeCount] = lower;
+			edgeCount++;
+		}
+
+		private int addVertex(int layer) {
+			if (vertexCount == layerOf.length)
+				layerOf = Arrays.copyOf(layerOf, 2 * vertexCount);
+			layerOf[vertexCount] = layer;
+			return vertexCount++;
+		}
+
+		/**
+		 * Computes the adjacency arrays from the collected edges.
+		 */
+		private void computeAdjacency() {
+			upStart = new int[vertexCount + 1];
+			downStart = new int[vertexCount + 1];
+			for (int e = 0; e < edgeCount; e++) {
+				downStart[edgeUpper[e] + 1]++;
+				upStart[edgeLower[e] + 1]++;
+			}
+			maxDegree = 0;
+			for (int v = 0; v < vertexCount; v++) {
+				maxDegree = Math.max(maxDegree,
+						Math.max(downStart[v + 1], upStart[v + 1]));
+				downStart[v + 1] += downStart[v];
+				upStart[v + 1] += upStart[v];
+			}
+			upAdjacency = new int[edgeCount];
+			downAdjacency = new int[edgeCount];
+			int[] up = Arrays.copyOf(upStart, vertexCount);
+			int[] down = Arrays.copyOf(downStart, vertexCount);
+			for (int e = 0; e < edgeCount; e++) {
+				downAdjacency[down[edgeUpper[e]]++] = edgeLower[e];
+				upAdjacency[up[edgeLower[e]]++] = edgeUpper[e];
+			}
+			edgeUpper = null;
+			edgeLower = null;
+		}
+
+		/**
+		 * Connects the given vertices, subdividing the connection by virtual
+		 * vertices if it spans several layers.
+		 */
+		private void connect(int source, int target) {
+			int upper = layerOf[source] < layerOf[target] ? source : target;
+			int lower = upper == source ? target : source;
+			if (layerOf[upper] == layerOf[lower])
+				return;
+			for (int layer = layerOf[upper] + 1; layer < layerOf[lower];
+					layer++) {
+				int virtual = addVertex(layer);
+				addEdge(upper, virtual);
+				upper = virtual;
+			}
+			addEdge(upper, lower);
+		}
+
+		public void crossReduction(List<List<NodeWrapper>> nodes) {
+			int layerCount = nodes.size();
+			Map<NodeWrapper, Integer> ids = new IdentityHashMap<>();
+			Map<Node, NodeWrapper> map = new IdentityHashMap<>();
+			List<NodeWrapper> wrappers = new ArrayList<>();
+			boolean linked = false;
+			for (List<NodeWrapper> layer : nodes) {
+				for (NodeWrapper nw : layer) {
+					ids.put(nw, wrappers.size());
+					wrappers.add(nw);
+					if (nw.node != null)
+						map.put(nw.node, nw);
+					linked |= !nw.pred.isEmpty() || !nw.succ.isEmpty();
+				}
+			}
+
+			// collect the edges between consecutive layers
+			int wrapperCount = wrappers.size();
+			vertexCount = 0;
+			layerOf = new int[Math.max(16, 2 * wrapperCount)];
+			edgeCount = 0;
+			edgeUpper = new int[Math.max(16, 2 * wrapperCount)];
+			edgeLower = new int[edgeUpper.length];
+			for (int layer = 0; layer < layerCount; layer++)
+				for (int i = 0; i < nodes.get(layer).size(); i++)
+					addVertex(layer);
+			for (int v = 0; v < wrapperCount; v++) {
+				NodeWrapper nw = wrappers.get(v);
+				if (linked) {
+					// the layer provider made the hierarchy proper
+					for (NodeWrapper successor : nw.succ) {
+						Integer id = ids.get(successor);
+						if (id != null)
+							connect(v, id);
+					}
+				} else if (nw.node != null) {
+					for (Edge edge : nw.node.getOutgoingEdges()) {
+						NodeWrapper target = map.get(edge.getTarget());
+						if (target != null)
+							connect(v, ids.get(target));
+					}
+				}
+			}
+			computeAdjacency();
+
+			// the initial ordering, with the virtual vertices appended
+			int[][] initialOrder = new int[layerCount][];
+			int[] size = new int[layerCount];
+			for (int v = 0; v < vertexCount; v++)
+				size[layerOf[v]]++;
+			maxLayerSize = 0;
+			for (int layer = 0; layer < layerCount; layer++) {
+				initialOrder[layer] = new int[size[layer]];
+				maxLayerSize = Math.max(maxLayerSize, size[layer]);
+				size[layer] = 0;
+			}
+			for (int v = 0; v < vertexCount; v++)
+				initialOrder[layerOf[v]][size[layerOf[v]]++] = v;
+
+			// run the sweeps from the initial and from random orderings
+			final Sweep[] sweeps = new Sweep[restarts + 1];
+			sweeps[0] = new Sweep(initialOrder);
+			long seed = randomSeed == null ? new Random().nextLong()
+					: randomSeed.longValue();
+			for (int restart = 1; restart <= restarts; restart++) {
+				// seed each restart separately, so that the result does not
+				// depend on the execution order
+				Random random = new Random(seed + restart);
+				for (int[] layer : initialOrder)
+					shuffle(layer, random);
+				sweeps[restart] = new Sweep(initialOrder);
+			}
+			if (parallel && sweeps.length > 1) {
+				forkJoinPool.invoke(new RecursiveAction() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+						List<RecursiveAction> tasks = new ArrayList<>();
+						for (final Sweep sweep : sweeps) {
+							tasks.add(new RecursiveAction() {
+								private static final long serialVersionUID = 1L;
+
+								@Override
+								protected void compute() {
+									sweep.run();
+								}
+							});
+						}
+						invokeAll(tasks);
+					}
+				});
+			} else {
+				for (Sweep sweep : sweeps)
+					sweep.run();
+			}
+			Sweep best = sweeps[0];
+			for (Sweep sweep : sweeps)
+				if (sweep.crossings < best.crossings)
+					best = sweep;
+			crossings = best.crossings;
+
+			// apply the best ordering, dropping the virtual vertices
+			for (int layer = 0; layer < layerCount; layer++) {
+				List<NodeWrapper> list = nodes.get(layer);
+				int index = 0;
+				for (int v : best.bestOrder[layer]) {
+					if (v < wrapperCount) {
+						NodeWrapper nw = wrappers.get(v);
+						nw.index = index;
+						list.set(index++, nw);
+					}
+				}
+			}
+
+			// release the working memory
+			layerOf = null;
+			upStart = null;
+			upAdjacency = null;
+			downStart = null;
+			downAdjacency = null;
+		}
+
+		/**
+		 * Returns the number of crossings of the ordering that was computed by
+		 * the last call to {@link #crossReduction(List)}, where the crossings
+		 * of edges that span several layers are counted between each pair of
+		 * consecutive layers.
+		 *
+		 * @return The number of crossings.
+		 */
+		public long getCrossings() {
+			return crossings;
+		}
+
+		/**
+		 * Returns the {@link ForkJoinPool} that is used to execute restarts in
+		 * parallel.
+		 *
+		 * @return The {@link ForkJoinPool} to use.
+		 */
+		public ForkJoinPool getForkJoinPool() {
+			return forkJoinPool;
+		}
+
+		/**
+		 * Returns the seed for the random initial orderings of the restarts.
+		 *
+		 * @return The seed, or <code>null</code> if no seed is used.
+		 */
+		public Long getRandomSeed() {
+			return randomSeed;
+		}
+
+		/**
+		 * Returns the number of restarts from random initial orderings.
+		 *
+		 * @return The number of restarts.
+		 */
+		public int getRestarts() {
+			return restarts;
+		}
+
+		/**
+		 * Returns whether the restarts are executed in parallel.
+		 *
+		 * @return <code>true</code> if restarts are executed in parallel,
+		 *         otherwise <code>false</code>.
+		 */
+		public boolean isParallel() {
+			return parallel;
+		}
+
+		/**
+		 * Sets the {@link ForkJoinPool} that is used to execute restarts in
+		 * parallel. Per default, the {@link ForkJoinPool#commonPool() common
+		 * pool} is used.
+		 *
+		 * @param forkJoinPool
+		 *            The {@link ForkJoinPool} to use.
+		 */
+		public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+			if (forkJoinPool == null)
+				throw new IllegalArgumentException(
+						"The ForkJoinPool may not be null.");
+			this.forkJoinPool = forkJoinPool;
+		}
+
+		/**
+		 * Specifies whether the restarts (see {@link #setRestarts(int)}) are
+		 * executed in parallel on the {@link #setForkJoinPool(ForkJoinPool)
+		 * fork-join pool}. As each restart is seeded separately, the result is
+		 * the same as for a sequential execution (provided a
+		 * {@link #setRandomSeed(Long) random seed} is used). Per default,
+		 * restarts are executed sequentially.
+		 *
+		 * @param parallel
+		 *            <code>true</code> to execute restarts in parallel,
+		 *            otherwise <code>false</code>.
+		 */
+		public void setParallel(boolean parallel) {
+			this.parallel = parallel;
+		}
+
+		/**
+		 * Sets the seed for the random initial orderings of the restarts, so
+		 * that layouts are reproducible.
+		 *
+		 * @param randomSeed
+		 *            The seed to use, or <code>null</code> to use different
+		 *            random orderings for each layout pass (default).
+		 */
+		public void setRandomSeed(Long randomSeed) {
+			this.randomSeed = randomSeed;
+		}
+
+		/**
+		 * Sets the number of additional runs that start from random initial
+		 * orderings of the layers. The ordering with the fewest crossings
+		 * among the run that starts from the given ordering and all restarts
+		 * is kept. Per default, no restarts are performed.
+		 *
+		 * @param restarts
+		 *            The number of restarts.
+		 */
+		public void setRestarts(int restarts) {
+			if (restarts < 0)
+				throw new IllegalArgumentException(
+						"The number of restarts may not be negative.");
+			this.restarts = restarts;
+		}
+
+		private static void shuffle(int[] vertices, Random random) {
+			for (int i = vertices.length - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int vertex = vertices[i];
+				vertices[i] = vertices[j];
+				vertices[j] = vertex;
+			}
+		}
+	}
+
 	/**
 	 * Structure to store nodes and their positions in the layers. Furthermore
 	 * predecessors and successors can be assigned to the nodes.
@@ -648,7 +1251,7 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		/**
 		 * The layer this {@link NodeWrapper} is in (used to find crossings).
 		 */
-		final int layer;
+		int layer;
 		/**
 		 * The wrapped {@link Node}.
 		 */
@@ -1181,6 +1784,7 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		public List<List<NodeWrapper>> calculateLayers(List<Node> nodes) {
+			layers.clear();
 			map.clear();
 
 			List<Node> predecessors = findRoots(nodes);
@@ -1210,6 +1814,9 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 
 	}
 
+	// maximum number of passes of adjacent swaps in incremental updates
+	private static final int MAX_SWAP_PASSES = 8;
+
 	private List<List<NodeWrapper>> layers = new ArrayList<>();
 	private Map<Node, NodeWrapper> map = new IdentityHashMap<>();
 	private final Direction direction;
@@ -1221,6 +1828,10 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	private LayerProvider layerProvider;
 	private CrossingReducer crossingReducer;
 
+	// the graph and edges of the previous layout (for incremental updates)
+	private Graph graph;
+	private Set<Edge> edges = new HashSet<>();
+
 	/**
 	 * Constructs a tree-like, layered layout of a directed graph.
 	 * 
@@ -1330,28 +1941,27 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		this(Direction.VERTICAL, null, null, null);
 	}
 
+	/**
+	 * Applies the layout to the given {@link LayoutContext}. If
+	 * <i>clean</i> is <code>true</code>, or if the {@link Graph} of the
+	 * context was not laid out by this algorithm before, the layers and their
+	 * ordering are computed from scratch by the {@link LayerProvider} and
+	 * {@link CrossingReducer}. Otherwise, the previous layers and ordering are
+	 * updated incrementally (see {@link #updateLayers(LayoutContext)}), so
+	 * that the layout stays stable when nodes or edges are added or removed.
+	 * If an added edge does not point to a lower layer, the layers are
+	 * computed from scratch as well.
+	 */
 	public void applyLayout(LayoutContext layoutContext, boolean clean) {
-		if (!clean)
-			return;
-		layers.clear();
-		map.clear();
-
-		ArrayList<Node> nodes = new ArrayList<>();
-		ArrayList<Node> nodes2 = new ArrayList<>();
-		for (Node node : layoutContext.getNodes()) {
-			nodes.add(node);
-			nodes2.add(node);
-		}
-		layers = layerProvider.calculateLayers(nodes);
-		crossingReducer.crossReduction(layers);
-
-		for (List<NodeWrapper> layer : layers) {
+		if (clean || graph != layoutContext.getGraph() || layers.isEmpty()
+				|| !updateLayers(layoutContext))
+			computeLayers(layoutContext);
+		graph = layoutContext.getGraph();
+		edges = new HashSet<>(Arrays.asList(layoutContext.getEdges()));
+		last = 0;
+		for (List<NodeWrapper> layer : layers)
 			if (layer.size() > last)
 				last = layer.size();
-			for (NodeWrapper nw : layer) {
-				map.put(nw.node, nw);
-			}
-		}
 		calculatePositions(layoutContext);
 	}
 
@@ -1376,4 +1986,371 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 	}
 
+	private void computeLayers(LayoutContext layoutContext) {
+		layers.clear();
+		map.clear();
+
+		ArrayList<Node> nodes = new ArrayList<>();
+		for (Node node : layoutContext.getNodes())
+			nodes.add(node);
+		layers = layerProvider.calculateLayers(nodes);
+		crossingReducer.crossReduction(layers);
+
+		for (List<NodeWrapper> layer : layers)
+			for (NodeWrapper nw : layer)
+				if (nw.node != null)
+					map.put(nw.node, nw);
+	}
+
+	/**
+	 * Returns the number of crossings between the edges of the given
+	 * {@link NodeWrapper}s of the same layer, if <i>left</i> is placed before
+	 * <i>right</i>. Neighbors are only compared if they are on the same side
+	 * of the layer.
+	 */
+	private int countCrossings(NodeWrapper left, NodeWrapper right) {
+		int crossings = 0;
+		List<NodeWrapper> rightNeighbors = getNeighbors(right);
+		for (NodeWrapper a : getNeighbors(left))
+			for (NodeWrapper b : rightNeighbors)
+				if (a.index > b.index
+						&& (a.layer < left.layer) == (b.layer < left.layer))
+					crossings++;
+		return crossings;
+	}
+
+	/**
+	 * Returns the first successor of the given <i>upper</i>
+	 * {@link NodeWrapper} that links it to the given <i>lower</i> one, either
+	 * directly or via a chain of dummy nodes, or <code>null</code> if they are
+	 * not linked.
+	 */
+	private static NodeWrapper findLink(NodeWrapper upper,
+			NodeWrapper lower) {
+		for (NodeWrapper next : upper.succ) {
+			NodeWrapper end = next;
+			while (end.isDummy() && !end.succ.isEmpty())
+				end = end.succ.get(0);
+			if (end == lower)
+				return next;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the {@link NodeWrapper}s that are linked to the given one in the
+	 * adjacent layers, i.e. its predecessors and successors.
+	 */
+	private static List<NodeWrapper> getNeighbors(NodeWrapper nw) {
+		List<NodeWrapper> neighbors = new ArrayList<>();
+		for (NodeWrapper neighbor : nw.pred)
+			if (neighbor.layer != nw.layer)
+				neighbors.add(neighbor);
+		for (NodeWrapper neighbor : nw.succ)
+			if (neighbor.layer != nw.layer)
+				neighbors.add(neighbor);
+		return neighbors;
+	}
+
+	/**
+	 * Inserts the given {@link Node} into the layer below its lowest
+	 * predecessor (or above its highest successor, if none of its
+	 * predecessors is layered), at the median position of its neighbors. The
+	 * inserted node is not linked to its neighbors (see
+	 * {@link #link(NodeWrapper, NodeWrapper, Set)}).
+	 */
+	private void insertNode(Node node, Set<Integer> affectedLayers) {
+		int layer = -1;
+		for (Node predecessor : node.getPredecessorNodes()) {
+			NodeWrapper nw = map.get(predecessor);
+			if (nw != null)
+				layer = Math.max(layer, nw.layer + 1);
+		}
+		if (layer < 0) {
+			layer = Integer.MAX_VALUE;
+			for (Node successor : node.getSuccessorNodes()) {
+				NodeWrapper nw = map.get(successor);
+				if (nw != null)
+					layer = Math.min(layer, nw.layer - 1);
+			}
+			layer = layer == Integer.MAX_VALUE ? 0 : Math.max(0, layer);
+		}
+		if (layer == layers.size())
+			layers.add(new ArrayList<NodeWrapper>());
+
+		NodeWrapper nw = new NodeWrapper(node, layer);
+		List<NodeWrapper> list = layers.get(layer);
+		List<Integer> indices = new ArrayList<>();
+		for (Node neighbor : node.getNeighbors()) {
+			NodeWrapper neighborWrapper = map.get(neighbor);
+			if (neighborWrapper != null && neighborWrapper.layer != layer)
+				indices.add(neighborWrapper.index);
+		}
+		int index = list.size();
+		if (!indices.isEmpty()) {
+			Collections.sort(indices);
+			index = Math.min(index, indices.get(indices.size() / 2));
+		}
+		list.add(index, nw);
+		updateIndex(list);
+		map.put(node, nw);
+		affectedLayers.add(layer);
+	}
+
+	/**
+	 * Links the given {@link NodeWrapper}s, where <i>upper</i> is on a layer
+	 * above <i>lower</i>, via a chain of dummy nodes on the layers in between,
+	 * as done by the {@link SimpleLayerProvider}. The dummy nodes are inserted
+	 * at the positions on the straight line between the linked ones.
+	 */
+	private void link(NodeWrapper upper, NodeWrapper lower,
+			Set<Integer> affectedLayers) {
+		NodeWrapper predecessor = upper;
+		int span = lower.layer - upper.layer;
+		for (int level = upper.layer + 1; level < lower.layer; level++) {
+			NodeWrapper dummy = new NodeWrapper(level);
+			dummy.addPredecessor(predecessor);
+			predecessor.addSuccessor(dummy);
+			predecessor = dummy;
+			List<NodeWrapper> list = layers.get(level);
+			int index = upper.index + (lower.index - upper.index)
+					* (level - upper.layer) / span;
+			list.add(Math.max(0, Math.min(list.size(), index)), dummy);
+			updateIndex(list);
+			affectedLayers.add(level);
+		}
+		lower.addPredecessor(predecessor);
+		predecessor.addSuccessor(lower);
+	}
+
+	/**
+	 * Reduces the crossings of the given layer by swapping adjacent
+	 * {@link NodeWrapper}s as long as this reduces the crossings, so that the
+	 * ordering of the layer changes as little as possible.
+	 */
+	private void reduceCrossings(List<NodeWrapper> layer) {
+		for (int pass = 0; pass < MAX_SWAP_PASSES; pass++) {
+			boolean swapped = false;
+			for (int i = 0; i < layer.size() - 1; i++) {
+				NodeWrapper left = layer.get(i);
+				NodeWrapper right = layer.get(i + 1);
+				if (countCrossings(right, left) < countCrossings(left,
+						right)) {
+					// swap the indices, which are not necessarily consecutive
+					// (e.g. after padding)
+					int index = left.index;
+					layer.set(i, right);
+					layer.set(i + 1, left);
+					left.index = right.index;
+					right.index = index;
+					swapped = true;
+				}
+			}
+			if (!swapped)
+				return;
+		}
+	}
+
+	/**
+	 * Removes the dummy nodes that connect the source and target of the given
+	 * (removed) {@link Edge}, unless they are still connected by another
+	 * {@link Edge}.
+	 */
+	private void removeEdge(Edge edge, Set<Integer> affectedLayers) {
+		NodeWrapper upper = map.get(edge.getSource());
+		NodeWrapper lower = map.get(edge.getTarget());
+		if (upper == null || lower == null
+				|| edge.getSource().getNeighbors().contains(edge.getTarget()))
+			return;
+		if (upper.layer > lower.layer) {
+			NodeWrapper swap = upper;
+			upper = lower;
+			lower = swap;
+		}
+		NodeWrapper next = findLink(upper, lower);
+		if (next != null) {
+			upper.succ.remove(next);
+			unlink(upper, next, affectedLayers);
+		}
+	}
+
+	/**
+	 * Removes the empty layers, so that the subsequent layers move up, and
+	 * returns the given affected layers with respect to the remaining layers.
+	 */
+	private Set<Integer> removeEmptyLayers(Set<Integer> affectedLayers) {
+		List<List<NodeWrapper>> remaining = new ArrayList<>(layers.size());
+		Set<Integer> remainingAffectedLayers = new TreeSet<>();
+		for (int layer = 0; layer < layers.size(); layer++) {
+			List<NodeWrapper> list = layers.get(layer);
+			if (list.isEmpty())
+				continue;
+			if (layer != remaining.size())
+				for (NodeWrapper nw : list)
+					if (!nw.isPadding())
+						nw.layer = remaining.size();
+			if (affectedLayers.contains(layer))
+				remainingAffectedLayers.add(remaining.size());
+			remaining.add(list);
+		}
+		layers = remaining;
+		return remainingAffectedLayers;
+	}
+
+	/**
+	 * Removes the given {@link NodeWrapper} from its layer, along with the
+	 * dummy nodes that connect it to its neighbors.
+	 */
+	private void removeNode(NodeWrapper nw, Set<Integer> affectedLayers) {
+		layers.get(nw.layer).remove(nw);
+		affectedLayers.add(nw.layer);
+		for (NodeWrapper neighbor : nw.pred)
+			unlink(nw, neighbor, affectedLayers);
+		for (NodeWrapper neighbor : nw.succ)
+			unlink(nw, neighbor, affectedLayers);
+	}
+
+	/**
+	 * Sorts the given {@link Node}s, so that each node is preceded by its
+	 * predecessors among them. Cycles are broken arbitrarily.
+	 */
+	private static List<Node> sortTopologically(List<Node> nodes) {
+		Map<Node, Integer> inDegree = new IdentityHashMap<>();
+		for (Node node : nodes)
+			inDegree.put(node, 0);
+		for (Node node : nodes)
+			for (Node successor : node.getSuccessorNodes())
+				if (successor != node && inDegree.containsKey(successor))
+					inDegree.put(successor, inDegree.get(successor) + 1);
+
+		List<Node> sorted = new ArrayList<>(nodes.size());
+		LinkedList<Node> queue = new LinkedList<>();
+		for (Node node : nodes)
+			if (inDegree.get(node) == 0)
+				queue.add(node);
+		while (sorted.size() < nodes.size()) {
+			if (queue.isEmpty()) {
+				// break a cycle
+				for (Node node : nodes) {
+					if (inDegree.get(node) > 0) {
+						queue.add(node);
+						break;
+					}
+				}
+			}
+			Node node = queue.removeFirst();
+			sorted.add(node);
+			inDegree.put(node, -1);
+			for (Node successor : node.getSuccessorNodes()) {
+				Integer degree = inDegree.get(successor);
+				if (degree != null && degree > 0) {
+					inDegree.put(successor, degree - 1);
+					if (degree == 1)
+						queue.add(successor);
+				}
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * Removes the link between the given {@link NodeWrapper}s, including the
+	 * dummy nodes in between.
+	 */
+	private void unlink(NodeWrapper nw, NodeWrapper neighbor,
+			Set<Integer> affectedLayers) {
+		while (neighbor.isDummy()) {
+			layers.get(neighbor.layer).remove(neighbor);
+			affectedLayers.add(neighbor.layer);
+			List<NodeWrapper> next = neighbor.pred.contains(nw) ? neighbor.succ
+					: neighbor.pred;
+			if (next.isEmpty())
+				return;
+			nw = neighbor;
+			neighbor = next.get(0);
+		}
+		neighbor.pred.remove(nw);
+		neighbor.succ.remove(nw);
+	}
+
+	private static void updateIndex(List<NodeWrapper> list) {
+		for (int index = 0; index < list.size(); index++)
+			list.get(index).index = index;
+	}
+
+	/**
+	 * Updates the layers and their ordering of the previous layout to the
+	 * current nodes and edges of the given {@link LayoutContext}. Removed
+	 * nodes and the dummy nodes of removed edges are removed from their
+	 * layers, and added nodes are inserted (see
+	 * {@link #insertNode(Node, Set)}), while all other nodes keep their
+	 * relative order, and layers that become empty are removed. The end points
+	 * of added edges are linked via dummy nodes (see
+	 * {@link #link(NodeWrapper, NodeWrapper, Set)}). Afterwards, the crossings
+	 * are reduced locally in the layers that contain changed nodes or edges.
+	 * <p>
+	 * Returns <code>false</code> if an added edge does not point to a lower
+	 * layer (e.g. because the successor of an added node is not below it), so
+	 * that the layers have to be computed from scratch. Otherwise returns
+	 * <code>true</code>.
+	 */
+	private boolean updateLayers(LayoutContext layoutContext) {
+		Set<Integer> affectedLayers = new TreeSet<>();
+		Set<Node> nodes = new HashSet<>(
+				Arrays.asList(layoutContext.getNodes()));
+		Iterator<NodeWrapper> it = map.values().iterator();
+		while (it.hasNext()) {
+			NodeWrapper nw = it.next();
+			if (!nodes.contains(nw.node)) {
+				removeNode(nw, affectedLayers);
+				it.remove();
+			}
+		}
+		Set<Edge> currentEdges = new HashSet<>(
+				Arrays.asList(layoutContext.getEdges()));
+		for (Edge edge : edges)
+			if (!currentEdges.contains(edge))
+				removeEdge(edge, affectedLayers);
+		affectedLayers = removeEmptyLayers(affectedLayers);
+		for (int layer : affectedLayers)
+			updateIndex(layers.get(layer));
+
+		List<Node> added = new ArrayList<>();
+		for (Node node : layoutContext.getNodes())
+			if (!map.containsKey(node))
+				added.add(node);
+		for (Node node : sortTopologically(added))
+			insertNode(node, affectedLayers);
+		for (Edge edge : layoutContext.getEdges()) {
+			if (edges.contains(edge))
+				continue;
+			NodeWrapper upper = map.get(edge.getSource());
+			NodeWrapper lower = map.get(edge.getTarget());
+			if (upper == null || lower == null || upper == lower
+					|| findLink(upper, lower) != null)
+				continue;
+			if (upper.layer >= lower.layer)
+				return false;
+			link(upper, lower, affectedLayers);
+		}
+
+		// the layers of the end points of added or removed edges
+		Set<Edge> changedEdges = new HashSet<>(currentEdges);
+		for (Edge edge : edges)
+			if (!changedEdges.remove(edge))
+				changedEdges.add(edge);
+		for (Edge edge : changedEdges) {
+			for (Node node : Arrays.asList(edge.getSource(),
+					edge.getTarget())) {
+				NodeWrapper nw = map.get(node);
+				if (nw != null)
+					affectedLayers.add(nw.layer);
+			}
+		}
+
+		for (int layer : affectedLayers)
+			reduceCrossings(layers.get(layer));
+		return true;
+	}
+
 }
\ No newline at end of file
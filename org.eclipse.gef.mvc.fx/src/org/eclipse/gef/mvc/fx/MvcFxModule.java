@@ -50,6 +50,7 @@ import org.eclipse.gef.mvc.fx.handlers.PanOrZoomOnScrollHandler;
 import org.eclipse.gef.mvc.fx.handlers.PanningSupport;
 import org.eclipse.gef.mvc.fx.handlers.SnapToSupport;
 import org.eclipse.gef.mvc.fx.handlers.ZoomOnPinchSpreadHandler;
+import org.eclipse.gef.mvc.fx.models.ContentBoundsIndex;
 import org.eclipse.gef.mvc.fx.models.FocusModel;
 import org.eclipse.gef.mvc.fx.models.GridModel;
 import org.eclipse.gef.mvc.fx.models.HoverModel;
@@ -253,6 +254,28 @@ public class MvcFxModule extends AbstractModule {
 				.to(ContentBehavior.class);
 	}
 
+	/**
+	 * Adds a binding for {@link ContentBoundsIndex} to the adapter map binder
+	 * for {@link IViewer}. This binding is not registered per default, i.e. it
+	 * is not called from
+	 * {@link #bindIViewerAdaptersForContentViewer(MapBinder)}. It may be called
+	 * from an overridden version of that method to enable index-based marquee
+	 * selection (see {@link MarqueeOnDragHandler}).
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindContentBoundsIndexAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(ContentBoundsIndex.class);
+	}
+
 	/**
 	 * Adds a binding for {@link IViewer} to the adapter map binder for
 	 * {@link IDomain}.
@@ -16,6 +16,8 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,6 +25,8 @@ import java.util.Set;
 
 import org.eclipse.gef.common.collections.SetMultimapChangeListener;
 import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IRootPart;
@@ -34,16 +38,35 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
+import javafx.scene.transform.Affine;
 
 /**
  * A behavior that can be adapted to an {@link IRootPart} or an
  * {@link IContentPart} to synchronize the list of {@link IContentPart} children
  * and (only in case of an {@link IContentPart}) anchorages with the list of
  * content children and anchored.
+ * <p>
+ * In case an {@link IContentBoundsProvider} is bound as an adapter to the
+ * {@link IViewer} and the viewer's canvas is an {@link InfiniteCanvas}, content
+ * parts are only created for those content children whose bounds intersect the
+ * viewport extended by a margin (see {@link #getVirtualizationMargin()}).
+ * Content parts are created and removed when the viewport is scrolled or
+ * zoomed beyond the materialized region. Content children that serve as
+ * anchorages for materialized siblings are materialized as well. Content
+ * children without bounds (e.g. connections) are indexed by the bounds of
+ * their anchorages, as provided by the {@link IContentBoundsProvider}. In case
+ * the provided bounds change, {@link #invalidateContentBounds()} has to be
+ * called.
  *
  * @author anyssen
  *
@@ -149,6 +172,31 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 	};
 
+	private InvalidationListener viewportObserver = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			// coalesce the individual changes of a scroll or zoom (e.g. the
+			// elements of the content transform), so that parts are only
+			// materialized for the final viewport
+			if (!viewportUpdateScheduled) {
+				viewportUpdateScheduled = true;
+				Platform.runLater(new Runnable() {
+					@Override
+					public void run() {
+						viewportUpdateScheduled = false;
+						updateMaterializedRegion();
+					}
+				});
+			}
+		}
+	};
+
+	private IContentBoundsProvider contentBoundsProvider;
+	private InfiniteCanvas virtualizingCanvas;
+	private Rectangle materializedRegion;
+	private boolean viewportUpdateScheduled;
+	private Map<IVisualPart<? extends Node>, ContentBoundsGrid> virtualizedContentChildren = new IdentityHashMap<>();
+
 	@SuppressWarnings("unchecked")
 	private List<IContentPart<? extends Node>> addAll(
 			IVisualPart<? extends Node> parent,
@@ -201,8 +249,12 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				}
 				parent.addChild(contentPart, i);
 				added.add(contentPart);
-				added.addAll(addAll(contentPart,
-						contentPart.getContentChildrenUnmodifiable()));
+				added.addAll(isVirtualizing()
+						? materialize(contentPart,
+								contentPart.getContentChildrenUnmodifiable(),
+								true)
+						: addAll(contentPart,
+								contentPart.getContentChildrenUnmodifiable()));
 			}
 		}
 		return added;
@@ -238,6 +290,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		contentObserver = null;
 		contentChildrenObserver = null;
 		contentAnchoragesObserver = null;
+		viewportObserver = null;
 	}
 
 	/**
@@ -252,6 +305,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		if (contentPart.getParent() == null
 				&& contentPart.getAnchoredsUnmodifiable().isEmpty()) {
 			// System.out.println("DISPOSE " + contentPart.getContent());
+			virtualizedContentChildren.remove(contentPart);
 			getContentPartPool().add(contentPart);
 			contentPart.setContent(null);
 		} // else {
@@ -266,6 +320,17 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			throw new IllegalArgumentException();
 		}
 		IViewer viewer = host.getRoot().getViewer();
+		IContentBoundsProvider boundsProvider = viewer
+				.getAdapter(IContentBoundsProvider.class);
+		if (boundsProvider != null
+				&& viewer.getCanvas() instanceof InfiniteCanvas) {
+			contentBoundsProvider = boundsProvider;
+			virtualizingCanvas = (InfiniteCanvas) viewer.getCanvas();
+			for (Observable observable : getViewportObservables(
+					virtualizingCanvas)) {
+				observable.addListener(viewportObserver);
+			}
+		}
 		viewer.contentPartMapProperty().addListener(contentPartMapObserver);
 		synchronizeContentPartChildren(getHost(), viewer.getContents());
 		viewer.getContents().addListener(contentObserver);
@@ -278,6 +343,16 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		viewer.getContents().removeListener(contentObserver);
 		synchronizeContentPartChildren(getHost(), Collections.emptyList());
 		viewer.contentPartMapProperty().removeListener(contentPartMapObserver);
+		if (virtualizingCanvas != null) {
+			for (Observable observable : getViewportObservables(
+					virtualizingCanvas)) {
+				observable.removeListener(viewportObserver);
+			}
+			virtualizingCanvas = null;
+			contentBoundsProvider = null;
+			materializedRegion = null;
+			virtualizedContentChildren.clear();
+		}
 	}
 
 	/**
@@ -338,6 +413,25 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(IContentPartFactory.class);
 	}
 
+	/**
+	 * Returns the region (within the coordinate system of the
+	 * {@link InfiniteCanvas#getContentGroup() content group}) for which content
+	 * parts are materialized in case content virtualization is enabled. The
+	 * region is determined from the current viewport when it is first needed,
+	 * and it is only updated when the viewport leaves it.
+	 *
+	 * @return The region for which content parts are materialized.
+	 */
+	private Rectangle getMaterializedRegion() {
+		if (materializedRegion == null) {
+			materializedRegion = getViewport();
+			double margin = getVirtualizationMargin();
+			materializedRegion.expand(materializedRegion.getWidth() * margin,
+					materializedRegion.getHeight() * margin);
+		}
+		return materializedRegion;
+	}
+
 	/**
 	 * Returns the {@link ContentPartPool} that is used to recycle content parts
 	 * in the context of an {@link IViewer}.
@@ -349,6 +443,222 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	private List<Observable> getViewportObservables(InfiniteCanvas canvas) {
+		Affine contentTransform = canvas.getContentTransform();
+		List<Observable> observables = new ArrayList<>();
+		observables.add(canvas.widthProperty());
+		observables.add(canvas.heightProperty());
+		observables.add(canvas.horizontalScrollOffsetProperty());
+		observables.add(canvas.verticalScrollOffsetProperty());
+		observables.add(contentTransform.mxxProperty());
+		observables.add(contentTransform.mxyProperty());
+		observables.add(contentTransform.myxProperty());
+		observables.add(contentTransform.myyProperty());
+		observables.add(contentTransform.txProperty());
+		observables.add(contentTransform.tyProperty());
+		return observables;
+	}
+
+	/**
+	 * Returns the viewport of the {@link InfiniteCanvas} within the coordinate
+	 * system of its {@link InfiniteCanvas#getContentGroup() content group}.
+	 *
+	 * @return The current viewport.
+	 */
+	private Rectangle getViewport() {
+		InfiniteCanvas canvas = virtualizingCanvas;
+		// query the observed values, so that the invalidation listener is
+		// notified about subsequent changes
+		for (Observable observable : getViewportObservables(canvas)) {
+			((ObservableValue<?>) observable).getValue();
+		}
+		Bounds viewport = canvas.getContentGroup()
+				.sceneToLocal(canvas.localToScene(new BoundingBox(0, 0,
+						canvas.getWidth(), canvas.getHeight())));
+		return new Rectangle(viewport.getMinX(), viewport.getMinY(),
+				viewport.getWidth(), viewport.getHeight());
+	}
+
+	/**
+	 * Returns the margin by which the viewport is extended on each side when
+	 * determining the region for which content parts are materialized, as a
+	 * fraction of the viewport's width and height. A larger margin reduces the
+	 * number of content part creations while scrolling, at the expense of
+	 * additional content parts. Defaults to <code>0.5</code>.
+	 *
+	 * @return The virtualization margin.
+	 */
+	protected double getVirtualizationMargin() {
+		return 0.5;
+	}
+
+	/**
+	 * Re-determines the bounds of all virtualized content children via the
+	 * {@link IContentBoundsProvider} and re-synchronizes the content part
+	 * children accordingly. Has to be called when the provided bounds change
+	 * (e.g. after a layout pass), as the bounds are otherwise only determined
+	 * when the content children change. Does nothing if content
+	 * virtualization is disabled.
+	 */
+	public void invalidateContentBounds() {
+		if (isVirtualizing()) {
+			rematerialize(true);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if content virtualization is enabled, i.e. if
+	 * an {@link IContentBoundsProvider} is bound to the viewer and the viewer's
+	 * canvas is an {@link InfiniteCanvas}.
+	 *
+	 * @return <code>true</code> if content virtualization is enabled,
+	 *         <code>false</code> otherwise.
+	 */
+	protected boolean isVirtualizing() {
+		return contentBoundsProvider != null;
+	}
+
+	/**
+	 * Synchronizes the content part children of the given parent with those of
+	 * the given content children that intersect the materialized region, or
+	 * that serve as anchorages for such content children.
+	 *
+	 * @param parent
+	 *            The parent whose content part children are synchronized.
+	 * @param contentChildren
+	 *            The content children of the parent.
+	 * @param reindex
+	 *            <code>true</code> if the content children or their bounds
+	 *            changed, so that their bounds need to be re-determined.
+	 * @return The {@link IContentPart}s that were added.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<IContentPart<? extends Node>> materialize(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren, boolean reindex) {
+		ContentBoundsGrid grid = reindex ? null
+				: virtualizedContentChildren.get(parent);
+		if (grid == null) {
+			grid = new ContentBoundsGrid(contentChildren,
+					contentBoundsProvider);
+			if (contentChildren.isEmpty()) {
+				virtualizedContentChildren.remove(parent);
+			} else {
+				// also keep unbounded grids, so that the content children are
+				// re-indexed when the content bounds are invalidated
+				virtualizedContentChildren.put(parent, grid);
+			}
+		}
+		if (grid.isUnbounded()) {
+			// nothing to virtualize
+			removeAll(parent, contentChildren);
+			return addAll(parent, contentChildren);
+		}
+
+		Set<Object> materialized = grid
+				.getIntersecting(getMaterializedRegion());
+		// materialize the intersecting content children (keeping those that
+		// are already materialized until the anchorages are known), as well as
+		// the anchorages of all materialized siblings
+		Set<Object> present = new HashSet<>();
+		List<IContentPart<? extends Node>> presentParts = PartUtils
+				.filterParts(parent.getChildrenUnmodifiable(),
+						IContentPart.class);
+		for (IContentPart<? extends Node> contentPart : presentParts) {
+			present.add(contentPart.getContent());
+		}
+		List<IContentPart<? extends Node>> added = new ArrayList<>();
+		Map<Object, IContentPart<? extends Node>> contentPartMap = parent
+				.getRoot().getViewer().getContentPartMap();
+		boolean extended = true;
+		while (extended) {
+			List<Object> toMaterialize = new ArrayList<>();
+			for (Object content : contentChildren) {
+				if (materialized.contains(content)
+						|| present.contains(content)) {
+					toMaterialize.add(content);
+				}
+			}
+			added.addAll(addAll(parent, toMaterialize));
+			extended = false;
+			for (Object content : new ArrayList<>(materialized)) {
+				IContentPart<? extends Node> contentPart = contentPartMap
+						.get(content);
+				if (contentPart == null) {
+					continue;
+				}
+				for (Object anchorage : contentPart
+						.getContentAnchoragesUnmodifiable().keySet()) {
+					if (grid.contains(anchorage)
+							&& materialized.add(anchorage)) {
+						extended = true;
+					}
+				}
+			}
+		}
+
+		// evict the content parts that are no longer needed
+		List<Object> toKeep = new ArrayList<>();
+		for (Object content : contentChildren) {
+			if (materialized.contains(content)) {
+				toKeep.add(content);
+			}
+		}
+		removeAll(parent, toKeep);
+		return added;
+	}
+
+	/**
+	 * Re-synchronizes all virtualized content part children.
+	 *
+	 * @param reindex
+	 *            <code>true</code> if the bounds of the content children need
+	 *            to be re-determined, <code>false</code> otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	private void rematerialize(boolean reindex) {
+		List<IContentPart<? extends Node>> added = new ArrayList<>();
+		for (IVisualPart<? extends Node> parent : new ArrayList<>(
+				virtualizedContentChildren.keySet())) {
+			// parents may have been removed in the meantime, and unbounded
+			// content children are not affected by viewport changes
+			ContentBoundsGrid grid = virtualizedContentChildren.get(parent);
+			if (grid == null || !reindex && grid.isUnbounded()) {
+				continue;
+			}
+			List<? extends Object> contentChildren = parent == getHost()
+					? getHost().getRoot().getViewer().getContents()
+					: ((IContentPart<? extends Node>) parent)
+							.getContentChildrenUnmodifiable();
+			added.addAll(materialize(parent, contentChildren, reindex));
+		}
+		for (IContentPart<? extends Node> cp : added) {
+			synchronizeContentPartAnchorages(cp,
+					cp.getContentAnchoragesUnmodifiable());
+		}
+	}
+
+	/**
+	 * Removes all {@link IContentPart} children of the given parent whose
+	 * content is not contained in the given content children.
+	 *
+	 * @param parent
+	 *            The parent whose content part children are removed.
+	 * @param contentChildren
+	 *            The content children to keep.
+	 */
+	private void removeAll(IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		List<IContentPart<? extends Node>> toRemove = detachAll(parent,
+				contentChildren);
+		for (IContentPart<? extends Node> contentPart : toRemove) {
+			// the removed part is no longer synchronized with the viewport
+			virtualizedContentChildren.remove(contentPart);
+			contentPart.getParent().removeChild(contentPart);
+			disposeIfObsolete(contentPart);
+		}
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -445,18 +755,33 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 					"contentChildren may not be null");
 		}
 
-		List<IContentPart<? extends Node>> toRemove = detachAll(parent,
-				contentChildren);
-		for (IContentPart<? extends Node> contentPart : toRemove) {
-			contentPart.getParent().removeChild(contentPart);
-			disposeIfObsolete(contentPart);
+		List<IContentPart<? extends Node>> added;
+		if (isVirtualizing()) {
+			added = materialize(parent, contentChildren, true);
+		} else {
+			removeAll(parent, contentChildren);
+			added = addAll(parent, contentChildren);
 		}
-
-		List<IContentPart<? extends Node>> added = addAll(parent,
-				contentChildren);
 		for (IContentPart<? extends Node> cp : added) {
 			synchronizeContentPartAnchorages(cp,
 					cp.getContentAnchoragesUnmodifiable());
 		}
 	}
+
+	/**
+	 * Re-synchronizes all virtualized content part children in case the
+	 * viewport left the materialized region.
+	 */
+	private void updateMaterializedRegion() {
+		if (!isVirtualizing()) {
+			return;
+		}
+		Rectangle viewport = getViewport();
+		if (materializedRegion != null
+				&& materializedRegion.contains(viewport)) {
+			return;
+		}
+		materializedRegion = null;
+		rematerialize(false);
+	}
 }
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link ContentBoundsGrid} is a lightweight spatial index for content
+ * elements, which is used by the {@link ContentBehavior} to determine the
+ * content elements that intersect a region without requiring content parts to
+ * exist for them. Content elements are stored within the cells of a uniform
+ * grid that are covered by their bounds. Content elements without bounds are
+ * indexed by the union of the bounds of their sibling anchorages (see
+ * {@link IContentBoundsProvider#getContentAnchorages(Object)}). Content
+ * elements for which no bounds can be determined at all, as well as content
+ * elements that cover a large number of cells, are stored separately; the
+ * former are always considered to intersect.
+ */
+class ContentBoundsGrid {
+
+	private static final double CELL_SIZE = 256;
+	private static final int MAX_CELLS_PER_CONTENT = 256;
+
+	private final Set<Object> contents = new HashSet<>();
+	private final Map<Long, List<Object>> cells = new HashMap<>();
+	private final Map<Object, Rectangle> bounds = new HashMap<>();
+	private final List<Object> unbounded = new ArrayList<>();
+	private final List<Object> oversized = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link ContentBoundsGrid} for the given content elements,
+	 * using the given {@link IContentBoundsProvider} to determine their bounds.
+	 *
+	 * @param contentElements
+	 *            The content elements to index.
+	 * @param boundsProvider
+	 *            The {@link IContentBoundsProvider} that provides the bounds of
+	 *            the content elements.
+	 */
+	public ContentBoundsGrid(List<? extends Object> contentElements,
+			IContentBoundsProvider boundsProvider) {
+		List<Object> derived = new ArrayList<>();
+		for (Object content : contentElements) {
+			if (!contents.add(content)) {
+				continue;
+			}
+			Rectangle contentBounds = boundsProvider.getContentBounds(content);
+			if (contentBounds == null) {
+				derived.add(content);
+			} else {
+				bounds.put(content, contentBounds);
+			}
+		}
+		// derive the bounds of the remaining content elements from the bounds
+		// of their sibling anchorages
+		Map<Object, Rectangle> derivedBounds = new HashMap<>();
+		for (Object content : derived) {
+			Rectangle contentBounds = null;
+			for (Object anchorage : boundsProvider
+					.getContentAnchorages(content)) {
+				Rectangle anchorageBounds = bounds.get(anchorage);
+				if (anchorageBounds != null) {
+					contentBounds = contentBounds == null
+							? anchorageBounds.getCopy()
+							: contentBounds.union(anchorageBounds);
+				}
+			}
+			if (contentBounds == null) {
+				unbounded.add(content);
+			} else {
+				derivedBounds.put(content, contentBounds);
+			}
+		}
+		bounds.putAll(derivedBounds);
+		for (Map.Entry<Object, Rectangle> e : bounds.entrySet()) {
+			add(e.getKey(), e.getValue());
+		}
+	}
+
+	private void add(Object content, Rectangle contentBounds) {
+		int x0 = getCell(contentBounds.getX());
+		int y0 = getCell(contentBounds.getY());
+		int x1 = getCell(contentBounds.getX() + contentBounds.getWidth());
+		int y1 = getCell(contentBounds.getY() + contentBounds.getHeight());
+		if ((long) (x1 - x0 + 1) * (y1 - y0 + 1) > MAX_CELLS_PER_CONTENT) {
+			oversized.add(content);
+			return;
+		}
+		for (int x = x0; x <= x1; x++) {
+			for (int y = y0; y <= y1; y++) {
+				Long key = getKey(x, y);
+				List<Object> cell = cells.get(key);
+				if (cell == null) {
+					cell = new ArrayList<>(4);
+					cells.put(key, cell);
+				}
+				cell.add(content);
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given content element is indexed by
+	 * this {@link ContentBoundsGrid}, <code>false</code> otherwise.
+	 *
+	 * @param content
+	 *            The content element to test.
+	 * @return <code>true</code> if the content element is indexed,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean contains(Object content) {
+		return contents.contains(content);
+	}
+
+	private int getCell(double coordinate) {
+		return (int) Math.max(Integer.MIN_VALUE / 2,
+				Math.min(Integer.MAX_VALUE / 2,
+						Math.floor(coordinate / CELL_SIZE)));
+	}
+
+	/**
+	 * Returns the content elements whose (provided or derived) bounds
+	 * intersect the given region, including all content elements for which
+	 * no bounds can be determined.
+	 *
+	 * @param region
+	 *            The region to query.
+	 * @return A {@link Set} containing the intersecting content elements.
+	 */
+	public Set<Object> getIntersecting(Rectangle region) {
+		Set<Object> intersecting = new HashSet<>(unbounded);
+		for (Object content : oversized) {
+			if (bounds.get(content).touches(region)) {
+				intersecting.add(content);
+			}
+		}
+		if (cells.isEmpty()) {
+			return intersecting;
+		}
+		int x0 = getCell(region.getX());
+		int y0 = getCell(region.getY());
+		int x1 = getCell(region.getX() + region.getWidth());
+		int y1 = getCell(region.getY() + region.getHeight());
+		if ((long) (x1 - x0 + 1) * (y1 - y0 + 1) > cells.size()) {
+			// the region spans more cells than are occupied
+			for (List<Object> cell : cells.values()) {
+				addIntersecting(cell, region, intersecting);
+			}
+		} else {
+			for (int x = x0; x <= x1; x++) {
+				for (int y = y0; y <= y1; y++) {
+					List<Object> cell = cells.get(getKey(x, y));
+					if (cell != null) {
+						addIntersecting(cell, region, intersecting);
+					}
+				}
+			}
+		}
+		return intersecting;
+	}
+
+	private void addIntersecting(List<Object> cell, Rectangle region,
+			Set<Object> intersecting) {
+		for (Object content : cell) {
+			if (!intersecting.contains(content)
+					&& bounds.get(content).touches(region)) {
+				intersecting.add(content);
+			}
+		}
+	}
+
+	private Long getKey(int x, int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns <code>true</code> if none of the indexed content elements
+	 * provides bounds, i.e. if all content elements have to be materialized.
+	 *
+	 * @return <code>true</code> if no bounds are available, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isUnbounded() {
+		return bounds.isEmpty();
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+/**
+ * An {@link IContentBoundsProvider} can be bound as an adapter to an
+ * {@link IViewer} whose canvas is an {@link InfiniteCanvas} to enable content
+ * virtualization: The {@link ContentBehavior} will then only create
+ * {@link IContentPart}s for those content elements whose bounds intersect the
+ * viewport (extended by a margin), and it will create and remove
+ * {@link IContentPart}s as the viewport is scrolled or zoomed. Content parts
+ * that are removed in the course of this are recycled via the
+ * {@link ContentPartPool}.
+ * <p>
+ * The bounds are determined based on the content elements alone (e.g. from
+ * layout or position attributes), as no {@link IContentPart}s (and visuals)
+ * may exist for them. For the same reason, the anchorages of content elements
+ * that do not provide bounds themselves (e.g. connections) can be provided
+ * (see {@link #getContentAnchorages(Object)}), so that these are indexed by the
+ * bounds of their anchorages. In case the provided bounds change (e.g. after a
+ * layout pass), {@link ContentBehavior#invalidateContentBounds()} has to be
+ * called to re-index the content elements.
+ */
+public interface IContentBoundsProvider {
+
+	/**
+	 * Returns the bounds of the given content element within the coordinate
+	 * system of the {@link InfiniteCanvas#getContentGroup() content group}, or
+	 * <code>null</code> if the bounds cannot be determined. Content elements
+	 * for which neither bounds nor anchorages with bounds are provided are
+	 * always materialized.
+	 *
+	 * @param content
+	 *            The content element for which to determine the bounds.
+	 * @return The bounds of the given content element, or <code>null</code>.
+	 */
+	public Rectangle getContentBounds(Object content);
+
+	/**
+	 * Returns the content anchorages of the given content element, which is
+	 * used to determine the bounds of content elements for which no bounds
+	 * are provided (see {@link #getContentBounds(Object)}). Such a content
+	 * element is indexed by the union of the bounds of those of its
+	 * anchorages that are siblings of it. By default, an empty collection is
+	 * returned.
+	 *
+	 * @param content
+	 *            The content element for which to determine the anchorages.
+	 * @return The content anchorages of the given content element.
+	 */
+	public default Collection<? extends Object> getContentAnchorages(
+			Object content) {
+		return Collections.emptyList();
+	}
+}
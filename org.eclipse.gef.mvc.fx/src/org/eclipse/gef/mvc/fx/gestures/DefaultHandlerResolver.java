@@ -13,7 +13,12 @@ package org.eclipse.gef.mvc.fx.gestures;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.common.adapt.IAdaptable;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
@@ -25,6 +30,9 @@ import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
 import com.google.common.reflect.TypeToken;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
 import javafx.scene.Node;
 
 /**
@@ -42,6 +50,10 @@ import javafx.scene.Node;
  * have been located before, the {@link IRootPart} is queried last. The
  * retrieved handlers (if more than one) are (lexicographically) sorted by their
  * role, so that the target handler selection is deterministic.
+ * <p>
+ * The handlers that are determined from the visual part hierarchy are cached
+ * per target part and handler type. The cache is cleared as soon as the
+ * adapters or the parent of any of the visual parts that were examined change.
  *
  * @author mwienand
  *
@@ -49,8 +61,57 @@ import javafx.scene.Node;
 public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		implements IHandlerResolver {
 
+	@SuppressWarnings("serial")
+	private static final TypeToken<IGesture> GESTURE_TYPE = new TypeToken<IGesture>() {
+	};
+
+	// handlers resolved from the visual part hierarchy, per target part and
+	// handler type
+	private Map<IVisualPart<? extends Node>, Map<Class<?>, List<? extends IHandler>>> cache = new IdentityHashMap<>();
+	// visual parts whose adapters and parent are observed to invalidate the
+	// cache
+	private Set<IVisualPart<? extends Node>> observedParts = Collections
+			.newSetFromMap(
+					new IdentityHashMap<IVisualPart<? extends Node>, Boolean>());
+
+	private MapChangeListener<Object, Object> adaptersChangeListener = new MapChangeListener<Object, Object>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends Object> change) {
+			clearCache();
+		}
+	};
+
+	private ChangeListener<Object> parentChangeListener = new ChangeListener<Object>() {
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			clearCache();
+		}
+	};
+
+	/**
+	 * Clears the cache of resolved handlers and stops observing the visual
+	 * parts that were examined.
+	 */
+	protected void clearCache() {
+		for (IVisualPart<? extends Node> part : observedParts) {
+			part.adaptersProperty().removeListener(adaptersChangeListener);
+			part.parentProperty().removeListener(parentChangeListener);
+		}
+		observedParts.clear();
+		cache.clear();
+	}
+
+	private void observe(IVisualPart<? extends Node> part) {
+		if (observedParts.add(part)) {
+			part.adaptersProperty().addListener(adaptersChangeListener);
+			part.parentProperty().addListener(parentChangeListener);
+		}
+	}
+
 	@Override
-	@SuppressWarnings({ "serial", "unchecked" })
+	@SuppressWarnings("unchecked")
 	public <T extends IHandler> List<? extends T> resolve(IGesture gesture,
 			Node target, IViewer viewer, Class<T> handlerType) {
 		// System.out.println("\n=== determine target handlers ===");
@@ -63,8 +124,7 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		// System.out.println("Outer target handlers:");
 		List<T> outerTargetHandlers = new ArrayList<>();
 		Collection<IGesture> gestures = viewer.getDomain()
-				.getAdapters(new TypeToken<IGesture>() {
-				}).values();
+				.getAdapters(GESTURE_TYPE).values();
 		for (IGesture g : gestures) {
 			// System.out.println("[find active handlers of " + gesture + "]");
 			if (g != gesture) {
@@ -99,6 +159,17 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 				.retrieveVisualPart(viewer, target);
 
 		// System.out.println("target part = " + targetPart);
+		if (targetPart == null) {
+			return Collections.emptyList();
+		}
+
+		// use cached handlers, if available
+		Map<Class<?>, List<? extends IHandler>> handlersByType = cache
+				.get(targetPart);
+		if (handlersByType != null
+				&& handlersByType.containsKey(handlerType)) {
+			return (List<? extends T>) handlersByType.get(handlerType);
+		}
 
 		// search handlers up the hierarchy
 		IVisualPart<? extends Node> part = targetPart;
@@ -106,11 +177,18 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		while (part != null && handlers.isEmpty()) {
 			// System.out.println("[find handlers for " + part + "]");
 			// determine handlers
+			observe(part);
 			handlers.addAll(part.getAdapters(handlerType).values());
 
 			// go one level up in the hierarchy
 			part = part.getParent();
 		}
+		handlers = Collections.unmodifiableList(handlers);
+		if (handlersByType == null) {
+			handlersByType = new HashMap<>();
+			cache.put(targetPart, handlersByType);
+		}
+		handlersByType.put(handlerType, handlers);
 
 		// System.out.println("RETURN in reverse order:");
 		// for (T p : handlers) {
@@ -119,4 +197,10 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 
 		return handlers;
 	}
+
+	@Override
+	public void setAdaptable(IDomain adaptable) {
+		clearCache();
+		super.setAdaptable(adaptable);
+	}
 }
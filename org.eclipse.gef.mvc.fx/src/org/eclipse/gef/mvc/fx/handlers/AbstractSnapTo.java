@@ -24,6 +24,7 @@ import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.providers.ISnappingLocationProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
+import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
 /**
@@ -42,6 +43,8 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	private IContentPart<? extends Node> snappedPart;
 	private List<SnappingLocation> xLocations = new ArrayList<>();
 	private List<SnappingLocation> yLocations = new ArrayList<>();
+	private SnappingLocationIndex xLocationIndex;
+	private SnappingLocationIndex yLocationIndex;
 
 	/**
 	 * Determines the horizontal {@link SnappingLocation}s for the given
@@ -89,6 +92,28 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return snappingLocationProvider.getVerticalSnappingLocations(rp);
 	}
 
+	/**
+	 * Returns the target {@link SnappingLocation} of the given
+	 * {@link Orientation} that is closest to the given position (within the
+	 * coordinate system of the scene), or <code>null</code> if there are no
+	 * target locations of that orientation. The target locations are indexed
+	 * by position when this method is first called after the snapped part
+	 * was set, so that subsequent calls are logarithmic in the number of
+	 * target locations.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target locations.
+	 * @param positionInScene
+	 *            The position coordinate within the coordinate system of the
+	 *            scene.
+	 * @return The closest target {@link SnappingLocation}, or
+	 *         <code>null</code>.
+	 */
+	protected SnappingLocation getClosestTargetLocation(
+			Orientation orientation, double positionInScene) {
+		return getTargetLocationIndex(orientation).getClosest(positionInScene);
+	}
+
 	@Override
 	public List<SnappingLocation> getHorizontalTargetLocations() {
 		return xLocations;
@@ -104,6 +129,30 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return snappedPart;
 	}
 
+	/**
+	 * Returns the {@link SnappingLocationIndex} for the target
+	 * {@link SnappingLocation}s of the given {@link Orientation}. The index is
+	 * created when it is first requested after the snapped part was set, and
+	 * it is shared with the {@link SnapToSupport}.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target locations.
+	 * @return The {@link SnappingLocationIndex} for the target locations of
+	 *         the given {@link Orientation}.
+	 */
+	SnappingLocationIndex getTargetLocationIndex(Orientation orientation) {
+		if (orientation == Orientation.HORIZONTAL) {
+			if (xLocationIndex == null) {
+				xLocationIndex = new SnappingLocationIndex(this, orientation);
+			}
+			return xLocationIndex;
+		}
+		if (yLocationIndex == null) {
+			yLocationIndex = new SnappingLocationIndex(this, orientation);
+		}
+		return yLocationIndex;
+	}
+
 	private ISnappingLocationProvider getTargetLocationProvider(
 			IContentPart<? extends Node> part) {
 		String role = getTargetLocationProviderRole();
@@ -158,6 +207,8 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		this.snappedPart = snappedPart;
 		xLocations.clear();
 		yLocations.clear();
+		xLocationIndex = null;
+		yLocationIndex = null;
 		if (snappedPart != null) {
 			List<IContentPart<? extends Node>> relevantParts = PartUtils
 					.filterParts(
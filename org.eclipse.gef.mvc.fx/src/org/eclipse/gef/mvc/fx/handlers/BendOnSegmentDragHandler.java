@@ -201,11 +201,12 @@ public class BendOnSegmentDragHandler extends AbstractHandler
 				polyline);
 
 		// determine pressed segment (nearest to mouse)
-		Line[] segmentsInScene = polylineInScene.getCurves();
+		Line segment = new Line(0, 0, 0, 0);
 		double minDistance = -1;
 		int segmentIndex = -1;
-		for (int i = 0; i < segmentsInScene.length; i++) {
-			Line segment = segmentsInScene[i];
+		for (int i = 0; i < polylineInScene.getPointCount() - 1; i++) {
+			segment.setLine(polylineInScene.getX(i), polylineInScene.getY(i),
+					polylineInScene.getX(i + 1), polylineInScene.getY(i + 1));
 			Point projection = segment.getProjection(initialMouseInScene);
 			double distance = projection.getDistance(initialMouseInScene);
 			if (minDistance < 0 || distance < minDistance) {
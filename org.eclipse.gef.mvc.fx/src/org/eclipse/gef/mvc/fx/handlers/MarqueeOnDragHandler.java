@@ -22,6 +22,7 @@ import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.mvc.fx.models.ContentBoundsIndex;
 import org.eclipse.gef.mvc.fx.operations.SelectOperation;
 import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.DefaultSelectionFeedbackPartFactory;
@@ -49,6 +50,11 @@ import javafx.scene.shape.StrokeType;
  * The {@link MarqueeOnDragHandler} is an {@link IOnDragHandler} that performs
  * marquee selection when the mouse is dragged. The start and end position of
  * the mouse span a marquee area. Everything within that area will be selected.
+ * <p>
+ * If a {@link ContentBoundsIndex} is bound to the viewer, it is queried for the
+ * content parts whose visuals are fully contained within the marquee area.
+ * Otherwise, the scene graph is traversed to find the contained nodes (see
+ * {@link #findContainedNodes(Node, double, double, double, double)}).
  *
  * @author anyssen
  * @author mwienand
@@ -218,12 +224,23 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		Point2D end = rootVisual.localToScene(endPosInRoot);
 		double[] bbox = bbox(start, end);
 
-		// find nodes contained in bbox
-		List<Node> nodes = findContainedNodes(rootVisual.getScene().getRoot(),
-				bbox[0], bbox[1], bbox[2], bbox[3]);
-
-		// find content parts for contained nodes
-		List<IContentPart<? extends Node>> parts = getParts(nodes);
+		List<IContentPart<? extends Node>> parts;
+		ContentBoundsIndex index = root.getViewer()
+				.getAdapter(ContentBoundsIndex.class);
+		if (index != null) {
+			// query content parts contained in bbox (within root visual)
+			double[] bboxInRoot = bbox(startPosInRoot, endPosInRoot);
+			parts = index.getContainedContentParts(bboxInRoot[0],
+					bboxInRoot[1], bboxInRoot[2], bboxInRoot[3]);
+		} else {
+			// find nodes contained in bbox
+			List<Node> nodes = findContainedNodes(
+					rootVisual.getScene().getRoot(), bbox[0], bbox[1], bbox[2],
+					bbox[3]);
+
+			// find content parts for contained nodes
+			parts = getParts(nodes);
+		}
 
 		// filter out all parts that are not selectable
 		Iterator<IContentPart<? extends Node>> it = parts.iterator();
@@ -51,6 +51,8 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 	private List<ISnapToStrategy> applicableSnapToStrategies = new ArrayList<>();
 	private Map<ISnapToStrategy, List<SnappingLocation>> hSourceLocations = new IdentityHashMap<>();
 	private Map<ISnapToStrategy, List<SnappingLocation>> vSourceLocations = new IdentityHashMap<>();
+	private Map<ISnapToStrategy, SnappingLocationIndex> hTargetLocationIndices = new IdentityHashMap<>();
+	private Map<ISnapToStrategy, SnappingLocationIndex> vTargetLocationIndices = new IdentityHashMap<>();
 
 	/**
 	 * Constructs a new {@link SnapToSupport}.
@@ -98,6 +100,24 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		return getAdaptable().getAdapter(SnappingModel.class);
 	}
 
+	private SnappingLocationIndex getTargetLocationIndex(
+			Map<ISnapToStrategy, SnappingLocationIndex> indices,
+			ISnapToStrategy snapper, Orientation orientation) {
+		if (snapper instanceof AbstractSnapTo) {
+			// share the index that is used by the strategy itself
+			return ((AbstractSnapTo) snapper)
+					.getTargetLocationIndex(orientation);
+		}
+		// target locations do not change while snapping, so that they are
+		// only indexed once per strategy
+		SnappingLocationIndex index = indices.get(snapper);
+		if (index == null) {
+			index = new SnappingLocationIndex(snapper, orientation);
+			indices.put(snapper, index);
+		}
+		return index;
+	}
+
 	private List<SnappingLocation> getTranslated(
 			Map<ISnapToStrategy, List<SnappingLocation>> locs, Dimension delta,
 			Dimension snapDelta) {
@@ -123,6 +143,8 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		applicableSnapToStrategies.clear();
 		hSourceLocations.clear();
 		vSourceLocations.clear();
+		hTargetLocationIndices.clear();
+		vTargetLocationIndices.clear();
 
 		// compute applicable strategies and corresponding source locations
 		for (ISnapToStrategy strategy : supportedSnapToStrategies) {
@@ -236,24 +258,20 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		List<SnappingLocation> matchingHSLs = new ArrayList<>();
 		List<SnappingLocation> matchingVSLs = new ArrayList<>();
 		for (ISnapToStrategy snapper : supportedSnapToStrategies) {
-			List<SnappingLocation> horizontalSnappingLocations = snapper
-					.getHorizontalTargetLocations();
-			List<SnappingLocation> verticalSnappingLocations = snapper
-					.getVerticalTargetLocations();
-
-			// 7. find matching SLs for translated source SLs
-			for (SnappingLocation mySL : hTranslated) {
-				for (SnappingLocation sl : horizontalSnappingLocations) {
-					if (mySL.getPositionInScene() == sl.getPositionInScene()) {
-						matchingHSLs.add(sl);
-					}
+			// 7. find matching SLs for translated source SLs (using target
+			// locations that are indexed by position)
+			if (!hTranslated.isEmpty()) {
+				SnappingLocationIndex hIndex = getTargetLocationIndex(
+						hTargetLocationIndices, snapper, Orientation.HORIZONTAL);
+				for (SnappingLocation mySL : hTranslated) {
+					hIndex.addMatching(mySL.getPositionInScene(), matchingHSLs);
 				}
 			}
-			for (SnappingLocation mySL : vTranslated) {
-				for (SnappingLocation sl : verticalSnappingLocations) {
-					if (mySL.getPositionInScene() == sl.getPositionInScene()) {
-						matchingVSLs.add(sl);
-					}
+			if (!vTranslated.isEmpty()) {
+				SnappingLocationIndex vIndex = getTargetLocationIndex(
+						vTargetLocationIndices, snapper, Orientation.VERTICAL);
+				for (SnappingLocation mySL : vTranslated) {
+					vIndex.addMatching(mySL.getPositionInScene(), matchingVSLs);
 				}
 			}
 		}
@@ -390,5 +408,7 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		applicableSnapToStrategies.clear();
 		hSourceLocations.clear();
 		vSourceLocations.clear();
+		hTargetLocationIndices.clear();
+		vTargetLocationIndices.clear();
 	}
 }
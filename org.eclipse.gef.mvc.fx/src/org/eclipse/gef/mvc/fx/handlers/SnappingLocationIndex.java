@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.handlers;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
+
+import javafx.geometry.Orientation;
+
+/**
+ * The {@link SnappingLocationIndex} stores {@link SnappingLocation}s sorted by
+ * their position, so that the closest and the matching locations for a given
+ * position can be determined by binary search. Locations with equal positions
+ * retain their original order.
+ */
+class SnappingLocationIndex {
+
+	private final SnappingLocation[] locations;
+	private final double[] positions;
+
+	/**
+	 * Creates a new {@link SnappingLocationIndex} for the target
+	 * {@link SnappingLocation}s of the given {@link Orientation} that are
+	 * provided by the given {@link ISnapToStrategy}.
+	 *
+	 * @param strategy
+	 *            The {@link ISnapToStrategy} providing the target locations.
+	 * @param orientation
+	 *            The {@link Orientation} of the target locations to index.
+	 */
+	public SnappingLocationIndex(ISnapToStrategy strategy,
+			Orientation orientation) {
+		this(orientation == Orientation.HORIZONTAL
+				? strategy.getHorizontalTargetLocations()
+				: strategy.getVerticalTargetLocations());
+	}
+
+	/**
+	 * Creates a new {@link SnappingLocationIndex} for the given
+	 * {@link SnappingLocation}s.
+	 *
+	 * @param snappingLocations
+	 *            The {@link SnappingLocation}s to index.
+	 */
+	public SnappingLocationIndex(
+			Collection<? extends SnappingLocation> snappingLocations) {
+		locations = snappingLocations
+				.toArray(new SnappingLocation[snappingLocations.size()]);
+		// stable sort, i.e. locations with equal positions retain their order
+		Arrays.sort(locations, new Comparator<SnappingLocation>() {
+			@Override
+			public int compare(SnappingLocation sl1, SnappingLocation sl2) {
+				return Double.compare(sl1.getPositionInScene(),
+						sl2.getPositionInScene());
+			}
+		});
+		positions = new double[locations.length];
+		for (int i = 0; i < locations.length; i++) {
+			// adding 0 normalizes -0 to 0, so that it is found by a search
+			// for 0
+			positions[i] = locations[i].getPositionInScene() + 0d;
+		}
+	}
+
+	/**
+	 * Returns the index of the first location whose position is greater than
+	 * or equal to the given position.
+	 *
+	 * @param position
+	 *            The position.
+	 * @return The index of the first location whose position is not less than
+	 *         the given position, or the number of locations if there is no
+	 *         such location.
+	 */
+	private int ceilingIndex(double position) {
+		position += 0d;
+		int low = 0;
+		int high = positions.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (Double.compare(positions[mid], position) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Adds all {@link SnappingLocation}s whose position equals the given
+	 * position to the given {@link List}, in their original order.
+	 *
+	 * @param position
+	 *            The position for which to find matching locations.
+	 * @param matching
+	 *            The {@link List} to which matching locations are added.
+	 */
+	public void addMatching(double position,
+			List<? super SnappingLocation> matching) {
+		for (int i = ceilingIndex(position); i < positions.length
+				&& positions[i] == position; i++) {
+			matching.add(locations[i]);
+		}
+	}
+
+	/**
+	 * Returns the {@link SnappingLocation} that is closest to the given
+	 * position, or <code>null</code> if no locations are indexed. If several
+	 * locations are equally close, the first one (in original order) with the
+	 * lowest position is returned.
+	 *
+	 * @param position
+	 *            The position for which to find the closest location.
+	 * @return The closest {@link SnappingLocation}, or <code>null</code>.
+	 */
+	public SnappingLocation getClosest(double position) {
+		if (locations.length == 0) {
+			return null;
+		}
+		int ceiling = ceilingIndex(position);
+		if (ceiling == positions.length) {
+			// first location of the run with the greatest position
+			return locations[ceilingIndex(positions[ceiling - 1])];
+		}
+		if (ceiling == 0 || positions[ceiling] == position) {
+			return locations[ceiling];
+		}
+		// first location of the run preceding the ceiling
+		int floor = ceilingIndex(positions[ceiling - 1]);
+		if (Math.abs(position - positions[ceiling]) < Math
+				.abs(position - positions[floor])) {
+			return locations[ceiling];
+		}
+		return locations[floor];
+	}
+}
@@ -0,0 +1,647 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.models;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.MapChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * The {@link ContentBoundsIndex} maintains a spatial index (a uniform grid) of
+ * the visual bounds of all {@link IContentPart}s of the viewer it is bound to,
+ * so that the content parts within a given area can be determined without
+ * traversing the scene graph.
+ * <p>
+ * The bounds are indexed within the local coordinate system of the
+ * {@link IRootPart}'s visual, so that they are not affected by scrolling or
+ * zooming the viewport. The index is updated incrementally: content parts are
+ * (un-)registered when the {@link IViewer#contentPartMapProperty()} changes,
+ * and a content part (together with its content part descendants) is marked
+ * dirty when the bounds-in-parent or the parent of its visual change. The
+ * bounds of dirty content parts are re-computed lazily upon the next query.
+ * As changes of intermediate (non-part) nodes between the visuals of nested
+ * content parts are not observed, {@link #invalidate()} can be used to enforce
+ * that the complete index is re-computed.
+ * <p>
+ * The {@link ContentBoundsIndex} is not bound per default. When it is bound to
+ * a viewer, it is used by the
+ * {@link org.eclipse.gef.mvc.fx.handlers.MarqueeOnDragHandler} to determine the
+ * content parts that are to be selected, and by the
+ * {@link org.eclipse.gef.mvc.fx.policies.BendConnectionPolicy} to determine the
+ * content parts under the mouse (see {@link #getContentPartsAt(double, double)}
+ * ).
+ *
+ */
+public class ContentBoundsIndex
+		extends org.eclipse.gef.common.adapt.IAdaptable.Bound.Impl<IViewer>
+		implements IDisposable {
+
+	/**
+	 * An {@link Entry} stores the indexed bounds of a single
+	 * {@link IContentPart} and keeps it up-to-date by listening to changes of
+	 * its visual.
+	 */
+	private class Entry implements InvalidationListener {
+
+		private final IContentPart<? extends Node> part;
+		// registration sequence, used to report query results in a stable
+		// order
+		private final long sequence;
+		private boolean dirty;
+		// bounds within the root visual
+		private double minX;
+		private double minY;
+		private double maxX;
+		private double maxY;
+		// covered cells, or oversized if too many cells are covered
+		private boolean indexed;
+		private boolean oversized;
+		private int minCellX;
+		private int minCellY;
+		private int maxCellX;
+		private int maxCellY;
+
+		public Entry(IContentPart<? extends Node> part, long sequence) {
+			this.part = part;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			markDirty(this);
+		}
+	}
+
+	/**
+	 * The {@link ChildIndices} cache the indices of the children of a
+	 * {@link Parent}, so that the paint order of picked nodes can be
+	 * determined without scanning their siblings. They are discarded when the
+	 * children of the {@link Parent} change.
+	 */
+	private class ChildIndices implements InvalidationListener {
+
+		private final Parent parent;
+		private final Map<Node, Integer> indices = new IdentityHashMap<>();
+
+		public ChildIndices(Parent parent) {
+			this.parent = parent;
+			List<Node> children = parent.getChildrenUnmodifiable();
+			for (int i = 0; i < children.size(); i++) {
+				indices.put(children.get(i), i);
+			}
+			parent.getChildrenUnmodifiable().addListener(this);
+		}
+
+		public void discard() {
+			parent.getChildrenUnmodifiable().removeListener(this);
+			childIndices.remove(parent);
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			discard();
+		}
+	}
+
+	/**
+	 * A {@link Hit} stores an {@link IContentPart} at a queried position,
+	 * together with the paint order of its top-most node at that position.
+	 */
+	private static class Hit {
+
+		private final IContentPart<? extends Node> part;
+		// indices of the picked node and its ancestors within their parents,
+		// from the root down to the picked node
+		private final int[] paintOrder;
+
+		public Hit(IContentPart<? extends Node> part, int[] paintOrder) {
+			this.part = part;
+			this.paintOrder = paintOrder;
+		}
+	}
+
+	/**
+	 * The default (side) length of a grid cell.
+	 */
+	public static final double DEFAULT_CELL_SIZE = 256;
+
+	/**
+	 * Entries that cover more cells are not stored within the grid, but
+	 * checked separately for each query.
+	 */
+	private static final int MAX_CELLS_PER_ENTRY = 256;
+
+	private static final Comparator<Entry> SEQUENCE_COMPARATOR = new Comparator<Entry>() {
+		@Override
+		public int compare(Entry e1, Entry e2) {
+			return Long.compare(e1.sequence, e2.sequence);
+		}
+	};
+
+	/**
+	 * Orders hits from top to bottom, i.e. in the reverse order in which their
+	 * picked nodes are painted: descendants precede their ancestors, and later
+	 * siblings (and their descendants) precede earlier siblings.
+	 */
+	private static final Comparator<Hit> TOP_TO_BOTTOM_COMPARATOR = new Comparator<Hit>() {
+		@Override
+		public int compare(Hit h1, Hit h2) {
+			int[] paintOrder1 = h1.paintOrder;
+			int[] paintOrder2 = h2.paintOrder;
+			for (int depth = 0; depth < paintOrder1.length
+					&& depth < paintOrder2.length; depth++) {
+				if (paintOrder1[depth] != paintOrder2[depth]) {
+					return Integer.compare(paintOrder2[depth],
+							paintOrder1[depth]);
+				}
+			}
+			// one node is an ancestor of the other one
+			return Integer.compare(paintOrder2.length, paintOrder1.length);
+		}
+	};
+
+	private static long getCellKey(int cellX, int cellY) {
+		return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+	}
+
+	private Map<IContentPart<? extends Node>, Entry> entries = new IdentityHashMap<>();
+	private Map<Long, List<Entry>> cells = new HashMap<>();
+	private List<Entry> oversizedEntries = new ArrayList<>();
+	private List<Entry> dirtyEntries = new ArrayList<>();
+	private Map<Parent, ChildIndices> childIndices = new IdentityHashMap<>();
+	private long nextSequence = 0;
+
+	private MapChangeListener<Object, IContentPart<? extends Node>> contentPartMapListener = new MapChangeListener<Object, IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends IContentPart<? extends Node>> change) {
+			// keep index in sync with content parts
+			if (change.wasRemoved()) {
+				unregister(change.getValueRemoved());
+			}
+			if (change.wasAdded()) {
+				register(change.getValueAdded());
+			}
+		}
+	};
+
+	private void clear() {
+		for (Entry entry : entries.values()) {
+			Node visual = entry.part.getVisual();
+			visual.boundsInParentProperty().removeListener(entry);
+			visual.parentProperty().removeListener(entry);
+		}
+		entries.clear();
+		cells.clear();
+		oversizedEntries.clear();
+		dirtyEntries.clear();
+		for (ChildIndices indices : new ArrayList<>(childIndices.values())) {
+			indices.discard();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		clear();
+	}
+
+	/**
+	 * Re-computes the bounds of all dirty entries. Entries whose visual is not
+	 * (yet) part of the scene of the root visual remain dirty.
+	 */
+	private void flush() {
+		if (dirtyEntries.isEmpty()) {
+			return;
+		}
+		IRootPart<? extends Node> rootPart = getAdaptable().getRootPart();
+		Node rootVisual = rootPart == null ? null : rootPart.getVisual();
+		List<Entry> remainingDirtyEntries = new ArrayList<>();
+		for (Entry entry : dirtyEntries) {
+			if (entries.get(entry.part) != entry) {
+				// unregistered in the meantime
+				continue;
+			}
+			removeFromGrid(entry);
+			Node visual = entry.part.getVisual();
+			// query properties that were invalidated, so that listeners will
+			// be notified about subsequent invalidations
+			visual.getParent();
+			visual.getBoundsInParent();
+			if (rootVisual == null || visual.getScene() == null
+					|| visual.getScene() != rootVisual.getScene()) {
+				remainingDirtyEntries.add(entry);
+				continue;
+			}
+			Bounds bounds = rootVisual.sceneToLocal(
+					visual.localToScene(visual.getBoundsInLocal()));
+			if (bounds == null) {
+				remainingDirtyEntries.add(entry);
+				continue;
+			}
+			entry.minX = bounds.getMinX();
+			entry.minY = bounds.getMinY();
+			entry.maxX = bounds.getMaxX();
+			entry.maxY = bounds.getMaxY();
+			insertIntoGrid(entry);
+			entry.dirty = false;
+		}
+		dirtyEntries = remainingDirtyEntries;
+	}
+
+	/**
+	 * Returns the (side) length of the grid cells that are used for indexing.
+	 * Per default, returns {@link #DEFAULT_CELL_SIZE}.
+	 *
+	 * @return The (side) length of a grid cell.
+	 */
+	protected double getCellSize() {
+		return DEFAULT_CELL_SIZE;
+	}
+
+	private int getChildIndex(Parent parent, Node child) {
+		ChildIndices indices = childIndices.get(parent);
+		if (indices == null) {
+			indices = new ChildIndices(parent);
+			childIndices.put(parent, indices);
+		}
+		Integer index = indices.indices.get(child);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s whose visual bounds are fully contained
+	 * within the bounds specified by <code>[x0, y0, x1, y1]</code>, which are
+	 * interpreted in the local coordinate system of the {@link IRootPart}'s
+	 * visual. The content parts are returned in the order in which they were
+	 * registered at the viewer.
+	 *
+	 * @param x0
+	 *            The minimum x-coordinate.
+	 * @param y0
+	 *            The minimum y-coordinate.
+	 * @param x1
+	 *            The maximum x-coordinate.
+	 * @param y1
+	 *            The maximum y-coordinate.
+	 * @return A {@link List} containing all {@link IContentPart}s whose visual
+	 *         bounds are fully contained within the specified bounds.
+	 */
+	public List<IContentPart<? extends Node>> getContainedContentParts(
+			double x0, double y0, double x1, double y1) {
+		if (getAdaptable() == null) {
+			return Collections.emptyList();
+		}
+		flush();
+
+		// collect candidates from the covered cells
+		Set<Entry> candidates = Collections
+				.newSetFromMap(new IdentityHashMap<Entry, Boolean>());
+		double cellSize = getCellSize();
+		int minCellX = (int) Math.floor(x0 / cellSize);
+		int minCellY = (int) Math.floor(y0 / cellSize);
+		int maxCellX = (int) Math.floor(x1 / cellSize);
+		int maxCellY = (int) Math.floor(y1 / cellSize);
+		if ((long) (maxCellX - minCellX + 1)
+				* (maxCellY - minCellY + 1) > cells.size()) {
+			// query covers more cells than are occupied
+			for (List<Entry> cell : cells.values()) {
+				candidates.addAll(cell);
+			}
+		} else {
+			for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+				for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+					List<Entry> cell = cells.get(getCellKey(cellX, cellY));
+					if (cell != null) {
+						candidates.addAll(cell);
+					}
+				}
+			}
+		}
+		candidates.addAll(oversizedEntries);
+
+		// filter candidates by containment
+		List<Entry> contained = new ArrayList<>();
+		for (Entry entry : candidates) {
+			if (entry.minX >= x0 && entry.maxX <= x1 && entry.minY >= y0
+					&& entry.maxY <= y1) {
+				contained.add(entry);
+			}
+		}
+		Collections.sort(contained, SEQUENCE_COMPARATOR);
+		List<IContentPart<? extends Node>> parts = new ArrayList<>(
+				contained.size());
+		for (Entry entry : contained) {
+			parts.add(entry.part);
+		}
+		return parts;
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s that correspond to the nodes that are
+	 * picked at the given scene position by
+	 * {@link org.eclipse.gef.fx.utils.NodeUtils#getNodesAt(Node, double, double)}
+	 * (see
+	 * {@link org.eclipse.gef.mvc.fx.parts.PartUtils#retrieveVisualPart(IViewer, Node)}
+	 * ), i.e. those for which their visual or one of its descendant nodes
+	 * (that is not the visual of another visual part) contains the given
+	 * position, excluding mouse transparent nodes and their descendants. The
+	 * content parts are ordered from top to bottom with respect to their
+	 * top-most picked node, as they would be by picking on the scene graph.
+	 * <p>
+	 * In contrast to picking on the scene graph, only the visuals of the
+	 * indexed content parts whose bounds contain the given position are
+	 * traversed, so that the costs do not depend on the size of the scene
+	 * graph.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position, in scene coordinates.
+	 * @param sceneY
+	 *            The y-coordinate of the position, in scene coordinates.
+	 * @return A {@link List} containing all {@link IContentPart}s at the given
+	 *         position, ordered from top to bottom.
+	 */
+	public List<IContentPart<? extends Node>> getContentPartsAt(double sceneX,
+			double sceneY) {
+		if (getAdaptable() == null) {
+			return Collections.emptyList();
+		}
+		IRootPart<? extends Node> rootPart = getAdaptable().getRootPart();
+		if (rootPart == null) {
+			return Collections.emptyList();
+		}
+		flush();
+		Node rootVisual = rootPart.getVisual();
+		Point2D position = rootVisual.sceneToLocal(sceneX, sceneY);
+		if (position == null) {
+			return Collections.emptyList();
+		}
+
+		// collect candidates from the cell containing the position
+		double cellSize = getCellSize();
+		List<Entry> candidates = new ArrayList<>(oversizedEntries);
+		List<Entry> cell = cells
+				.get(getCellKey((int) Math.floor(position.getX() / cellSize),
+						(int) Math.floor(position.getY() / cellSize)));
+		if (cell != null) {
+			candidates.addAll(cell);
+		}
+
+		// filter candidates by bounds and pick within their visuals
+		Map<Node, IVisualPart<? extends Node>> visualPartMap = getAdaptable()
+				.getVisualPartMap();
+		List<Hit> hits = new ArrayList<>();
+		for (Entry entry : candidates) {
+			if (position.getX() < entry.minX || position.getX() > entry.maxX
+					|| position.getY() < entry.minY
+					|| position.getY() > entry.maxY) {
+				continue;
+			}
+			Node visual = entry.part.getVisual();
+			if (isMouseTransparent(visual.getParent(), rootVisual)) {
+				continue;
+			}
+			Node picked = pick(visual, visualPartMap, sceneX, sceneY);
+			if (picked != null) {
+				hits.add(new Hit(entry.part, getPaintOrder(picked)));
+			}
+		}
+		Collections.sort(hits, TOP_TO_BOTTOM_COMPARATOR);
+		List<IContentPart<? extends Node>> parts = new ArrayList<>(
+				hits.size());
+		for (Hit hit : hits) {
+			parts.add(hit.part);
+		}
+		return parts;
+	}
+
+	private int[] getPaintOrder(Node node) {
+		int depth = 0;
+		for (Node n = node; n.getParent() != null; n = n.getParent()) {
+			depth++;
+		}
+		int[] paintOrder = new int[depth];
+		for (Node n = node; n.getParent() != null; n = n.getParent()) {
+			paintOrder[--depth] = getChildIndex(n.getParent(), n);
+		}
+		return paintOrder;
+	}
+
+	private void insertIntoGrid(Entry entry) {
+		double cellSize = getCellSize();
+		entry.minCellX = (int) Math.floor(entry.minX / cellSize);
+		entry.minCellY = (int) Math.floor(entry.minY / cellSize);
+		entry.maxCellX = (int) Math.floor(entry.maxX / cellSize);
+		entry.maxCellY = (int) Math.floor(entry.maxY / cellSize);
+		entry.oversized = (long) (entry.maxCellX - entry.minCellX + 1)
+				* (entry.maxCellY - entry.minCellY + 1) > MAX_CELLS_PER_ENTRY;
+		if (entry.oversized) {
+			oversizedEntries.add(entry);
+		} else {
+			for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+				for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+					long key = getCellKey(cellX, cellY);
+					List<Entry> cell = cells.get(key);
+					if (cell == null) {
+						cell = new ArrayList<>(4);
+						cells.put(key, cell);
+					}
+					cell.add(entry);
+				}
+			}
+		}
+		entry.indexed = true;
+	}
+
+	/**
+	 * Marks all entries as dirty, so that the complete index is re-computed
+	 * upon the next query.
+	 */
+	public void invalidate() {
+		for (Entry entry : entries.values()) {
+			if (!entry.dirty) {
+				entry.dirty = true;
+				dirtyEntries.add(entry);
+			}
+		}
+	}
+
+	private boolean isMouseTransparent(Node node, Node rootVisual) {
+		// the root visual is tested as well, as picking starts there
+		for (Node n = node; n != null; n = n.getParent()) {
+			if (n.isMouseTransparent()) {
+				return true;
+			}
+			if (n == rootVisual) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private void markDirty(Entry entry) {
+		if (entry.dirty) {
+			// descendants have already been marked when the entry was marked
+			return;
+		}
+		entry.dirty = true;
+		dirtyEntries.add(entry);
+		// bounds of nested content parts are affected as well
+		markDescendantsDirty(entry.part);
+	}
+
+	private void markDescendantsDirty(IVisualPart<? extends Node> part) {
+		for (IVisualPart<? extends Node> child : part
+				.getChildrenUnmodifiable()) {
+			Entry childEntry = entries.get(child);
+			if (childEntry != null) {
+				markDirty(childEntry);
+			} else {
+				markDescendantsDirty(child);
+			}
+		}
+	}
+
+	/**
+	 * Returns the top-most node that is picked at the given scene position
+	 * within the given visual, in the same way as
+	 * {@link org.eclipse.gef.fx.utils.NodeUtils#getNodesAt(Node, double, double)}
+	 * does, or <code>null</code> if no node is picked. The visuals of other
+	 * visual parts (and their descendants) are not traversed, as they
+	 * correspond to these parts.
+	 */
+	private Node pick(Node visual,
+			Map<Node, IVisualPart<? extends Node>> visualPartMap,
+			double sceneX, double sceneY) {
+		Node picked = null;
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(visual);
+		while (!nodes.isEmpty()) {
+			Node current = nodes.pop();
+			if (current != visual && visualPartMap.containsKey(current)) {
+				continue;
+			}
+			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
+			if (pLocal != null && !current.isMouseTransparent()
+					&& current.getBoundsInLocal().contains(pLocal)) {
+				// nodes are traversed in paint order, so that the last picked
+				// node is the top-most one
+				if (current.contains(pLocal)) {
+					picked = current;
+				}
+				if (current instanceof Parent) {
+					List<Node> children = ((Parent) current)
+							.getChildrenUnmodifiable();
+					for (int i = children.size() - 1; i >= 0; i--) {
+						nodes.push(children.get(i));
+					}
+				}
+			}
+		}
+		return picked;
+	}
+
+	private void register(IContentPart<? extends Node> part) {
+		if (entries.containsKey(part)) {
+			return;
+		}
+		Entry entry = new Entry(part, nextSequence++);
+		entries.put(part, entry);
+		Node visual = part.getVisual();
+		visual.boundsInParentProperty().addListener(entry);
+		visual.parentProperty().addListener(entry);
+		entry.dirty = true;
+		dirtyEntries.add(entry);
+	}
+
+	private void removeFromGrid(Entry entry) {
+		if (!entry.indexed) {
+			return;
+		}
+		if (entry.oversized) {
+			oversizedEntries.remove(entry);
+		} else {
+			for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+				for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+					long key = getCellKey(cellX, cellY);
+					List<Entry> cell = cells.get(key);
+					if (cell != null) {
+						cell.remove(entry);
+						if (cell.isEmpty()) {
+							cells.remove(key);
+						}
+					}
+				}
+			}
+		}
+		entry.indexed = false;
+	}
+
+	@Override
+	public void setAdaptable(IViewer adaptable) {
+		if (getAdaptable() != null) {
+			// unregister content-part-map listener
+			getAdaptable().contentPartMapProperty()
+					.removeListener(contentPartMapListener);
+			clear();
+		}
+		super.setAdaptable(adaptable);
+		if (adaptable != null) {
+			// register for content-part-map changes and index the content
+			// parts that are already present
+			adaptable.contentPartMapProperty()
+					.addListener(contentPartMapListener);
+			for (IContentPart<? extends Node> part : adaptable
+					.getContentPartMap().values()) {
+				register(part);
+			}
+		}
+	}
+
+	private void unregister(IContentPart<? extends Node> part) {
+		Entry entry = entries.remove(part);
+		if (entry == null) {
+			return;
+		}
+		Node visual = part.getVisual();
+		visual.boundsInParentProperty().removeListener(entry);
+		visual.parentProperty().removeListener(entry);
+		// dirty entries are skipped when the index is flushed
+		removeFromGrid(entry);
+		// the visual may have been removed from the scene graph, so that the
+		// indices of its children are no longer needed
+		ChildIndices indices = childIndices.get(visual);
+		if (indices != null) {
+			indices.discard();
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.models.ContentBoundsIndex;
 import org.eclipse.gef.mvc.fx.models.GridModel;
 import org.eclipse.gef.mvc.fx.operations.AbstractCompositeOperation;
 import org.eclipse.gef.mvc.fx.operations.BendContentOperation;
@@ -259,12 +260,23 @@ public class BendConnectionPolicy extends AbstractPolicy {
 			Point selectedPointCurrentPositionInScene = FX2Geometry
 					.toPoint(getConnection().localToScene(
 							Geometry2FX.toFXPoint(positionInLocal)));
-			List<Node> pickedNodes = NodeUtils.getNodesAt(
-					getHost().getRoot().getVisual(),
-					selectedPointCurrentPositionInScene.x,
-					selectedPointCurrentPositionInScene.y);
-			anchor = getCompatibleAnchor(explicitAnchorIndex,
-					getParts(pickedNodes), selectedPointCurrentPositionInScene);
+			// use the content bounds index (if available), so that the scene
+			// graph does not need to be traversed
+			ContentBoundsIndex contentBoundsIndex = getHost().getRoot()
+					.getViewer().getAdapter(ContentBoundsIndex.class);
+			List<IContentPart<? extends Node>> pickedParts;
+			if (contentBoundsIndex != null) {
+				pickedParts = contentBoundsIndex.getContentPartsAt(
+						selectedPointCurrentPositionInScene.x,
+						selectedPointCurrentPositionInScene.y);
+			} else {
+				pickedParts = getParts(NodeUtils.getNodesAt(
+						getHost().getRoot().getVisual(),
+						selectedPointCurrentPositionInScene.x,
+						selectedPointCurrentPositionInScene.y));
+			}
+			anchor = getCompatibleAnchor(explicitAnchorIndex, pickedParts,
+					selectedPointCurrentPositionInScene);
 		}
 		if (anchor == null) {
 			anchor = new BendPoint(positionInLocal);
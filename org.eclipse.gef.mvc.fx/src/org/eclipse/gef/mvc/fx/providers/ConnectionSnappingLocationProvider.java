@@ -16,7 +16,6 @@ import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.gef.fx.nodes.Connection;
-import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
@@ -78,13 +77,15 @@ public class ConnectionSnappingLocationProvider
 		// determine snapping locations for orthogonal segments
 		Polyline polyline = new Polyline(
 				connection.getPointsUnmodifiable().toArray(new Point[] {}));
-		for (Line segment : polyline.toBezier()) {
-			Point p1 = segment.getP1();
-			Point p2 = segment.getP2();
-			if (p1.x == p2.x && orientation == Orientation.HORIZONTAL) {
-				locs.add(new SnappingLocation(part, orientation, p1.x));
-			} else if (p1.y == p2.y && orientation == Orientation.VERTICAL) {
-				locs.add(new SnappingLocation(part, orientation, p1.y));
+		for (int i = 1; i < polyline.getPointCount(); i++) {
+			double x1 = polyline.getX(i - 1);
+			double y1 = polyline.getY(i - 1);
+			if (x1 == polyline.getX(i)
+					&& orientation == Orientation.HORIZONTAL) {
+				locs.add(new SnappingLocation(part, orientation, x1));
+			} else if (y1 == polyline.getY(i)
+					&& orientation == Orientation.VERTICAL) {
+				locs.add(new SnappingLocation(part, orientation, y1));
 			}
 		}
 		return locs;
@@ -17,10 +17,12 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentSynchronizationTests.class,
+@SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentBoundsIndexTests.class,
+		ContentSynchronizationTests.class, ContentVirtualizationTests.class, DefaultHandlerResolverTests.class,
 		FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
 		BendConnectionPolicyTests.class, ClickDragGestureTests.class, TypeStrokeGestureTests.class, TransformPolicyTests.class,
-		FocusTraversalPolicyTests.class, ResizePolicyTests.class })
+		FocusTraversalPolicyTests.class, ResizePolicyTests.class,
+		SnappingLocationIndexTests.class })
 public class AllTests {
 
 }
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.ContentBoundsIndex;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+
+public class ContentBoundsIndexTests {
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private IDomain domain;
+	private IViewer viewer;
+	private ContentBoundsIndex index;
+
+	@Before
+	public void activate() throws Throwable {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindIDomainAdapters(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				bindContentIViewerAsIDomainAdapter(adapterMapBinder);
+			}
+
+			@Override
+			protected void bindIViewerAdaptersForContentViewer(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindIViewerAdaptersForContentViewer(adapterMapBinder);
+				bindContentBoundsIndexAsContentViewerAdapter(adapterMapBinder);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+			}
+		});
+		domain = injector.getInstance(IDomain.class);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 100, 100);
+		ctx.runAndWait(() -> {
+			index = viewer.getAdapter(ContentBoundsIndex.class);
+			domain.activate();
+		});
+		assertNotNull(index);
+	}
+
+	@Test
+	public void contentPartsAt() throws Throwable {
+		Cell a = new Cell("A");
+		Cell b = new Cell("B");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(a, b);
+			IContentPart<? extends Node> partA = viewer.getContentPartMap().get(a);
+			IContentPart<? extends Node> partB = viewer.getContentPartMap().get(b);
+			setBounds(partA, 10, 10, 20, 20);
+			setBounds(partB, 20, 20, 20, 20);
+
+			// later parts are on top
+			Point2D overlap = partA.getVisual().localToScene(25, 25);
+			assertEquals(Arrays.asList(partB, partA), index.getContentPartsAt(overlap.getX(), overlap.getY()));
+			Point2D onlyA = partA.getVisual().localToScene(15, 15);
+			assertEquals(Collections.singletonList(partA), index.getContentPartsAt(onlyA.getX(), onlyA.getY()));
+			Point2D none = partA.getVisual().localToScene(80, 80);
+			assertEquals(Collections.emptyList(), index.getContentPartsAt(none.getX(), none.getY()));
+
+			// mouse transparent parts are not reported
+			partB.getVisual().setMouseTransparent(true);
+			assertEquals(Collections.singletonList(partA), index.getContentPartsAt(overlap.getX(), overlap.getY()));
+		});
+	}
+
+	@Test
+	public void contentPartsAtAfterReordering() throws Throwable {
+		Cell a = new Cell("A");
+		Cell b = new Cell("B");
+		Cell c = new Cell("C");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(a, b, c);
+			IContentPart<? extends Node> partA = viewer.getContentPartMap().get(a);
+			IContentPart<? extends Node> partB = viewer.getContentPartMap().get(b);
+			IContentPart<? extends Node> partC = viewer.getContentPartMap().get(c);
+			setBounds(partA, 10, 10, 20, 20);
+			setBounds(partB, 20, 20, 20, 20);
+			setBounds(partC, 15, 15, 20, 20);
+			Point2D overlap = partA.getVisual().localToScene(25, 25);
+			assertEquals(Arrays.asList(partC, partB, partA), index.getContentPartsAt(overlap.getX(), overlap.getY()));
+
+			// the paint order reflects changes of the children of a parent
+			partA.getVisual().toFront();
+			assertEquals(Arrays.asList(partA, partC, partB), index.getContentPartsAt(overlap.getX(), overlap.getY()));
+			partB.getVisual().toFront();
+			assertEquals(Arrays.asList(partB, partA, partC), index.getContentPartsAt(overlap.getX(), overlap.getY()));
+		});
+	}
+
+	private void setBounds(IContentPart<? extends Node> part, double x, double y, double width, double height) {
+		Rectangle visual = (Rectangle) part.getVisual();
+		visual.setX(x);
+		visual.setY(y);
+		visual.setWidth(width);
+		visual.setHeight(height);
+	}
+
+	@Test
+	public void containedContentParts() throws Throwable {
+		Cell a = new Cell("A");
+		Cell b = new Cell("B");
+		Cell c = new Cell("C");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(a, b, c);
+			IContentPart<? extends Node> partA = viewer.getContentPartMap().get(a);
+			IContentPart<? extends Node> partB = viewer.getContentPartMap().get(b);
+			IContentPart<? extends Node> partC = viewer.getContentPartMap().get(c);
+			setBounds(partA, 10, 10, 20, 20);
+			setBounds(partB, 500, 500, 20, 20);
+			// spans a large number of grid cells
+			setBounds(partC, -5000, -5000, 10000, 10000);
+
+			// query within a single cell and across multiple cells
+			assertEquals(Collections.singletonList(partA), index.getContainedContentParts(0, 0, 100, 100));
+			assertEquals(Arrays.asList(partA, partB), index.getContainedContentParts(0, 0, 600, 600));
+			assertEquals(Arrays.asList(partA, partB, partC),
+					index.getContainedContentParts(-6000, -6000, 6000, 6000));
+			// partially contained parts are not reported
+			assertEquals(Collections.emptyList(), index.getContainedContentParts(15, 15, 100, 100));
+
+			// moved part is re-indexed
+			setBounds(partB, 50, 50, 20, 20);
+			assertEquals(Arrays.asList(partA, partB), index.getContainedContentParts(0, 0, 100, 100));
+			assertEquals(Collections.emptyList(), index.getContainedContentParts(400, 400, 600, 600));
+
+			// removed part is no longer reported
+			viewer.getContents().setAll(b);
+			assertEquals(Collections.singletonList(partB), index.getContainedContentParts(0, 0, 100, 100));
+		});
+	}
+}
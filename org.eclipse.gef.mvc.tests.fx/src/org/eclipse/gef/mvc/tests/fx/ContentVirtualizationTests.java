@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
+import org.eclipse.gef.mvc.fx.behaviors.IContentBoundsProvider;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.scene.Node;
+
+public class ContentVirtualizationTests {
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private IDomain domain;
+	private IViewer viewer;
+	private Map<Object, Rectangle> bounds = new HashMap<>();
+
+	@Before
+	public void activate() throws Throwable {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindIDomainAdapters(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				bindContentIViewerAsIDomainAdapter(adapterMapBinder);
+			}
+
+			@Override
+			protected void bindIViewerAdaptersForContentViewer(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindIViewerAdaptersForContentViewer(adapterMapBinder);
+				IContentBoundsProvider boundsProvider = new IContentBoundsProvider() {
+					@Override
+					public Collection<? extends Object> getContentAnchorages(Object content) {
+						return ((Cell) content).anchorages;
+					}
+
+					@Override
+					public Rectangle getContentBounds(Object content) {
+						return bounds.get(content);
+					}
+				};
+				adapterMapBinder.addBinding(AdapterKey.defaultRole()).toInstance(boundsProvider);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+			}
+		});
+		domain = injector.getInstance(IDomain.class);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 100, 100);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+	}
+
+	@Test
+	public void materializeConnectionsWithinViewport() throws Throwable {
+		Cell n1 = new Cell("N1");
+		Cell n2 = new Cell("N2");
+		Cell n3 = new Cell("N3");
+		Cell e12 = new Cell("E12");
+		Cell e23 = new Cell("E23");
+		e12.anchorages.addAll(Arrays.asList(n1, n2));
+		e23.anchorages.addAll(Arrays.asList(n2, n3));
+		bounds.put(n1, new Rectangle(10, 10, 20, 20));
+		bounds.put(n2, new Rectangle(1000, 1000, 20, 20));
+		bounds.put(n3, new Rectangle(2000, 2000, 20, 20));
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(n1, n2, n3, e12, e23);
+			// connections (without bounds) are indexed by the bounds of their
+			// anchorages, and materialized connections pull in their
+			// anchorages
+			assertTrue(contentPartMap.containsKey(n1));
+			assertTrue(contentPartMap.containsKey(e12));
+			assertTrue(contentPartMap.containsKey(n2));
+			assertFalse(contentPartMap.containsKey(e23));
+			assertFalse(contentPartMap.containsKey(n3));
+
+			// scroll to the third node
+			InfiniteCanvas canvas = (InfiniteCanvas) viewer.getCanvas();
+			canvas.setHorizontalScrollOffset(-2000);
+			canvas.setVerticalScrollOffset(-2000);
+		});
+		// viewport changes are processed asynchronously
+		ctx.runAndWait(() -> {
+			assertFalse(contentPartMap.containsKey(n1));
+			assertFalse(contentPartMap.containsKey(e12));
+			assertTrue(contentPartMap.containsKey(n2));
+			assertTrue(contentPartMap.containsKey(e23));
+			assertTrue(contentPartMap.containsKey(n3));
+		});
+	}
+
+	@Test
+	public void materializeMovedContents() throws Throwable {
+		Cell moved = new Cell("M");
+		bounds.put(moved, new Rectangle(1000, 1000, 20, 20));
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(moved);
+			assertFalse(contentPartMap.containsKey(moved));
+
+			// changed bounds are only considered after an invalidation
+			bounds.put(moved, new Rectangle(10, 10, 20, 20));
+			viewer.getRootPart().getAdapter(ContentBehavior.class).invalidateContentBounds();
+			assertTrue(contentPartMap.containsKey(moved));
+
+			bounds.put(moved, new Rectangle(1000, 1000, 20, 20));
+			viewer.getRootPart().getAdapter(ContentBehavior.class).invalidateContentBounds();
+			assertFalse(contentPartMap.containsKey(moved));
+		});
+	}
+
+	@Test
+	public void materializeVisibleContents() throws Throwable {
+		Cell near = new Cell("N");
+		Cell far = new Cell("F");
+		Cell unbounded = new Cell("U");
+		bounds.put(near, new Rectangle(10, 10, 20, 20));
+		bounds.put(far, new Rectangle(1000, 1000, 20, 20));
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(near, far, unbounded);
+			// only contents within the viewport (or without bounds) are
+			// materialized
+			assertTrue(contentPartMap.containsKey(near));
+			assertTrue(contentPartMap.containsKey(unbounded));
+			assertFalse(contentPartMap.containsKey(far));
+
+			// scroll to the far content
+			InfiniteCanvas canvas = (InfiniteCanvas) viewer.getCanvas();
+			canvas.setHorizontalScrollOffset(-1000);
+			canvas.setVerticalScrollOffset(-1000);
+		});
+		// viewport changes are processed asynchronously
+		ctx.runAndWait(() -> {
+			assertFalse(contentPartMap.containsKey(near));
+			assertTrue(contentPartMap.containsKey(unbounded));
+			assertTrue(contentPartMap.containsKey(far));
+			// evicted part is recycled
+			assertNotNull(viewer.getAdapter(ContentPartPool.class).remove(near));
+		});
+	}
+
+	@Test
+	public void removedParentsAreNotMaterialized() throws Throwable {
+		Cell near = new Cell("N");
+		Cell far = new Cell("F");
+		Cell parent = new Cell("P", near, far);
+		bounds.put(parent, new Rectangle(10, 10, 20, 20));
+		bounds.put(near, new Rectangle(10, 10, 20, 20));
+		bounds.put(far, new Rectangle(1000, 1000, 20, 20));
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(parent);
+			assertTrue(contentPartMap.containsKey(near));
+			assertFalse(contentPartMap.containsKey(far));
+
+			// remove the parent and scroll to its far child
+			viewer.getContents().clear();
+			InfiniteCanvas canvas = (InfiniteCanvas) viewer.getCanvas();
+			canvas.setHorizontalScrollOffset(-1000);
+			canvas.setVerticalScrollOffset(-1000);
+		});
+		// the children of the removed parent are no longer synchronized
+		ctx.runAndWait(() -> {
+			assertTrue(contentPartMap.isEmpty());
+		});
+	}
+}
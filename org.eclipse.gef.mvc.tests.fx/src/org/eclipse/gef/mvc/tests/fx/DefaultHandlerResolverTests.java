@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.gestures.ClickDragGesture;
+import org.eclipse.gef.mvc.fx.gestures.IHandlerResolver;
+import org.eclipse.gef.mvc.fx.handlers.AbstractHandler;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import javafx.scene.Node;
+
+public class DefaultHandlerResolverTests {
+
+	private static class HandlerStub extends AbstractHandler {
+	}
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private IDomain domain;
+	private IViewer viewer;
+	private IHandlerResolver resolver;
+
+	@Before
+	public void activate() throws Throwable {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+			}
+		});
+		domain = injector.getInstance(IDomain.class);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 100, 100);
+		ctx.runAndWait(() -> {
+			resolver = domain.getAdapter(IHandlerResolver.class);
+			domain.activate();
+		});
+	}
+
+	@Test
+	public void invalidateOnAdapterChange() throws Throwable {
+		Cell child = new Cell("C");
+		Cell parent = new Cell("P", child);
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(parent);
+			IContentPart<? extends Node> parentPart = viewer.getContentPartMap().get(parent);
+			IContentPart<? extends Node> childPart = viewer.getContentPartMap().get(child);
+			assertEquals(Collections.emptyList(), resolve(childPart));
+
+			// handler added to an ancestor
+			HandlerStub parentHandler = new HandlerStub();
+			parentPart.setAdapter(parentHandler);
+			assertEquals(Collections.singletonList(parentHandler), resolve(childPart));
+
+			// handler added to the target part takes precedence
+			HandlerStub childHandler = new HandlerStub();
+			childPart.setAdapter(childHandler);
+			assertEquals(Collections.singletonList(childHandler), resolve(childPart));
+
+			// handlers removed from the target part and the ancestor
+			childPart.unsetAdapter(childHandler);
+			assertEquals(Collections.singletonList(parentHandler), resolve(childPart));
+			parentPart.unsetAdapter(parentHandler);
+			assertEquals(Collections.emptyList(), resolve(childPart));
+		});
+	}
+
+	@Test
+	public void invalidateOnReparenting() throws Throwable {
+		Cell child = new Cell("C");
+		Cell parent1 = new Cell("P1", child);
+		Cell parent2 = new Cell("P2");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(parent1, parent2);
+			IContentPart<? extends Node> parent1Part = viewer.getContentPartMap().get(parent1);
+			IContentPart<? extends Node> parent2Part = viewer.getContentPartMap().get(parent2);
+			IContentPart<? extends Node> childPart = viewer.getContentPartMap().get(child);
+			HandlerStub handler1 = new HandlerStub();
+			parent1Part.setAdapter(handler1);
+			HandlerStub handler2 = new HandlerStub();
+			parent2Part.setAdapter(handler2);
+			assertEquals(Collections.singletonList(handler1), resolve(childPart));
+
+			// move the child to the second parent
+			parent1Part.removeChild(childPart);
+			parent2Part.addChild(childPart);
+			assertEquals(Collections.singletonList(handler2), resolve(childPart));
+		});
+	}
+
+	private List<? extends HandlerStub> resolve(IContentPart<? extends Node> part) {
+		return resolver.resolve(domain.getAdapter(ClickDragGesture.class), part.getVisual(), viewer,
+				HandlerStub.class);
+	}
+
+	@Test
+	public void resolveFromCache() throws Throwable {
+		Cell cell = new Cell("A");
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(cell);
+			IContentPart<? extends Node> part = viewer.getContentPartMap().get(cell);
+			HandlerStub handler = new HandlerStub();
+			part.setAdapter(handler);
+
+			// repeated resolution returns the cached handlers
+			List<? extends HandlerStub> handlers = resolve(part);
+			assertEquals(Collections.singletonList(handler), handlers);
+			assertSame(handlers, resolve(part));
+		});
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.mvc.fx.handlers.AbstractSnapTo;
+import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
+import org.junit.Test;
+
+import javafx.geometry.Orientation;
+
+/**
+ * Tests for the position index of the target locations, which is internal to
+ * the snapping handlers, and is therefore tested via
+ * {@link AbstractSnapTo#getClosestTargetLocation(Orientation, double)}.
+ */
+public class SnappingLocationIndexTests {
+
+	private static class SnapToStub extends AbstractSnapTo {
+
+		private SnappingLocation add(Orientation orientation,
+				double position) {
+			SnappingLocation sl = new SnappingLocation(null, orientation,
+					position);
+			if (orientation == Orientation.HORIZONTAL) {
+				getHorizontalTargetLocations().add(sl);
+			} else {
+				getVerticalTargetLocations().add(sl);
+			}
+			return sl;
+		}
+
+		@Override
+		public SnappingLocation getClosestTargetLocation(
+				Orientation orientation, double positionInScene) {
+			return super.getClosestTargetLocation(orientation,
+					positionInScene);
+		}
+
+		@Override
+		public String getSourceLocationProviderRole() {
+			return null;
+		}
+
+		@Override
+		protected String getTargetLocationProviderRole() {
+			return null;
+		}
+
+		@Override
+		public Dimension snap(Orientation orientation,
+				double positionInScene) {
+			return null;
+		}
+	}
+
+	@Test
+	public void closest() {
+		SnapToStub snapTo = new SnapToStub();
+		SnappingLocation h30 = snapTo.add(Orientation.HORIZONTAL, 30);
+		SnappingLocation h10 = snapTo.add(Orientation.HORIZONTAL, 10);
+		SnappingLocation h20 = snapTo.add(Orientation.HORIZONTAL, 20);
+		SnappingLocation v100 = snapTo.add(Orientation.VERTICAL, 100);
+
+		assertSame(h10, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				-5));
+		assertSame(h10, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				10));
+		assertSame(h10, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				14));
+		assertSame(h20, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				16));
+		assertSame(h30, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				26));
+		assertSame(h30, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				1000));
+		// orientations are indexed separately
+		assertSame(v100,
+				snapTo.getClosestTargetLocation(Orientation.VERTICAL, 10));
+	}
+
+	@Test
+	public void empty() {
+		SnapToStub snapTo = new SnapToStub();
+		assertNull(snapTo.getClosestTargetLocation(Orientation.HORIZONTAL, 0));
+		snapTo.add(Orientation.VERTICAL, 0);
+		snapTo.setSnappedPart(null);
+		assertNull(snapTo.getClosestTargetLocation(Orientation.HORIZONTAL, 0));
+		assertNull(snapTo.getClosestTargetLocation(Orientation.VERTICAL, 0));
+	}
+
+	@Test
+	public void negativeZero() {
+		SnapToStub snapTo = new SnapToStub();
+		snapTo.add(Orientation.HORIZONTAL, -1);
+		SnappingLocation zero = snapTo.add(Orientation.HORIZONTAL, -0d);
+		snapTo.add(Orientation.HORIZONTAL, 1);
+		assertSame(zero,
+				snapTo.getClosestTargetLocation(Orientation.HORIZONTAL, 0d));
+		assertSame(zero,
+				snapTo.getClosestTargetLocation(Orientation.HORIZONTAL, -0d));
+	}
+
+	@Test
+	public void ties() {
+		SnapToStub snapTo = new SnapToStub();
+		SnappingLocation h20 = snapTo.add(Orientation.HORIZONTAL, 20);
+		SnappingLocation h10a = snapTo.add(Orientation.HORIZONTAL, 10);
+		snapTo.add(Orientation.HORIZONTAL, 10);
+		snapTo.add(Orientation.HORIZONTAL, 20);
+
+		// equal positions are returned in their original order
+		assertSame(h10a, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				10));
+		assertSame(h20, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				20));
+		assertSame(h20, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				25));
+		// equal distances are resolved to the lower position
+		assertSame(h10a, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				15));
+		assertSame(h10a, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				5));
+	}
+
+	@Test
+	public void update() {
+		SnapToStub snapTo = new SnapToStub();
+		SnappingLocation h10 = snapTo.add(Orientation.HORIZONTAL, 10);
+		assertSame(h10, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				50));
+
+		// the index is rebuilt when the snapped part changes
+		snapTo.setSnappedPart(null);
+		SnappingLocation h40 = snapTo.add(Orientation.HORIZONTAL, 40);
+		assertSame(h40, snapTo.getClosestTargetLocation(Orientation.HORIZONTAL,
+				0));
+		snapTo.setSnappedPart(null);
+		assertNull(snapTo.getClosestTargetLocation(Orientation.HORIZONTAL, 0));
+	}
+}
@@ -86,6 +86,7 @@ public class Cell {
 
 	public String name = "X";
 	public List<Cell> children = new ArrayList<>();
+	public List<Cell> anchorages = new ArrayList<>();
 
 	public Cell(String name) {
 		this.name = name;
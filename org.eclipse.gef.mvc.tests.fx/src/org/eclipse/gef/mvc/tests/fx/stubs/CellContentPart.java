@@ -28,14 +28,26 @@ public class CellContentPart extends AbstractContentPart<Node> {
 	protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
 	}
 
+	@Override
+	protected void doAttachToAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+	}
+
 	@Override
 	protected Node doCreateVisual() {
 		return new Rectangle();
 	}
 
+	@Override
+	protected void doDetachFromAnchorageVisual(IVisualPart<? extends Node> anchorage, String role) {
+	}
+
 	@Override
 	protected SetMultimap<? extends Object, String> doGetContentAnchorages() {
-		return HashMultimap.create();
+		SetMultimap<Object, String> anchorages = HashMultimap.create();
+		for (Cell anchorage : ((Cell) getContent()).anchorages) {
+			anchorages.put(anchorage, "link");
+		}
+		return anchorages;
 	}
 
 	@Override
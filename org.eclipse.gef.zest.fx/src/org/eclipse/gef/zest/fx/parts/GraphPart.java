@@ -24,7 +24,8 @@ import org.eclipse.gef.zest.fx.ZestProperties;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
-import javafx.collections.ListChangeListener;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
@@ -40,10 +41,12 @@ import javafx.util.Pair;
  */
 public class GraphPart extends AbstractContentPart<Group> {
 
-	private ListChangeListener<Object> graphChildrenObserver = new ListChangeListener<Object>() {
+	// the graph is invalidated once for (batched) changes of its nodes and
+	// edges
+	private InvalidationListener graphChildrenObserver = new InvalidationListener() {
 
 		@Override
-		public void onChanged(ListChangeListener.Change<? extends Object> c) {
+		public void invalidated(Observable observable) {
 			// synchronize children (triggered through content children)
 			refreshContentChildren();
 			refreshVisual();
@@ -53,8 +56,7 @@ public class GraphPart extends AbstractContentPart<Group> {
 	@Override
 	protected void doActivate() {
 		super.doActivate();
-		getContent().getNodes().addListener(graphChildrenObserver);
-		getContent().getEdges().addListener(graphChildrenObserver);
+		getContent().addListener(graphChildrenObserver);
 	}
 
 	@Override
@@ -71,8 +73,7 @@ public class GraphPart extends AbstractContentPart<Group> {
 
 	@Override
 	protected void doDeactivate() {
-		getContent().getNodes().removeListener(graphChildrenObserver);
-		getContent().getEdges().removeListener(graphChildrenObserver);
+		getContent().removeListener(graphChildrenObserver);
 
 		super.doDeactivate();
 	}